@@ -6,6 +6,7 @@ import static typing.Type.NO_TYPE;
 import java.util.ArrayList;
 import java.util.List;
 
+import code.IRWriter;
 import scope.Scope;
 import tables.FunctionTable;
 import tables.VariableTable;
@@ -47,6 +48,15 @@ public class AST {
 	    return this.children.get(idx);
 	}
 
+	// Used by the passes that rewrite the tree after checking
+	public void setChild(int idx, AST child) {
+		this.children.set(idx, child);
+	}
+
+	public void removeChild(int idx) {
+		this.children.remove(idx);
+	}
+
 	public static AST newSubtree(NodeKind kind, Type type, AST... children) {
 		AST node = new AST(kind, 0, type);
 	    for (AST child: children) {
@@ -57,6 +67,7 @@ public class AST {
 
 	private static int nr;
 	private static Scope currentScope;
+	private static IRWriter out;
 
 	private int printNodeDot() {
 		int myNr = nr++;
@@ -64,31 +75,31 @@ public class AST {
 		FunctionTable functionTable = currentScope.getFunctionTable();
 
 		// Does the node have a type?
-	    System.out.printf("node%d[label=\"", myNr);
+	    out.print("node").print(myNr).print("[label=\"");
 		if (this.type != NO_TYPE) {
-	    	System.out.printf("(%s) ", this.type.toString());
+	    	out.print("(").print(this.type.toString()).print(") ");
 	    }
 
 		// What kind of node is it?
 	    if (this.kind == NodeKind.VAR_DECL_NODE || this.kind == NodeKind.VAR_USE_NODE) {
 			Type type = variableTable.getType(this.intData);
 			if (type == Type.ARRAY_TYPE && this.kind == NodeKind.VAR_DECL_NODE) {
-				System.out.printf("(%s) [", variableTable.getContentType(this.intData));
+				out.print("(").print(variableTable.getContentType(this.intData).toString()).print(") [");
 
 				ArrayList<Integer[]> ranges = variableTable.getRanges(this.intData);
 
 				int i = 0;
 				for (Integer[] range : ranges) {
-					System.out.printf("%d..%d", range[0], range[1]);
-					if (i++ < ranges.size() - 1) System.out.printf(", ");
+					out.print(range[0]).print("..").print(range[1]);
+					if (i++ < ranges.size() - 1) out.print(", ");
 				}
-				System.out.printf("] %s@", variableTable.getName(this.intData));
+				out.print("] ").print(variableTable.getName(this.intData)).print("@");
 
 			} else if (type == Type.ARRAY_TYPE && this.kind == NodeKind.VAR_USE_NODE) {
-				System.out.printf("(%s) %s@", variableTable.getContentType(this.intData), variableTable.getName(this.intData));
+				out.print("(").print(variableTable.getContentType(this.intData).toString()).print(") ").print(variableTable.getName(this.intData)).print("@");
 
 			} else {
-				System.out.printf("%s@",variableTable.getName(this.intData));
+				out.print(variableTable.getName(this.intData)).print("@");
 			}
 	    }
 		else if (this.kind == NodeKind.FUN_USE_NODE || this.kind == NodeKind.FUN_DECL_NODE) {
@@ -100,23 +111,23 @@ public class AST {
 				name = currentFunctionTable.getName(this.intData);
 				scope = scope.getParentScope();
 			}
-			System.out.printf("%s@", name);
+			out.print(name).print("@");
 		} else {
-	    	System.out.printf("%s", this.kind.toString());
+	    	out.print(this.kind.toString());
 	    }
 
 		// Does the node hold numeric data?
 	    if (NodeKind.hasData(this.kind)) {
 	        if (this.kind == NodeKind.REAL_VAL_NODE) {
-	        	System.out.printf("%.2f", this.floatData);
+	        	out.print(String.format("%.2f", this.floatData));
 	        } else if (this.kind == NodeKind.STR_VAL_NODE) {
-	        	System.out.printf("@%d", this.intData);
+	        	out.print("@").print(this.intData);
 	        } else {
-				System.out.printf("%d", this.intData);
+				out.print(this.intData);
 			}
 	    }
 
-	    System.out.printf("\"];\n");
+	    out.print("\"];\n");
 
 	    for (AST child : this.children) {
 			Scope lastScope = currentScope;
@@ -127,16 +138,18 @@ public class AST {
 	        int childNr = child.printNodeDot();
 
 			currentScope = lastScope;
-	        System.out.printf("node%d -> node%d;\n", myNr, childNr);
+	        out.print("node").print(myNr).print(" -> node").print(childNr).print(";\n");
 	    }
 	    return myNr;
 	}
 
-	public static void printDot(AST tree, Scope scope) {
+	public static void printDot(AST tree, Scope scope, IRWriter writer) {
 	    nr = 0;
 		currentScope = scope;
-	    System.out.printf("digraph {\ngraph [ordering=\"out\"];\n");
+		out = writer;
+	    out.print("digraph {\ngraph [ordering=\"out\"];\n");
 	    tree.printNodeDot();
-	    System.out.printf("}\n");
+	    out.print("}\n");
+	    out.flush();
 	}
 }
@@ -0,0 +1,183 @@
+package ast;
+
+import java.util.Arrays;
+
+import typing.Type;
+
+// Compact alternative to a tree of `AST` objects for large programs. Nodes
+// are ids into parallel primitive arrays, and children are linked as first
+// child / next sibling, so a node costs a few array slots instead of an
+// object plus its own children list.
+//
+// Real literals keep the bits of their float in `data`.
+public final class ASTStore {
+
+	public static final int NIL = -1;
+
+	private static final NodeKind[] KINDS = NodeKind.values();
+	private static final Type[] TYPES = Type.values();
+
+	private static final int DEFAULT_CAPACITY = 1024;
+
+	// The checker leaves some types unresolved (null), e.g. named types
+	private static final byte NO_TYPE_SET = -1;
+
+	private byte[] kinds;
+	private byte[] types;
+	private int[] data;
+	private int[] firstChild;
+	private int[] nextSibling;
+
+	// Only needed to append children in constant time
+	private int[] lastChild;
+
+	private int size;
+
+	public ASTStore() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public ASTStore(int capacity) {
+		this.kinds = new byte[capacity];
+		this.types = new byte[capacity];
+		this.data = new int[capacity];
+		this.firstChild = new int[capacity];
+		this.nextSibling = new int[capacity];
+		this.lastChild = new int[capacity];
+		this.size = 0;
+	}
+
+	private int allocate(NodeKind kind, int bits, Type type) {
+		if (size == kinds.length) {
+			int capacity = size * 2;
+			kinds = Arrays.copyOf(kinds, capacity);
+			types = Arrays.copyOf(types, capacity);
+			data = Arrays.copyOf(data, capacity);
+			firstChild = Arrays.copyOf(firstChild, capacity);
+			nextSibling = Arrays.copyOf(nextSibling, capacity);
+			lastChild = Arrays.copyOf(lastChild, capacity);
+		}
+		int node = size++;
+		kinds[node] = (byte) kind.ordinal();
+		types[node] = type != null ? (byte) type.ordinal() : NO_TYPE_SET;
+		data[node] = bits;
+		firstChild[node] = NIL;
+		nextSibling[node] = NIL;
+		lastChild[node] = NIL;
+		return node;
+	}
+
+	public int newNode(NodeKind kind, int intData, Type type) {
+		return allocate(kind, intData, type);
+	}
+
+	public int newNode(NodeKind kind, float floatData, Type type) {
+		return allocate(kind, Float.floatToRawIntBits(floatData), type);
+	}
+
+	public int newSubtree(NodeKind kind, Type type, int... children) {
+		int node = allocate(kind, 0, type);
+		for (int child : children) {
+			addChild(node, child);
+		}
+		return node;
+	}
+
+	// `child` must not be the child of another node anymore
+	public void addChild(int parent, int child) {
+		nextSibling[child] = NIL;
+		if (firstChild[parent] == NIL) {
+			firstChild[parent] = child;
+		} else {
+			nextSibling[lastChild[parent]] = child;
+		}
+		lastChild[parent] = child;
+	}
+
+	// Moves every child of `from` to the end of `parent`'s children
+	public void moveChildren(int parent, int from) {
+		int first = firstChild[from];
+		if (first == NIL)
+			return;
+
+		if (firstChild[parent] == NIL) {
+			firstChild[parent] = first;
+		} else {
+			nextSibling[lastChild[parent]] = first;
+		}
+		lastChild[parent] = lastChild[from];
+		firstChild[from] = NIL;
+		lastChild[from] = NIL;
+	}
+
+	public NodeKind kind(int node) {
+		return KINDS[kinds[node]];
+	}
+
+	public Type type(int node) {
+		return types[node] != NO_TYPE_SET ? TYPES[types[node]] : null;
+	}
+
+	public int intData(int node) {
+		return data[node];
+	}
+
+	public float floatData(int node) {
+		return Float.intBitsToFloat(data[node]);
+	}
+
+	public int firstChild(int node) {
+		return firstChild[node];
+	}
+
+	public int nextSibling(int node) {
+		return nextSibling[node];
+	}
+
+	// Walks the siblings: prefer firstChild/nextSibling to go through them all
+	public int getChild(int node, int idx) {
+		int child = firstChild[node];
+		for (int i = 0; i < idx; i++) {
+			child = nextSibling[child];
+		}
+		return child;
+	}
+
+	public int getChildrenSize(int node) {
+		int count = 0;
+		for (int child = firstChild[node]; child != NIL; child = nextSibling[child]) {
+			count++;
+		}
+		return count;
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	// ----------------------------------------------------------------------------
+	// Object trees ---------------------------------------------------------------
+
+	// `AST` copy of the subtree at `node`, for the passes that rewrite it
+	public AST toAST(int node) {
+		NodeKind kind = kind(node);
+		AST tree = kind == NodeKind.REAL_VAL_NODE
+				? new AST(kind, floatData(node), type(node))
+				: new AST(kind, intData(node), type(node));
+		for (int child = firstChild[node]; child != NIL; child = nextSibling[child]) {
+			tree.addChild(toAST(child));
+		}
+		return tree;
+	}
+
+	// Copies `tree` into the store, returning the id of its root
+	public int add(AST tree) {
+		int node = tree.kind == NodeKind.REAL_VAL_NODE
+				? newNode(tree.kind, tree.floatData, tree.type)
+				: newNode(tree.kind, tree.intData, tree.type);
+		for (int i = 0; i < tree.getChildrenSize(); i++) {
+			addChild(node, add(tree.getChild(i)));
+		}
+		return node;
+	}
+}
@@ -0,0 +1,186 @@
+package ast;
+
+// Visits the node ids of an `ASTStore`, one method per node kind.
+public abstract class ASTStoreVisitor<T> {
+
+	protected ASTStore tree;
+
+	public void execute(ASTStore tree, int root) {
+		this.tree = tree;
+		visit(root);
+	}
+
+	protected T visit(int node) {
+		switch (tree.kind(node)) {
+			case ASSIGN_NODE:
+				return visitAssign(node);
+			case EQ_NODE:
+				return visitEq(node);
+			case NEQ_NODE:
+				return visitNeq(node);
+			case BLOCK_NODE:
+				return visitBlock(node);
+			case BOOL_VAL_NODE:
+				return visitBoolVal(node);
+			case IF_NODE:
+				return visitIf(node);
+			case INT_VAL_NODE:
+				return visitIntVal(node);
+			case LT_NODE:
+				return visitLt(node);
+			case GT_NODE:
+				return visitGt(node);
+			case GE_NODE:
+				return visitGe(node);
+			case LE_NODE:
+				return visitLe(node);
+			case AND_NODE:
+				return visitAnd(node);
+			case OR_NODE:
+				return visitOr(node);
+			case CHAR_VAL_NODE:
+				return visitCharVal(node);
+			case FUN_LIST_NODE:
+				return visitFunList(node);
+			case FUN_DECL_NODE:
+				return visitFunDecl(node);
+			case FUN_USE_NODE:
+				return visitFunUse(node);
+			case ARRAY_ACCESS:
+				return visitArrayAcc(node);
+			case MINUS_NODE:
+				return visitMinus(node);
+			case OVER_NODE:
+				return visitOver(node);
+			case MOD_NODE:
+				return visitMod(node);
+			case PLUS_NODE:
+				return visitPlus(node);
+			case PROGRAM_NODE:
+				return visitProgram(node);
+			case READ_NODE:
+				return visitRead(node);
+			case REAL_VAL_NODE:
+				return visitRealVal(node);
+			case REPEAT_NODE:
+				return visitRepeat(node);
+			case FOR_NODE:
+				return visitFor(node);
+			case STR_VAL_NODE:
+				return visitStrVal(node);
+			case TIMES_NODE:
+				return visitTimes(node);
+			case VAR_DECL_NODE:
+				return visitVarDecl(node);
+			case VAR_LIST_NODE:
+				return visitVarList(node);
+			case VAR_USE_NODE:
+				return visitVarUse(node);
+			case WRITE_NODE:
+				return visitWrite(node);
+
+			case C2S_NODE:
+				return visitC2S(node);
+			// case S2C_NODE:
+			// return visitS2C(node);
+			// case B2I_NODE:
+			// return visitB2I(node);
+			// case B2R_NODE:
+			// return visitB2R(node);
+			// case B2S_NODE:
+			// return visitB2S(node);
+			case I2R_NODE:
+				return visitI2R(node);
+			// case I2S_NODE:
+			// return visitI2S(node);
+			// case R2S_NODE:
+			// return visitR2S(node);
+
+			default:
+				throw new IllegalStateException(String.format("Invalid kind: %s!", tree.kind(node)));
+		}
+	}
+
+	protected abstract T visitAssign(int node);
+
+	protected abstract T visitEq(int node);
+
+	protected abstract T visitNeq(int node);
+
+	protected abstract T visitBlock(int node);
+
+	protected abstract T visitBoolVal(int node);
+
+	protected abstract T visitIf(int node);
+
+	protected abstract T visitIntVal(int node);
+
+	protected abstract T visitLt(int node);
+
+	protected abstract T visitGt(int node);
+
+	protected abstract T visitGe(int node);
+
+	protected abstract T visitLe(int node);
+
+	protected abstract T visitAnd(int node);
+
+	protected abstract T visitOr(int node);
+
+	protected abstract T visitCharVal(int node);
+
+	protected abstract T visitFunList(int node);
+
+	protected abstract T visitFunDecl(int node);
+
+	protected abstract T visitFunUse(int node);
+
+	protected abstract T visitArrayAcc(int node);
+
+	protected abstract T visitMinus(int node);
+
+	protected abstract T visitOver(int node);
+
+	protected abstract T visitMod(int node);
+
+	protected abstract T visitPlus(int node);
+
+	protected abstract T visitProgram(int node);
+
+	protected abstract T visitRead(int node);
+
+	protected abstract T visitRealVal(int node);
+
+	protected abstract T visitRepeat(int node);
+
+	protected abstract T visitFor(int node);
+
+	protected abstract T visitStrVal(int node);
+
+	protected abstract T visitTimes(int node);
+
+	protected abstract T visitVarDecl(int node);
+
+	protected abstract T visitVarList(int node);
+
+	protected abstract T visitVarUse(int node);
+
+	protected abstract T visitWrite(int node);
+
+	// protected abstract T visitB2I(int node);
+
+	// protected abstract T visitB2R(int node);
+
+	// protected abstract T visitB2S(int node);
+
+	protected abstract T visitI2R(int node);
+
+	// protected abstract T visitI2S(int node);
+
+	// protected abstract T visitR2S(int node);
+
+	protected abstract T visitC2S(int node);
+
+	// protected abstract T visitS2C(int node);
+
+}
\ No newline at end of file
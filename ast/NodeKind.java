@@ -61,6 +61,11 @@ public enum NodeKind {
             return "/";
         }
 	},
+    MOD_NODE {
+        public String toString() {
+            return "mod";
+        }
+	},
     AND_NODE {
 		public String toString() {
             return "AND";
@@ -101,6 +106,11 @@ public enum NodeKind {
             return "repeat";
         }
 	},
+    FOR_NODE { // Step (1 or -1) in the data; control, initial, final, body.
+		public String toString() {
+            return "for";
+        }
+	},
     STR_VAL_NODE {
 		public String toString() {
             return "";
@@ -196,6 +206,12 @@ public enum NodeKind {
         public String toString() {
             return "S2C";
         }
+    },
+
+    ERROR_NODE { // Stands for what the checker couldn't make sense of.
+        public String toString() {
+            return "error";
+        }
     };
 	
 	public static boolean hasData(NodeKind kind) {
@@ -0,0 +1,20 @@
+package bench;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+import checker.SemanticChecker;
+
+// `SemanticChecker.visit` over already built parse trees.
+public class CheckerBenchmark extends StageBenchmark {
+
+	@Benchmark
+	public void check(Programs programs, Throughput throughput, Blackhole blackhole) {
+		for (ParseTree tree : programs.trees) {
+			SemanticChecker checker = new SemanticChecker();
+			blackhole.consume(checker.visit(tree));
+		}
+		throughput.megabytes += programs.megabytes;
+	}
+}
@@ -0,0 +1,25 @@
+package bench;
+
+import java.io.OutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import checker.SemanticChecker;
+import code.CodeGen;
+import code.IRWriter;
+import code.StreamIRWriter;
+
+// `CodeGen.execute` over already checked ASTs, writing to a null sink.
+public class CodeGenBenchmark extends StageBenchmark {
+
+	private static final IRWriter NULL = new StreamIRWriter(OutputStream.nullOutputStream());
+
+	@Benchmark
+	public void generate(Programs programs, Throughput throughput) {
+		for (SemanticChecker checker : programs.checked) {
+			CodeGen codeGen = new CodeGen(checker.stringTable, checker.globalScope, NULL);
+			codeGen.execute(checker.getTree(), checker.getRoot());
+		}
+		throughput.megabytes += programs.megabytes;
+	}
+}
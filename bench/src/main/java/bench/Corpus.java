@@ -0,0 +1,108 @@
+package bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import ast.AST;
+import checker.SemanticChecker;
+import parser.pascalLexer;
+import parser.pascalParser;
+
+// The programs a benchmark runs over: the `tests/cp*/in` programs the whole
+// pipeline accepts, or one synthetic program of a given size.
+final class Corpus {
+
+	private Corpus() {
+	}
+
+	// "corpus" or "synthetic-<functions>"
+	static List<String> load(String name) throws IOException {
+		if (name.startsWith("synthetic-")) {
+			int functions = Integer.parseInt(name.substring("synthetic-".length()));
+			return List.of(Synthetic.program(functions));
+		}
+
+		List<String> programs = new ArrayList<>();
+		for (File dir : testDirs()) {
+			File[] files = dir.listFiles((d, n) -> n.endsWith(".pas"));
+			Arrays.sort(files);
+			for (File file : files) {
+				String source = Files.readString(file.toPath(), StandardCharsets.UTF_8);
+				if (accepted(source)) {
+					programs.add(source);
+				}
+			}
+		}
+		return programs;
+	}
+
+	static long bytes(List<String> programs) {
+		long bytes = 0;
+		for (String program : programs) {
+			bytes += program.getBytes(StandardCharsets.UTF_8).length;
+		}
+		return bytes;
+	}
+
+	// `-Dcorpus=<dir>` or the `tests` directory from the repository root or bench/
+	private static List<File> testDirs() throws IOException {
+		File root = new File(System.getProperty("corpus", "tests"));
+		if (!root.isDirectory()) root = new File("../tests");
+		if (!root.isDirectory()) throw new IOException("Corpus not found, pass -Dcorpus=<tests dir>");
+
+		List<File> dirs = new ArrayList<>();
+		File[] checkpoints = root.listFiles(File::isDirectory);
+		Arrays.sort(checkpoints);
+		for (File checkpoint : checkpoints) {
+			File in = new File(checkpoint, "in");
+			if (in.isDirectory()) dirs.add(in);
+		}
+		return dirs;
+	}
+
+	// Parses and checks cleanly, and CodeGen knows every node kind
+	private static boolean accepted(String source) {
+		pascalParser parser = new pascalParser(new CommonTokenStream(
+				new pascalLexer(CharStreams.fromString(source))));
+		parser.removeErrorListeners();
+		ParseTree tree = parser.program();
+		if (parser.getNumberOfSyntaxErrors() != 0) return false;
+
+		SemanticChecker checker = new SemanticChecker();
+		try {
+			checker.visit(tree);
+		} catch (RuntimeException exception) {
+			return false;
+		}
+		// The checker goes on past semantic errors, leaving ERROR_NODEs behind
+		if (!checker.getDiagnostics().isEmpty()) return false;
+		return generatable(checker.getAST());
+	}
+
+	private static boolean generatable(AST node) {
+		switch (node.kind) {
+			case B2I_NODE:
+			case B2R_NODE:
+			case B2S_NODE:
+			case I2S_NODE:
+			case R2S_NODE:
+			case S2C_NODE:
+				return false;
+			default:
+				break;
+		}
+		for (int i = 0; i < node.getChildrenSize(); i++) {
+			if (!generatable(node.getChild(i))) return false;
+		}
+		return true;
+	}
+}
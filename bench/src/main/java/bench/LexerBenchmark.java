@@ -0,0 +1,57 @@
+package bench;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Token;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+import checker.Scanner;
+import checker.SymbolTokenFactory;
+import parser.pascalLexer;
+import tables.Interner;
+
+// Token throughput of `pascalLexer` and of the hand-written `Scanner`.
+public class LexerBenchmark extends StageBenchmark {
+
+	@Benchmark
+	public void lex(Programs programs, Throughput throughput, Blackhole blackhole) {
+		for (String source : programs.sources) {
+			pascalLexer lexer = new pascalLexer(CharStreams.fromString(source));
+			Token token;
+			do {
+				token = lexer.nextToken();
+				blackhole.consume(token);
+			} while (token.getType() != Token.EOF);
+		}
+		throughput.megabytes += programs.megabytes;
+	}
+
+	// As the compiler runs it, interning identifiers and string literals
+	@Benchmark
+	public void lexSymbols(Programs programs, Throughput throughput, Blackhole blackhole) {
+		for (String source : programs.sources) {
+			pascalLexer lexer = new pascalLexer(CharStreams.fromString(source));
+			lexer.setTokenFactory(new SymbolTokenFactory(new Interner()));
+			Token token;
+			do {
+				token = lexer.nextToken();
+				blackhole.consume(token);
+			} while (token.getType() != Token.EOF);
+		}
+		throughput.megabytes += programs.megabytes;
+	}
+
+	// Interns too, like `lexSymbols`
+	@Benchmark
+	public void scan(Programs programs, Throughput throughput, Blackhole blackhole) {
+		for (String source : programs.sources) {
+			Scanner scanner = new Scanner(CharStreams.fromString(source));
+			Token token;
+			do {
+				token = scanner.nextToken();
+				blackhole.consume(token);
+			} while (token.getType() != Token.EOF);
+		}
+		throughput.megabytes += programs.megabytes;
+	}
+}
@@ -0,0 +1,149 @@
+package bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+
+import checker.Scanner;
+import parser.pascalLexer;
+
+// Differential check of `Scanner` against `pascalLexer`: both must give the
+// same tokens (type, offsets, line, column, text) and the same errors, on
+// every .pas file of the corpus directory, on synthetic programs and on
+// random edits of those. Exits with 1 on the first difference.
+//
+//     java -cp bench/target/benchmarks.jar bench.LexerCheck [-Dcorpus=tests] [mutations]
+public final class LexerCheck {
+
+	// Bits of text the edits insert: every kind of token, the prefixes that
+	// make ANTLR back off to a shorter one, and characters no token starts with
+	private static final String[] PIECES = {
+			"(*", "*)", "{", "}", "(.", ".)", "'", "''", "..", ".", "1.", "1.5", "1e", "1e+",
+			"1.5e-3", "2E5", ":=", "<>", "<=", ">=", "\n", "\r\n", "\t", " ", "#", "_", "é",
+			"😀", "\"", "?", "x_1", "BEGIN", "eNd", "downto", "implementation",
+			"ands", "do", "0", "99", "e", "@", "^", "[", "]",
+	};
+
+	private LexerCheck() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		int mutations = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+
+		List<String> sources = new ArrayList<>();
+		for (File file : files(corpus())) {
+			sources.add(Files.readString(file.toPath(), StandardCharsets.UTF_8));
+		}
+		sources.add(Synthetic.program(100));
+		sources.add("");
+
+		Random random = new Random(42);
+		int programs = 0;
+		long tokens = 0;
+		for (String source : sources) {
+			tokens += check(source);
+			programs++;
+			for (int i = 0; i < mutations; i++) {
+				tokens += check(mutate(source, random));
+				programs++;
+			}
+		}
+		System.out.printf("%d programs, %d tokens: same%n", programs, tokens);
+	}
+
+	// Returns the number of tokens
+	private static int check(String source) {
+		List<String> expectedErrors = new ArrayList<>();
+		pascalLexer lexer = new pascalLexer(CharStreams.fromString(source));
+		lexer.removeErrorListeners();
+		lexer.addErrorListener(collect(expectedErrors));
+
+		List<String> actualErrors = new ArrayList<>();
+		Scanner scanner = new Scanner(CharStreams.fromString(source));
+		scanner.removeErrorListeners();
+		scanner.addErrorListener(collect(actualErrors));
+
+		int count = 0;
+		while (true) {
+			Token expected = lexer.nextToken();
+			Token actual = scanner.nextToken();
+			if (!describe(expected).equals(describe(actual)) || !expectedErrors.equals(actualErrors)) {
+				System.err.printf("Difference at token %d:%n  pascalLexer: %s %s%n  Scanner:     %s %s%n",
+						count, describe(expected), expectedErrors, describe(actual), actualErrors);
+				System.err.println("in:\n" + source);
+				System.exit(1);
+			}
+			count++;
+			if (expected.getType() == Token.EOF) return count;
+		}
+	}
+
+	private static String describe(Token token) {
+		return String.format("%s[%d..%d] %d:%d '%s'",
+				pascalLexer.VOCABULARY.getSymbolicName(token.getType()), token.getStartIndex(),
+				token.getStopIndex(), token.getLine(), token.getCharPositionInLine(), token.getText());
+	}
+
+	private static BaseErrorListener collect(List<String> errors) {
+		return new BaseErrorListener() {
+			@Override
+			public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol,
+					int line, int charPositionInLine, String msg, RecognitionException e) {
+				errors.add(String.format("line %d:%d %s", line, charPositionInLine, msg));
+			}
+		};
+	}
+
+	// Inserts, deletes or truncates at a few random places
+	private static String mutate(String source, Random random) {
+		StringBuilder text = new StringBuilder(source);
+		int edits = 1 + random.nextInt(4);
+		for (int i = 0; i < edits; i++) {
+			int at = random.nextInt(text.length() + 1);
+			switch (random.nextInt(3)) {
+			case 0:
+				text.insert(at, PIECES[random.nextInt(PIECES.length)]);
+				break;
+			case 1:
+				text.delete(at, Math.min(text.length(), at + 1 + random.nextInt(8)));
+				break;
+			default:
+				if (random.nextInt(4) == 0) text.setLength(at);
+			}
+		}
+		return text.toString();
+	}
+
+	private static File corpus() throws IOException {
+		File root = new File(System.getProperty("corpus", "tests"));
+		if (!root.isDirectory()) root = new File("../tests");
+		if (!root.isDirectory()) throw new IOException("Corpus not found, pass -Dcorpus=<tests dir>");
+		return root;
+	}
+
+	private static List<File> files(File dir) {
+		List<File> files = new ArrayList<>();
+		File[] entries = dir.listFiles();
+		if (entries == null) return files;
+		Arrays.sort(entries);
+		for (File entry : entries) {
+			if (entry.isDirectory()) {
+				files.addAll(files(entry));
+			} else if (entry.getName().endsWith(".pas")) {
+				files.add(entry);
+			}
+		}
+		return files;
+	}
+}
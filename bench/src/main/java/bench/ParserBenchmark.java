@@ -0,0 +1,38 @@
+package bench;
+
+import java.util.List;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+import parser.pascalParser;
+
+// `pascalParser.program()` over already lexed tokens.
+public class ParserBenchmark extends StageBenchmark {
+
+	@Benchmark
+	public void parse(Programs programs, Throughput throughput, Blackhole blackhole) {
+		for (List<? extends Token> tokens : programs.tokens) {
+			pascalParser parser = new pascalParser(new CommonTokenStream(new ListTokenSource(tokens)));
+			blackhole.consume(parser.program());
+		}
+		throughput.megabytes += programs.megabytes;
+	}
+
+	// The first stage of `--sll`; every corpus program parses without falling back.
+	@Benchmark
+	public void parseSLL(Programs programs, Throughput throughput, Blackhole blackhole) {
+		for (List<? extends Token> tokens : programs.tokens) {
+			pascalParser parser = new pascalParser(new CommonTokenStream(new ListTokenSource(tokens)));
+			parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+			parser.setErrorHandler(new BailErrorStrategy());
+			blackhole.consume(parser.program());
+		}
+		throughput.megabytes += programs.megabytes;
+	}
+}
@@ -0,0 +1,60 @@
+package bench;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import checker.SemanticChecker;
+import parser.pascalLexer;
+import parser.pascalParser;
+
+// Input of every stage, prepared once per trial so each benchmark only
+// measures its own stage: sources for the lexer, tokens for the parser,
+// parse trees for the checker and checked ASTs for CodeGen.
+@State(Scope.Benchmark)
+public class Programs {
+
+	@Param({ "corpus", "synthetic-100", "synthetic-1000" })
+	public String input;
+
+	List<String> sources;
+	List<List<? extends Token>> tokens;
+	List<ParseTree> trees;
+	List<SemanticChecker> checked;
+
+	// Source size of one pass over all programs, in MB
+	double megabytes;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		sources = Corpus.load(input);
+		megabytes = Corpus.bytes(sources) / 1e6;
+
+		tokens = new ArrayList<>();
+		trees = new ArrayList<>();
+		checked = new ArrayList<>();
+		for (String source : sources) {
+			CommonTokenStream stream = new CommonTokenStream(new pascalLexer(CharStreams.fromString(source)));
+			stream.fill();
+			tokens.add(new ArrayList<>(stream.getTokens()));
+
+			ParseTree tree = new pascalParser(new CommonTokenStream(
+					new pascalLexer(CharStreams.fromString(source)))).program();
+			trees.add(tree);
+
+			SemanticChecker checker = new SemanticChecker();
+			checker.visit(tree);
+			checked.add(checker);
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package bench;
+
+// Generates valid Pascal programs of arbitrary size, to see how each stage
+// scales past the few dozen lines of the test corpus. Only constructs the
+// checker and CodeGen handle are used.
+final class Synthetic {
+
+	private Synthetic() {
+	}
+
+	// `functions` functions, each with a loop, a conditional and some
+	// arithmetic, all called from the main block.
+	static String program(int functions) {
+		StringBuilder sb = new StringBuilder(functions * 400);
+		sb.append("program synthetic;\n\n");
+
+		for (int f = 0; f < functions; f++) {
+			sb.append("function f").append(f).append("(a, b : integer) : integer;\n");
+			sb.append("var i, s : integer;\n");
+			sb.append("var r : real;\n");
+			sb.append("var v : array[0..64] of integer;\n");
+			sb.append("begin\n");
+			sb.append("    i := 0;\n");
+			sb.append("    s := a * 2 + b;\n");
+			sb.append("    r := 1.5;\n");
+			sb.append("    while (i < 64) do begin\n");
+			sb.append("        v[i] := i * a + b;\n");
+			sb.append("        if (v[i] > s) then\n");
+			sb.append("            s := s + v[i]\n");
+			sb.append("        else\n");
+			sb.append("            s := s - 1;\n");
+			sb.append("        r := r * 2.0 + i;\n");
+			sb.append("        i := i + 1;\n");
+			sb.append("    end;\n");
+			sb.append("    f").append(f).append(" := s + v[3];\n");
+			sb.append("end;\n\n");
+		}
+
+		sb.append("var x, y : integer;\n");
+		sb.append("var name : string;\n");
+		sb.append("begin\n");
+		sb.append("    x := 1;\n");
+		sb.append("    name := 'synthetic';\n");
+		for (int f = 0; f < functions; f++) {
+			sb.append("    y := f").append(f).append("(x, ").append(f).append(");\n");
+			sb.append("    if (y <> x) then\n");
+			sb.append("        write(y, chr(10));\n");
+		}
+		sb.append("    write(name, chr(10));\n");
+		sb.append("end.\n");
+
+		return sb.toString();
+	}
+}
@@ -0,0 +1,172 @@
+package checker;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import org.antlr.v4.runtime.CharStream;
+
+import code.ChannelIRWriter;
+
+// Compiles many programs in one process, in parallel on a fork-join pool.
+// Every `file.pas` gets its `file.ll` written next to it.
+public final class Batch {
+
+	private final List<File> files;
+	// Directories that could not be listed, each counting as a failure
+	private final List<File> unreadable;
+	private final Options options;
+	private final OutputCache cache;
+
+	public Batch(String[] paths, Options options) {
+		this(paths, options, null);
+	}
+
+	// Arguments may be `.pas` files or directories holding them. Outputs are
+	// copied from `cache` when found there, and put there otherwise.
+	public Batch(String[] paths, Options options, OutputCache cache) {
+		this.files = new ArrayList<>();
+		this.unreadable = new ArrayList<>();
+		this.options = options;
+		this.cache = cache;
+		for (String path : paths) {
+			File file = new File(path);
+			if (file.isDirectory()) {
+				File[] sources = file.listFiles((dir, name) -> name.endsWith(".pas"));
+				if (sources == null) {
+					unreadable.add(file);
+					continue;
+				}
+				Arrays.sort(sources);
+				this.files.addAll(Arrays.asList(sources));
+			} else {
+				this.files.add(file);
+			}
+		}
+	}
+
+	// Returns the number of files that failed to compile.
+	public int run() {
+		ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+		List<CompileTask> tasks = new ArrayList<>();
+		for (File file : files) {
+			tasks.add(new CompileTask(file));
+		}
+
+		long start = System.nanoTime();
+		pool.invoke(new RecursiveTask<Void>() {
+			@Override
+			protected Void compute() {
+				ForkJoinTask.invokeAll(tasks);
+				return null;
+			}
+		});
+		double seconds = (System.nanoTime() - start) / 1e9;
+		pool.shutdown();
+
+		int failed = 0;
+		for (File directory : unreadable) {
+			System.err.printf("%s: I/O error: cannot list directory\n", directory);
+		}
+		for (CompileTask task : tasks) {
+			Result result = task.join();
+			for (Diagnostics.Diagnostic diagnostic : result.diagnostics) {
+				System.err.printf("%s: %s\n", result.file, diagnostic);
+			}
+			System.err.printf("%10.2f ms  %s%s\n", result.millis, result.file, result.ok ? "" : "  FAILED");
+			if (result.stats != null) {
+				System.err.println(result.stats.toJson());
+			}
+			if (!result.ok) failed++;
+		}
+
+		System.err.printf("%d files (%d ok, %d failed) in %.3f s, %.1f files/s on %d threads\n",
+				files.size(), files.size() - failed, failed, seconds,
+				files.size() / seconds, pool.getParallelism());
+		if (options.sll) {
+			System.err.printf("%d SLL parses, %d fell back to full LL\n",
+					Compiler.getSLLParses(), Compiler.getLLFallbacks());
+		}
+
+		return failed + unreadable.size();
+	}
+
+	private static File outputFile(File input) {
+		String name = input.getName();
+		int dot = name.lastIndexOf('.');
+		if (dot != -1) name = name.substring(0, dot);
+		return new File(input.getAbsoluteFile().getParentFile(), name + ".ll");
+	}
+
+	private static final class Result {
+		final File file;
+		final boolean ok;
+		final double millis;
+		final Diagnostics diagnostics;
+		CompileStats stats;
+
+		Result(File file, boolean ok, double millis, Diagnostics diagnostics) {
+			this.file = file;
+			this.ok = ok;
+			this.millis = millis;
+			this.diagnostics = diagnostics;
+		}
+	}
+
+	@SuppressWarnings("serial")
+	private final class CompileTask extends RecursiveTask<Result> {
+		private final File file;
+
+		CompileTask(File file) {
+			this.file = file;
+		}
+
+		@Override
+		protected Result compute() {
+			long start = System.nanoTime();
+			Diagnostics diagnostics = new Diagnostics();
+			boolean ok = false;
+			CompileStats stats = null;
+
+			File output = outputFile(file);
+			try {
+				CharStream input = options.open(file.toPath());
+				String key = cache != null ? cache.key(input, options) : null;
+				if (key != null && cache.copy(key, output.toPath())) {
+					return new Result(file, true, (System.nanoTime() - start) / 1e6, diagnostics);
+				}
+
+				try (ChannelIRWriter out = new ChannelIRWriter(output.toPath())) {
+					Compiler compiler = new Compiler(out, options);
+					ok = compiler.compile(input);
+					diagnostics = compiler.getDiagnostics();
+					stats = compiler.getStats();
+				}
+
+				if (key != null && ok && diagnostics.isEmpty()) {
+					cache.put(key, Files.readAllBytes(output.toPath()));
+				}
+			} catch (IOException exception) {
+				diagnostics.io(exception.getMessage());
+			} catch (RuntimeException | StackOverflowError | OutOfMemoryError exception) {
+				// One program too deep for the stack or too big for the heap
+				// fails, not the whole batch
+				diagnostics.internal(exception.toString());
+			}
+
+			if (!ok) {
+				output.delete();
+			}
+
+			Result result = new Result(file, ok, (System.nanoTime() - start) / 1e6, diagnostics);
+			result.stats = stats;
+			return result;
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package checker;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// `SemanticChecker.visit` over one file. Recorded when JFR is on.
+@Name("pascal.Check")
+@Label("Semantic Check")
+@Category({ "Pascal Compiler" })
+@Description("Semantic checking of one source file, building its AST")
+@StackTrace(false)
+final class CheckEvent extends Event {
+
+	@Label("File")
+	String file;
+
+	@Label("AST Nodes")
+	int astNodes;
+
+	@Label("Functions")
+	int functions;
+
+	@Label("Error")
+	String error;
+}
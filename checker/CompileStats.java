@@ -0,0 +1,201 @@
+package checker;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import ast.ASTStore;
+import ast.NodeKind;
+import ir.BasicBlock;
+import ir.Function;
+import ir.Instruction;
+import ir.Module;
+import ir.Opcode;
+import scope.Scope;
+import tables.FunctionTable;
+
+// What one compilation did, phase by phase, for `--stats=json`: wall time
+// and bytes allocated by the compiling thread, and the size of what the phase
+// produced. Phases run one after the other on one thread, so `start` and
+// `end` just bracket them.
+public final class CompileStats {
+
+	private static final com.sun.management.ThreadMXBean threads = threads();
+
+	private final String file;
+	private final List<Phase> phases = new ArrayList<>();
+	private Phase current;
+
+	public CompileStats(String file) {
+		this.file = file;
+	}
+
+	public void start(String name) {
+		current = new Phase(name);
+		current.nanos = System.nanoTime();
+		current.bytes = allocated();
+	}
+
+	public void end() {
+		current.nanos = System.nanoTime() - current.nanos;
+		current.bytes = current.bytes == -1 ? -1 : allocated() - current.bytes;
+		phases.add(current);
+	}
+
+	// Counters of the phase that just ended
+	public void count(String name, long value) {
+		phases.get(phases.size() - 1).counters.put(name, value);
+	}
+
+	public void count(String name, Map<String, Long> values) {
+		phases.get(phases.size() - 1).counters.put(name, values);
+	}
+
+	// Rule and terminal nodes. With --stream the top-level declarations are
+	// gone by then.
+	public static long parseTreeNodes(ParseTree tree) {
+		long nodes = 1;
+		for (int i = 0; i < tree.getChildCount(); i++) {
+			nodes += parseTreeNodes(tree.getChild(i));
+		}
+		return nodes;
+	}
+
+	// Nodes reachable from `root`, by kind
+	public static Map<String, Long> astNodes(ASTStore tree, int root) {
+		Map<NodeKind, Long> kinds = new EnumMap<>(NodeKind.class);
+		countNodes(tree, root, kinds);
+		Map<String, Long> nodes = new LinkedHashMap<>();
+		for (Map.Entry<NodeKind, Long> kind : kinds.entrySet()) {
+			nodes.put(kind.getKey().name(), kind.getValue());
+		}
+		return nodes;
+	}
+
+	private static void countNodes(ASTStore tree, int node, Map<NodeKind, Long> kinds) {
+		kinds.merge(tree.kind(node), 1L, Long::sum);
+		for (int child = tree.firstChild(node); child != ASTStore.NIL; child = tree.nextSibling(child)) {
+			countNodes(tree, child, kinds);
+		}
+	}
+
+	// Variables and functions declared in `scope` and in the functions in it
+	public static long[] declarations(Scope scope) {
+		long[] counts = { scope.getVaraibleTable().size(), 0 };
+		FunctionTable functions = scope.getFunctionTable();
+		for (int i = 0; i < functions.size(); i++) {
+			long[] inner = declarations(functions.getScope(i));
+			counts[0] += inner[0];
+			counts[1] += inner[1] + 1;
+		}
+		return counts;
+	}
+
+	// Instructions of the generated functions, by opcode. Functions reused by
+	// --incremental are not in `module`.
+	public static Map<String, Long> instructions(Module module) {
+		Map<Opcode, Long> opcodes = new EnumMap<>(Opcode.class);
+		for (Function function : module.getFunctions()) {
+			for (BasicBlock block : function.getBlocks()) {
+				for (Instruction instruction : block.getInstructions()) {
+					opcodes.merge(instruction.opcode, 1L, Long::sum);
+				}
+			}
+		}
+		Map<String, Long> instructions = new LinkedHashMap<>();
+		for (Map.Entry<Opcode, Long> opcode : opcodes.entrySet()) {
+			instructions.put(opcode.getKey().name().toLowerCase(), opcode.getValue());
+		}
+		return instructions;
+	}
+
+	// One line:
+	// {"file":"a.pas","phases":[{"phase":"lex","wallMs":1.25,"allocatedBytes":1024,"tokens":300},...]}
+	public String toJson() {
+		StringBuilder json = new StringBuilder();
+		json.append("{\"file\":");
+		string(json, file);
+		json.append(",\"phases\":[");
+		for (int i = 0; i < phases.size(); i++) {
+			Phase phase = phases.get(i);
+			if (i > 0) json.append(',');
+			json.append("{\"phase\":");
+			string(json, phase.name);
+			json.append(String.format(Locale.ROOT, ",\"wallMs\":%.3f", phase.nanos / 1e6));
+			json.append(",\"allocatedBytes\":").append(phase.bytes);
+			for (Map.Entry<String, Object> counter : phase.counters.entrySet()) {
+				json.append(',');
+				string(json, counter.getKey());
+				json.append(':');
+				value(json, counter.getValue());
+			}
+			json.append('}');
+		}
+		return json.append("]}").toString();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void value(StringBuilder json, Object value) {
+		if (!(value instanceof Map)) {
+			json.append(value);
+			return;
+		}
+		json.append('{');
+		boolean first = true;
+		for (Map.Entry<String, Long> entry : ((Map<String, Long>) value).entrySet()) {
+			if (!first) json.append(',');
+			first = false;
+			string(json, entry.getKey());
+			json.append(':').append(entry.getValue());
+		}
+		json.append('}');
+	}
+
+	private static void string(StringBuilder json, String text) {
+		json.append('"');
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '"' || c == '\\') {
+				json.append('\\').append(c);
+			} else if (c < 0x20) {
+				json.append(String.format("\\u%04x", (int) c));
+			} else {
+				json.append(c);
+			}
+		}
+		json.append('"');
+	}
+
+	// -1 where the JVM can't tell
+	private static long allocated() {
+		return threads != null ? threads.getCurrentThreadAllocatedBytes() : -1;
+	}
+
+	private static com.sun.management.ThreadMXBean threads() {
+		java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+			return null;
+		}
+		com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threads;
+		if (!bean.isThreadAllocatedMemorySupported()) return null;
+		bean.setThreadAllocatedMemoryEnabled(true);
+		return bean;
+	}
+
+	private static final class Phase {
+		final String name;
+		long nanos;
+		long bytes;
+		final Map<String, Object> counters = new LinkedHashMap<>();
+
+		Phase(String name) {
+			this.name = name;
+		}
+	}
+}
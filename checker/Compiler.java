@@ -0,0 +1,300 @@
+package checker;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import ast.AST;
+import ast.ASTStore;
+import code.CodeGen;
+import code.FunctionIR;
+import code.IRWriter;
+import ir.Module;
+import opt.ConstantFolder;
+import opt.DeadCodeEliminator;
+import parser.pascalLexer;
+import parser.pascalParser;
+import tables.Interner;
+
+// Runs the whole pipeline (lex -> parse -> SemanticChecker -> AST passes ->
+// CodeGen) on a single input. One instance per compilation: nothing here is
+// shared, so many of them can run at the same time. The lexer/parser DFA
+// caches are static in the generated classes and stay warm for as long as the
+// JVM lives (see `DFACache` to fill them up front).
+public final class Compiler {
+
+	// Two-stage parses (--sll) so far, and how many of them needed full LL
+	private static final LongAdder sllParses = new LongAdder();
+	private static final LongAdder llFallbacks = new LongAdder();
+
+	private final IRWriter out;
+	private final Options options;
+	private final FunctionCache cache;
+	private final Diagnostics diagnostics;
+	private CompileStats stats;
+
+	public Compiler(IRWriter out) {
+		this(out, new Options());
+	}
+
+	public Compiler(IRWriter out, Options options) {
+		this(out, options, null);
+	}
+
+	// Reuses (and adds to) the functions in `cache`, if not null
+	public Compiler(IRWriter out, Options options, FunctionCache cache) {
+		this.out = out;
+		this.options = options;
+		this.cache = cache;
+		this.diagnostics = new Diagnostics();
+	}
+
+	// Returns true if the IR was written to `out`.
+	public boolean compile(CharStream input) {
+		CompileStats stats = options.stats ? new CompileStats(input.getSourceName()) : null;
+		this.stats = stats;
+		DiagnosticListener listener = new DiagnosticListener();
+		Interner symbols = new Interner();
+
+		TokenSource lexer;
+		if (options.scanner) {
+			Scanner scanner = new Scanner(input, symbols);
+			scanner.removeErrorListeners();
+			scanner.addErrorListener(listener);
+			lexer = scanner;
+		} else {
+			pascalLexer generated = new pascalLexer(input);
+			generated.setTokenFactory(new SymbolTokenFactory(symbols));
+			generated.removeErrorListeners();
+			generated.addErrorListener(listener);
+			lexer = generated;
+		}
+
+		ParseEvent parseEvent = new ParseEvent();
+		parseEvent.begin();
+
+		CommonTokenStream tokens = new CommonTokenStream(lexer);
+		if (stats != null) {
+			// All at once, instead of as the parser asks, to be timed apart
+			stats.start("lex");
+			tokens.fill();
+			stats.end();
+			stats.count("tokens", tokens.size());
+			stats.start("parse");
+		}
+
+		pascalParser parser = new pascalParser(tokens);
+		parser.removeErrorListeners();
+
+		SemanticChecker checker = newChecker(symbols, tokens, parser);
+		ParseTree tree = options.sll ? parseTwoStage(parser) : null;
+		if (tree == null) {
+			if (options.sll && options.stream) {
+				// The first stage may have checked some declarations already
+				checker = newChecker(symbols, tokens, parser);
+			}
+			parser.addErrorListener(listener);
+			tree = parser.program();
+		}
+
+		if (stats != null) {
+			stats.end();
+			stats.count("parseTreeNodes", CompileStats.parseTreeNodes(tree));
+		}
+		parseEvent.end();
+		if (parseEvent.shouldCommit()) {
+			parseEvent.file = input.getSourceName();
+			parseEvent.tokens = tokens.size();
+			parseEvent.parseTreeNodes = CompileStats.parseTreeNodes(tree);
+			parseEvent.syntaxErrors = parser.getNumberOfSyntaxErrors();
+			parseEvent.commit();
+		}
+		if (parser.getNumberOfSyntaxErrors() != 0) {
+			return false;
+		}
+
+		if (stats != null) stats.start("check");
+		CheckEvent checkEvent = new CheckEvent();
+		checkEvent.begin();
+		checker.visit(tree);
+		Diagnostics errors = checker.getDiagnostics();
+		commit(checkEvent, input, checker, errors.isEmpty() ? null : errors.get(0).toString());
+		if (!errors.isEmpty()) {
+			if (stats != null) stats.end();
+			diagnostics.addAll(errors);
+			return false;
+		}
+
+		ASTStore ast = checker.getTree();
+		int root = checker.getRoot();
+
+		// The rewriting passes work on `AST` objects, copied back afterwards
+		if (options.fold || options.dce) {
+			AST objects = checker.getAST();
+			if (options.fold) {
+				new ConstantFolder(checker.stringTable).execute(objects);
+			}
+			if (options.dce) {
+				new DeadCodeEliminator(checker.globalScope.getFunctionTable()).execute(objects);
+			}
+			ast = new ASTStore();
+			root = ast.add(objects);
+		}
+
+		if (stats != null) {
+			stats.end();
+			stats.count("astNodes", CompileStats.astNodes(ast, root));
+			long[] declarations = CompileStats.declarations(checker.globalScope);
+			stats.count("symbols", symbols.size());
+			stats.count("strings", checker.stringTable.size());
+			stats.count("variables", declarations[0]);
+			stats.count("functions", declarations[1]);
+			stats.start("codegen");
+		}
+
+		CodeGen codeGen = new CodeGen(
+				checker.stringTable,
+				checker.globalScope,
+				out);
+		codeGen.setSSA(options.ssa);
+		codeGen.setLICM(options.licm);
+		codeGen.setStrengthReduction(options.strength);
+		codeGen.setCSE(options.cse);
+		codeGen.setSourceName(input.getSourceName());
+
+		// The IR of a function also depends on the options it was built with
+		Map<Integer, String> keys = checker.getFunctionKeys();
+		Map<Integer, FunctionIR> emitted = new HashMap<>();
+		if (cache != null) {
+			Map<Integer, FunctionIR> reuse = new HashMap<>();
+			for (Map.Entry<Integer, String> key : keys.entrySet()) {
+				FunctionIR function = cache.getIR(key.getValue() + options);
+				if (function != null) {
+					reuse.put(key.getKey(), function);
+				}
+			}
+			codeGen.setFragments(reuse, emitted);
+		}
+
+		// What the checker accepts but CodeGen can't do yet, e.g. I2S
+		Module module;
+		try {
+			module = codeGen.generate(ast, root);
+		} catch (IllegalStateException exception) {
+			if (stats != null) stats.end();
+			diagnostics.internal(exception.getMessage());
+			return false;
+		}
+		if (stats != null) {
+			stats.end();
+			stats.count("instructions", CompileStats.instructions(module));
+			stats.start("emit");
+		}
+
+		codeGen.emit(module);
+		for (Map.Entry<Integer, FunctionIR> function : emitted.entrySet()) {
+			cache.putIR(keys.get(function.getKey()) + options, function.getValue());
+		}
+		FlushEvent flushEvent = new FlushEvent();
+		flushEvent.begin();
+		out.flush();
+		flushEvent.end();
+		if (flushEvent.shouldCommit()) {
+			flushEvent.file = input.getSourceName();
+			flushEvent.bytes = out.getBytesWritten();
+			flushEvent.commit();
+		}
+		if (stats != null) stats.end();
+		return true;
+	}
+
+	private static void commit(CheckEvent event, CharStream input, SemanticChecker checker, String error) {
+		event.end();
+		if (event.shouldCommit()) {
+			event.file = input.getSourceName();
+			event.astNodes = checker.getTree().size();
+			event.functions = checker.globalScope.getFunctionTable().size();
+			event.error = error;
+			event.commit();
+		}
+	}
+
+	// What the last `compile` did, with --stats=json; null otherwise
+	public CompileStats getStats() {
+		return this.stats;
+	}
+
+	// With --stream, the checker runs as the parser's listener
+	private SemanticChecker newChecker(Interner symbols, CommonTokenStream tokens, pascalParser parser) {
+		SemanticChecker checker = new SemanticChecker(symbols);
+		if (cache != null) {
+			checker.setCache(cache, tokens);
+		}
+		if (options.stream) {
+			parser.removeParseListeners();
+			parser.addParseListener(checker.streaming(parser));
+		}
+		return checker;
+	}
+
+	// SLL prediction is much cheaper and accepts every valid program the
+	// grammar doesn't make it ambiguous for. On the first syntax error the
+	// bail strategy gives up; returns null then, with the parser rewound for
+	// a full LL parse with the usual error recovery and reporting.
+	private static ParseTree parseTwoStage(pascalParser parser) {
+		sllParses.increment();
+		parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+		parser.setErrorHandler(new BailErrorStrategy());
+		try {
+			return parser.program();
+		} catch (ParseCancellationException exception) {
+			llFallbacks.increment();
+			parser.reset();
+			parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+			parser.setErrorHandler(new DefaultErrorStrategy());
+			return null;
+		}
+	}
+
+	public static long getSLLParses() {
+		return sllParses.sum();
+	}
+
+	public static long getLLFallbacks() {
+		return llFallbacks.sum();
+	}
+
+	// Everything the last `compile` found wrong, in order
+	public Diagnostics getDiagnostics() {
+		return this.diagnostics;
+	}
+
+	public boolean hasSemanticError() {
+		return diagnostics.count(Diagnostics.Kind.SEMANTIC) != 0;
+	}
+
+	public boolean hasInternalError() {
+		return diagnostics.count(Diagnostics.Kind.INTERNAL) != 0;
+	}
+
+	// Same format as ANTLR's ConsoleErrorListener, but kept per compilation.
+	private final class DiagnosticListener extends BaseErrorListener {
+		@Override
+		public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol,
+				int line, int charPositionInLine, String msg, RecognitionException e) {
+			diagnostics.syntax(line, charPositionInLine, msg);
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package checker;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.dfa.DFA;
+
+import parser.pascalLexer;
+import parser.pascalParser;
+
+// Fills the lexer/parser DFA caches before the first real compilation. They
+// are static in the generated classes, so every later `pascalLexer` and
+// `pascalParser` of the process starts warm.
+//
+// ANTLR's DFA states hold ATN configurations and are not serializable, so an
+// exported cache holds the programs it was trained on instead; importing it
+// lexes and parses them again, without the files having to be around.
+public final class DFACache {
+
+	private static final int MAGIC = 0x50444641;
+
+	// Everything trained on so far, for `save`
+	private static final List<String> trained = new ArrayList<>();
+
+	private DFACache() {
+	}
+
+	// Trains on every .pas file in `paths`, searching directories recursively
+	// (e.g. all of `tests`). Returns the number of programs.
+	public static int train(List<File> paths) throws IOException {
+		int programs = 0;
+		for (File path : paths) {
+			for (File file : sources(path)) {
+				train(Files.readString(file.toPath(), StandardCharsets.UTF_8));
+				programs++;
+			}
+		}
+		return programs;
+	}
+
+	public static void train(String source) {
+		pascalLexer lexer = new pascalLexer(CharStreams.fromString(source));
+		lexer.removeErrorListeners();
+
+		pascalParser parser = new pascalParser(new CommonTokenStream(lexer));
+		parser.removeErrorListeners();
+		parser.program();
+
+		synchronized (trained) {
+			trained.add(source);
+		}
+	}
+
+	public static void save(Path path) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+				new GZIPOutputStream(Files.newOutputStream(path))))) {
+			out.writeInt(MAGIC);
+			out.writeInt(pascalParser._serializedATN.hashCode());
+			synchronized (trained) {
+				out.writeInt(trained.size());
+				for (String source : trained) {
+					byte[] bytes = source.getBytes(StandardCharsets.UTF_8);
+					out.writeInt(bytes.length);
+					out.write(bytes);
+				}
+			}
+		}
+	}
+
+	// Returns the number of programs trained on, or throws if `path` is not a
+	// cache for this grammar.
+	public static int load(Path path) throws IOException {
+		List<String> sources = new ArrayList<>();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+				new GZIPInputStream(Files.newInputStream(path))))) {
+			if (in.readInt() != MAGIC) {
+				throw new IOException("not a DFA cache");
+			}
+			if (in.readInt() != pascalParser._serializedATN.hashCode()) {
+				throw new IOException("DFA cache is for another version of the grammar");
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				byte[] bytes = new byte[in.readInt()];
+				in.readFully(bytes);
+				sources.add(new String(bytes, StandardCharsets.UTF_8));
+			}
+		}
+
+		for (String source : sources) {
+			train(source);
+		}
+		return sources.size();
+	}
+
+	public static int lexerStates() {
+		return states(new pascalLexer(null).getInterpreter().decisionToDFA);
+	}
+
+	public static int parserStates() {
+		return states(new pascalParser(null).getInterpreter().decisionToDFA);
+	}
+
+	private static int states(DFA[] decisions) {
+		int states = 0;
+		for (DFA dfa : decisions) {
+			states += dfa.states.size();
+		}
+		return states;
+	}
+
+	private static List<File> sources(File path) {
+		List<File> files = new ArrayList<>();
+		if (path.isFile()) {
+			files.add(path);
+			return files;
+		}
+
+		File[] entries = path.listFiles();
+		if (entries == null) return files;
+		Arrays.sort(entries);
+		for (File entry : entries) {
+			if (entry.isDirectory()) {
+				files.addAll(sources(entry));
+			} else if (entry.getName().endsWith(".pas")) {
+				files.add(entry);
+			}
+		}
+		return files;
+	}
+}
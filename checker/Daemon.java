@@ -0,0 +1,224 @@
+package checker;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+
+import code.MemoryIRWriter;
+
+// Long-lived compile server. Every request is compiled on its own thread, so
+// one JVM (and its warm lexer/parser DFA caches and JIT) serves all of them.
+//
+// Protocol, one request per header line:
+//   file <path>\n               compile the file at <path>
+//   source <n>\n<n bytes>       compile the <n> bytes of UTF-8 source that follow
+// Responses come back in request order:
+//   ok <n>\n<n bytes of IR>
+//   error <n>\n<n bytes of diagnostics>
+public final class Daemon {
+
+	private final ExecutorService executor;
+	private final Options options;
+	private final FunctionCache cache;
+
+	public Daemon(Options options) {
+		this.executor = newExecutor();
+		this.options = options;
+		this.cache = options.incremental ? new FunctionCache() : null;
+	}
+
+	// Virtual threads when the runtime has them (Java 21+), a cached pool otherwise.
+	private static ExecutorService newExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException exception) {
+			return Executors.newCachedThreadPool(runnable -> {
+				Thread thread = new Thread(runnable);
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	public void serveStdio() throws IOException {
+		serve(System.in, System.out);
+		executor.shutdown();
+	}
+
+	public void serveSocket(String socketPath) throws IOException {
+		Path path = Path.of(socketPath);
+		Files.deleteIfExists(path);
+
+		try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+			server.bind(UnixDomainSocketAddress.of(path));
+			System.err.printf("Listening on '%s'\n", socketPath);
+
+			while (true) {
+				SocketChannel client = server.accept();
+				executor.execute(() -> {
+					try (client) {
+						serve(Channels.newInputStream(client), Channels.newOutputStream(client));
+					} catch (IOException exception) {
+						System.err.printf("Connection dropped: %s\n", exception.getMessage());
+					}
+				});
+			}
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	// Reads requests until EOF. Compilations run concurrently while a writer
+	// drains the results in the order the requests arrived.
+	private void serve(InputStream rawIn, OutputStream rawOut) throws IOException {
+		InputStream in = new BufferedInputStream(rawIn);
+		OutputStream out = new BufferedOutputStream(rawOut);
+		BlockingQueue<Future<byte[]>> pending = new LinkedBlockingQueue<>();
+		Future<byte[]> end = executor.submit(() -> null);
+
+		Future<?> writer = executor.submit(() -> {
+			while (true) {
+				Future<byte[]> response = pending.take();
+				if (response == end) {
+					return null;
+				}
+				out.write(response.get());
+				if (pending.isEmpty()) {
+					out.flush();
+				}
+			}
+		});
+
+		try {
+			String header;
+			while ((header = readLine(in)) != null) {
+				if (header.isBlank()) {
+					continue;
+				}
+				pending.add(submit(header, in));
+			}
+		} finally {
+			pending.add(end);
+		}
+
+		try {
+			writer.get();
+			out.flush();
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException exception) {
+			throw new IOException(exception.getCause());
+		}
+	}
+
+	private Future<byte[]> submit(String header, InputStream in) throws IOException {
+		int space = header.indexOf(' ');
+		String command = space == -1 ? header : header.substring(0, space);
+		String argument = space == -1 ? "" : header.substring(space + 1).trim();
+
+		if (command.equals("file")) {
+			return executor.submit(() -> {
+				CharStream input;
+				try {
+					input = options.open(Path.of(argument));
+				} catch (IOException exception) {
+					return response("error", String.format("File '%s' does not exist!\n", argument));
+				}
+				return compile(input);
+			});
+		}
+
+		if (command.equals("source")) {
+			int length;
+			try {
+				length = Integer.parseInt(argument);
+			} catch (NumberFormatException exception) {
+				return done(response("error", String.format("Invalid source length '%s'\n", argument)));
+			}
+			byte[] source = in.readNBytes(length);
+			if (source.length != length) {
+				throw new EOFException("Source truncated");
+			}
+			return executor.submit(() -> compile(CharStreams.fromString(
+					new String(source, StandardCharsets.UTF_8), "<source>")));
+		}
+
+		return done(response("error", String.format("Unknown request '%s'\n", command)));
+	}
+
+	private byte[] compile(CharStream input) {
+		MemoryIRWriter ir = new MemoryIRWriter();
+		Compiler compiler = new Compiler(ir, options, cache);
+
+		// A program nested too deep for the stack, or too big for the heap,
+		// fails this request only: what it allocated is garbage once it
+		// returns, and the other requests go on
+		boolean ok;
+		try {
+			ok = compiler.compile(input);
+		} catch (RuntimeException | StackOverflowError | OutOfMemoryError exception) {
+			compiler.getDiagnostics().internal(exception.toString());
+			ok = false;
+		}
+
+		if (ok) {
+			return response("ok", ir.toByteArray());
+		}
+
+		StringBuilder diagnostics = new StringBuilder();
+		for (Diagnostics.Diagnostic diagnostic : compiler.getDiagnostics()) {
+			diagnostics.append(diagnostic).append('\n');
+		}
+		return response("error", diagnostics.toString());
+	}
+
+	private static byte[] response(String status, String body) {
+		return response(status, body.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static byte[] response(String status, byte[] body) {
+		byte[] header = String.format("%s %d\n", status, body.length).getBytes(StandardCharsets.UTF_8);
+		byte[] message = new byte[header.length + body.length];
+		System.arraycopy(header, 0, message, 0, header.length);
+		System.arraycopy(body, 0, message, header.length, body.length);
+		return message;
+	}
+
+	private Future<byte[]> done(byte[] value) {
+		return executor.submit(() -> value);
+	}
+
+	// Reads one '\n' terminated header line, null on EOF.
+	private static String readLine(InputStream in) throws IOException {
+		ByteArrayOutputStream line = new ByteArrayOutputStream();
+		int c;
+		while ((c = in.read()) != -1 && c != '\n') {
+			line.write(c);
+		}
+		if (c == -1 && line.size() == 0) {
+			return null;
+		}
+		return line.toString(StandardCharsets.UTF_8).trim();
+	}
+}
@@ -0,0 +1,102 @@
+package checker;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+// The errors of one compilation, in the order they were found. Nothing in the
+// pipeline terminates the JVM: the checker records an error here and goes on
+// with an error-typed node, and the caller (command line, batch, daemon)
+// decides what to do with the lot.
+public final class Diagnostics implements Iterable<Diagnostics.Diagnostic> {
+
+	public enum Kind {
+		SYNTAX,
+		SEMANTIC,
+		// A bug in the compiler, or something it doesn't support yet
+		INTERNAL,
+		IO
+	}
+
+	private final List<Diagnostic> diagnostics = new ArrayList<>();
+
+	// `line` and `column` as ANTLR counts them: from 1 and from 0
+	public void syntax(int line, int column, String message) {
+		add(new Diagnostic(Kind.SYNTAX, line, column, message));
+	}
+
+	public void semantic(int line, int column, String message) {
+		add(new Diagnostic(Kind.SEMANTIC, line, column, message));
+	}
+
+	public void internal(String message) {
+		add(new Diagnostic(Kind.INTERNAL, -1, -1, message));
+	}
+
+	public void io(String message) {
+		add(new Diagnostic(Kind.IO, -1, -1, message));
+	}
+
+	public void add(Diagnostic diagnostic) {
+		diagnostics.add(diagnostic);
+	}
+
+	public void addAll(Diagnostics other) {
+		diagnostics.addAll(other.diagnostics);
+	}
+
+	public int size() {
+		return diagnostics.size();
+	}
+
+	public boolean isEmpty() {
+		return diagnostics.isEmpty();
+	}
+
+	public int count(Kind kind) {
+		int count = 0;
+		for (Diagnostic diagnostic : diagnostics) {
+			if (diagnostic.kind == kind) count++;
+		}
+		return count;
+	}
+
+	public Diagnostic get(int i) {
+		return diagnostics.get(i);
+	}
+
+	@Override
+	public Iterator<Diagnostic> iterator() {
+		return diagnostics.iterator();
+	}
+
+	public static final class Diagnostic {
+		public final Kind kind;
+		// -1 if there is no location
+		public final int line;
+		public final int column;
+		public final String message;
+
+		public Diagnostic(Kind kind, int line, int column, String message) {
+			this.kind = kind;
+			this.line = line;
+			this.column = column;
+			this.message = message;
+		}
+
+		// The lines the compiler has always printed
+		@Override
+		public String toString() {
+			switch (kind) {
+				case SYNTAX:
+					return String.format("line %d:%d %s", line, column, message);
+				case SEMANTIC:
+					return String.format("SEMANTIC ERROR (%d): %s", line, message);
+				case INTERNAL:
+					return String.format("INTERNAL ERROR: %s", message);
+				default:
+					return String.format("I/O error: %s", message);
+			}
+		}
+	}
+}
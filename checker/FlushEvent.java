@@ -0,0 +1,25 @@
+package checker;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Flushing the IR of one file to its output. Recorded when JFR is on.
+@Name("pascal.Flush")
+@Label("Flush Output")
+@Category({ "Pascal Compiler" })
+@Description("Writing out the buffered IR of one source file")
+@StackTrace(false)
+final class FlushEvent extends Event {
+
+	@Label("File")
+	String file;
+
+	@Label("IR Size")
+	@DataAmount
+	long bytes;
+}
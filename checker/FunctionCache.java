@@ -0,0 +1,111 @@
+package checker;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import ast.AST;
+import code.FunctionIR;
+import scope.Scope;
+import typing.Type;
+
+// Work done on top-level functions by earlier compilations, for `--incremental`
+// (daemon mode): the checked AST of a function and its scope, and the IR it
+// compiled to. Entries are keyed by a hash of the function's tokens and of the
+// signatures of the functions it calls, so an edit to one function only misses
+// on that function and on those whose calls it changed.
+//
+// Shared by concurrent compilations. Cached ASTs and scopes are never changed
+// after they are put here: compilations copy the ASTs into their own store.
+public final class FunctionCache {
+
+	private static final int DEFAULT_CAPACITY = 1 << 16;
+
+	private final Map<String, Checked> checked;
+	private final Map<String, FunctionIR> emitted;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	public FunctionCache() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	// Keeps at most `capacity` functions of each kind, dropping the least
+	// recently used
+	public FunctionCache(int capacity) {
+		this.checked = lru(capacity);
+		this.emitted = lru(capacity);
+	}
+
+	private static <V> Map<String, V> lru(int capacity) {
+		return new LinkedHashMap<String, V>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	Checked getChecked(String key) {
+		Checked function;
+		synchronized (checked) {
+			function = checked.get(key);
+		}
+		(function != null ? hits : misses).increment();
+		return function;
+	}
+
+	void putChecked(String key, Checked function) {
+		synchronized (checked) {
+			checked.put(key, function);
+		}
+	}
+
+	FunctionIR getIR(String key) {
+		synchronized (emitted) {
+			return emitted.get(key);
+		}
+	}
+
+	void putIR(String key, FunctionIR function) {
+		synchronized (emitted) {
+			emitted.put(key, function);
+		}
+	}
+
+	// Checked functions found / not found so far
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	// A checked top-level function: what `SemanticChecker` leaves behind for it
+	static final class Checked {
+		final AST tree;
+		final Type type;
+		final ArrayList<Type> parameters;
+		final Scope scope;
+
+		// Every string literal it uses, in order, and the string table index
+		// each one got. `tree` is only right if they get the same ones again.
+		final String[] literals;
+		final int[] literalIds;
+
+		Checked(AST tree, Type type, ArrayList<Type> parameters, Scope scope,
+				String[] literals, int[] literalIds) {
+			this.tree = tree;
+			this.type = type;
+			this.parameters = parameters;
+			this.scope = scope;
+			this.literals = literals;
+			this.literalIds = literalIds;
+		}
+	}
+}
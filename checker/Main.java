@@ -1,15 +1,18 @@
 package checker;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.tree.ParseTree;
 
-import code.CodeGen;
-import parser.pascalLexer;
-import parser.pascalParser;
+import code.ChannelIRWriter;
+import code.IRWriter;
+import code.MemoryIRWriter;
+import code.StreamIRWriter;
 
 public class Main {
 	public static void main(String[] args) throws IOException {
@@ -19,37 +22,176 @@ public class Main {
 			System.exit(1);
 		}
 
+		Options options = new Options();
+		String daemon = null;
+		String output = null;
+		String warmup = null;
+		String importCache = null;
+		String exportCache = null;
+		String cacheDir = null;
+		long cacheSize = OutputCache.DEFAULT_SIZE;
+		List<String> inputs = new ArrayList<>();
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("-o") && i + 1 < args.length) {
+				output = args[++i];
+			} else if (args[i].equals("--daemon") || args[i].startsWith("--daemon=")) {
+				daemon = args[i];
+			} else if (args[i].equals("--warmup")) {
+				warmup = "tests";
+			} else if (args[i].startsWith("--warmup=")) {
+				warmup = args[i].substring("--warmup=".length());
+			} else if (args[i].startsWith("--import-cache=")) {
+				importCache = args[i].substring("--import-cache=".length());
+			} else if (args[i].startsWith("--export-cache=")) {
+				exportCache = args[i].substring("--export-cache=".length());
+			} else if (args[i].startsWith("--cache=")) {
+				cacheDir = args[i].substring("--cache=".length());
+			} else if (args[i].startsWith("--cache-size=")) {
+				cacheSize = Long.parseLong(args[i].substring("--cache-size=".length())) << 20;
+			} else if (!options.parse(args[i])) {
+				inputs.add(args[i]);
+			}
+		}
+
+		// Fill the lexer/parser DFA caches before the first real input
+		if (warmup != null || importCache != null) {
+			long start = System.nanoTime();
+			int programs = 0;
+			try {
+				if (importCache != null) {
+					programs += DFACache.load(Path.of(importCache));
+				}
+				if (warmup != null) {
+					programs += DFACache.train(List.of(new File(warmup)));
+				}
+			} catch (IOException exception) {
+				System.err.printf("DFA cache: %s\n", exception.getMessage());
+			}
+			System.err.printf("DFA cache: %d programs, %d lexer and %d parser states in %.1f ms\n",
+					programs, DFACache.lexerStates(), DFACache.parserStates(),
+					(System.nanoTime() - start) / 1e6);
+		}
+
+		if (exportCache != null) {
+			DFACache.save(Path.of(exportCache));
+			if (daemon == null && inputs.isEmpty()) {
+				return;
+			}
+		}
+
+		// Keeps one warm JVM serving compile requests
+		if (daemon != null) {
+			if (daemon.equals("--daemon")) {
+				new Daemon(options).serveStdio();
+			} else {
+				new Daemon(options).serveSocket(daemon.substring("--daemon=".length()));
+			}
+			return;
+		}
+
+		if (inputs.isEmpty()) {
+			System.err.printf("No files passed!\n");
+			System.exit(1);
+		}
+
+		// Many inputs (or a directory): compile them all in parallel
+		if (inputs.size() > 1 || new File(inputs.get(0)).isDirectory()) {
+			OutputCache cache = cacheDir != null ? new OutputCache(Path.of(cacheDir), cacheSize) : null;
+			int failed = new Batch(inputs.toArray(new String[0]), options, cache).run();
+			System.exit(failed == 0 ? 0 : 1);
+		}
+
+		if (cacheDir != null) {
+			compileCached(new OutputCache(Path.of(cacheDir), cacheSize), inputs.get(0), output, options);
+			return;
+		}
+
 		CharStream input = null;
 		try {
-			input = CharStreams.fromFileName(args[0]);
+			input = options.open(Path.of(inputs.get(0)));
 		} catch (Exception exception) {
-			System.err.printf("File '%s' does not exist!\n", args[0]);
+			System.err.printf("File '%s' does not exist!\n", inputs.get(0));
 			System.exit(1);
 		}
 
-		pascalLexer lexer = new pascalLexer(input);
+		// Straight to the file with `-o out.ll`, buffered stdout otherwise
+		IRWriter out = output != null ? new ChannelIRWriter(Path.of(output)) : StreamIRWriter.stdout();
+
+		Compiler compiler = new Compiler(out, options);
+		compile(compiler, input);
+		out.close();
+
+		if (compiler.getStats() != null) {
+			System.err.println(compiler.getStats().toJson());
+		}
+
+		for (Diagnostics.Diagnostic diagnostic : compiler.getDiagnostics()) {
+			System.err.println(diagnostic);
+		}
 
-		CommonTokenStream tokens = new CommonTokenStream(lexer);
+		if (compiler.hasSemanticError() || compiler.hasInternalError()) {
+			// As Batch does, leave no partial `-o` output behind
+			if (output != null) Files.deleteIfExists(Path.of(output));
+			System.exit(1);
+		}
+	}
 
-		pascalParser parser = new pascalParser(tokens);
+	// A compiler bug is reported like Batch and Daemon do, as an INTERNAL
+	// ERROR, and not as a stack trace
+	private static boolean compile(Compiler compiler, CharStream input) {
+		try {
+			return compiler.compile(input);
+		} catch (RuntimeException | StackOverflowError | OutOfMemoryError exception) {
+			compiler.getDiagnostics().internal(exception.toString());
+			return false;
+		}
+	}
 
-		ParseTree tree = parser.program();
+	// Single file through the on-disk cache: a hit costs hashing the source and
+	// copying the cached IR to the output.
+	private static void compileCached(OutputCache cache, String path, String output, Options options)
+			throws IOException {
+		CharStream input = null;
+		try {
+			input = options.open(Path.of(path));
+		} catch (Exception exception) {
+			System.err.printf("File '%s' does not exist!\n", path);
+			System.exit(1);
+		}
 
-		if (parser.getNumberOfSyntaxErrors() != 0) {
+		String key = cache.key(input, options);
+		if (output != null ? cache.copy(key, Path.of(output)) : cache.copy(key, System.out)) {
+			System.out.flush();
 			return;
 		}
 
-		SemanticChecker checker = new SemanticChecker();
-		checker.visit(tree);
+		MemoryIRWriter ir = new MemoryIRWriter();
+		Compiler compiler = new Compiler(ir, options);
+		boolean ok = compile(compiler, input);
+		byte[] bytes = ir.toByteArray();
+		if (compiler.getStats() != null) {
+			System.err.println(compiler.getStats().toJson());
+		}
 
-		// System.err.println("PARSE SUCCESSFUL!");
+		if (output != null) {
+			Files.write(Path.of(output), bytes);
+		} else {
+			System.out.write(bytes);
+			System.out.flush();
+		}
 
-		// System.err.println("Generating Code...\n\n");
+		for (Diagnostics.Diagnostic diagnostic : compiler.getDiagnostics()) {
+			System.err.println(diagnostic);
+		}
 
-		CodeGen codeGen = new CodeGen(
-				checker.stringTable,
-				checker.globalScope);
-		codeGen.execute(checker.getAST());
+		if (compiler.hasSemanticError() || compiler.hasInternalError()) {
+			// As Batch does, leave no partial `-o` output behind
+			if (output != null) Files.deleteIfExists(Path.of(output));
+			System.exit(1);
+		}
+		if (ok && compiler.getDiagnostics().isEmpty()) {
+			cache.put(key, bytes);
+		}
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,119 @@
+package checker;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+// A source file memory-mapped and read one byte per character, as Latin-1
+// (so ASCII too), for `--mmap`. Unlike `CharStreams.fromFileName`, nothing is
+// decoded up front: the lexer reads the mapped pages, and only token texts are
+// ever copied to the heap.
+public final class MappedCharStream implements CharStream {
+
+	private final MappedByteBuffer bytes;
+	private final int size;
+	private final String name;
+	private int position;
+
+	private MappedCharStream(MappedByteBuffer bytes, String name) {
+		this.bytes = bytes;
+		this.size = bytes.limit();
+		this.name = name;
+		this.position = 0;
+	}
+
+	// Files of 2 GB or more can't be mapped in one piece
+	public static MappedCharStream fromFile(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new IOException(String.format("'%s' is too big to map", path));
+			}
+			// The mapping outlives the channel
+			return new MappedCharStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()),
+					path.toString());
+		}
+	}
+
+	// The mapped file, for hashing it without reading it to the heap
+	public MappedByteBuffer getBytes() {
+		return this.bytes.duplicate();
+	}
+
+	@Override
+	public void consume() {
+		if (position >= size) {
+			throw new IllegalStateException("cannot consume EOF");
+		}
+		position++;
+	}
+
+	@Override
+	public int LA(int i) {
+		int index;
+		if (i > 0) {
+			index = position + i - 1;
+		} else if (i < 0) {
+			index = position + i;
+		} else {
+			return 0;
+		}
+		if (index < 0 || index >= size) {
+			return IntStream.EOF;
+		}
+		return bytes.get(index) & 0xff;
+	}
+
+	// Every byte stays mapped, so there is nothing to keep or let go of
+	@Override
+	public int mark() {
+		return -1;
+	}
+
+	@Override
+	public void release(int marker) {
+	}
+
+	@Override
+	public int index() {
+		return this.position;
+	}
+
+	@Override
+	public void seek(int index) {
+		this.position = Math.min(index, size);
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public String getSourceName() {
+		return this.name;
+	}
+
+	@Override
+	public String getText(Interval interval) {
+		int start = interval.a;
+		int stop = Math.min(interval.b, size - 1);
+		if (start < 0 || stop < start) {
+			return "";
+		}
+		byte[] text = new byte[stop - start + 1];
+		bytes.get(start, text);
+		return new String(text, StandardCharsets.ISO_8859_1);
+	}
+
+	@Override
+	public String toString() {
+		return getText(Interval.of(0, size - 1));
+	}
+}
@@ -0,0 +1,124 @@
+package checker;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+
+// Code generation switches shared by every compilation of a run (single
+// file, batch or daemon). All of them are off by default; `-O` turns on
+// every optimization.
+public final class Options {
+
+	// Keep scalar variables in SSA registers instead of stack slots
+	public boolean ssa;
+
+	// Fold literal expressions and propagate constants on the AST
+	public boolean fold;
+
+	// Drop unreachable arms, dead stores and unused variables from the AST
+	public boolean dce;
+
+	// Reuse values already computed or loaded within a basic block
+	public boolean cse;
+
+	// Compute loop invariant values once, before the loop
+	public boolean licm;
+
+	// Step array element pointers along with loop counters (needs ssa)
+	public boolean strength;
+
+	// Parse with SLL prediction first, and with full LL only if that fails
+	public boolean sll;
+
+	// Lex with the hand-written `Scanner` instead of `pascalLexer`
+	public boolean scanner;
+
+	// Check top-level declarations as they are parsed, dropping their parse
+	// trees
+	public boolean stream;
+
+	// Report per-phase statistics of every compilation (--stats=json)
+	public boolean stats;
+
+	// Daemon: reuse the checked AST and IR of functions that didn't change
+	public boolean incremental;
+
+	// Lex input files straight from a memory map, as Latin-1
+	public boolean mmap;
+
+	// The switches that may change the IR, as flags (`--mmap` reads
+	// non-ASCII characters differently)
+	@Override
+	public String toString() {
+		StringBuilder flags = new StringBuilder();
+		if (ssa) flags.append(" --ssa");
+		if (fold) flags.append(" --fold");
+		if (dce) flags.append(" --dce");
+		if (cse) flags.append(" --cse");
+		if (licm) flags.append(" --licm");
+		if (strength) flags.append(" --strength");
+		if (mmap) flags.append(" --mmap");
+		return flags.toString().trim();
+	}
+
+	// Input file as a stream for the lexer, memory-mapped with `mmap`
+	public CharStream open(Path path) throws IOException {
+		return mmap ? MappedCharStream.fromFile(path) : CharStreams.fromPath(path);
+	}
+
+	// Returns false if `arg` is not an option.
+	public boolean parse(String arg) {
+		switch (arg) {
+			case "-O":
+				ssa = true;
+				fold = true;
+				dce = true;
+				cse = true;
+				licm = true;
+				strength = true;
+				sll = true;
+				scanner = true;
+				return true;
+			case "--ssa":
+				ssa = true;
+				return true;
+			case "--fold":
+				fold = true;
+				return true;
+			case "--dce":
+				dce = true;
+				return true;
+			case "--cse":
+				cse = true;
+				return true;
+			case "--licm":
+				licm = true;
+				return true;
+			case "--strength":
+				strength = true;
+				return true;
+			case "--sll":
+				sll = true;
+				return true;
+			case "--scanner":
+				scanner = true;
+				return true;
+			case "--stream":
+				stream = true;
+				return true;
+			case "--stats=json":
+				stats = true;
+				return true;
+			case "--incremental":
+				incremental = true;
+				return true;
+			case "--mmap":
+				mmap = true;
+				return true;
+			default:
+				return false;
+		}
+	}
+}
@@ -0,0 +1,203 @@
+package checker;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+// Compiled .ll files on disk, by SHA-256 of the source, the compiler build and
+// the options (`--cache=dir`). Any number of compiler processes may share a
+// directory:
+//  - entries are written to a temporary file and renamed into place, so a
+//    reader sees a whole file or none;
+//  - a hit bumps the entry's modification time, and when the directory grows
+//    past its size limit the least recently used entries are deleted by
+//    whoever holds the lock on `dir/lock` (the others skip eviction).
+public final class OutputCache {
+
+	public static final long DEFAULT_SIZE = 256L << 20;
+
+	private final Path dir;
+	private final long maxBytes;
+	private final String version;
+
+	public OutputCache(Path dir, long maxBytes) throws IOException {
+		this.dir = dir;
+		this.maxBytes = maxBytes;
+		this.version = version();
+		Files.createDirectories(dir);
+	}
+
+	// A mapped input is hashed as it is on disk, any other as its UTF-8 text
+	public String key(CharStream source, Options options) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update((version + '\0' + options + '\0').getBytes(StandardCharsets.UTF_8));
+			if (source instanceof MappedCharStream) {
+				digest.update(((MappedCharStream) source).getBytes());
+			} else {
+				digest.update(source.getText(Interval.of(0, source.size() - 1)).getBytes(StandardCharsets.UTF_8));
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+
+	// Copies the entry for `key` to `out`. Returns false on a miss.
+	public boolean copy(String key, OutputStream out) throws IOException {
+		Path entry = entry(key);
+		try {
+			Files.copy(entry, out);
+		} catch (NoSuchFileException exception) {
+			return false;
+		}
+		touch(entry);
+		return true;
+	}
+
+	// Copies the entry for `key` over `target`. Returns false on a miss.
+	public boolean copy(String key, Path target) throws IOException {
+		Path entry = entry(key);
+		try {
+			Files.copy(entry, target, StandardCopyOption.REPLACE_EXISTING);
+		} catch (NoSuchFileException exception) {
+			return false;
+		}
+		touch(entry);
+		return true;
+	}
+
+	public void put(String key, byte[] ir) throws IOException {
+		Path entry = entry(key);
+		Files.createDirectories(entry.getParent());
+
+		Path temporary = Files.createTempFile(dir, key, ".tmp");
+		try {
+			Files.write(temporary, ir);
+			try {
+				Files.move(temporary, entry, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException exception) {
+				Files.move(temporary, entry, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temporary);
+		}
+
+		evict();
+	}
+
+	// dir/ab/abcdef...ll, so that no directory gets too big
+	private Path entry(String key) {
+		return dir.resolve(key.substring(0, 2)).resolve(key + ".ll");
+	}
+
+	// Another process may have evicted the entry since
+	private static void touch(Path entry) {
+		try {
+			Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+		} catch (IOException exception) {
+		}
+	}
+
+	// Drops the least recently used entries until the cache fits in `maxBytes`
+	private void evict() throws IOException {
+		List<Path> entries = new ArrayList<>();
+		long total = 0;
+		try (Stream<Path> files = Files.walk(dir, 2)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				if (file.toString().endsWith(".ll") && Files.isRegularFile(file)) {
+					entries.add(file);
+					total += size(file);
+				}
+			}
+		}
+		if (total <= maxBytes) {
+			return;
+		}
+
+		synchronized (OutputCache.class) {
+			try (FileChannel channel = FileChannel.open(dir.resolve("lock"),
+					StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+					FileLock lock = channel.tryLock()) {
+				if (lock == null) {
+					return;
+				}
+				entries.sort(Comparator.comparing(OutputCache::lastModified));
+				for (Path file : entries) {
+					if (total <= maxBytes) break;
+					long size = size(file);
+					if (Files.deleteIfExists(file)) {
+						total -= size;
+					}
+				}
+			}
+		}
+	}
+
+	// Entries may go away at any time, evicted by another process
+	private static long size(Path file) {
+		try {
+			return Files.size(file);
+		} catch (IOException exception) {
+			return 0;
+		}
+	}
+
+	private static FileTime lastModified(Path file) {
+		try {
+			return Files.getLastModifiedTime(file);
+		} catch (IOException exception) {
+			return FileTime.fromMillis(0);
+		}
+	}
+
+	// Tells compiler builds apart: size and age of the jar, or of the newest
+	// class file of the classes directory, the compiler runs from
+	private static String version() {
+		CodeSource source = OutputCache.class.getProtectionDomain().getCodeSource();
+		if (source == null) {
+			return "unknown";
+		}
+		try {
+			long[] stamp = new long[2];
+			stamp(new File(source.getLocation().toURI()), stamp);
+			return stamp[0] + "-" + stamp[1];
+		} catch (URISyntaxException exception) {
+			return "unknown";
+		}
+	}
+
+	private static void stamp(File file, long[] stamp) {
+		File[] children = file.listFiles();
+		if (children == null) {
+			stamp[0] += file.length();
+			stamp[1] = Math.max(stamp[1], file.lastModified());
+			return;
+		}
+		for (File child : children) {
+			stamp(child, stamp);
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package checker;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Lexing and parsing one file (with --stream, also checking its top-level
+// declarations). Recorded when JFR is on.
+@Name("pascal.Parse")
+@Label("Parse")
+@Category({ "Pascal Compiler" })
+@Description("Lexing and parsing of one source file")
+@StackTrace(false)
+final class ParseEvent extends Event {
+
+	@Label("File")
+	String file;
+
+	@Label("Tokens")
+	int tokens;
+
+	@Label("Parse Tree Nodes")
+	long parseTreeNodes;
+
+	@Label("Syntax Errors")
+	int syntaxErrors;
+}
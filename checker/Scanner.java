@@ -0,0 +1,447 @@
+package checker;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+
+import parser.pascalLexer;
+import tables.Interner;
+
+// A hand-written `pascalLexer`, for `--scanner`: the same tokens, with the
+// same types, offsets, lines and error messages, without simulating the
+// lexer's DFA. Keywords are found by a perfect hash on the first, second and
+// last letter and the length, and tokens only hold their offsets into the
+// input: identifiers and string literals get the text the `Interner` already
+// has, the others read it from the input when asked. The one thing allocated
+// per token is the token itself.
+//
+// The input is copied to a char array once, one char per code point, so the
+// offsets are the ones ANTLR uses. Like `pascalLexer`, it leaves the input
+// stream at its end.
+public final class Scanner implements TokenSource {
+
+	private static final int[] KEYWORDS = {
+			pascalLexer.AND, pascalLexer.ARRAY, pascalLexer.BEGIN, pascalLexer.BOOLEAN,
+			pascalLexer.CASE, pascalLexer.CHAR, pascalLexer.CHR, pascalLexer.CONST,
+			pascalLexer.DIV, pascalLexer.DO, pascalLexer.DOWNTO, pascalLexer.ELSE,
+			pascalLexer.END, pascalLexer.FILE, pascalLexer.FOR, pascalLexer.FUNCTION,
+			pascalLexer.GOTO, pascalLexer.IF, pascalLexer.IN, pascalLexer.INTEGER,
+			pascalLexer.LABEL, pascalLexer.MOD, pascalLexer.NIL, pascalLexer.NOT,
+			pascalLexer.OF, pascalLexer.OR, pascalLexer.PACKED, pascalLexer.PROCEDURE,
+			pascalLexer.PROGRAM, pascalLexer.REAL, pascalLexer.RECORD, pascalLexer.REPEAT,
+			pascalLexer.SET, pascalLexer.THEN, pascalLexer.TO, pascalLexer.TYPE,
+			pascalLexer.UNTIL, pascalLexer.VAR, pascalLexer.WHILE, pascalLexer.WITH,
+			pascalLexer.UNIT, pascalLexer.INTERFACE, pascalLexer.USES, pascalLexer.STRING,
+			pascalLexer.IMPLEMENTATION, pascalLexer.TRUE, pascalLexer.FALSE,
+	};
+
+	// Keyword by hash slot, spelled in lower case (the token name, which is
+	// how the grammar spells every keyword)
+	private static final char[][] keywordNames = new char[128][];
+	private static final int[] keywordTypes = new int[128];
+
+	static {
+		for (int type : KEYWORDS) {
+			char[] name = pascalLexer.VOCABULARY.getSymbolicName(type).toLowerCase().toCharArray();
+			int slot = keywordSlot(name, 0, name.length);
+			if (keywordNames[slot] != null) {
+				throw new IllegalStateException("Keyword hash collision: " + new String(name)
+						+ " and " + new String(keywordNames[slot]));
+			}
+			keywordNames[slot] = name;
+			keywordTypes[slot] = type;
+		}
+	}
+
+	private final CharStream input;
+	private final char[] buffer;
+	private final int size;
+
+	// Some code point didn't fit a char, so `buffer` can't be used for text
+	private final boolean lossy;
+
+	private final Interner symbols;
+	private final Pair<TokenSource, CharStream> source;
+	private TokenFactory<?> factory;
+	private boolean ownTokens;
+	private final List<ANTLRErrorListener> listeners;
+
+	private int position;
+	private int line;
+	private int lineStart;
+
+	public Scanner(CharStream input) {
+		this(input, new Interner());
+	}
+
+	// Identifiers and string literals are interned in `symbols`, as by a
+	// `SymbolTokenFactory`
+	public Scanner(CharStream input, Interner symbols) {
+		this.input = input;
+		this.size = input.size();
+		this.buffer = new char[size];
+		boolean lossy = false;
+		input.seek(0);
+		for (int i = 0; i < size; i++) {
+			int c = input.LA(1);
+			lossy |= c > Character.MAX_VALUE;
+			buffer[i] = (char) Math.min(c, Character.MAX_VALUE);
+			input.consume();
+		}
+		this.lossy = lossy;
+
+		this.symbols = symbols;
+		this.source = new Pair<>(this, input);
+		this.factory = new SymbolTokenFactory(symbols);
+		this.ownTokens = true;
+		this.listeners = new ArrayList<>();
+		this.listeners.add(ConsoleErrorListener.INSTANCE);
+
+		this.position = 0;
+		this.line = 1;
+		this.lineStart = 0;
+	}
+
+	public void addErrorListener(ANTLRErrorListener listener) {
+		this.listeners.add(listener);
+	}
+
+	public void removeErrorListeners() {
+		this.listeners.clear();
+	}
+
+	@Override
+	public Token nextToken() {
+		while (true) {
+			// WS: [ \t\r\n] -> skip
+			while (position < size) {
+				char c = buffer[position];
+				if (c == '\n') {
+					line++;
+					lineStart = ++position;
+				} else if (c == ' ' || c == '\t' || c == '\r') {
+					position++;
+				} else {
+					break;
+				}
+			}
+
+			int start = position;
+			int line = this.line;
+			int column = start - lineStart;
+			if (start == size) {
+				return emit(Token.EOF, start, start - 1, line, column);
+			}
+
+			int type;
+			char c = buffer[start];
+			char next = start + 1 < size ? buffer[start + 1] : 0;
+			switch (c) {
+			case '+': type = pascalLexer.PLUS; position++; break;
+			case '-': type = pascalLexer.MINUS; position++; break;
+			case '*': type = pascalLexer.STAR; position++; break;
+			case '/': type = pascalLexer.SLASH; position++; break;
+			case ',': type = pascalLexer.COMMA; position++; break;
+			case ';': type = pascalLexer.SEMI; position++; break;
+			case '=': type = pascalLexer.EQUAL; position++; break;
+			case ')': type = pascalLexer.RPAREN; position++; break;
+			case '[': type = pascalLexer.LBRACK; position++; break;
+			case ']': type = pascalLexer.RBRACK; position++; break;
+			case '^': type = pascalLexer.POINTER; position++; break;
+			case '@': type = pascalLexer.AT; position++; break;
+			case '}': type = pascalLexer.RCURLY; position++; break;
+			case ':':
+				if (next == '=') {
+					type = pascalLexer.ASSIGN;
+					position += 2;
+				} else {
+					type = pascalLexer.COLON;
+					position++;
+				}
+				break;
+			case '<':
+				if (next == '>') {
+					type = pascalLexer.NOT_EQUAL;
+					position += 2;
+				} else if (next == '=') {
+					type = pascalLexer.LE;
+					position += 2;
+				} else {
+					type = pascalLexer.LT;
+					position++;
+				}
+				break;
+			case '>':
+				if (next == '=') {
+					type = pascalLexer.GE;
+					position += 2;
+				} else {
+					type = pascalLexer.GT;
+					position++;
+				}
+				break;
+			case '.':
+				if (next == '.') {
+					type = pascalLexer.DOTDOT;
+					position += 2;
+				} else if (next == ')') {
+					type = pascalLexer.RBRACK2;
+					position += 2;
+				} else {
+					type = pascalLexer.DOT;
+					position++;
+				}
+				break;
+			case '(':
+				// COMMENT_1: '(*' .*? '*)' -> skip, or else just the '('
+				if (next == '*') {
+					int end = indexOf('*', ')', start + 2);
+					if (end != -1) {
+						advance(end + 2);
+						continue;
+					}
+				}
+				if (next == '.') {
+					type = pascalLexer.LBRACK2;
+					position += 2;
+				} else {
+					type = pascalLexer.LPAREN;
+					position++;
+				}
+				break;
+			case '{':
+				// COMMENT_2: '{' .*? '}' -> skip, or else just the '{'
+				int end = indexOf('}', start + 1);
+				if (end != -1) {
+					advance(end + 1);
+					continue;
+				}
+				type = pascalLexer.LCURLY;
+				position++;
+				break;
+			case '\'':
+				type = pascalLexer.STRING_LITERAL;
+				if (!string(start)) {
+					// Unterminated: ANTLR reports everything up to the end
+					advance(size);
+					error(start, size, line, column);
+					continue;
+				}
+				break;
+			default:
+				if (isLetter(c)) {
+					type = identifier(start);
+				} else if (isDigit(c)) {
+					type = number(start);
+				} else {
+					// ANTLR skips the one character no token starts with
+					error(start, start, line, column);
+					position++;
+					continue;
+				}
+			}
+			return emit(type, start, position - 1, line, column);
+		}
+	}
+
+	// IDENT: ('a'..'z' | 'A'..'Z') ('a'..'z' | 'A'..'Z' | '0'..'9' | '_')*,
+	// unless it is a keyword
+	private int identifier(int start) {
+		int end = start + 1;
+		while (end < size) {
+			char c = buffer[end];
+			if (!isLetter(c) && !isDigit(c) && c != '_') break;
+			end++;
+		}
+		position = end;
+
+		int length = end - start;
+		if (length >= 2) {
+			int slot = keywordSlot(buffer, start, length);
+			char[] name = keywordNames[slot];
+			if (name != null && name.length == length) {
+				int i = 0;
+				while (i < length && (buffer[start + i] | 0x20) == name[i]) i++;
+				if (i == length) return keywordTypes[slot];
+			}
+		}
+		return pascalLexer.IDENT;
+	}
+
+	// NUM_INT: digits, NUM_REAL: digits ('.' digits EXPONENT? | EXPONENT),
+	// EXPONENT: 'e' ('+' | '-')? digits. Like ANTLR, keeps the longest of
+	// them that matches, so `1.e5` is `1` and `1e` is `1`.
+	private int number(int start) {
+		int end = digits(start);
+		int type = pascalLexer.NUM_INT;
+		if (end < size && buffer[end] == '.' && end + 1 < size && isDigit(buffer[end + 1])) {
+			end = digits(end + 1);
+			type = pascalLexer.NUM_REAL;
+		}
+		int exponent = exponent(end);
+		if (exponent != -1) {
+			end = exponent;
+			type = pascalLexer.NUM_REAL;
+		}
+		position = end;
+		return type;
+	}
+
+	// The end of the exponent at `start`, or -1 if there is none
+	private int exponent(int start) {
+		if (start >= size || buffer[start] != 'e') return -1;
+		int i = start + 1;
+		if (i < size && (buffer[i] == '+' || buffer[i] == '-')) i++;
+		if (i >= size || !isDigit(buffer[i])) return -1;
+		return digits(i);
+	}
+
+	private int digits(int start) {
+		int end = start;
+		while (end < size && isDigit(buffer[end])) end++;
+		return end;
+	}
+
+	// STRING_LITERAL: '\'' ('\'\'' | ~'\'')* '\''. Every quote after the
+	// first could end it, so if it runs into the end of the input, ANTLR
+	// backs off to the last of them (`'a''b` is `'a'`). Returns false if
+	// there is none.
+	private boolean string(int start) {
+		int accept = -1;
+		for (int i = start + 1; i < size; i++) {
+			if (buffer[i] != '\'') continue;
+			if (i + 1 < size && buffer[i + 1] == '\'') {
+				accept = i + 1;
+				i++;
+				continue;
+			}
+			accept = i + 1;
+			break;
+		}
+		if (accept == -1) return false;
+		advance(accept);
+		return true;
+	}
+
+	// Moves to `end`, counting the lines of a token or comment that spans some
+	private void advance(int end) {
+		for (int i = position; i < end; i++) {
+			if (buffer[i] == '\n') {
+				line++;
+				lineStart = i + 1;
+			}
+		}
+		position = end;
+	}
+
+	private int indexOf(char c, int from) {
+		for (int i = from; i < size; i++) {
+			if (buffer[i] == c) return i;
+		}
+		return -1;
+	}
+
+	private int indexOf(char first, char second, int from) {
+		for (int i = from; i + 1 < size; i++) {
+			if (buffer[i] == first && buffer[i + 1] == second) return i;
+		}
+		return -1;
+	}
+
+	private Token emit(int type, int start, int stop, int line, int column) {
+		if (!ownTokens) {
+			return factory.create(source, type, null, Token.DEFAULT_CHANNEL, start, stop, line, column);
+		}
+
+		int symbol = -1;
+		if (type == pascalLexer.IDENT || type == pascalLexer.STRING_LITERAL) {
+			symbol = lossy
+					? symbols.intern(input.getText(Interval.of(start, stop)))
+					: symbols.intern(buffer, start, stop - start + 1);
+		}
+
+		SymbolToken token = new SymbolToken(source, type, Token.DEFAULT_CHANNEL, start, stop, symbol);
+		token.setLine(line);
+		token.setCharPositionInLine(column);
+		if (symbol != -1) {
+			token.setText(symbols.getName(symbol));
+		}
+		return token;
+	}
+
+	// Same message, position and text as `Lexer.notifyListeners`
+	private void error(int start, int stop, int line, int column) {
+		String text = input.getText(Interval.of(start, stop));
+		StringBuilder display = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			switch (c) {
+			case '\n': display.append("\\n"); break;
+			case '\t': display.append("\\t"); break;
+			case '\r': display.append("\\r"); break;
+			default: display.append(c);
+			}
+		}
+		String message = "token recognition error at: '" + display + "'";
+		for (ANTLRErrorListener listener : listeners) {
+			listener.syntaxError(null, null, line, column, message, null);
+		}
+	}
+
+	private static boolean isLetter(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	// Perfect for the keywords of the grammar (checked when the class loads).
+	// `| 0x20` lower-cases letters; identifiers are at least 2 chars long here.
+	private static int keywordSlot(char[] chars, int start, int length) {
+		int first = chars[start] | 0x20;
+		int second = chars[start + 1] | 0x20;
+		int last = chars[start + length - 1] | 0x20;
+		return (first * 14 + second + last * 17 + length * 2) & 127;
+	}
+
+	@Override
+	public int getLine() {
+		return this.line;
+	}
+
+	@Override
+	public int getCharPositionInLine() {
+		return this.position - this.lineStart;
+	}
+
+	@Override
+	public CharStream getInputStream() {
+		return this.input;
+	}
+
+	@Override
+	public String getSourceName() {
+		return this.input.getSourceName();
+	}
+
+	// Tokens are made by `factory` from then on, instead of here
+	@Override
+	public void setTokenFactory(TokenFactory<?> factory) {
+		this.factory = factory;
+		this.ownTokens = false;
+	}
+
+	@Override
+	public TokenFactory<?> getTokenFactory() {
+		return this.factory;
+	}
+}
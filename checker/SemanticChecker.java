@@ -6,98 +6,177 @@ import static typing.Type.NO_TYPE;
 import static typing.Type.REAL_TYPE;
 import static typing.Type.STR_TYPE;
 import static typing.Type.CHAR_TYPE;
+import static typing.Type.ERROR_TYPE;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.TerminalNode;
 
 import ast.AST;
+import ast.ASTStore;
 import ast.NodeKind;
+import code.IRWriter;
 import parser.pascalParser;
 import parser.pascalParser.ExprStrValContext;
 import parser.pascalParser.FormalParameterSectionContext;
+import parser.pascalParser.FunctionDeclarationContext;
 import parser.pascalParser.IdentifierContext;
 import parser.pascalParser.ProcedureAndFunctionDeclarationPartContext;
 import parser.pascalParser.StatementContext;
 import parser.pascalParser.VariableDeclarationPartContext;
 import scope.Scope;
 import parser.pascalParserBaseVisitor;
+import tables.Interner;
 import tables.StringTable;
+import tables.SymbolTable;
 import tables.VariableTable;
 import tables.FunctionTable;
 import typing.Type;
 import typing.Conv;
 import typing.Conv.Unif;
 
-public class SemanticChecker extends pascalParserBaseVisitor<AST> {
+public class SemanticChecker extends pascalParserBaseVisitor<Integer> {
+
+	// Ids of identifiers and string literals, shared with the token factory
+	public final Interner symbols;
 
 	public StringTable stringTable = new StringTable();
 
+	// Nodes are ids into this store
+	public final ASTStore tree = new ASTStore();
+
 	public Scope globalScope = new Scope();
 	private Scope currentScope;
+
+	// Every name visible from `currentScope`
+	private final SymbolTable symbolTable = new SymbolTable(globalScope);
     
     Type lastDeclType;
 	Type lastDeclContentType;
 	ArrayList<Integer[]> lastDeclRanges;
 	int lastOffset;
 
-	AST root;
+	int root;
+
+	// Incremental mode: top-level functions are looked up in `cache` first
+	private FunctionCache cache;
+	private TokenStream tokens;
+	private final Map<Integer, String> functionKeys = new HashMap<>();
+
+	// String literals of the top-level function being checked, for `cache`
+	private List<String> literalTexts;
+	private List<Integer> literalIds;
+
+	// Top-level declarations already checked while parsing, see `streaming`
+	private Streamed streamed;
+
+	// Semantic errors so far. Checking goes on after one, see `errorNode`.
+	private final Diagnostics diagnostics = new Diagnostics();
+
+	// Control variables of the FOR loops being checked, which their bodies
+	// must not assign
+	private final List<Integer> controls = new ArrayList<>();
+
+	public SemanticChecker() {
+		this(new Interner());
+	}
+
+	public SemanticChecker(Interner symbols) {
+		this.symbols = symbols;
+	}
+
+	// Reuse the top-level functions `cache` has already checked, and save
+	// the others there. `tokens` are the ones the parse tree was built from.
+	public void setCache(FunctionCache cache, TokenStream tokens) {
+		this.cache = cache;
+		this.tokens = tokens;
+	}
+
+	// Cache key of every top-level function, by function table index. It also
+	// covers the string table indices the function's literals got, so it keys
+	// the function's IR as well.
+	public Map<Integer, String> getFunctionKeys() {
+		return this.functionKeys;
+	}
+
+	public Diagnostics getDiagnostics() {
+		return this.diagnostics;
+	}
+
+	// Tokens from a `SymbolTokenFactory` were interned by the lexer already.
+	private int symbol(Token token) {
+		if (token instanceof SymbolToken) {
+			return ((SymbolToken) token).getSymbol();
+		}
+		return symbols.intern(token.getText());
+	}
 
     // Check if token was declared or not.
-    AST checkVariable(Token token) {
+    int checkVariable(Token token) {
 		VariableTable variableTable = currentScope.getVaraibleTable();
 
     	String variableName = token.getText();
-    	int line = token.getLine();
-   		int index = variableTable.lookup(variableName);
+   		int index = symbolTable.lookupVariable(symbol(token));
 
 		// If the variable doesn't exist
     	if (index == -1) {
-    		System.err.printf(
-    			"SEMANTIC ERROR (%d): variable '%s' was not declared.\n",
-				line, variableName);
-			System.exit(1);
-            return null;
+    		error(token, "variable '%s' was not declared.", variableName);
+    		return errorNode();
         }
 
-		return new AST(NodeKind.VAR_USE_NODE, index, variableTable.getType(variableName));
+		return tree.newNode(NodeKind.VAR_USE_NODE, index, variableTable.getType(index));
     }
 
-	AST arrayAccess(Token token) {
+	int arrayAccess(Token token) {
 		VariableTable variableTable = currentScope.getVaraibleTable();
 
-		AST arrayUseNode = checkVariable(token);
-		String arrayName = token.getText();
+		int arrayUseNode = checkVariable(token);
+		if (tree.type(arrayUseNode) == ERROR_TYPE) {
+			return arrayUseNode;
+		}
 
-		if (arrayUseNode.type != Type.ARRAY_TYPE) {
-			System.err.printf(
-    			"SEMANTIC ERROR (%d): cannot access index of type (%s).\n",
-				token.getLine(), arrayUseNode.type);
-			System.exit(1);
-            return null;
+		if (tree.type(arrayUseNode) != Type.ARRAY_TYPE) {
+			error(token, "cannot access index of type (%s).", tree.type(arrayUseNode));
+			return errorNode();
 		}
 
-		Type contentType = variableTable.getContentType(arrayName);
-		return AST.newSubtree(NodeKind.ARRAY_ACCESS, contentType, arrayUseNode);
+		Type contentType = variableTable.getContentType(tree.intData(arrayUseNode));
+		if (contentType == null) {
+			error(token, "cannot access index of type (%s).", contentType);
+			return errorNode();
+		}
+		return tree.newSubtree(NodeKind.ARRAY_ACCESS, contentType, arrayUseNode);
 	}
     
     // Creates a new variable with name `token`.
-    AST newVariable(Token token) {
+    int newVariable(Token token) {
 		VariableTable variableTable = currentScope.getVaraibleTable();
 
     	String variableName = token.getText();
+    	int symbol = symbol(token);
     	int line = token.getLine();
-   		int index = variableTable.lookup(variableName);
+   		int index = symbolTable.lookupVariable(symbol);
 		
 		// If variable already exists
         if (index != -1) {
-        	System.err.printf(
-    			"SEMANTIC ERROR (%d): variable '%s' already declared at line %d.\n",
-                line, variableName, variableTable.getLine(variableName));
-			System.exit(1);
-            return null;
+        	error(token, "variable '%s' already declared at line %d.",
+                variableName, variableTable.getLine(index));
+        	return errorNode();
         }
 
 		if (lastDeclType == Type.ARRAY_TYPE) {
@@ -106,102 +185,108 @@ public class SemanticChecker extends pascalParserBaseVisitor<AST> {
 		} else {
 			index = variableTable.addEntry(variableName, line, lastDeclType);
 		}
+		symbolTable.declareVariable(symbol, index);
 
-		return new AST(NodeKind.VAR_DECL_NODE, index, lastDeclType);
+		return tree.newNode(NodeKind.VAR_DECL_NODE, index, lastDeclType);
     }
 
-	AST checkFunction(Token token) {
-		FunctionTable functionTable = currentScope.getFunctionTable();
-
+	// Returns the binding of the function named `token`, -1 if there is none.
+	int lookupFunction(Token token) {
 		String functionName = token.getText();
-		int line = token.getLine();
-		int index = functionTable.lookup(functionName);
-
-		// Look for the function on higher scopes
-		Scope scope = currentScope.getParentScope();
-		while(scope != null && index == -1) {
-			functionTable = scope.getFunctionTable();
-			index = functionTable.lookup(functionName);
-			scope = scope.getParentScope();
-		}
+		int binding = symbolTable.lookupFunction(symbol(token));
 
 		// If function doesn't exist
-		if (index == -1) {
-        	System.err.printf(
-    			"SEMANTIC ERROR (%d): function '%s' was not declared.\n",
-                line, functionName);
-			System.exit(1);
-            return null;
+		if (binding == -1) {
+        	error(token, "function '%s' was not declared.", functionName);
         }
-		
-		return new AST(NodeKind.FUN_USE_NODE, index, functionTable.getType(functionName));
+
+		return binding;
 	}
 
-	AST newParameter(String functionName, Token token) {
+	int checkFunction(int binding) {
+		int index = symbolTable.getIndex(binding);
+		return tree.newNode(NodeKind.FUN_USE_NODE, index, symbolTable.getFunctionTable(binding).getType(index));
+	}
+
+	int newParameter(int functionIndex, Token token) {
 		FunctionTable functionTable = currentScope.getParentScope().getFunctionTable();
 
-		functionTable.addParameter(functionName, lastDeclType);
+		functionTable.addParameter(functionIndex, lastDeclType);
 
 		return newVariable(token);
 	}
 
-	AST newFunction(Token token) {
+	int newFunction(Token token) {
 		FunctionTable functionTable = currentScope.getFunctionTable();
 
 		String functionName = token.getText();
+		int symbol = symbol(token);
     	int line = token.getLine();
 
-		int index = functionTable.lookup(functionName);
+		int index = symbolTable.lookupLocalFunction(symbol);
 
-		// If function already exists
-        if (index != -1) {
-        	System.err.printf(
-    			"SEMANTIC ERROR (%d): function '%s' already declared at line %d.\n",
-                line, functionName, line);
-			System.exit(1);
-            return null;
+		// If function already exists. Its body is still checked, in a scope
+		// of its own, but the name keeps meaning the first one.
+		boolean redeclared = index != -1;
+        if (redeclared) {
+        	error(token, "function '%s' already declared at line %d.",
+                functionName, line);
         }
 		index = functionTable.addEntry(functionName, line, this.lastDeclType, currentScope);
-		this.currentScope = functionTable.getScope(functionName);
+		if (!redeclared) {
+			symbolTable.declareFunction(symbol, index);
+		}
 
-		AST functionNode = new AST(NodeKind.FUN_DECL_NODE, index, lastDeclType);
-		AST parameterListNode = AST.newSubtree(NodeKind.VAR_LIST_NODE, NO_TYPE, newVariable(token));
-		functionNode.addChild(parameterListNode);
+		this.currentScope = functionTable.getScope(index);
+		symbolTable.enter(this.currentScope);
+
+		int functionNode = tree.newNode(NodeKind.FUN_DECL_NODE, index, lastDeclType);
+		int parameterListNode = tree.newSubtree(NodeKind.VAR_LIST_NODE, NO_TYPE, newVariable(token));
+		tree.addChild(functionNode, parameterListNode);
 		
 		return functionNode;
     }
 
-	// Catch a type error
-	private void typeError(int lineNo, String op, Type t1, Type t2) {
-		System.err.printf("SEMANTIC ERROR (%d): incompatible types for operator '%s', LHS is '%s' and RHS is '%s'.\n",
-				lineNo, op, t1.toString(), t2.toString());
-		System.exit(1);
+	// Records a semantic error at `token`
+	private void error(Token token, String format, Object... args) {
+		diagnostics.semantic(token.getLine(), token.getCharPositionInLine(), String.format(format, args));
+	}
+
+	// What an expression with an error becomes. Whatever it is part of
+	// gets ERROR_TYPE too, with no error of its own.
+	private int errorNode() {
+		return tree.newNode(NodeKind.ERROR_NODE, 0, ERROR_TYPE);
+	}
+
+	// Catch a type error. Returns the type of the operation.
+	private Type typeError(Token token, String op, Type t1, Type t2) {
+		if (t1 != ERROR_TYPE && t2 != ERROR_TYPE) {
+			error(token, "incompatible types for operator '%s', LHS is '%s' and RHS is '%s'.",
+					op, t1.toString(), t2.toString());
+		}
+		return ERROR_TYPE;
 	}
 
 	// Catch a parameter type error
 	private void paramTypeError(Token token, int i, Type expected, Type got) {
+		if (got == ERROR_TYPE) return;
 		String functionName = token.getText();
-		int line = token.getLine();
 
-		System.err.printf("SEMANTIC ERROR (%d): incompatible types for parameter %d of function '%s'. Expected %s but got %s.\n",
-				line, i, functionName, expected.toString(), got.toString());
-		System.exit(1);
+		error(token, "incompatible types for parameter %d of function '%s'. Expected %s but got %s.",
+				i, functionName, expected.toString(), got.toString());
 	}
 
 	private void paramQuantityError(Token token, int expected, int got) {
 		String functionName = token.getText();
-		int line = token.getLine();
 
-		System.err.printf("SEMANTIC ERROR (%d): incompatible amount of parameters for function '%s'. Expected %d but got %d.\n",
-				line, functionName, expected, got);
-		System.exit(1);
+		error(token, "incompatible amount of parameters for function '%s'. Expected %d but got %d.",
+				functionName, expected, got);
 	}
 
-	private void checkBoolExpr(int lineNo, String cmd, Type t) {
-        if (t != BOOL_TYPE) {
-            System.err.printf("SEMANTIC ERROR (%d): conditional expression in '%s' is '%s' instead of '%s'.\n",
-               lineNo, cmd, t.toString(), BOOL_TYPE.toString());
-			System.exit(1);
+	private void checkBoolExpr(Token token, String cmd, Type t) {
+        if (t != BOOL_TYPE && t != ERROR_TYPE) {
+            error(token, "conditional expression in '%s' is '%s' instead of '%s'.",
+               cmd, t.toString(), BOOL_TYPE.toString());
         }
     }
     
@@ -216,76 +301,78 @@ public class SemanticChecker extends pascalParserBaseVisitor<AST> {
 		System.err.print("\n\n");
     }
 
-    void printAST() {
-    	AST.printDot(root, globalScope);
+    void printAST(IRWriter out) {
+    	AST.printDot(getAST(), globalScope, out);
     }
 
+	// The checked tree as `AST` objects, copied out of the store
 	public AST getAST() {
+		return tree.toAST(this.root);
+	}
+
+	public ASTStore getTree() {
+		return this.tree;
+	}
+
+	public int getRoot() {
 		return this.root;
 	}
 
 	@Override
-    public AST visitBoolType(pascalParser.BoolTypeContext ctx) {
+    public Integer visitBoolType(pascalParser.BoolTypeContext ctx) {
     	this.lastDeclType = Type.BOOL_TYPE;
     	return null;
     }
 	
 	@Override
-	public AST visitIntType(pascalParser.IntTypeContext ctx) {
+	public Integer visitIntType(pascalParser.IntTypeContext ctx) {
 		this.lastDeclType = Type.INT_TYPE;
 		return null;
 	}
 
 	@Override
-	public AST visitRealType(pascalParser.RealTypeContext ctx) {
+	public Integer visitRealType(pascalParser.RealTypeContext ctx) {
 		this.lastDeclType = Type.REAL_TYPE;
 		return null;
     }
 
 	@Override
-	public AST visitStrType(pascalParser.StrTypeContext ctx) {
+	public Integer visitStrType(pascalParser.StrTypeContext ctx) {
 		this.lastDeclType = Type.STR_TYPE;
 		return null;
 	}
 
 	@Override
-	public AST visitCharType(pascalParser.CharTypeContext ctx) {
+	public Integer visitCharType(pascalParser.CharTypeContext ctx) {
 		this.lastDeclType = Type.CHAR_TYPE;
 		return null;
 	}
 
 	@Override
-	public AST visitArrayType(pascalParser.ArrayTypeContext ctx) {
+	public Integer visitArrayType(pascalParser.ArrayTypeContext ctx) {
 		visit(ctx.componentType());
 		
 		List<pascalParser.IndexTypeContext> indicesContexts = ctx.typeList().indexType();
 		for (int i = 0; i < indicesContexts.size(); i++) {
 			List<pascalParser.ConstantContext> constants = ctx.typeList().indexType(i).simpleType().subrangeType().constant();
 		
-			AST lowNode = visit(constants.get(0));
-			int low = lowNode.intData;
+			int lowNode = visit(constants.get(0));
+			int low = tree.intData(lowNode);
 			if (constants.get(0).sign() != null && constants.get(0).sign().MINUS() != null) low = -low;
 			
-			AST highNode = visit(constants.get(1));
-			int high = highNode.intData;
+			int highNode = visit(constants.get(1));
+			int high = tree.intData(highNode);
 			if (constants.get(1).sign() != null && constants.get(1).sign().MINUS() != null) high = -high;
 			
-			int line = ctx.ARRAY().getSymbol().getLine();
+			Token token = ctx.ARRAY().getSymbol();
 			if (low > high) {
-				System.err.printf(
-					"SEMANTIC ERROR (%d): Array range's 'low' (%d) value cannot be grater than 'high' (%d) value.\n",
-					line, low, high);
-					System.exit(1);
-				return null;
+				error(token, "Array range's 'low' (%d) value cannot be grater than 'high' (%d) value.",
+					low, high);
 			}
 
-			if (lowNode.type != INT_TYPE || highNode.type != INT_TYPE) {
-				Type type = lowNode.type != INT_TYPE ? lowNode.type : highNode.type;
-				System.err.printf(
-					"SEMANTIC ERROR (%d): Array's range cannot be of type %s, only integers allowed.\n",
-					line, type);
-				System.exit(1);
-				return null;
+			if (tree.type(lowNode) != INT_TYPE || tree.type(highNode) != INT_TYPE) {
+				Type type = tree.type(lowNode) != INT_TYPE ? tree.type(lowNode) : tree.type(highNode);
+				error(token, "Array's range cannot be of type %s, only integers allowed.", type);
 			}
 			
 			if (lastDeclType != Type.ARRAY_TYPE) {
@@ -302,59 +389,63 @@ public class SemanticChecker extends pascalParserBaseVisitor<AST> {
 	}
 
 	@Override
-    public AST visitVariableDeclaration(pascalParser.VariableDeclarationContext ctx) {
+    public Integer visitVariableDeclaration(pascalParser.VariableDeclarationContext ctx) {
 		this.lastDeclRanges = new ArrayList<Integer[]>();
     	visit(ctx.type_());
 		List<IdentifierContext> identifiers = ctx.identifierList().identifier();
-		AST node = AST.newSubtree(NodeKind.VAR_LIST_NODE, Type.NO_TYPE);
+		int node = tree.newSubtree(NodeKind.VAR_LIST_NODE, Type.NO_TYPE);
 
 		// There can be more than one declaration in one line
 		for (int i = 0; i < identifiers.size(); i++) {
 			Token token = identifiers.get(i).IDENT().getSymbol();
-			node.addChild(newVariable(token));
+			tree.addChild(node, newVariable(token));
 		}
     	return node;
     }
 
 	@Override
-	public AST visitExprIntVal(pascalParser.ExprIntValContext ctx) {
+	public Integer visitExprIntVal(pascalParser.ExprIntValContext ctx) {
 		int intData = Integer.parseInt(ctx.getText());
-		return new AST(NodeKind.INT_VAL_NODE, intData, INT_TYPE);
+		return tree.newNode(NodeKind.INT_VAL_NODE, intData, INT_TYPE);
 	}
 
 	@Override
-	public AST visitExprRealVal(pascalParser.ExprRealValContext ctx) {
+	public Integer visitExprRealVal(pascalParser.ExprRealValContext ctx) {
 		float floatData = Float.parseFloat(ctx.getText());
-		return new AST(NodeKind.REAL_VAL_NODE, floatData, REAL_TYPE);
+		return tree.newNode(NodeKind.REAL_VAL_NODE, floatData, REAL_TYPE);
 	}
 
 	@Override
-	public AST visitExprTrue(pascalParser.ExprTrueContext ctx) {
-		return new AST(NodeKind.BOOL_VAL_NODE, 1, BOOL_TYPE);
+	public Integer visitExprTrue(pascalParser.ExprTrueContext ctx) {
+		return tree.newNode(NodeKind.BOOL_VAL_NODE, 1, BOOL_TYPE);
 	}
 
 	@Override
-	public AST visitExprFalse(pascalParser.ExprFalseContext ctx) {
-		return new AST(NodeKind.BOOL_VAL_NODE, 0, BOOL_TYPE);
+	public Integer visitExprFalse(pascalParser.ExprFalseContext ctx) {
+		return tree.newNode(NodeKind.BOOL_VAL_NODE, 0, BOOL_TYPE);
 	}
 
 
 	@Override
-	public AST visitExprStrVal(ExprStrValContext ctx) {
+	public Integer visitExprStrVal(ExprStrValContext ctx) {
 		// Add string to literal table
-		String string = ctx.STRING_LITERAL().getText();
-		int index = stringTable.addString(string);
-		return new AST(NodeKind.STR_VAL_NODE, index, STR_TYPE);
+		Token token = ctx.STRING_LITERAL().getSymbol();
+		int index = stringTable.addString(symbol(token), token.getText());
+		if (literalTexts != null) {
+			literalTexts.add(token.getText());
+			literalIds.add(index);
+		}
+		return tree.newNode(NodeKind.STR_VAL_NODE, index, STR_TYPE);
 	}
 
 	@Override
-	public AST visitExprCharVal(pascalParser.ExprCharValContext ctx) {
+	public Integer visitExprCharVal(pascalParser.ExprCharValContext ctx) {
 		char charData = (char)Integer.parseInt(ctx.unsignedInteger().getText());
-		return new AST(NodeKind.CHAR_VAL_NODE, charData, CHAR_TYPE);
+		return tree.newNode(NodeKind.CHAR_VAL_NODE, charData, CHAR_TYPE);
 	}
 
 	@Override
-	public AST visitFactor(pascalParser.FactorContext ctx) {
+	public Integer visitFactor(pascalParser.FactorContext ctx) {
 
 		
 		if (ctx.variable() != null) {
@@ -385,15 +476,15 @@ public class SemanticChecker extends pascalParserBaseVisitor<AST> {
 	}
 
 	@Override
-	public AST visitTerm(pascalParser.TermContext ctx) {
+	public Integer visitTerm(pascalParser.TermContext ctx) {
 
-		AST leftNode = visit(ctx.signedFactor().factor());
+		int leftNode = visit(ctx.signedFactor().factor());
 
 		if (ctx.term() != null) {
-			AST rightNode = visit(ctx.term());
+			int rightNode = visit(ctx.term());
 			
-			Type leftType = leftNode.type;
-			Type rightType = rightNode.type;
+			Type leftType = tree.type(leftNode);
+			Type rightType = tree.type(rightNode);
 			Unif unif = null;
 			int operator = ctx.multiplicativeoperator().op.getType();
 
@@ -401,40 +492,46 @@ public class SemanticChecker extends pascalParserBaseVisitor<AST> {
 				unif = leftType.unifyOtherArith(rightType);
 			} else if (operator == pascalParser.AND) {
 				unif = leftType.unifyAndOr(rightType);
+			} else if (operator == pascalParser.DIV || operator == pascalParser.MOD) {
+				unif = leftType.unifyDivMod(rightType);
 			}
 
-			if (unif.type == NO_TYPE) {
-				typeError(ctx.multiplicativeoperator().op.getLine(), ctx.multiplicativeoperator().op.getText(), leftType, rightType);
+			Type type = unif.type;
+			if (type == NO_TYPE) {
+				type = typeError(ctx.multiplicativeoperator().op, ctx.multiplicativeoperator().op.getText(), leftType, rightType);
 			}
 
-			leftNode = Conv.createConvNode(unif.lc, leftNode);
-			rightNode = Conv.createConvNode(unif.rc, rightNode);
+			leftNode = Conv.createConvNode(tree, unif.lc, leftNode);
+			rightNode = Conv.createConvNode(tree, unif.rc, rightNode);
 
 			NodeKind kind = null;
 			if (operator == pascalParser.STAR) {
 				kind = NodeKind.TIMES_NODE;
-			} else if (operator == pascalParser.SLASH) {
+			} else if (operator == pascalParser.SLASH || operator == pascalParser.DIV) {
+				// Only integers reach `div`, where `/` is the same sdiv
 				kind = NodeKind.OVER_NODE;
+			} else if (operator == pascalParser.MOD) {
+				kind = NodeKind.MOD_NODE;
 			} else if (operator == pascalParser.AND) {
 				kind = NodeKind.AND_NODE;
 			}
 
-			return AST.newSubtree(kind, unif.type, leftNode, rightNode);
+			return tree.newSubtree(kind, type, leftNode, rightNode);
 		}
 
 		return leftNode;
 	}
 
 	@Override
-	public AST visitSimpleExpression(pascalParser.SimpleExpressionContext ctx) {
+	public Integer visitSimpleExpression(pascalParser.SimpleExpressionContext ctx) {
 		
-		AST leftNode = visit(ctx.term());
+		int leftNode = visit(ctx.term());
 
 		if (ctx.simpleExpression() != null) {
-			AST rightNode = visit(ctx.simpleExpression());
+			int rightNode = visit(ctx.simpleExpression());
 			
-			Type leftType = leftNode.type;
-			Type rightType = rightNode.type;
+			Type leftType = tree.type(leftNode);
+			Type rightType = tree.type(rightNode);
 			Unif unif = null;
 
 			int operator = ctx.additiveoperator().op.getType();
@@ -446,12 +543,13 @@ public class SemanticChecker extends pascalParserBaseVisitor<AST> {
 				unif = leftType.unifyOtherArith(rightType);
 			}
 
-			if (unif.type == Type.NO_TYPE) {
-				typeError(ctx.additiveoperator().op.getLine(), ctx.additiveoperator().op.getText(), leftType, rightType);
+			Type type = unif.type;
+			if (type == NO_TYPE) {
+				type = typeError(ctx.additiveoperator().op, ctx.additiveoperator().op.getText(), leftType, rightType);
 			}
 
-			leftNode = Conv.createConvNode(unif.lc, leftNode);
-			rightNode = Conv.createConvNode(unif.rc, rightNode);
+			leftNode = Conv.createConvNode(tree, unif.lc, leftNode);
+			rightNode = Conv.createConvNode(tree, unif.rc, rightNode);
 
 			NodeKind kind = null;
 			if (operator == pascalParser.PLUS) {
@@ -462,32 +560,33 @@ public class SemanticChecker extends pascalParserBaseVisitor<AST> {
 				kind = NodeKind.MINUS_NODE;
 			}
 
-			return AST.newSubtree(kind, unif.type, leftNode, rightNode);
+			return tree.newSubtree(kind, type, leftNode, rightNode);
 		}
 
 		return leftNode;
 	}
 
 	@Override
-	public AST visitExpression(pascalParser.ExpressionContext ctx) {
+	public Integer visitExpression(pascalParser.ExpressionContext ctx) {
 
-		AST leftNode = visit(ctx.simpleExpression());
+		int leftNode = visit(ctx.simpleExpression());
 
 		// There is a relational operation
 		if (ctx.expression() != null) {
-			AST rightNode = visit(ctx.expression());
+			int rightNode = visit(ctx.expression());
 
-			Type leftType = leftNode.type;
-			Type rightType = rightNode.type;
+			Type leftType = tree.type(leftNode);
+			Type rightType = tree.type(rightNode);
 			Unif unif = leftType.unifyComp(rightType);
 
 			// Operation not valid
-			if (unif.type == Type.NO_TYPE) {
-				typeError(ctx.relationaloperator().op.getLine(), ctx.relationaloperator().op.getText(), leftType, rightType);
+			Type type = unif.type;
+			if (type == NO_TYPE) {
+				type = typeError(ctx.relationaloperator().op, ctx.relationaloperator().op.getText(), leftType, rightType);
 			}
 
-			leftNode = Conv.createConvNode(unif.lc, leftNode);
-			rightNode = Conv.createConvNode(unif.rc, rightNode);
+			leftNode = Conv.createConvNode(tree, unif.lc, leftNode);
+			rightNode = Conv.createConvNode(tree, unif.rc, rightNode);
 
 			NodeKind kind = null;
 			switch (ctx.relationaloperator().op.getType()) {
@@ -518,186 +617,245 @@ public class SemanticChecker extends pascalParserBaseVisitor<AST> {
 				default:
 				break;
 			}
-			return AST.newSubtree(kind, unif.type, leftNode, rightNode);
+			return tree.newSubtree(kind, type, leftNode, rightNode);
 		}
 
 		return leftNode;
 	}
 
 	@Override
-	public AST visitAssignmentStatement(pascalParser.AssignmentStatementContext ctx) {
+	public Integer visitAssignmentStatement(pascalParser.AssignmentStatementContext ctx) {
 		Token token = ctx.variable().identifier().get(0).IDENT().getSymbol();
-		AST leftNode = visit(ctx.variable());
-		AST rightNode = visit(ctx.expression());
+		int leftNode = visit(ctx.variable());
+		int rightNode = visit(ctx.expression());
 
-		Type leftType = leftNode.type;
-		Type rightType = rightNode.type;
+		Type leftType = tree.type(leftNode);
+		Type rightType = tree.type(rightNode);
 		Unif unif = leftType.unifyAssign(rightType);
 
 		if (unif.type == NO_TYPE) {
-			typeError(token.getLine(), ":=", leftType, rightType);
+			typeError(token, ":=", leftType, rightType);
 		}
+		checkNotControl(token, leftNode);
 
-		leftNode = Conv.createConvNode(unif.lc, leftNode);
-		rightNode = Conv.createConvNode(unif.rc, rightNode);
+		leftNode = Conv.createConvNode(tree, unif.lc, leftNode);
+		rightNode = Conv.createConvNode(tree, unif.rc, rightNode);
 
-		return AST.newSubtree(NodeKind.ASSIGN_NODE, Type.NO_TYPE, leftNode, rightNode);
+		return tree.newSubtree(NodeKind.ASSIGN_NODE, Type.NO_TYPE, leftNode, rightNode);
 	}
 
 	@Override
-	public AST visitIfStatement(pascalParser.IfStatementContext ctx) {
-		AST expressionNode = visit(ctx.expression());
-		checkBoolExpr(ctx.IF().getSymbol().getLine(), "IF", expressionNode.type);
+	public Integer visitIfStatement(pascalParser.IfStatementContext ctx) {
+		int expressionNode = visit(ctx.expression());
+		checkBoolExpr(ctx.IF().getSymbol(), "IF", tree.type(expressionNode));
 
-		AST thenNode = visit(ctx.statement(0));
+		int thenNode = visit(ctx.statement(0));
 		
 		if (ctx.ELSE() != null) {
-			AST elseNode = visit(ctx.statement(1));
-			return AST.newSubtree(NodeKind.IF_NODE, NO_TYPE, expressionNode, thenNode, elseNode);
+			int elseNode = visit(ctx.statement(1));
+			return tree.newSubtree(NodeKind.IF_NODE, NO_TYPE, expressionNode, thenNode, elseNode);
 		}
 		
-		return AST.newSubtree(NodeKind.IF_NODE, NO_TYPE, expressionNode, thenNode);
+		return tree.newSubtree(NodeKind.IF_NODE, NO_TYPE, expressionNode, thenNode);
 	}
 
 	@Override
-	public AST visitWhileStatement(pascalParser.WhileStatementContext ctx) {
-		AST expressionNode = visit(ctx.expression());
-		checkBoolExpr(ctx.WHILE().getSymbol().getLine(), "WHILE", expressionNode.type);
+	public Integer visitWhileStatement(pascalParser.WhileStatementContext ctx) {
+		int expressionNode = visit(ctx.expression());
+		checkBoolExpr(ctx.WHILE().getSymbol(), "WHILE", tree.type(expressionNode));
 
-		AST statementNode = visit(ctx.statement());
-		return AST.newSubtree(NodeKind.REPEAT_NODE, NO_TYPE, expressionNode, statementNode);
+		int statementNode = visit(ctx.statement());
+		return tree.newSubtree(NodeKind.REPEAT_NODE, NO_TYPE, expressionNode, statementNode);
+	}
+
+	// The control variable and both bounds are integers. The bounds are
+	// evaluated once, before the first iteration.
+	@Override
+	public Integer visitForStatement(pascalParser.ForStatementContext ctx) {
+		Token token = ctx.identifier().IDENT().getSymbol();
+		int controlNode = checkVariable(token);
+		Type controlType = tree.type(controlNode);
+		if (controlType != INT_TYPE && controlType != ERROR_TYPE) {
+			error(token, "control variable '%s' in 'FOR' is '%s' instead of '%s'.",
+				token.getText(), controlType, INT_TYPE);
+		}
+		checkNotControl(token, controlNode);
+
+		Token forToken = ctx.FOR().getSymbol();
+		int initialNode = visit(ctx.forList().initialValue().expression());
+		checkBound(forToken, "initial", tree.type(initialNode));
+		int finalNode = visit(ctx.forList().finalValue().expression());
+		checkBound(forToken, "final", tree.type(finalNode));
+
+		boolean control = tree.kind(controlNode) == NodeKind.VAR_USE_NODE;
+		if (control) controls.add(tree.intData(controlNode));
+		int statementNode = visit(ctx.statement());
+		if (control) controls.remove(controls.size() - 1);
+
+		int step = ctx.forList().TO() != null ? 1 : -1;
+		int node = tree.newNode(NodeKind.FOR_NODE, step, NO_TYPE);
+		tree.addChild(node, controlNode);
+		tree.addChild(node, initialNode);
+		tree.addChild(node, finalNode);
+		tree.addChild(node, statementNode);
+		return node;
+	}
+
+	private void checkBound(Token token, String which, Type t) {
+		if (t != INT_TYPE && t != ERROR_TYPE) {
+			error(token, "%s value in 'FOR' is '%s' instead of '%s'.", which, t, INT_TYPE);
+		}
+	}
+
+	// Assigning the control variable of an enclosing FOR loop (`node` is
+	// the variable assigned)
+	private void checkNotControl(Token token, int node) {
+		if (tree.kind(node) == NodeKind.VAR_USE_NODE && controls.contains(tree.intData(node))) {
+			error(token, "control variable '%s' of 'FOR' assigned in its body.", token.getText());
+		}
 	}
 
 	
 	@Override
-	public AST visitVariable(pascalParser.VariableContext ctx) {
+	public Integer visitVariable(pascalParser.VariableContext ctx) {
 		VariableTable variableTable = currentScope.getVaraibleTable();
 
 		// Check if the variable exists
 		Token token = ctx.identifier().get(0).IDENT().getSymbol();
-		String variableName = token.getText();
 
 		// Array use
 		if (ctx.LBRACK(0) != null) {
-			AST arrayAccessNode = arrayAccess(token);
+			int arrayAccessNode = arrayAccess(token);
+			int indexCount = ctx.expression().size();
+
+			// The indices are checked all the same
+			if (tree.type(arrayAccessNode) == ERROR_TYPE) {
+				for (int i = 0; i < indexCount; i++) {
+					visit(ctx.expression(i));
+				}
+				return arrayAccessNode;
+			}
 
 			// Check if we are accessing the right amount of dimensions
-			int arrayDim = variableTable.getRangesSize(variableName);
-			int indexCount = ctx.expression().size();
+			int arrayDim = variableTable.getRangesSize(tree.intData(tree.getChild(arrayAccessNode, 0)));
 			if (arrayDim != indexCount) {
-				System.err.printf(
-					"SEMANTIC ERROR (%d): Indexing array with %d dimension%s, but %d given.\n",
-						token.getLine(), arrayDim, arrayDim > 1 ? "s" : "", indexCount);
-				System.exit(1);
-				return null;
+				error(token, "Indexing array with %d dimension%s, but %d given.",
+						arrayDim, arrayDim > 1 ? "s" : "", indexCount);
 			}
 
 			for (int i = 0; i < indexCount; i++) {
-				AST expressionNode = visit(ctx.expression(i));
-
-				if (expressionNode.type != INT_TYPE) {
-					System.err.printf(
-						"SEMANTIC ERROR (%d): Indexing array with type %s. Only integers allowed.\n",
-							token.getLine(), expressionNode.type);
-					System.exit(1);
-					return null;
+				int expressionNode = visit(ctx.expression(i));
+
+				Type type = tree.type(expressionNode);
+				if (type != INT_TYPE && type != ERROR_TYPE) {
+					error(token, "Indexing array with type %s. Only integers allowed.", type);
 				}
 
-				arrayAccessNode.addChild(expressionNode);
+				tree.addChild(arrayAccessNode, expressionNode);
 			}
 			return arrayAccessNode;
 		}
 
-		return checkVariable(token);
+		// Named types aren't resolved: the variable has none
+		int variableNode = checkVariable(token);
+		if (tree.type(variableNode) == null) {
+			error(token, "variable '%s' is of a type that is not supported.", token.getText());
+			return errorNode();
+		}
+		return variableNode;
 	}
 
 	@Override
-	public AST visitVariableDeclarationPart(pascalParser.VariableDeclarationPartContext ctx) {
-		AST node = AST.newSubtree(NodeKind.VAR_LIST_NODE, Type.NO_TYPE);
+	public Integer visitVariableDeclarationPart(pascalParser.VariableDeclarationPartContext ctx) {
+		int node = tree.newSubtree(NodeKind.VAR_LIST_NODE, Type.NO_TYPE);
 		for (int i = 0; i < ctx.variableDeclaration().size(); i++) {
-			AST child = visit(ctx.variableDeclaration(i));
-			for (int j = 0; j < child.getChildrenSize(); j++) {
-				node.addChild(child.getChild(j));
-			}
+			int child = visit(ctx.variableDeclaration(i));
+			tree.moveChildren(node, child);
 		}
 		return node;
 	}
 
 	@Override
-	public AST visitCompoundStatement(pascalParser.CompoundStatementContext ctx) {
-		AST node = AST.newSubtree(NodeKind.BLOCK_NODE, Type.NO_TYPE);
+	public Integer visitCompoundStatement(pascalParser.CompoundStatementContext ctx) {
+		int node = tree.newSubtree(NodeKind.BLOCK_NODE, Type.NO_TYPE);
 		List<StatementContext> statementsSections = ctx.statements().statement();
 		for (int i = 0; i < statementsSections.size()-1; i++) {
-			AST child = visit(statementsSections.get(i));
-			node.addChild(child);
+			int child = visit(statementsSections.get(i));
+			tree.addChild(node, child);
 		}
 		return node;
 	}
 
 	@Override
-	public AST visitFunctionDesignator(pascalParser.FunctionDesignatorContext ctx) {
-		FunctionTable functionTable = currentScope.getFunctionTable();
-		
+	public Integer visitFunctionDesignator(pascalParser.FunctionDesignatorContext ctx) {
 		Token token = ctx.identifier().IDENT().getSymbol();
-		String functionName = token.getText();
 
-		AST functionDesignatorNode = checkFunction(token);
-		
-		// Look for the scope where the function was declared
-		int index = -1;
-		Scope scope = currentScope;
-		while(scope != null && index == -1) {
-			functionTable = scope.getFunctionTable();
-			index = functionTable.lookup(functionName);
-			scope = scope.getParentScope();
+		int binding = lookupFunction(token);
+		if (binding == -1) {
+			return checkParameters(ctx.parameterList());
 		}
+		int functionDesignatorNode = checkFunction(binding);
+
+		FunctionTable functionTable = symbolTable.getFunctionTable(binding);
+		int index = symbolTable.getIndex(binding);
 
 		// Check if passing the right amount of parameters
-		int expectedParameters = functionTable.getParametersSize(functionName);
+		int expectedParameters = functionTable.getParametersSize(index);
 		int gotParametes = ctx.parameterList().actualParameter().size();
 		if (gotParametes != expectedParameters) {
 			paramQuantityError(token, expectedParameters, gotParametes);
 		}
 
-		ArrayList<Type> expectedParameTypes = functionTable.getParameters(functionName);
+		ArrayList<Type> expectedParameTypes = functionTable.getParameters(index);
 		for (int i = 0; i < gotParametes; i++) {
-			AST parameterNode = visit(ctx.parameterList().actualParameter(i));
+			int parameterNode = visit(ctx.parameterList().actualParameter(i));
+			if (i >= expectedParameters) continue;
 			Type expected = expectedParameTypes.get(i);
-			Type got = parameterNode.type;
+			Type got = tree.type(parameterNode);
 			Unif unif = expected.unifyAssign(got);
 
 			if (unif.type == NO_TYPE) {
 				paramTypeError(token, i, expected, got);
 			}
 
-			parameterNode = Conv.createConvNode(unif.rc, parameterNode);
-			functionDesignatorNode.addChild(parameterNode);
+			parameterNode = Conv.createConvNode(tree, unif.rc, parameterNode);
+			tree.addChild(functionDesignatorNode, parameterNode);
 		}
 
 		
 		return functionDesignatorNode;
 	}
 
-	public AST readWriteCall(pascalParser.ProcedureStatementContext ctx) {
-		AST readNode;
+	// The call of a function that doesn't exist: only its parameters can
+	// still be checked
+	private int checkParameters(pascalParser.ParameterListContext ctx) {
+		for (int i = 0; ctx != null && i < ctx.actualParameter().size(); i++) {
+			visit(ctx.actualParameter(i));
+		}
+		return errorNode();
+	}
+
+	public int readWriteCall(pascalParser.ProcedureStatementContext ctx) {
+		int readNode;
 		
 		if (ctx.identifier().IDENT().getText().equals("read")) {
-			readNode = AST.newSubtree(NodeKind.READ_NODE, NO_TYPE);
+			readNode = tree.newSubtree(NodeKind.READ_NODE, NO_TYPE);
 		} else {
-			readNode = AST.newSubtree(NodeKind.WRITE_NODE, NO_TYPE);
+			readNode = tree.newSubtree(NodeKind.WRITE_NODE, NO_TYPE);
 		}
 
 		for (int i = 0; i < ctx.parameterList().actualParameter().size(); i++) {
-			AST parameterNode = visit(ctx.parameterList().actualParameter(i));
-			readNode.addChild(parameterNode);
+			int parameterNode = visit(ctx.parameterList().actualParameter(i));
+			if (tree.kind(readNode) == NodeKind.READ_NODE) {
+				checkNotControl(ctx.parameterList().actualParameter(i).getStart(), parameterNode);
+			}
+			tree.addChild(readNode, parameterNode);
 		}
 		
 		return readNode;
 	}
 
-	public AST visitProcedureStatement(pascalParser.ProcedureStatementContext ctx) {
-		FunctionTable functionTable = currentScope.getFunctionTable();
-
+	public Integer visitProcedureStatement(pascalParser.ProcedureStatementContext ctx) {
 		Token token = ctx.identifier().IDENT().getSymbol();
 		String functionName = token.getText();
 
@@ -705,49 +863,147 @@ public class SemanticChecker extends pascalParserBaseVisitor<AST> {
 			return readWriteCall(ctx);
 		}
 		
-		AST procedureStatementNode = checkFunction(token);
-
-		// Look for the scope where the function was declared
-		int index = -1;
-		Scope scope = currentScope;
-		while(scope != null && index == -1) {
-			functionTable = scope.getFunctionTable();
-			index = functionTable.lookup(functionName);
-			scope = scope.getParentScope();
+		int binding = lookupFunction(token);
+		if (binding == -1) {
+			return checkParameters(ctx.parameterList());
 		}
+		int procedureStatementNode = checkFunction(binding);
 
-		int expectedParameters = functionTable.getParametersSize(functionName);
+		FunctionTable functionTable = symbolTable.getFunctionTable(binding);
+		int index = symbolTable.getIndex(binding);
+
+		int expectedParameters = functionTable.getParametersSize(index);
 		int gotParametes = ctx.parameterList().actualParameter().size();
 
 		if (gotParametes != expectedParameters) {
 			paramQuantityError(token, expectedParameters, gotParametes);
 		}
 
-		ArrayList<Type> expectedParameTypes = functionTable.getParameters(functionName);
+		ArrayList<Type> expectedParameTypes = functionTable.getParameters(index);
 		for (int i = 0; i < gotParametes; i++) {
-			AST parameterNode = visit(ctx.parameterList().actualParameter(i));
+			int parameterNode = visit(ctx.parameterList().actualParameter(i));
+			if (i >= expectedParameters) continue;
 			Type expected = expectedParameTypes.get(i);
-			Type got = parameterNode.type;
+			Type got = tree.type(parameterNode);
 			Unif unif = expected.unifyAssign(got);
 
 			if (unif.type == NO_TYPE) {
 				paramTypeError(token, i, expected, got);
 			}
 
-			parameterNode = Conv.createConvNode(unif.rc, parameterNode);
-			procedureStatementNode.addChild(parameterNode);
+			parameterNode = Conv.createConvNode(tree, unif.rc, parameterNode);
+			tree.addChild(procedureStatementNode, parameterNode);
 		}
 
 		return procedureStatementNode;
 	}
 
 	@Override
-	public AST visitFunctionDeclaration(pascalParser.FunctionDeclarationContext ctx) {
+	public Integer visitFunctionDeclaration(pascalParser.FunctionDeclarationContext ctx) {
+		if (cache != null && currentScope == globalScope) {
+			return cachedFunction(ctx);
+		}
+		return checkFunctionDeclaration(ctx);
+	}
+
+	// A top-level function, taken from `cache` if its key is there
+	private int cachedFunction(pascalParser.FunctionDeclarationContext ctx) {
+		Token token = ctx.identifier().IDENT().getSymbol();
+		int symbol = symbol(token);
+		FunctionTable functionTable = globalScope.getFunctionTable();
+		String key = functionKey(ctx);
+
+		// A name declared twice is left to `newFunction` to report
+		FunctionCache.Checked function = symbolTable.lookupLocalFunction(symbol) == -1
+				? cache.getChecked(key)
+				: null;
+		if (function != null && addLiterals(function)) {
+			Scope scope = new Scope(globalScope, function.scope);
+			int index = functionTable.addEntry(token.getText(), token.getLine(),
+					function.type, function.parameters, scope);
+			symbolTable.declareFunction(symbol, index);
+
+			// As `newFunction` does; `visitBlock` leaves it
+			this.currentScope = scope;
+			symbolTable.enter(scope);
+
+			functionKeys.put(index, key + Arrays.toString(function.literalIds));
+			return tree.add(function.tree);
+		}
+
+		literalTexts = new ArrayList<>();
+		literalIds = new ArrayList<>();
+		int errors = diagnostics.size();
+		int functionNode = checkFunctionDeclaration(ctx);
+		int index = tree.intData(functionNode);
+		int[] ids = literalIds.stream().mapToInt(Integer::intValue).toArray();
+
+		// A hit must not hide the function's errors
+		if (diagnostics.size() == errors) {
+			cache.putChecked(key, new FunctionCache.Checked(tree.toAST(functionNode),
+					functionTable.getType(index), functionTable.getParameters(index),
+					new Scope(null, functionTable.getScope(index)),
+					literalTexts.toArray(new String[0]), ids));
+		}
+		functionKeys.put(index, key + Arrays.toString(ids));
+		literalTexts = null;
+		literalIds = null;
+
+		return functionNode;
+	}
+
+	// Adds the string literals of a cached function to the string table.
+	// Returns false if they didn't get the indices its tree uses.
+	private boolean addLiterals(FunctionCache.Checked function) {
+		boolean same = true;
+		for (int i = 0; i < function.literals.length; i++) {
+			String literal = function.literals[i];
+			same &= stringTable.addString(symbols.intern(literal), literal) == function.literalIds[i];
+		}
+		return same;
+	}
+
+	// SHA-256 of the function's tokens and of the signatures of the functions
+	// they name, prefixed by the index the function will get. Only earlier
+	// top-level functions are visible to it, and none of them can change
+	// without changing one of these.
+	private String functionKey(pascalParser.FunctionDeclarationContext ctx) {
+		FunctionTable functionTable = globalScope.getFunctionTable();
+		StringBuilder text = new StringBuilder();
+		StringBuilder signatures = new StringBuilder();
+
+		for (int i = ctx.getStart().getTokenIndex(); i <= ctx.getStop().getTokenIndex(); i++) {
+			Token token = tokens.get(i);
+			if (token.getChannel() != Token.DEFAULT_CHANNEL) continue;
+			text.append(token.getType()).append(' ').append(token.getText()).append('\n');
+
+			if (token.getType() == pascalParser.IDENT) {
+				int binding = symbolTable.lookupFunction(symbol(token));
+				if (binding != -1) {
+					int index = symbolTable.getIndex(binding);
+					signatures.append(index).append(' ')
+							.append(functionTable.getType(index)).append(' ')
+							.append(functionTable.getParameters(index)).append('\n');
+				}
+			}
+		}
+
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(text.toString().getBytes(StandardCharsets.UTF_8));
+			digest.update(signatures.toString().getBytes(StandardCharsets.UTF_8));
+			return functionTable.size() + ":" + HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+
+	private int checkFunctionDeclaration(pascalParser.FunctionDeclarationContext ctx) {
 
 		visit(ctx.resultType());
-		AST functionNode = newFunction(ctx.identifier().IDENT().getSymbol());
+		int functionNode = newFunction(ctx.identifier().IDENT().getSymbol());
 
-		AST parameterListNode = functionNode.getChild(0);
+		int parameterListNode = tree.getChild(functionNode, 0);
 		if (ctx.formalParameterList() != null) {
 			List<FormalParameterSectionContext> formalParameterList = ctx.formalParameterList().formalParameterSection();
 			for (int i = 0; i < formalParameterList.size(); i++) {
@@ -759,61 +1015,136 @@ public class SemanticChecker extends pascalParserBaseVisitor<AST> {
 				// There can be more than one declaration per type
 				for (int j = 0; j < identifiers.size(); j++) {
 					Token token = identifiers.get(j).IDENT().getSymbol();
-					parameterListNode.addChild(newParameter(ctx.identifier().IDENT().getText(), token));
+					tree.addChild(parameterListNode, newParameter(tree.intData(functionNode), token));
 				}
 			}
 		}
 
-		AST blockNode = visit(ctx.block());
-		AST variableListNode = blockNode.getChild(0);
-		AST statementNode = blockNode.getChild(2);
+		int blockNode = visit(ctx.block());
+		int variableListNode = tree.getChild(blockNode, 0);
+		int statementNode = tree.getChild(blockNode, 2);
 
-		for (int i = 0; i < variableListNode.getChildrenSize(); i++) {
-			parameterListNode.addChild(variableListNode.getChild(i));
-		}
-		functionNode.addChild(statementNode);
+		tree.moveChildren(parameterListNode, variableListNode);
+		tree.addChild(functionNode, statementNode);
 
 		return functionNode;
 	}
 
 	@Override
-	public AST visitBlock(pascalParser.BlockContext ctx) {
-
-		AST varsSectionNode = AST.newSubtree(NodeKind.VAR_LIST_NODE, Type.NO_TYPE);
-		List<VariableDeclarationPartContext> varsSections= ctx.variableDeclarationPart();
-		for (int i = 0; i < varsSections.size(); i++) {
-			AST varsSubSection = visit(varsSections.get(i));
-			for (int j = 0; j < varsSubSection.getChildrenSize(); j++) {
-				varsSectionNode.addChild(varsSubSection.getChild(j));
+	public Integer visitBlock(pascalParser.BlockContext ctx) {
+		int varsSectionNode;
+		int functionsSectionNode;
+		if (streamed != null && ctx.getParent() instanceof pascalParser.ProgramContext) {
+			// Declarations checked while parsing; only the statements are left
+			varsSectionNode = streamed.varsSectionNode;
+			functionsSectionNode = streamed.functionsSectionNode;
+		} else {
+			varsSectionNode = tree.newSubtree(NodeKind.VAR_LIST_NODE, Type.NO_TYPE);
+			List<VariableDeclarationPartContext> varsSections= ctx.variableDeclarationPart();
+			for (int i = 0; i < varsSections.size(); i++) {
+				declareVariables(varsSectionNode, varsSections.get(i));
+			}
+
+			functionsSectionNode = tree.newSubtree(NodeKind.FUN_LIST_NODE, NO_TYPE);
+			List<ProcedureAndFunctionDeclarationPartContext> functionsSectionList = ctx.procedureAndFunctionDeclarationPart();
+			for (int i = 0; i < functionsSectionList.size(); i++) {
+				declareFunction(functionsSectionNode, functionsSectionList.get(i));
 			}
 		}
 
-		
-		AST functionsSectionNode = AST.newSubtree(NodeKind.FUN_LIST_NODE, NO_TYPE);
-		List<ProcedureAndFunctionDeclarationPartContext> functionsSectionList = ctx.procedureAndFunctionDeclarationPart();
-		for (int i = 0; i < functionsSectionList.size(); i++) {
-			Scope scope = this.currentScope;
-			
-			AST functionNode = visit(functionsSectionList.get(i).procedureOrFunctionDeclaration().functionDeclaration());
-			functionsSectionNode.addChild(functionNode);
+		int statementsSectionNode = visit(ctx.compoundStatement());
 
-			this.currentScope = scope;
-		}
+		int node = tree.newSubtree(NodeKind.BLOCK_NODE, Type.NO_TYPE, varsSectionNode, functionsSectionNode, statementsSectionNode);
+		return node;
+	}
+
+	private void declareVariables(int varsSectionNode, VariableDeclarationPartContext ctx) {
+		int varsSubSection = visit(ctx);
+		tree.moveChildren(varsSectionNode, varsSubSection);
+	}
 
+	private void declareFunction(int functionsSectionNode, ProcedureAndFunctionDeclarationPartContext ctx) {
+		FunctionDeclarationContext function = ctx.procedureOrFunctionDeclaration().functionDeclaration();
+		// Procedures have no node kind yet, and no scope was entered for one
+		if (function == null) {
+			Token token = ctx.getStart();
+			diagnostics.internal(String.format("procedures are not supported (line %d)", token.getLine()));
+			return;
+		}
 
-		AST statementsSectionNode = visit(ctx.compoundStatement());
+		int functionNode = visit(function);
+		tree.addChild(functionsSectionNode, functionNode);
 
-		AST node = AST.newSubtree(NodeKind.BLOCK_NODE, Type.NO_TYPE, varsSectionNode, functionsSectionNode, statementsSectionNode);
-		return node;
+		// Leave the function's scope, entered by `newFunction`
+		symbolTable.exit();
+		this.currentScope = symbolTable.getScope();
 	}
 
 	@Override
-	public AST visitProgram(pascalParser.ProgramContext ctx) {
+	public Integer visitProgram(pascalParser.ProgramContext ctx) {
 		this.currentScope = this.globalScope;
-		AST blockNode = visit(ctx.block());
-		this.root = AST.newSubtree(NodeKind.PROGRAM_NODE, NO_TYPE, blockNode.getChild(0), blockNode.getChild(1), blockNode.getChild(2));
+		int blockNode = visit(ctx.block());
+		this.root = tree.newSubtree(NodeKind.PROGRAM_NODE, NO_TYPE, tree.getChild(blockNode, 0), tree.getChild(blockNode, 1), tree.getChild(blockNode, 2));
 
 		return this.root;
 	}
+
+	// A parse listener that checks the top-level variable declarations and
+	// functions of the program as soon as each one is parsed, and then drops
+	// its parse tree: only one of them is ever in memory. `visit` does the
+	// rest afterwards, the program's statements.
+	//
+	// Declarations are checked in source order, so unlike with `visit` alone,
+	// a function doesn't see the global variables declared after it. After a
+	// syntax error nothing is checked any more, and the tree is left whole;
+	// the semantic errors found until then are not reported.
+	public ParseTreeListener streaming(Parser parser) {
+		this.currentScope = this.globalScope;
+		this.streamed = new Streamed(parser);
+		return this.streamed;
+	}
+
+	private final class Streamed implements ParseTreeListener {
+		final Parser parser;
+		final int varsSectionNode = tree.newSubtree(NodeKind.VAR_LIST_NODE, Type.NO_TYPE);
+		final int functionsSectionNode = tree.newSubtree(NodeKind.FUN_LIST_NODE, NO_TYPE);
+
+		Streamed(Parser parser) {
+			this.parser = parser;
+		}
+
+		@Override
+		public void exitEveryRule(ParserRuleContext ctx) {
+			// A bail strategy (--sll) exits the rules it unwinds too, with no
+			// syntax error counted but the exception set
+			ParserRuleContext block = ctx.getParent();
+			if (block == null || !(block.getParent() instanceof pascalParser.ProgramContext)
+					|| parser.getNumberOfSyntaxErrors() != 0 || ctx.exception != null) {
+				return;
+			}
+
+			if (ctx instanceof VariableDeclarationPartContext) {
+				declareVariables(varsSectionNode, (VariableDeclarationPartContext) ctx);
+			} else if (ctx instanceof ProcedureAndFunctionDeclarationPartContext) {
+				declareFunction(functionsSectionNode, (ProcedureAndFunctionDeclarationPartContext) ctx);
+			} else {
+				return;
+			}
+			// It was just added to the block, so it is the last child
+			block.removeLastChild();
+		}
+
+		@Override
+		public void enterEveryRule(ParserRuleContext ctx) {
+		}
+
+		@Override
+		public void visitTerminal(TerminalNode node) {
+		}
+
+		@Override
+		public void visitErrorNode(ErrorNode node) {
+		}
+	}
 	
 }
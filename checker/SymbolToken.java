@@ -0,0 +1,23 @@
+package checker;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+
+// A token that carries the `Interner` id of its text. Only identifiers and
+// string literals get one; every other token has -1.
+@SuppressWarnings("serial")
+public final class SymbolToken extends CommonToken {
+	private final int symbol;
+
+	SymbolToken(Pair<TokenSource, CharStream> source, int type, int channel,
+			int start, int stop, int symbol) {
+		super(source, type, channel, start, stop);
+		this.symbol = symbol;
+	}
+
+	public int getSymbol() {
+		return this.symbol;
+	}
+}
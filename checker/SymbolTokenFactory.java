@@ -0,0 +1,53 @@
+package checker;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+
+import parser.pascalLexer;
+import tables.Interner;
+
+// Interns identifiers and string literals as the lexer emits them, so the
+// checker never hashes a name again. The `SemanticChecker` reading these
+// tokens must be given the same `Interner`.
+public final class SymbolTokenFactory implements TokenFactory<SymbolToken> {
+	private final Interner symbols;
+
+	public SymbolTokenFactory(Interner symbols) {
+		this.symbols = symbols;
+	}
+
+	@Override
+	public SymbolToken create(Pair<TokenSource, CharStream> source, int type, String text,
+			int channel, int start, int stop, int line, int charPositionInLine) {
+		if (text == null && isSymbol(type)) {
+			text = source.b.getText(Interval.of(start, stop));
+		}
+
+		SymbolToken token = new SymbolToken(source, type, channel, start, stop, intern(type, text));
+		token.setLine(line);
+		token.setCharPositionInLine(charPositionInLine);
+		if (text != null) {
+			token.setText(text);
+		}
+		return token;
+	}
+
+	@Override
+	public SymbolToken create(int type, String text) {
+		SymbolToken token = new SymbolToken(new Pair<>(null, null), type, SymbolToken.DEFAULT_CHANNEL,
+				-1, -1, intern(type, text));
+		token.setText(text);
+		return token;
+	}
+
+	private int intern(int type, String text) {
+		return isSymbol(type) ? symbols.intern(text) : -1;
+	}
+
+	private static boolean isSymbol(int type) {
+		return type == pascalLexer.IDENT || type == pascalLexer.STRING_LITERAL;
+	}
+}
@@ -0,0 +1,37 @@
+package code;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+// Writes straight to a file through a FileChannel and a direct buffer.
+public final class ChannelIRWriter extends IRWriter {
+
+	private final FileChannel channel;
+
+	public ChannelIRWriter(Path path) throws IOException {
+		super(ByteBuffer.allocateDirect(DEFAULT_CAPACITY));
+		this.channel = FileChannel.open(path, CREATE, TRUNCATE_EXISTING, WRITE);
+	}
+
+	@Override
+	protected void write(ByteBuffer bytes) throws IOException {
+		while (bytes.hasRemaining()) {
+			channel.write(bytes);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			super.close();
+		} finally {
+			channel.close();
+		}
+	}
+}
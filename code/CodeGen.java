@@ -1,10 +1,26 @@
 package code;
 
-import ast.AST;
-import ast.ASTBaseVisitor;
-import ast.NodeKind;
+import ast.ASTStore;
+import ast.ASTStoreVisitor;
+import ir.BasicBlock;
+import ir.Constant;
+import ir.Function;
+import ir.Global;
+import ir.IRBuilder;
+import ir.IRPrinter;
+import ir.IRType;
+import ir.Instruction;
+import ir.Loop;
+import ir.LoopInvariantMotion;
+import ir.Mem2Reg;
+import ir.Module;
+import ir.StrengthReduction;
+import ir.Opcode;
+import ir.Value;
+import ir.ValueNumbering;
 import scope.Scope;
 
+import static ast.ASTStore.NIL;
 import static ast.NodeKind.ARRAY_ACCESS;
 import tables.VariableTable;
 import tables.FunctionTable;
@@ -17,14 +33,17 @@ import static typing.Type.BOOL_TYPE;
 import static typing.Type.CHAR_TYPE;
 import static typing.Type.ARRAY_TYPE;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Formatter;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
-// Setting the return type as string allows us to be more versatile.
-// Floating point values were handled with type double, because of
-// LLVM peculiarities 
-public final class CodeGen extends ASTBaseVisitor<String> {
+// Builds an in-memory LLVM module (see package `ir`) from the AST, which is
+// printed once complete. Every visitor returns the Value holding the result
+// of its subtree. Floating point values were handled with type double,
+// because of LLVM peculiarities
+public final class CodeGen extends ASTStoreVisitor<Value> {
 
 	private final StringTable st;
 	private final FunctionTable ft;
@@ -37,76 +56,227 @@ public final class CodeGen extends ASTBaseVisitor<String> {
 	// Function helpers
 	private Boolean isFunctionScope;
 	private int funcParamsNum;
+	private Function currentFunction;
 
-	private static ArrayList<String> declares;
-	private static HashMap<Print, Print> printStrs;
+	private final IRWriter out;
 
-	private static HashMap<Integer, ArrayVar> arrayVarList;
+	// Source file, for the JFR events
+	private String sourceName;
 
-	private static Formatter strs;
+	private final Module module;
+	private final IRBuilder builder;
 
-	private static int globalRegsCount;
-	private static int localRegsCount;
-	private static int jumpLabel;
+	// Global constants: string literals by string table index, formats by kind
+	private ArrayList<Global> strGlobals;
+	private HashMap<Print, Global> printStrs;
+
+	private HashMap<Integer, ArrayVar> arrayVarList;
+
+	// Stack slot (alloca) of every variable of the current function
+	private HashMap<Integer, Value> slots;
+
+	// Control variables of the for loops being generated, kept in a phi
+	// instead of their slot while in the loop
+	private HashMap<Integer, Value> controls;
+
+	private int globalRegsCount;
+	private int jumpLabel;
+
+	// Passes run over the module once it is built
+	private boolean ssa;
+	private boolean licm;
+	private boolean strength;
+	private boolean cse;
+
+	// Incremental mode: functions (by function table index) whose IR is pasted
+	// from `reuse`, and the IR of the others, handed back in `emitted`
+	private Map<Integer, FunctionIR> reuse;
+	private Map<Integer, FunctionIR> emitted;
+
+	// Functions in output order, `Generated` or reused `FunctionIR`
+	private List<Object> order;
+	private Generated current;
 
 	private static String compPrototype = "declare i32 @strcmp(i8*, i8*)";
 	private static String scanPrototype = "declare i32 @__isoc99_scanf(i8*, ...)";
 	private static String printPrototype = "declare i32 @printf(i8*, ...)";
 
+	private static String varargSignature = "i32 (i8*, ...)";
+
 	public CodeGen(
 			StringTable stringTable,
-			Scope globalScope) {
+			Scope globalScope,
+			IRWriter out) {
 
 		this.st = stringTable;
+		this.out = out;
 		this.globalScope = globalScope;
 
 		currentVt = globalScope.getVaraibleTable();
 		ft = globalScope.getFunctionTable();
 
-		declares = new ArrayList<>();
+		module = new Module();
+		builder = new IRBuilder();
+
+		strGlobals = new ArrayList<>();
 		printStrs = new HashMap<>();
-		strs = new Formatter();
 		arrayVarList = new HashMap<>();
+		slots = new HashMap<>();
+		controls = new HashMap<>();
+	}
+
+	public void setSourceName(String sourceName) {
+		this.sourceName = sourceName;
 	}
 
-	public void execute(AST root) {
+	public void setSSA(boolean ssa) {
+		this.ssa = ssa;
+	}
+
+	public void setLICM(boolean licm) {
+		this.licm = licm;
+	}
+
+	// Works on SSA form only, so it does nothing without `setSSA`
+	public void setStrengthReduction(boolean strength) {
+		this.strength = strength;
+	}
+
+	public void setCSE(boolean cse) {
+		this.cse = cse;
+	}
+
+	// Pastes the functions of `reuse` instead of generating them again, and
+	// fills `emitted` with the IR of every function that was generated.
+	public void setFragments(Map<Integer, FunctionIR> reuse, Map<Integer, FunctionIR> emitted) {
+		this.reuse = reuse;
+		this.emitted = emitted;
+		this.order = new ArrayList<>();
+	}
+
+	// Builds the module without printing it
+	public Module generate(ASTStore tree, int root) {
+		this.tree = tree;
 		globalRegsCount = 0;
-		localRegsCount = 1;
 		visit(root);
+		if (ssa)
+			Mem2Reg.run(module);
+		if (licm)
+			LoopInvariantMotion.run(module);
+		if (ssa && strength)
+			StrengthReduction.run(module);
+		if (cse)
+			ValueNumbering.run(module);
+		return module;
+	}
+
+	@Override
+	public void execute(ASTStore tree, int root) {
+		emit(generate(tree, root));
+	}
+
+	// Prints the `module` left by `generate` to the output
+	public void emit(Module module) {
+		IRPrinter printer = new IRPrinter(out);
+		if (reuse == null) {
+			printer.print(module);
+			return;
+		}
+
+		// Generated functions are printed apart, to be kept
+		MemoryIRWriter fresh = new MemoryIRWriter();
+		IRPrinter freshPrinter = new IRPrinter(fresh);
+		for (Object function : order) {
+			if (function instanceof Generated) {
+				Generated generated = (Generated) function;
+				generated.start = fresh.size();
+				freshPrinter.printFunction(generated.function);
+				generated.end = fresh.size();
+			}
+		}
+		byte[] bytes = fresh.toByteArray();
+
+		for (Object function : order) {
+			if (function instanceof FunctionIR) {
+				out.print(((FunctionIR) function).resolve(strGlobals, printStrs));
+				continue;
+			}
+
+			Generated generated = (Generated) function;
+			String text = new String(bytes, generated.start, generated.end - generated.start, StandardCharsets.UTF_8);
+			out.print(text);
+			if (generated.index != -1) {
+				emitted.put(generated.index, FunctionIR.of(text, strGlobals, printStrs,
+						generated.prints, generated.declarations));
+			}
+		}
+		printer.printConstants(module);
 	}
 
 	// ----------------------------------------------------------------------------
-	// Prints ---------------------------------------------------------------------
+	// Globals --------------------------------------------------------------------
 
 	private void getStringTable() {
 		for (int i = 0; i < st.size(); i++) {
-			String s = st.getString(i);
-			int x = newGlobalReg();
-			strs.format("@%d = private constant [%d x i8] c\"%s\\00\"\n", x,
-					s.length() + 1, s);
+			strGlobals.add(module.addGlobal(newGlobalReg(), st.getString(i)));
 		}
 	}
 
-	private void getPrintStrings() {
-		ArrayList<Print> a = new ArrayList<Print>(printStrs.values());
-		PrintComparator pc = new PrintComparator();
-		a.sort(pc);
-		for (Print ele : a) {
-			strs.format("%s", ele);
+	private Global getPrintString(Print print) {
+		if (current != null && !current.prints.contains(print)) {
+			current.prints.add(print);
+		}
+		Global global = printStrs.get(print);
+		if (global == null) {
+			global = module.addGlobal(newGlobalReg(), print.toString());
+			printStrs.put(print, global);
 		}
+		return global;
 	}
 
-	private void dumpStrings() {
-		System.out.println(strs.toString());
-		strs.close();
+	private void declare(String prototype) {
+		if (current != null && !current.declarations.contains(prototype)) {
+			current.declarations.add(prototype);
+		}
+		module.declare(prototype);
+	}
+
+	// Pastes a function generated by an earlier compilation
+	private void reuse(FunctionIR function) {
+		for (Print print : function.prints) {
+			getPrintString(print);
+		}
+		for (String prototype : function.declarations) {
+			module.declare(prototype);
+		}
+		order.add(function);
 	}
 
-	private void dumpFuncDeclare() {
-		for (String declare : declares) {
-			System.out.println(declare);
+	// Starts a new function of the module
+	private void startFunction(Function function, int index) {
+		currentFunction = function;
+		module.addFunction(function);
+		builder.startFunction(function);
+		if (order != null) {
+			current = new Generated(function, index);
+			order.add(current);
 		}
 	}
 
+	// Pointer to the first character of a constant string
+	private Value firstChar(Global global) {
+		return builder.gep(global, Constant.i64(0), Constant.i64(0));
+	}
+
+	// String values are either constants (@str), whose pointer is needed,
+	// or already pointers held in a register
+	private Value stringPointer(Value value) {
+		if (value instanceof Global) {
+			return firstChar((Global) value);
+		}
+		return value;
+	}
+
 	// ----------------------------------------------------------------------------
 	// AST Traversal --------------------------------------------------------------
 
@@ -115,12 +285,8 @@ public final class CodeGen extends ASTBaseVisitor<String> {
 	}
 
 	private void resetLocalScope() {
-		localRegsCount = 1;
 		jumpLabel = 0;
-	}
-
-	private int newLocalReg() {
-		return localRegsCount++;
+		slots.clear();
 	}
 
 	// This would be changed to handle multiple function scopes
@@ -129,492 +295,145 @@ public final class CodeGen extends ASTBaseVisitor<String> {
 	}
 
 	@Override
-	protected String visitProgram(AST node) {
+	protected Value visitProgram(int node) {
 		getStringTable();
 
 		// Define functions first
-		visit(node.getChild(1));
+		visit(tree.getChild(node, 1));
 
 		currentScope = globalScope;
 		currentVt = globalScope.getVaraibleTable();
 		resetLocalScope();
 
-		System.out.println("\ndefine void @main() {");
-		visit(node.getChild(0)); // var_list
+		startFunction(new Function("main", IRType.VOID), -1);
 
-		visit(node.getChild(2)); // block
-		System.out.println("  ret void \n}\n");
+		visit(tree.getChild(node, 0)); // var_list
 
-		getPrintStrings();
-		dumpStrings();
+		visit(tree.getChild(node, 2)); // block
+		builder.retVoid();
 
-		dumpFuncDeclare();
-
-		return "";
+		return null;
 	}
 
 	@Override
-	protected String visitBlock(AST node) {
-		for (int i = 0; i < node.getChildrenSize(); i++) {
-			visit(node.getChild(i));
+	protected Value visitBlock(int node) {
+		for (int child = tree.firstChild(node); child != NIL; child = tree.nextSibling(child)) {
+			visit(child);
 		}
-		return "";
+		return null;
 	}
 
 	@Override
-	protected String visitAssign(AST node) {
-		AST l = node.getChild(0);
-		AST r = node.getChild(1);
-		String x = visit(r);
-		int addr = l.intData;
+	protected Value visitAssign(int node) {
+		int l = tree.getChild(node, 0);
+		int r = tree.getChild(node, 1);
+		Value x = visit(r);
+		int addr = tree.intData(l);
 		Type varType = currentVt.getType(addr);
-		NodeKind nodeKind = l.kind;
-
-		if (nodeKind == ARRAY_ACCESS) {
-			// Ignores load from varUse
-			int reg = Integer.parseInt(visit(l).substring(1));
-			String type = ArrayVar.getSingleType(l.type);
 
+		if (tree.kind(l) == ARRAY_ACCESS) {
 			// Not handling string assign to array
-			System.out.printf("  store %s %s, %s* %%%d\n", type, x, type, reg - 1);
-
-		} else if (varType == INT_TYPE) {
-			System.out.printf("  store i32 %s, i32* %%%d\n", x, addr + 1);
+			builder.store(x, arrayAddress(l));
 
-		} else if (varType == REAL_TYPE) {
-			System.out.printf("  store double %s, double* %%%d\n", x, addr + 1);
-
-		} else if (varType == BOOL_TYPE) {
-			System.out.printf("  store i1 %s, i1* %%%d\n", x, addr + 1);
-
-		} else if (varType == CHAR_TYPE) {
-			System.out.printf("  store i8 %s, i8* %%%d\n", x, addr + 1);
+		} else if (varType == INT_TYPE || varType == REAL_TYPE || varType == BOOL_TYPE || varType == CHAR_TYPE) {
+			builder.store(x, slots.get(addr));
 
 		} else if (varType == STR_TYPE) {
-			// String can be pure (@str), which the pointer is needed,
-			// or form register (%num)
-			if (x.startsWith("@")) {
-				int pointer = newLocalReg();
-				String s = st.getString(Integer.parseInt(x.substring(1)));
-				int len = s.length() + 1;
-
-				System.out.printf("  %%%d = getelementptr inbounds [%d x i8], [%d x i8]* %s, i64 0, i64 0\n", pointer,
-						len, len, x);
-
-				System.out.printf(
-						"  store i8* %%%d, i8** %%%d\n", pointer, addr + 1);
-			} else {
-				System.out.printf("  store i8* %s, i8** %%%d\n", x, addr + 1);
+			builder.store(stringPointer(x), slots.get(addr));
 
-			}
 		} else {
-			System.err.println("Assign type not known!");
+			throw new IllegalStateException("Assign type not known!");
 		}
-		return "";
+		return null;
 	}
 
-	@Override
-	protected String visitEq(AST node) {
-		AST l = node.getChild(0);
-		AST r = node.getChild(1);
-		String y = visit(l);
-		String z = visit(r);
-		int x = 0;
-
-		if (r.type == INT_TYPE) {
-			x = newLocalReg();
-			System.out.printf("  %%%d = icmp eq i32 %s, %s\n", x, y, z);
-
-		} else if (r.type == REAL_TYPE) {
-			x = newLocalReg();
-			System.out.printf("  %%%d = fcmp oeq double %s, %s\n", x, y, z);
-
-		} else if (r.type == BOOL_TYPE) {
-			x = newLocalReg();
-			System.out.printf("  %%%d = icmp eq i1 %s, %s\n", x, y, z);
-
-		} else if (r.type == STR_TYPE) {
-			if (!declares.contains(compPrototype))
-				declares.add(compPrototype);
-
-			if (y.startsWith("@")) {
-				int b = newLocalReg();
-				String s = st.getString(Integer.parseInt(y.substring(1)));
-				int len = s.length() + 1;
-
-				System.out.printf("  %%%d = getelementptr inbounds [%d x i8], [%d x i8]* %s, i64 0, i64 0\n", b, len,
-						len, y);
-
-				y = String.format("%%%d", b);
-			}
-			if (z.startsWith("@")) {
-				int c = newLocalReg();
-				String s = st.getString(Integer.parseInt(z.substring(1)));
-				int len = s.length() + 1;
-
-				System.out.printf("  %%%d = getelementptr inbounds [%d x i8], [%d x i8]* %s, i64 0, i64 0\n", c, len,
-						len, z);
-
-				z = String.format("%%%d", c);
-			}
-
-			int a = newLocalReg();
-			x = newLocalReg();
+	// Relational operators: `ipred` for integers, booleans and strcmp's
+	// result, `fpred` for reals
+	private Value compare(int node, String ipred, String fpred) {
+		int l = tree.getChild(node, 0);
+		int r = tree.getChild(node, 1);
+		Value y = visit(l);
+		Value z = visit(r);
 
-			System.out.printf("  %%%d = call i32 @strcmp(i8* %s, i8* %s)\n", a, y, z);
-			// If val = 0, strings are the same
-			System.out.printf("  %%%d = icmp eq i32 %%%d, 0\n", x, a);
+		if (tree.type(r) == INT_TYPE) {
+			return builder.icmp(ipred, y, z);
 
-		} else {
-			System.err.println("Equal type not known!");
-		}
-
-		return String.format("%%%d", x);
-	}
+		} else if (tree.type(r) == REAL_TYPE) {
+			return builder.fcmp(fpred, y, z);
 
-	@Override
-	protected String visitNeq(AST node) {
-		AST l = node.getChild(0);
-		AST r = node.getChild(1);
-		String y = visit(l);
-		String z = visit(r);
-		int x = 0;
-
-		if (r.type == INT_TYPE) {
-			x = newLocalReg();
-			System.out.printf("  %%%d = icmp ne i32 %s, %s\n", x, y, z);
-
-		} else if (r.type == REAL_TYPE) {
-			x = newLocalReg();
-			System.out.printf("  %%%d = fcmp one double %s, %s\n", x, y, z);
-
-		} else if (r.type == BOOL_TYPE) {
-			x = newLocalReg();
-			System.out.printf("  %%%d = icmp ne i1 %s, %s\n", x, y, z);
-
-		} else if (r.type == STR_TYPE) {
-			if (!declares.contains(compPrototype))
-				declares.add(compPrototype);
-
-			if (y.startsWith("@")) {
-				int b = newLocalReg();
-				String s = st.getString(Integer.parseInt(y.substring(1)));
-				int len = s.length() + 1;
-
-				System.out.printf("  %%%d = getelementptr inbounds [%d x i8], [%d x i8]* %s, i64 0, i64 0\n", b, len,
-						len, y);
-
-				y = String.format("%%%d", b);
+		} else if (tree.type(r) == BOOL_TYPE) {
+			if (ipred.equals("eq") || ipred.equals("ne")) {
+				return builder.icmp(ipred, y, z);
 			}
-			if (z.startsWith("@")) {
-				int c = newLocalReg();
-				String s = st.getString(Integer.parseInt(z.substring(1)));
-				int len = s.length() + 1;
-
-				System.out.printf("  %%%d = getelementptr inbounds [%d x i8], [%d x i8]* %s, i64 0, i64 0\n", c, len,
-						len, z);
+			Value convY = builder.zext(y, IRType.I32);
+			Value convZ = builder.zext(z, IRType.I32);
+			return builder.icmp(ipred, convY, convZ);
 
-				z = String.format("%%%d", c);
-			}
+		} else if (tree.type(r) == STR_TYPE) {
+			declare(compPrototype);
 
-			int a = newLocalReg();
-			x = newLocalReg();
+			y = stringPointer(y);
+			z = stringPointer(z);
 
-			System.out.printf("  %%%d = call i32 @strcmp(i8* %s, i8* %s)\n", a, y, z);
-			// // If val != 0, strings are the different
-			System.out.printf("  %%%d = icmp ne i32 %%%d, 0\n", x, a);
+			// Negative, zero or positive as y is before, equal or after z
+			Value a = builder.call(IRType.I32, "strcmp", null, y, z);
+			return builder.icmp(ipred, a, Constant.i32(0));
 
 		} else {
-			System.err.println("Nequal type not known!");
+			throw new IllegalStateException(String.format("Comparison type not known: %s!", tree.type(r)));
 		}
-
-		return String.format("%%%d", x);
 	}
 
 	@Override
-	protected String visitLt(AST node) {
-		AST l = node.getChild(0);
-		AST r = node.getChild(1);
-		String y = visit(l);
-		String z = visit(r);
-		int x = 0;
-
-		if (r.type == INT_TYPE) {
-			x = newLocalReg();
-			System.out.printf("  %%%d = icmp slt i32 %s, %s\n", x, y, z);
-
-		} else if (r.type == REAL_TYPE) {
-			x = newLocalReg();
-			System.out.printf("  %%%d = fcmp olt double %s, %s\n", x, y, z);
-
-		} else if (r.type == BOOL_TYPE) {
-			int convY = newLocalReg();
-			int convZ = newLocalReg();
-			x = newLocalReg();
-			System.out.printf("  %%%d = zext i1 %s to i32\n", convY, y);
-			System.out.printf("  %%%d = zext i1 %s to i32\n", convZ, z);
-			System.out.printf("  %%%d = icmp slt i32 %%%d, %%%d\n", x, convY, convZ);
-
-		} else if (r.type == STR_TYPE) {
-			if (!declares.contains(compPrototype))
-				declares.add(compPrototype);
-
-			if (y.startsWith("@")) {
-				int b = newLocalReg();
-				String s = st.getString(Integer.parseInt(y.substring(1)));
-				int len = s.length() + 1;
-
-				System.out.printf("  %%%d = getelementptr inbounds [%d x i8], [%d x i8]* %s, i64 0, i64 0\n", b, len,
-						len, y);
-
-				y = String.format("%%%d", b);
-			}
-			if (z.startsWith("@")) {
-				int c = newLocalReg();
-				String s = st.getString(Integer.parseInt(z.substring(1)));
-				int len = s.length() + 1;
-
-				System.out.printf("  %%%d = getelementptr inbounds [%d x i8], [%d x i8]* %s, i64 0, i64 0\n", c, len,
-						len, z);
-
-				z = String.format("%%%d", c);
-			}
-
-			int a = newLocalReg();
-			x = newLocalReg();
-
-			System.out.printf("  %%%d = call i32 @strcmp(i8* %s, i8* %s)\n", a, y, z);
-
-			// If val < 0, y is before z
-			System.out.printf("  %%%d = icmp slt i32 %%%d, 0\n", x, a);
-		} else {
-			System.err.println("Lt type not known!");
-		}
-
-		return String.format("%%%d", x);
+	protected Value visitEq(int node) {
+		return compare(node, "eq", "oeq");
 	}
 
 	@Override
-	protected String visitGt(AST node) {
-		AST l = node.getChild(0);
-		AST r = node.getChild(1);
-		String y = visit(l);
-		String z = visit(r);
-		int x = 0;
-
-		if (r.type == INT_TYPE) {
-			x = newLocalReg();
-			System.out.printf("  %%%d = icmp sgt i32 %s, %s\n", x, y, z);
-
-		} else if (r.type == REAL_TYPE) {
-			x = newLocalReg();
-			System.out.printf("  %%%d = fcmp ogt double %s, %s\n", x, y, z);
-
-		} else if (r.type == BOOL_TYPE) {
-			int convY = newLocalReg();
-			int convZ = newLocalReg();
-			x = newLocalReg();
-			System.out.printf("  %%%d = zext i1 %s to i32\n", convY, y);
-			System.out.printf("  %%%d = zext i1 %s to i32\n", convZ, z);
-			System.out.printf("  %%%d = icmp sgt i32 %%%d, %%%d\n", x, convY, convZ);
-
-		} else if (r.type == STR_TYPE) {
-			if (!declares.contains(compPrototype))
-				declares.add(compPrototype);
-
-			if (y.startsWith("@")) {
-				int b = newLocalReg();
-				String s = st.getString(Integer.parseInt(y.substring(1)));
-				int len = s.length() + 1;
-
-				System.out.printf("  %%%d = getelementptr inbounds [%d x i8], [%d x i8]* %s, i64 0, i64 0\n", b, len,
-						len, y);
-
-				y = String.format("%%%d", b);
-			}
-			if (z.startsWith("@")) {
-				int c = newLocalReg();
-				String s = st.getString(Integer.parseInt(z.substring(1)));
-				int len = s.length() + 1;
-
-				System.out.printf("  %%%d = getelementptr inbounds [%d x i8], [%d x i8]* %s, i64 0, i64 0\n", c, len,
-						len, z);
-
-				z = String.format("%%%d", c);
-			}
-
-			int a = newLocalReg();
-			x = newLocalReg();
-
-			System.out.printf("  %%%d = call i32 @strcmp(i8* %s, i8* %s)\n", a, y, z);
-
-			// If val > 0, z is before y
-			System.out.printf("  %%%d = icmp sgt i32 %%%d, 0\n", x, a);
-
-		} else {
-			System.err.println("Nequal type not known!");
-		}
-
-		return String.format("%%%d", x);
+	protected Value visitNeq(int node) {
+		return compare(node, "ne", "one");
 	}
 
 	@Override
-	protected String visitGe(AST node) {
-		AST l = node.getChild(0);
-		AST r = node.getChild(1);
-		String y = visit(l);
-		String z = visit(r);
-		int x = 0;
-
-		if (r.type == INT_TYPE) {
-			x = newLocalReg();
-			System.out.printf("  %%%d = icmp sge i32 %s, %s\n", x, y, z);
-
-		} else if (r.type == REAL_TYPE) {
-			x = newLocalReg();
-			System.out.printf("  %%%d = fcmp oge double %s, %s\n", x, y, z);
-
-		} else if (r.type == BOOL_TYPE) {
-			int convY = newLocalReg();
-			int convZ = newLocalReg();
-			x = newLocalReg();
-			System.out.printf("  %%%d = zext i1 %s to i32\n", convY, y);
-			System.out.printf("  %%%d = zext i1 %s to i32\n", convZ, z);
-			System.out.printf("  %%%d = icmp sge i32 %%%d, %%%d\n", x, convY, convZ);
-
-		} else if (r.type == STR_TYPE) {
-			if (!declares.contains(compPrototype))
-				declares.add(compPrototype);
-
-			if (y.startsWith("@")) {
-				int b = newLocalReg();
-				String s = st.getString(Integer.parseInt(y.substring(1)));
-				int len = s.length() + 1;
-
-				System.out.printf("  %%%d = getelementptr inbounds [%d x i8], [%d x i8]* %s, i64 0, i64 0\n", b, len,
-						len, y);
-
-				y = String.format("%%%d", b);
-			}
-			if (z.startsWith("@")) {
-				int c = newLocalReg();
-				String s = st.getString(Integer.parseInt(z.substring(1)));
-				int len = s.length() + 1;
-
-				System.out.printf("  %%%d = getelementptr inbounds [%d x i8], [%d x i8]* %s, i64 0, i64 0\n", c, len,
-						len, z);
-
-				z = String.format("%%%d", c);
-			}
-
-			int a = newLocalReg();
-			x = newLocalReg();
-
-			System.out.printf("  %%%d = call i32 @strcmp(i8* %s, i8* %s)\n", a, y, z);
-			// // If val >= 0, z is before y
-			System.out.printf("  %%%d = icmp sge i32 %%%d, 0\n", x, a);
-
-		} else {
-			System.err.println("Nequal type not known!");
-		}
-
-		return String.format("%%%d", x);
+	protected Value visitLt(int node) {
+		return compare(node, "slt", "olt");
 	}
 
 	@Override
-	protected String visitLe(AST node) {
-		AST l = node.getChild(0);
-		AST r = node.getChild(1);
-		String y = visit(l);
-		String z = visit(r);
-		int x = 0;
-
-		if (r.type == INT_TYPE) {
-			x = newLocalReg();
-			System.out.printf("  %%%d = icmp sle i32 %s, %s\n", x, y, z);
-
-		} else if (r.type == REAL_TYPE) {
-			x = newLocalReg();
-			System.out.printf("  %%%d = fcmp ole double %s, %s\n", x, y, z);
-
-		} else if (r.type == BOOL_TYPE) {
-			int convY = newLocalReg();
-			int convZ = newLocalReg();
-			x = newLocalReg();
-			System.out.printf("  %%%d = zext i1 %s to i32\n", convY, y);
-			System.out.printf("  %%%d = zext i1 %s to i32\n", convZ, z);
-			System.out.printf("  %%%d = icmp sle i32 %%%d, %%%d\n", x, convY, convZ);
-
-		} else if (r.type == STR_TYPE) {
-			if (!declares.contains(compPrototype))
-				declares.add(compPrototype);
-
-			if (y.startsWith("@")) {
-				int b = newLocalReg();
-				String s = st.getString(Integer.parseInt(y.substring(1)));
-				int len = s.length() + 1;
-
-				System.out.printf("  %%%d = getelementptr inbounds [%d x i8], [%d x i8]* %s, i64 0, i64 0\n", b, len,
-						len, y);
-
-				y = String.format("%%%d", b);
-			}
-			if (z.startsWith("@")) {
-				int c = newLocalReg();
-				String s = st.getString(Integer.parseInt(z.substring(1)));
-				int len = s.length() + 1;
-
-				System.out.printf("  %%%d = getelementptr inbounds [%d x i8], [%d x i8]* %s, i64 0, i64 0\n", c, len,
-						len, z);
-
-				z = String.format("%%%d", c);
-			}
-
-			int a = newLocalReg();
-			x = newLocalReg();
-
-			System.out.printf("  %%%d = call i32 @strcmp(i8* %s, i8* %s)\n", a, y, z);
-			System.out.printf("  %%%d = icmp sle i32 %%%d, 0\n", x, a);
+	protected Value visitGt(int node) {
+		return compare(node, "sgt", "ogt");
+	}
 
-		} else {
-			System.err.println("Nequal type not known!");
-		}
+	@Override
+	protected Value visitGe(int node) {
+		return compare(node, "sge", "oge");
+	}
 
-		return String.format("%%%d", x);
+	@Override
+	protected Value visitLe(int node) {
+		return compare(node, "sle", "ole");
 	}
 
 	@Override
-	protected String visitAnd(AST node) {
+	protected Value visitAnd(int node) {
 		// Not handling INT type
-		AST l = node.getChild(0);
-		AST r = node.getChild(1);
-		String y = visit(l);
-		String z = visit(r);
-		int x = newLocalReg();
-
-		System.out.printf("  %%%d = and i1 %s, %s\n", x, y, z);
-
-		return String.format("%%%d", x);
+		Value y = visit(tree.getChild(node, 0));
+		Value z = visit(tree.getChild(node, 1));
+		return builder.binary(Opcode.AND, y, z);
 	}
 
 	@Override
-	protected String visitOr(AST node) {
+	protected Value visitOr(int node) {
 		// Not handling INT type
-		AST l = node.getChild(0);
-		AST r = node.getChild(1);
-		String y = visit(l);
-		String z = visit(r);
-		int x = newLocalReg();
-
-		System.out.printf("  %%%d = or i1 %s, %s\n", x, y, z);
-
-		return String.format("%%%d", x);
+		Value y = visit(tree.getChild(node, 0));
+		Value z = visit(tree.getChild(node, 1));
+		return builder.binary(Opcode.OR, y, z);
 	}
 
 	@Override
-	protected String visitIf(AST node) {
-		String testReg = visit(node.getChild(0));
-		boolean hasElse = node.getChildrenSize() == 3;
+	protected Value visitIf(int node) {
+		Value testReg = visit(tree.getChild(node, 0));
+		boolean hasElse = tree.getChildrenSize(node) == 3;
 		int ifTrue = newJumpLabel();
 		int ifFalse = 0;
 		if (hasElse)
@@ -622,78 +441,73 @@ public final class CodeGen extends ASTBaseVisitor<String> {
 
 		int cont = newJumpLabel();
 
-		String l1 = String.format("if.false.%d", ifFalse);
-		String l2 = String.format("if.cont.%d", cont);
+		BasicBlock trueBlock = builder.newBlock("if.true." + ifTrue);
+		BasicBlock falseBlock = hasElse ? builder.newBlock("if.false." + ifFalse) : null;
+		BasicBlock contBlock = builder.newBlock("if.cont." + cont);
 
-		System.out.printf("  br i1 %s, label %%if.true.%d, label %%%s\n", testReg, ifTrue, hasElse ? l1 : l2);
+		builder.condBr(testReg, trueBlock, hasElse ? falseBlock : contBlock);
 
-		System.out.printf("\nif.true.%d:\n", ifTrue);
-		visit(node.getChild(1));
-		System.out.printf("  br label %%if.cont.%d\n", cont);
+		builder.positionAt(trueBlock);
+		visit(tree.getChild(node, 1));
+		builder.br(contBlock);
 
-		System.out.printf("\n%s:\n", hasElse ? l1 : l2);
 		if (hasElse) {
-			visit(node.getChild(2));
-			System.out.printf("  br label %%if.cont.%d\n", cont);
-			System.out.printf("\nif.cont.%d:\n", cont);
+			builder.positionAt(falseBlock);
+			visit(tree.getChild(node, 2));
+			builder.br(contBlock);
 		}
 
-		return "";
+		builder.positionAt(contBlock);
+		return null;
 	}
 
 	@Override
-	protected String visitIntVal(AST node) {
-		String val = Integer.toString(node.intData);
-
-		return val;
+	protected Value visitIntVal(int node) {
+		return Constant.i32(tree.intData(node));
 	}
 
 	@Override
-	protected String visitRealVal(AST node) {
-		String val = Float.toString(node.floatData);
-		return val;
+	protected Value visitRealVal(int node) {
+		return Constant.real(tree.floatData(node));
 	}
 
-	// Ideally would return pure string pointer
+	// Pure string constant, see `stringPointer`
 	@Override
-	protected String visitStrVal(AST node) {
-		int index = node.intData;
-
-		return String.format("@%d", index);
+	protected Value visitStrVal(int node) {
+		return strGlobals.get(tree.intData(node));
 	}
 
 	@Override
-	protected String visitCharVal(AST node) {
-		String val = Integer.toString(node.intData);
-
-		return val;
+	protected Value visitCharVal(int node) {
+		return Constant.i8(tree.intData(node));
 	}
 
 	@Override
-	protected String visitBoolVal(AST node) {
-		boolean b;
-		if (node.intData == 0) {
-			b = false;
-		} else {
-			b = true;
-		}
-		String val = Boolean.toString(b);
-		return val;
+	protected Value visitBoolVal(int node) {
+		return Constant.i1(tree.intData(node) != 0);
 	}
 
 	@Override
-	protected String visitFunList(AST node) {
+	protected Value visitFunList(int node) {
 		isFunctionScope = true;
-		for (int i = 0; i < node.getChildrenSize(); i++) {
-			visit(node.getChild(i));
+		for (int child = tree.firstChild(node); child != NIL; child = tree.nextSibling(child)) {
+			FunctionIR function = reuse != null ? reuse.get(tree.intData(child)) : null;
+			if (function != null) {
+				reuse(function);
+			} else {
+				visit(child);
+			}
 		}
 		isFunctionScope = false;
-		return "";
+		return null;
 	}
 
 	@Override
-	protected String visitFunDecl(AST node) {
-		int addr = node.intData;
+	protected Value visitFunDecl(int node) {
+		FunctionEvent event = new FunctionEvent();
+		event.begin();
+
+		int addr = tree.intData(node);
 		String funcName = ft.getName(addr);
 		ArrayList<Type> params = ft.getParameters(addr);
 
@@ -703,289 +517,276 @@ public final class CodeGen extends ASTBaseVisitor<String> {
 
 		resetLocalScope();
 
-		StringBuilder paramsBuilder = new StringBuilder();
+		IRType funcType = ArrayVar.getSingleType(tree.type(node));
+		Function function = new Function(funcName, funcType);
 		for (int i = 1; i <= funcParamsNum; i++) {
-			String paramType = ArrayVar.getSingleType(params.get(i - 1));
-			String paramName = currentVt.getName(i);
-
-			paramsBuilder.append(
-					String.format("%s %%%s, ", paramType, paramName));
-
+			function.addArgument(ArrayVar.getSingleType(params.get(i - 1)), currentVt.getName(i));
 		}
+		startFunction(function, addr);
 
-		String funcType = ArrayVar.getSingleType(node.type);
-
-		String funcParams;
-		if (funcParamsNum > 0) {
-			funcParams = paramsBuilder.substring(0, paramsBuilder.length() - 2);
-		} else {
-			funcParams = "";
-		}
+		visit(tree.getChild(node, 0)); // var_list
+		visit(tree.getChild(node, 1)); // block
 
 		// Every function has at least a parameter and
-		// a return.
-		System.out.printf("\ndefine %s @%s(%s) {\n",
-				funcType,
-				funcName,
-				funcParams);
-
-		visit(node.getChild(0)); // var_list
-		visit(node.getChild(1)); // block
-
-		int ret = newLocalReg();
-
-		System.out.printf("  %%%d = load %s, %s* %%1\n",
-				ret,
-				funcType,
-				funcType);
-		System.out.printf("  ret %s %%%d \n}\n", funcType, ret);
+		// a return, held by the variable with its name.
+		builder.ret(builder.load(slots.get(0)));
+
+		event.end();
+		if (event.shouldCommit()) {
+			event.file = sourceName;
+			event.function = funcName;
+			event.astNodes = subtreeSize(node);
+			event.blocks = function.getBlocks().size();
+			for (BasicBlock block : function.getBlocks()) {
+				event.instructions += block.getInstructions().size();
+			}
+			event.commit();
+		}
+		return null;
+	}
 
-		return "";
+	private int subtreeSize(int node) {
+		int size = 1;
+		for (int child = tree.firstChild(node); child != NIL; child = tree.nextSibling(child)) {
+			size += subtreeSize(child);
+		}
+		return size;
 	}
 
 	@Override
-	protected String visitFunUse(AST node) {
-		String type = ArrayVar.getSingleType(node.type);
+	protected Value visitFunUse(int node) {
+		IRType type = ArrayVar.getSingleType(tree.type(node));
+		String funcName = ft.getName(tree.intData(node));
 
-		String funcName = ft.getName(node.intData);
+		Value[] params = new Value[tree.getChildrenSize(node)];
+		int i = 0;
+		for (int child = tree.firstChild(node); child != NIL; child = tree.nextSibling(child)) {
+			Value param = visit(child);
+			params[i++] = tree.type(child) == STR_TYPE ? stringPointer(param) : param;
+		}
 
-		StringBuilder paramsBuilder = new StringBuilder();
+		return builder.call(type, funcName, null, params);
+	}
 
-		for (int i = 0; i < node.getChildrenSize(); i++) {
-			AST child = node.getChild(i);
-			String param = visit(child);
-			String paramType = ArrayVar.getSingleType(child.type);
-			paramsBuilder.append(String.format("%s %s, ", paramType, param));
-		}
+	// Address of the element, one getelementptr per dimension
+	private Value arrayAddress(int node) {
+		int array = tree.firstChild(node);
+		int addr = tree.intData(array);
+		ArrayVar arr = arrayVarList.get(addr);
 
-		String funcParams;
-		if (funcParamsNum > 0) {
-			funcParams = paramsBuilder.substring(0, paramsBuilder.length() - 2);
-		} else {
-			funcParams = "";
+		Value pointer = slots.get(addr);
+		int index = tree.nextSibling(array);
+		for (int i = 0; i < arr.getDimension(); i++, index = tree.nextSibling(index)) {
+			Value idx = visit(index);
+			pointer = builder.gep(pointer, Constant.i32(0), idx);
 		}
+		return pointer;
+	}
 
-		int x = newLocalReg();
-		System.out.printf("  %%%d = call %s @%s(%s)\n", x, type, funcName, funcParams);
-
-		return String.format("%%%d", x);
+	@Override
+	protected Value visitArrayAcc(int node) {
+		return builder.load(arrayAddress(node));
 	}
 
 	@Override
-	protected String visitArrayAcc(AST node) {
-		AST l = node.getChild(0);
-		int addr = l.intData;
+	protected Value visitMinus(int node) {
+		Value y = visit(tree.getChild(node, 0));
+		Value z = visit(tree.getChild(node, 1));
 
-		// First iteration
-		ArrayVar arr = arrayVarList.get(addr);
-		String arrayType = arr.getInnerArrayType(0);
-		String idx = visit(node.getChild(1));
-		int reg = newLocalReg();
-
-		System.out.printf("  %%%d = getelementptr inbounds %s, %s* %%%d, i32 0, i32 %s\n", reg, arrayType, arrayType,
-				addr + 1, idx);
-
-		for (int i = 1, j = 2; i < arr.getDimension(); i++, j++) {
-			reg = newLocalReg();
-			arrayType = arr.getInnerArrayType(i);
-			idx = visit(node.getChild(j));
-			System.out.printf("  %%%d = getelementptr inbounds %s, %s* %%%d, i32 0, i32 %s\n", reg, arrayType,
-					arrayType, reg - 1, idx);
+		if (tree.type(node) == INT_TYPE) {
+			return builder.binary(Opcode.SUB, y, z);
+
+		} else if (tree.type(node) == REAL_TYPE) {
+			return builder.binary(Opcode.FSUB, y, z);
+
+		} else {
+			throw new IllegalStateException("This type is impossible to sub");
 		}
-		String loadReg = visit(l);
-		System.out.printf("%%%d\n", reg);
-		return loadReg;
 	}
 
 	@Override
-	protected String visitMinus(AST node) {
-		String y = visit(node.getChild(0));
-		String z = visit(node.getChild(1));
-		int x = newLocalReg();
+	protected Value visitOver(int node) {
+		Value y = visit(tree.getChild(node, 0));
+		Value z = visit(tree.getChild(node, 1));
 
-		if (node.type == INT_TYPE) {
-			System.out.printf("  %%%d = sub i32 %s, %s\n", x, y, z);
+		if (tree.type(node) == INT_TYPE) {
+			return builder.binary(Opcode.SDIV, y, z);
 
-		} else if (node.type == REAL_TYPE) {
-			System.out.printf("  %%%d = fsub double %s, %s\n", x, y, z);
+		} else if (tree.type(node) == REAL_TYPE) {
+			return builder.binary(Opcode.FDIV, y, z);
 
 		} else {
-			System.err.println("This type is impossible to sub");
+			throw new IllegalStateException("This type is impossible to divide");
 		}
-
-		return String.format("%%%d", x);
 	}
 
+	// `div` is an OVER_NODE of integers, only `mod` has its own kind
 	@Override
-	protected String visitOver(AST node) {
-		String y = visit(node.getChild(0));
-		String z = visit(node.getChild(1));
-		int x = newLocalReg();
+	protected Value visitMod(int node) {
+		Value y = visit(tree.getChild(node, 0));
+		Value z = visit(tree.getChild(node, 1));
 
-		if (node.type == INT_TYPE) {
-			System.out.printf("  %%%d = sdiv i32 %s, %s\n", x, y, z);
-
-		} else if (node.type == REAL_TYPE) {
-			System.out.printf("  %%%d = fdiv double %s, %s\n", x, y, z);
+		if (tree.type(node) == INT_TYPE) {
+			return builder.binary(Opcode.SREM, y, z);
 
 		} else {
-			System.err.println("This type is impossible to divide");
+			throw new IllegalStateException("This type is impossible to mod");
 		}
-
-		return String.format("%%%d", x);
 	}
 
 	@Override
-	protected String visitPlus(AST node) {
-		String y = visit(node.getChild(0));
-		String z = visit(node.getChild(1));
-		int x = 0;
-
-		if (node.type == INT_TYPE) {
-			x = newLocalReg();
-			System.out.printf("  %%%d = add i32 %s, %s\n", x, y, z);
-		} else if (node.type == REAL_TYPE) {
-			x = newLocalReg();
-			System.out.printf("  %%%d = fadd double %s, %s\n", x, y, z);
-		} else if (node.type == STR_TYPE) {
+	protected Value visitPlus(int node) {
+		Value y = visit(tree.getChild(node, 0));
+		Value z = visit(tree.getChild(node, 1));
+
+		if (tree.type(node) == INT_TYPE) {
+			return builder.binary(Opcode.ADD, y, z);
+		} else if (tree.type(node) == REAL_TYPE) {
+			return builder.binary(Opcode.FADD, y, z);
+		} else if (tree.type(node) == STR_TYPE) {
 			// Requires LLVM memory handling to avoid degmentation faults
 			// could be handled with @strcat
+			throw new IllegalStateException("String concatenation is not supported!");
 		} else {
-			System.err.println("This type is impossible to add");
+			throw new IllegalStateException("This type is impossible to add");
 		}
-
-		return String.format("%%%d", x);
 	}
 
 	@Override
-	protected String visitTimes(AST node) {
-		String y = visit(node.getChild(0));
-		String z = visit(node.getChild(1));
-		int x = newLocalReg();
+	protected Value visitTimes(int node) {
+		Value y = visit(tree.getChild(node, 0));
+		Value z = visit(tree.getChild(node, 1));
 
-		if (node.type == INT_TYPE) {
-			System.out.printf("  %%%d = mul i32 %s, %s\n", x, y, z);
+		if (tree.type(node) == INT_TYPE) {
+			return builder.binary(Opcode.MUL, y, z);
 
-		} else if (node.type == REAL_TYPE) {
-			System.out.printf("  %%%d = fmul double %s, %s\n", x, y, z);
+		} else if (tree.type(node) == REAL_TYPE) {
+			return builder.binary(Opcode.FMUL, y, z);
 
 		} else {
-			System.err.println("This type is impossible to mul");
+			throw new IllegalStateException("This type is impossible to mul");
 		}
-
-		return String.format("%%%d", x);
 	}
 
 	@Override
-	protected String visitRead(AST node) {
-		if (!declares.contains(scanPrototype))
-			declares.add(scanPrototype);
-
-		for (int k = 0; k < node.getChildrenSize(); k++) {
-			AST var = node.getChild(k);
-			int addr = var.intData;
-			int x = 0;
-
-			if (var.type == INT_TYPE) {
-				if (!printStrs.containsKey(Print.INT)) {
-					int i = newGlobalReg();
-					Print p = Print.INT.setIndex(i);
-					printStrs.put(Print.INT, p);
-				}
-				int a = printStrs.get(Print.INT).index;
-				int pointer = newLocalReg();
-				x = newLocalReg();
-
-				System.out.printf("  %%%d = getelementptr inbounds [3 x i8], [3 x i8]* @%d, i64 0, i64 0\n", pointer,
-						a);
-				System.out.printf("  %%%d = call i32 (i8*, ...) @__isoc99_scanf(i8* %%%d, i32* %%%d)\n", x, pointer,
-						addr + 1);
-
-			} else if (var.type == REAL_TYPE) {
-				if (!printStrs.containsKey(Print.REAL)) {
-					int i = newGlobalReg();
-					Print p = Print.REAL.setIndex(i);
-					printStrs.put(Print.REAL, p);
-				}
-				int a = printStrs.get(Print.REAL).index;
-				int pointer = newLocalReg();
-				x = newLocalReg();
-
-				System.out.printf("  %%%d = getelementptr inbounds [4 x i8], [4 x i8]* @%d, i64 0, i64 0\n", pointer,
-						a);
-				System.out.printf("  %%%d = call i32 (i8*, ...) @__isoc99_scanf(i8* %%%d, double* %%%d)\n", x, pointer,
-						addr + 1);
-
-			} else if (var.type == CHAR_TYPE) {
-				if (!printStrs.containsKey(Print.CHAR)) {
-					int i = newGlobalReg();
-					Print p = Print.CHAR.setIndex(i);
-					printStrs.put(Print.CHAR, p);
-				}
-				int a = printStrs.get(Print.CHAR).index;
-				int pointer = newLocalReg();
-				x = newLocalReg();
-
-				System.out.printf("  %%%d = getelementptr inbounds [3 x i8], [3 x i8]* @%d, i64 0, i64 0\n", pointer,
-						a);
-				System.out.printf("  %%%d = call i32 (i8*, ...) @__isoc99_scanf(i8* %%%d, i8* %%%d)\n", x, pointer,
-						addr + 1);
-			} else if (var.type == STR_TYPE) {
+	protected Value visitRead(int node) {
+		declare(scanPrototype);
+
+		for (int var = tree.firstChild(node); var != NIL; var = tree.nextSibling(var)) {
+			Print print;
+
+			if (tree.type(var) == INT_TYPE) {
+				print = Print.INT;
+			} else if (tree.type(var) == REAL_TYPE) {
+				print = Print.REAL;
+			} else if (tree.type(var) == CHAR_TYPE) {
+				print = Print.CHAR;
+			} else if (tree.type(var) == STR_TYPE) {
 				// Requires LLVM memory handling to avoid degmentation faults
 				// could be handled with @strcat
+				continue;
 			} else {
-				System.err.printf("This type is impossible to read: %s\n", var.type);
+				throw new IllegalStateException(String.format("This type is impossible to read: %s", tree.type(var)));
 			}
+
+			Value pointer = firstChar(getPrintString(print));
+			Value target = tree.kind(var) == ARRAY_ACCESS ? arrayAddress(var) : slots.get(tree.intData(var));
+			builder.call(IRType.I32, "__isoc99_scanf", varargSignature, pointer, target);
 		}
-		return "";
+		return null;
 	}
 
 	@Override
-	protected String visitRepeat(AST node) {
+	protected Value visitRepeat(int node) {
 		int test = newJumpLabel();
 		int repeat = newJumpLabel();
 		int cont = newJumpLabel();
-		System.out.printf("  br label %%while.test.%d\n", test);
 
-		System.out.printf("\nwhile.test.%d:\n", test);
-		String testReg = visit(node.getChild(0));
-		System.out.printf("  br i1 %s, label %%while.repeat.%d, label %%while.cont.%d\n", testReg, repeat, cont);
+		BasicBlock testBlock = builder.newBlock("while.test." + test);
+		BasicBlock repeatBlock = builder.newBlock("while.repeat." + repeat);
+		BasicBlock contBlock = builder.newBlock("while.cont." + cont);
+
+		BasicBlock preheader = builder.getBlock();
+		builder.br(testBlock);
+
+		builder.positionAt(testBlock);
+		Value testReg = visit(tree.getChild(node, 0));
+		builder.condBr(testReg, repeatBlock, contBlock);
 
-		System.out.printf("\nwhile.repeat.%d:\n", repeat);
-		visit(node.getChild(1));
-		System.out.printf("  br label %%while.test.%d\n", test);
+		builder.positionAt(repeatBlock);
+		visit(tree.getChild(node, 1));
+		builder.br(testBlock);
 
-		System.out.printf("\nwhile.cont.%d:\n", cont);
-		return "";
+		builder.positionAt(contBlock);
+		currentFunction.addLoop(new Loop(preheader, testBlock, contBlock));
+		return null;
 	}
 
+	// Rotated: the bounds are evaluated once and checked before entering,
+	// and the latch compares the control variable to the final value before
+	// stepping it. The trip count (final - initial + 1) is then known on
+	// entry, and the step can't overflow. The body reads the control
+	// variable from a phi; its slot gets the final value on exit.
 	@Override
-	protected String visitVarDecl(AST node) {
-		int x = newLocalReg();
-		if (node.type == INT_TYPE) {
-			System.out.printf("  %%%d = alloca i32\n", x);
+	protected Value visitFor(int node) {
+		int control = tree.getChild(node, 0);
+		int initial = tree.nextSibling(control);
+		int last = tree.nextSibling(initial);
+		int statement = tree.nextSibling(last);
+		int addr = tree.intData(control);
+		boolean up = tree.intData(node) > 0;
 
-		} else if (node.type == REAL_TYPE) {
-			System.out.printf("  %%%d = alloca double\n", x);
+		Value start = visit(initial);
+		Value end = visit(last);
 
-		} else if (node.type == BOOL_TYPE) {
-			System.out.printf("  %%%d = alloca i1\n", x);
+		int body = newJumpLabel();
+		int latch = newJumpLabel();
+		int exit = newJumpLabel();
+		int cont = newJumpLabel();
 
-		} else if (node.type == CHAR_TYPE) {
-			System.out.printf("  %%%d = alloca i8\n", x);
+		BasicBlock bodyBlock = builder.newBlock("for.body." + body);
+		BasicBlock latchBlock = builder.newBlock("for.latch." + latch);
+		BasicBlock exitBlock = builder.newBlock("for.exit." + exit);
+		BasicBlock contBlock = builder.newBlock("for.cont." + cont);
 
-		} else if (node.type == STR_TYPE) {
-			System.out.printf("  %%%d = alloca i8*\n", x);
+		BasicBlock preheader = builder.getBlock();
+		Value enter = builder.icmp(up ? "sle" : "sge", start, end);
+		builder.condBr(enter, bodyBlock, contBlock);
 
-		} else if (node.type == ARRAY_TYPE) {
-			int idx = node.intData;
-			Type contentType = currentVt.getContentType(idx);
-			ArrayList<Integer[]> arrRanges = currentVt.getRanges(idx);
+		builder.positionAt(bodyBlock);
+		Instruction i = builder.phi(IRType.I32);
+		controls.put(addr, i);
+		visit(statement);
+		controls.remove(addr);
+		builder.br(latchBlock);
+
+		builder.positionAt(latchBlock);
+		Value done = builder.icmp("eq", i, end);
+		Value next = builder.binary(up ? Opcode.ADD : Opcode.SUB, i, Constant.i32(1));
+		builder.condBr(done, exitBlock, bodyBlock);
+
+		i.getOperands().add(start);
+		i.getBlocks().add(preheader);
+		i.getOperands().add(next);
+		i.getBlocks().add(latchBlock);
+
+		builder.positionAt(exitBlock);
+		builder.store(i, slots.get(addr));
+		builder.br(contBlock);
+
+		builder.positionAt(contBlock);
+		currentFunction.addLoop(new Loop(preheader, bodyBlock, exitBlock));
+		return null;
+	}
 
-			StringBuilder sb = new StringBuilder();
-			Formatter formatter = new Formatter(sb);
+	@Override
+	protected Value visitVarDecl(int node) {
+		int idx = tree.intData(node);
+		Value x;
 
-			formatter.format("  %%%d = alloca ", x);
+		if (tree.type(node) == ARRAY_TYPE) {
+			Type contentType = currentVt.getContentType(idx);
+			ArrayList<Integer[]> arrRanges = currentVt.getRanges(idx);
 
 			ArrayVar arr = new ArrayVar(contentType, arrRanges.size());
 			for (Integer[] range : arrRanges) {
@@ -993,258 +794,126 @@ public final class CodeGen extends ASTBaseVisitor<String> {
 			}
 			arrayVarList.put(idx, arr);
 
-			formatter.format("%s", arrayVarList.get(idx).getInnerArrayType(0));
+			x = builder.alloca(arr.getInnerArrayType(0));
+
+		} else if (tree.type(node) == INT_TYPE || tree.type(node) == REAL_TYPE || tree.type(node) == BOOL_TYPE
+				|| tree.type(node) == CHAR_TYPE || tree.type(node) == STR_TYPE) {
+			x = builder.alloca(ArrayVar.getSingleType(tree.type(node)));
 
-			System.out.println(formatter.toString());
-			formatter.close();
 		} else {
-			System.err.println("Missing VarDecl!");
+			throw new IllegalStateException("Missing VarDecl!");
 		}
+		slots.put(idx, x);
 
-		if (isFunctionScope) {
-			// Return variable or local variables
-			if (x == 1 || node.intData > funcParamsNum) {
-				return "";
-			}
-			String paramName = currentVt.getName(x - 1);
-			if (node.type == INT_TYPE) {
-				System.out.printf("  store i32 %%%s, i32* %%%d\n", paramName, x);
-
-			} else if (node.type == REAL_TYPE) {
-				System.out.printf("  store double %%%s, double* %%%d\n", paramName, x);
-
-			} else if (node.type == BOOL_TYPE) {
-				System.out.printf("  store i1 %%%s, i1* %%%d\n", paramName, x);
-
-			} else if (node.type == CHAR_TYPE) {
-				System.out.printf("  store i8 %%%s, i8* %%%d\n", paramName, x);
-
-			} else {
-				System.out.printf("  store i8* %%%s, i8** %%%d\n", paramName, x);
-			}
+		// Parameters are copied to their slot; the return variable (index 0)
+		// and local variables start uninitialized
+		if (isFunctionScope && idx >= 1 && idx <= funcParamsNum) {
+			builder.store(currentFunction.getArguments().get(idx - 1), x);
 		}
 
-		return "";
+		return null;
 	}
 
 	@Override
-	protected String visitVarList(AST node) {
-		for (int i = 0; i < node.getChildrenSize(); i++) {
-			visit(node.getChild(i));
+	protected Value visitVarList(int node) {
+		for (int child = tree.firstChild(node); child != NIL; child = tree.nextSibling(child)) {
+			visit(child);
 		}
-		return "";
+		return null;
 	}
 
 	@Override
-	protected String visitVarUse(AST node) {
-		int x = newLocalReg();
-		int addr = node.intData;
-
-		if (node.type == INT_TYPE) {
-			System.out.printf("  %%%d = load i32, i32* %%%d\n", x, addr + 1);
-
-		} else if (node.type == REAL_TYPE) {
-			System.out.printf("  %%%d = load double, double* %%%d\n", x, addr + 1);
+	protected Value visitVarUse(int node) {
+		int addr = tree.intData(node);
 
-		} else if (node.type == BOOL_TYPE) {
-			System.out.printf("  %%%d = load i1, i1* %%%d\n", x, addr + 1);
-
-		} else if (node.type == CHAR_TYPE) {
-			System.out.printf("  %%%d = load i8, i8* %%%d\n", x, addr + 1);
-
-		} else if (node.type == STR_TYPE) {
-			System.out.printf("  %%%d = load i8*, i8** %%%d\n", x, addr + 1);
-
-		} else if (node.type == ARRAY_TYPE) {
-			Type contentType = currentVt.getContentType(addr);
-			String type = ArrayVar.getSingleType(contentType);
-			System.out.printf("  %%%d = load %s, %s* ", x, type, type);
+		Value control = controls.get(addr);
+		if (control != null) {
+			return control;
+		}
 
-		} else {
-			System.err.println("Missing VarUse!");
+		if (tree.type(node) == ARRAY_TYPE) {
+			throw new IllegalStateException("Whole array used as a value!");
 		}
 
-		return String.format("%%%d", x);
+		return builder.load(slots.get(addr));
 	}
 
 	@Override
-	protected String visitWrite(AST node) {
-		if (!declares.contains(printPrototype))
-			declares.add(printPrototype);
-
-		for (int k = 0; k < node.getChildrenSize(); k++) {
-			AST expr = node.getChild(k);
-			String x = visit(expr);
-
-			if (expr.type == STR_TYPE) {
-				int pointer = newLocalReg();
-				int result = newLocalReg();
-
-				if (x.startsWith("@")) {
-					String s = st.getString(Integer.parseInt(x.substring(1)));
-					int len = s.length() + 1;
-
-					System.out.printf("  %%%d = getelementptr inbounds [%d x i8], [%d x i8]* %s, i64 0, i64 0\n",
-							pointer,
-							len, len, x);
-					System.out.printf("  %%%d = call i32 (i8*, ...) @printf(i8* %%%d)\n", result,
-							pointer);
+	protected Value visitWrite(int node) {
+		declare(printPrototype);
+
+		for (int expr = tree.firstChild(node); expr != NIL; expr = tree.nextSibling(expr)) {
+			Value x = visit(expr);
+
+			if (tree.type(expr) == STR_TYPE) {
+				if (x instanceof Global) {
+					builder.call(IRType.I32, "printf", varargSignature, firstChar((Global) x));
 				} else {
 					// If there isn't the printf string to print STR type
 					// ("%s\00"), adds it.
-					if (!printStrs.containsKey(Print.STR)) {
-						int i = newGlobalReg();
-						Print p = Print.STR.setIndex(i);
-						printStrs.put(Print.STR, p);
-					}
-					int a = printStrs.get(Print.STR).index;
-
-					System.out.printf("  %%%d = getelementptr inbounds [3 x i8], [3 x i8]* @%d, i64 0, i64 0\n",
-							pointer,
-							a);
-					System.out.printf("  %%%d = call i32 (i8*, ...) @printf(i8* %%%d, i8* %s)\n", result, pointer, x);
-				}
-
-			} else if (expr.type == REAL_TYPE) {
-				int pointer = newLocalReg();
-				int result = newLocalReg();
-
-				if (!printStrs.containsKey(Print.REAL)) {
-					int i = newGlobalReg();
-					Print p = Print.REAL.setIndex(i);
-					printStrs.put(Print.REAL, p);
-				}
-				int a = printStrs.get(Print.REAL).index;
-
-				System.out.printf("  %%%d = getelementptr inbounds [4 x i8], [4 x i8]* @%d, i64 0, i64 0\n", pointer,
-						a);
-				System.out.printf("  %%%d = call i32 (i8*, ...) @printf(i8* %%%d, double %s)\n", result, pointer, x);
-
-			} else if (expr.type == INT_TYPE) {
-				int pointer = newLocalReg();
-				int result = newLocalReg();
-
-				if (!printStrs.containsKey(Print.INT)) {
-					int i = newGlobalReg();
-					Print p = Print.INT.setIndex(i);
-					printStrs.put(Print.INT, p);
+					Value pointer = firstChar(getPrintString(Print.STR));
+					builder.call(IRType.I32, "printf", varargSignature, pointer, x);
 				}
-				int a = printStrs.get(Print.INT).index;
-
-				System.out.printf("  %%%d = getelementptr inbounds [3 x i8], [3 x i8]* @%d, i64 0, i64 0\n", pointer,
-						a);
-				System.out.printf("  %%%d = call i32 (i8*, ...) @printf(i8* %%%d, i32 %s)\n", result, pointer, x);
 
-			} else if (expr.type == BOOL_TYPE) {
-				int pointer = newLocalReg();
-				int result = newLocalReg();
-
-				// Printing as INT, as printf doesn't have bool
-				if (!printStrs.containsKey(Print.INT)) {
-					int i = newGlobalReg();
-					Print p = Print.INT.setIndex(i);
-					printStrs.put(Print.INT, p);
-				}
-				int a = printStrs.get(Print.INT).index;
+			} else if (tree.type(expr) == REAL_TYPE) {
+				Value pointer = firstChar(getPrintString(Print.REAL));
+				builder.call(IRType.I32, "printf", varargSignature, pointer, x);
 
-				System.out.printf("  %%%d = getelementptr inbounds [3 x i8], [3 x i8]* @%d, i64 0, i64 0\n", pointer,
-						a);
-				System.out.printf("  %%%d = call i32 (i8*, ...) @printf(i8* %%%d, i1 %s)\n", result, pointer, x);
-
-			} else if (expr.type == CHAR_TYPE) {
-				int pointer = newLocalReg();
-				int result = newLocalReg();
-
-				if (!printStrs.containsKey(Print.CHAR)) {
-					int i = newGlobalReg();
-					Print p = Print.CHAR.setIndex(i);
-					printStrs.put(Print.CHAR, p);
-				}
-				int a = printStrs.get(Print.CHAR).index;
+			} else if (tree.type(expr) == INT_TYPE || tree.type(expr) == BOOL_TYPE) {
+				// Printing BOOL as INT, as printf doesn't have bool
+				Value pointer = firstChar(getPrintString(Print.INT));
+				builder.call(IRType.I32, "printf", varargSignature, pointer, x);
 
-				System.out.printf("  %%%d = getelementptr inbounds [3 x i8], [3 x i8]* @%d, i64 0, i64 0\n", pointer,
-						a);
-				System.out.printf("  %%%d = call i32 (i8*, ...) @printf(i8* %%%d, i8 %s)\n", result, pointer, x);
+			} else if (tree.type(expr) == CHAR_TYPE) {
+				Value pointer = firstChar(getPrintString(Print.CHAR));
+				builder.call(IRType.I32, "printf", varargSignature, pointer, x);
 
 			} else {
-				System.err.printf("Invalid type: %s!\n", expr.type.toString());
-				System.exit(1);
+				throw new IllegalStateException(String.format("Invalid type: %s!", tree.type(expr)));
 			}
 		}
 
-		return "";
+		return null;
 	}
 
 	@Override
-	protected String visitC2S(AST node) {
-		String i = visit(node.getChild(0));
-		int a = newLocalReg();
-		int b = newLocalReg();
-		System.out.printf("  %%%d = alloca [2 x i8]\n", a);
-		System.out.printf("  %%%d = getelementptr inbounds [2 x i8], [2 x i8]* %%%d, i64 0, i64 0\n", b, a);
-		System.out.printf("  store i8 %s, i8* %%%d\n", i, b);
-
-		return String.format("%%%d", b);
-	}
-
-	// @Override
-	// protected Integer visitS2C(AST node) {
-	// }
-
-	// @Override
-	// protected Integer visitB2I(AST node) {
-	// int x = visit(node.getChild(0));
-	// // Nothing else to do, a bool already is stored as an int.
-	// return x;
-	// }
-
-	// @Override
-	// protected Integer visitB2R(AST node) {
-	// int i = visit(node.getChild(0));
-	// int r = newFloatReg();
-	// emit(WIDf, r, i);
-	// return r;
-	// }
-
-	// @Override
-	// protected Integer visitB2S(AST node) {
-	// int x = newIntReg();
-	// int y = visit(node.getChild(0));
-	// emit(B2Ss, x, y);
-	// return x;
-	// }
+	protected Value visitC2S(int node) {
+		Value i = visit(tree.getChild(node, 0));
+		Value a = builder.alloca(IRType.array(2, IRType.I8));
+		Value b = builder.gep(a, Constant.i64(0), Constant.i64(0));
+		builder.store(i, b);
+
+		return b;
+	}
 
 	@Override
-	protected String visitI2R(AST node) {
-		String i = visit(node.getChild(0));
-		int r = newLocalReg();
-		System.out.printf("  %%%d = sitofp i32 %s to double\n", r, i);
-
-		return String.format("%%%d", r);
-	}
-
-	// @Override
-	// protected String visitI2S(AST node) {
-	// String i = visit(node.getChild(0));
-	// int r = newLocalReg();
-	// System.out.printf(" %%%d = sitofp i32 %s to double\n", r, i);
-
-	// return String.format("%%%d", r);
-	// }
-
-	// @Override
-	// protected Integer visitR2S(AST node) {
-	// int x = newIntReg();
-	// int y = visit(node.getChild(0));
-	// emit(R2Ss, x, y);
-	// return x;
-	// }
+	protected Value visitI2R(int node) {
+		Value i = visit(tree.getChild(node, 0));
+		return builder.sitofp(i, IRType.DOUBLE);
+	}
+
+	// A function generated in incremental mode, with what it needs from the
+	// module; `index` is -1 for main
+	private static final class Generated {
+		final Function function;
+		final int index;
+		final List<Print> prints = new ArrayList<>();
+		final List<String> declarations = new ArrayList<>();
+		int start;
+		int end;
+
+		Generated(Function function, int index) {
+			this.function = function;
+			this.index = index;
+		}
+	}
+
 }
 
 // Class to handle de use of array type variables
 class ArrayVar {
 	public Integer dimension;
-	private String type;
+	private IRType type;
 	private ArrayList<Integer> lengths;
 
 	ArrayVar(Type contentType, Integer dimension) {
@@ -1253,18 +922,18 @@ class ArrayVar {
 		type = getSingleType(contentType);
 	}
 
-	public static String getSingleType(Type contentType) {
-		String type = "";
+	public static IRType getSingleType(Type contentType) {
+		IRType type = IRType.VOID;
 		if (contentType == INT_TYPE) {
-			type = "i32";
+			type = IRType.I32;
 		} else if (contentType == REAL_TYPE) {
-			type = "double";
+			type = IRType.DOUBLE;
 		} else if (contentType == BOOL_TYPE) {
-			type = "i1";
+			type = IRType.I1;
 		} else if (contentType == CHAR_TYPE) {
-			type = "i8";
+			type = IRType.I8;
 		} else if (contentType == STR_TYPE) {
-			type = "i8*";
+			type = IRType.pointer(IRType.I8);
 		}
 		return type;
 	}
@@ -1277,22 +946,16 @@ class ArrayVar {
 		lengths.add(len);
 	}
 
-	public String getInnerArrayType(int dim) {
-		StringBuilder sb = new StringBuilder();
-		Formatter formatter = new Formatter(sb);
-
+	// Type of the array indexed from dimension `dim` on
+	public IRType getInnerArrayType(int dim) {
 		if (dim >= dimension)
 			dim = dimension - 1;
 
-		for (int i = dim; i < dimension; i++) {
-			formatter.format("[%d x ", lengths.get(i));
+		IRType inner = type;
+		for (int i = dimension - 1; i >= dim; i--) {
+			inner = IRType.array(lengths.get(i), inner);
 		}
-
-		formatter.format("%s", type);
-		formatter.format("]".repeat(dimension - dim));
-
-		String s = formatter.toString();
-		formatter.close();
-		return s;
+		return inner;
 	}
-}
\ No newline at end of file
+
+}
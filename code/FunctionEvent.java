@@ -0,0 +1,34 @@
+package code;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Generating the IR of one function (`visitFunDecl`), before the module-wide
+// IR passes. A nested function's event lies inside its parent's. Recorded
+// when JFR is on.
+@Name("pascal.Function")
+@Label("Function CodeGen")
+@Category({ "Pascal Compiler" })
+@Description("IR generation for one function")
+@StackTrace(false)
+final class FunctionEvent extends Event {
+
+	@Label("File")
+	String file;
+
+	@Label("Function")
+	String function;
+
+	@Label("AST Nodes")
+	int astNodes;
+
+	@Label("IR Instructions")
+	int instructions;
+
+	@Label("Basic Blocks")
+	int blocks;
+}
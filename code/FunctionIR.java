@@ -0,0 +1,71 @@
+package code;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import ir.Global;
+
+// The printed IR of one function, kept to be pasted into a later module
+// instead of generating the function again. Global constant numbers depend on
+// the rest of the program, so they are kept symbolically: `@$s<n>` is string
+// literal `n` and `@$p<n>` the `Print` format of ordinal `n`.
+public final class FunctionIR {
+
+	// Function names can't start with a digit, so this only matches globals
+	private static final Pattern GLOBAL = Pattern.compile("@(\\d+)\\b");
+
+	final String text;
+
+	// Formats and prototypes the function uses, in the order CodeGen first
+	// asked for them, so that replaying them numbers the module the same way
+	final List<Print> prints;
+	final List<String> declarations;
+
+	FunctionIR(String text, List<Print> prints, List<String> declarations) {
+		this.text = text;
+		this.prints = prints;
+		this.declarations = declarations;
+	}
+
+	// Turns the printed `text` of a function into its symbolic form
+	static FunctionIR of(String text, List<Global> strings, Map<Print, Global> formats,
+			List<Print> prints, List<String> declarations) {
+		Matcher matcher = GLOBAL.matcher(text);
+		StringBuilder builder = new StringBuilder(text.length());
+		while (matcher.find()) {
+			int index = Integer.parseInt(matcher.group(1));
+			String placeholder = null;
+			if (index < strings.size() && strings.get(index).index == index) {
+				placeholder = "@$s" + index;
+			} else {
+				for (Map.Entry<Print, Global> format : formats.entrySet()) {
+					if (format.getValue().index == index) {
+						placeholder = "@$p" + format.getKey().ordinal();
+					}
+				}
+			}
+			matcher.appendReplacement(builder, Matcher.quoteReplacement(placeholder));
+		}
+		matcher.appendTail(builder);
+		return new FunctionIR(builder.toString(), prints, declarations);
+	}
+
+	// `text` with the placeholders replaced by the current module's globals
+	String resolve(List<Global> strings, Map<Print, Global> formats) {
+		StringBuilder builder = new StringBuilder(text.length());
+		int from = 0;
+		for (int at = text.indexOf("@$"); at != -1; at = text.indexOf("@$", from)) {
+			int end = at + 3;
+			while (end < text.length() && Character.isDigit(text.charAt(end))) end++;
+			int index = Integer.parseInt(text, at + 3, end, 10);
+			Global global = text.charAt(at + 2) == 's'
+					? strings.get(index)
+					: formats.get(Print.values()[index]);
+			builder.append(text, from, at).append(global.ref());
+			from = end;
+		}
+		return builder.append(text, from, text.length()).toString();
+	}
+}
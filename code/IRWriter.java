@@ -0,0 +1,125 @@
+package code;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+// Sink for everything the compiler emits. Text is encoded to UTF-8 straight
+// into a large buffer which subclasses drain with `write`. Not synchronized:
+// every compilation owns its writer.
+public abstract class IRWriter implements Closeable {
+
+	public static final int DEFAULT_CAPACITY = 1 << 20;
+
+	protected final ByteBuffer buffer;
+
+	// Drained so far
+	private long drained;
+
+	protected IRWriter(ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	// Drains `bytes` (flipped, ready to be read) to the destination.
+	protected abstract void write(ByteBuffer bytes) throws IOException;
+
+	public IRWriter print(String s) {
+		int length = s.length();
+		for (int i = 0; i < length; i++) {
+			char c = s.charAt(i);
+			if (c < 0x80) {
+				if (!buffer.hasRemaining()) drain();
+				buffer.put((byte) c);
+			} else {
+				int codePoint = s.codePointAt(i);
+				if (Character.isSupplementaryCodePoint(codePoint)) i++;
+				putCodePoint(codePoint);
+			}
+		}
+		return this;
+	}
+
+	public IRWriter print(char c) {
+		if (c < 0x80) {
+			if (!buffer.hasRemaining()) drain();
+			buffer.put((byte) c);
+		} else {
+			putCodePoint(c);
+		}
+		return this;
+	}
+
+	// Decimal digits written directly, without an intermediate String.
+	public IRWriter print(int i) {
+		if (buffer.remaining() < 11) drain();
+		if (i == Integer.MIN_VALUE) {
+			return print("-2147483648");
+		}
+		if (i < 0) {
+			buffer.put((byte) '-');
+			i = -i;
+		}
+		int start = buffer.position();
+		do {
+			buffer.put((byte) ('0' + i % 10));
+			i /= 10;
+		} while (i != 0);
+		int end = buffer.position() - 1;
+		while (start < end) {
+			byte b = buffer.get(start);
+			buffer.put(start++, buffer.get(end));
+			buffer.put(end--, b);
+		}
+		return this;
+	}
+
+	public IRWriter println(String s) {
+		return print(s).print('\n');
+	}
+
+	public IRWriter println() {
+		return print('\n');
+	}
+
+	public void flush() {
+		drain();
+	}
+
+	// Everything printed so far, drained or not
+	public long getBytesWritten() {
+		return drained + buffer.position();
+	}
+
+	@Override
+	public void close() throws IOException {
+		flush();
+	}
+
+	private void putCodePoint(int codePoint) {
+		if (buffer.remaining() < 4) drain();
+		if (codePoint < 0x800) {
+			buffer.put((byte) (0xc0 | (codePoint >> 6)));
+		} else if (codePoint < 0x10000) {
+			buffer.put((byte) (0xe0 | (codePoint >> 12)));
+			buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+		} else {
+			buffer.put((byte) (0xf0 | (codePoint >> 18)));
+			buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+			buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+		}
+		buffer.put((byte) (0x80 | (codePoint & 0x3f)));
+	}
+
+	private void drain() {
+		buffer.flip();
+		drained += buffer.remaining();
+		try {
+			if (buffer.hasRemaining()) write(buffer);
+		} catch (IOException exception) {
+			throw new UncheckedIOException(exception);
+		} finally {
+			buffer.clear();
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package code;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Keeps the whole output in memory, for the daemon and for tools that
+// post-process the IR.
+public final class MemoryIRWriter extends IRWriter {
+
+	private byte[] bytes;
+	private int size;
+
+	public MemoryIRWriter() {
+		super(ByteBuffer.allocate(1 << 16));
+		this.bytes = new byte[1 << 16];
+		this.size = 0;
+	}
+
+	@Override
+	protected void write(ByteBuffer buffer) {
+		int length = buffer.remaining();
+		if (size + length > bytes.length) {
+			bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + length));
+		}
+		buffer.get(bytes, size, length);
+		size += length;
+	}
+
+	public byte[] toByteArray() {
+		flush();
+		return Arrays.copyOf(bytes, size);
+	}
+
+	public int size() {
+		flush();
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		flush();
+		return new String(bytes, 0, size, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,39 @@
+package code;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+// Buffered writer over any OutputStream, e.g. stdout.
+public final class StreamIRWriter extends IRWriter {
+
+	private final OutputStream out;
+
+	public StreamIRWriter(OutputStream out) {
+		this(out, DEFAULT_CAPACITY);
+	}
+
+	public StreamIRWriter(OutputStream out, int capacity) {
+		super(ByteBuffer.allocate(capacity));
+		this.out = out;
+	}
+
+	// Writes to file descriptor 1, bypassing the synchronized System.out.
+	public static StreamIRWriter stdout() {
+		return new StreamIRWriter(new FileOutputStream(FileDescriptor.out));
+	}
+
+	@Override
+	protected void write(ByteBuffer bytes) throws IOException {
+		out.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+		out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		super.close();
+		out.close();
+	}
+}
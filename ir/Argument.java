@@ -0,0 +1,16 @@
+package ir;
+
+public final class Argument extends Value {
+
+	public final String name;
+
+	public Argument(IRType type, String name) {
+		super(type);
+		this.name = name;
+	}
+
+	@Override
+	public String ref() {
+		return "%" + this.name;
+	}
+}
@@ -0,0 +1,44 @@
+package ir;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class BasicBlock {
+
+	// null for the entry block, which is printed without a label
+	public final String label;
+	private final List<Instruction> instructions;
+
+	BasicBlock(String label) {
+		this.label = label;
+		this.instructions = new ArrayList<>();
+	}
+
+	public List<Instruction> getInstructions() {
+		return this.instructions;
+	}
+
+	public void add(Instruction instruction) {
+		instruction.parent = this;
+		this.instructions.add(instruction);
+	}
+
+	public void add(int idx, Instruction instruction) {
+		instruction.parent = this;
+		this.instructions.add(idx, instruction);
+	}
+
+	public boolean isTerminated() {
+		return !instructions.isEmpty()
+				&& Opcode.isTerminator(instructions.get(instructions.size() - 1).opcode);
+	}
+
+	public Instruction getTerminator() {
+		return isTerminated() ? instructions.get(instructions.size() - 1) : null;
+	}
+
+	// The unlabelled entry block is implicitly `%0`
+	public String ref() {
+		return this.label == null ? "%0" : "%" + this.label;
+	}
+}
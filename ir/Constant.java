@@ -0,0 +1,60 @@
+package ir;
+
+public final class Constant extends Value {
+
+	private final String text;
+
+	private Constant(IRType type, String text) {
+		super(type);
+		this.text = text;
+	}
+
+	public static Constant i32(int value) {
+		return new Constant(IRType.I32, Integer.toString(value));
+	}
+
+	public static Constant i64(int value) {
+		return new Constant(IRType.I64, Integer.toString(value));
+	}
+
+	public static Constant i8(int value) {
+		return new Constant(IRType.I8, Integer.toString(value));
+	}
+
+	public static Constant i1(boolean value) {
+		return new Constant(IRType.I1, Boolean.toString(value));
+	}
+
+	// Reals are single precision in the AST and double in the IR
+	public static Constant real(float value) {
+		return new Constant(IRType.DOUBLE, Float.toString(value));
+	}
+
+	public static Constant undef(IRType type) {
+		return new Constant(type, "undef");
+	}
+
+	// The value of an i32 constant, null for anything else
+	public Integer getInt() {
+		if (!this.type.equals(IRType.I32) || this.text.equals("undef"))
+			return null;
+		return Integer.valueOf(this.text);
+	}
+
+	@Override
+	public String ref() {
+		return this.text;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return other instanceof Constant
+				&& ((Constant) other).type.equals(this.type)
+				&& ((Constant) other).text.equals(this.text);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.type.hashCode() * 31 + this.text.hashCode();
+	}
+}
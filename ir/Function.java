@@ -0,0 +1,63 @@
+package ir;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class Function {
+
+	public final String name;
+	public final IRType returnType;
+	private final List<Argument> arguments;
+	private final List<BasicBlock> blocks;
+
+	// Inner loops come before the loops containing them
+	private final List<Loop> loops;
+
+	public Function(String name, IRType returnType) {
+		this.name = name;
+		this.returnType = returnType;
+		this.arguments = new ArrayList<>();
+		this.blocks = new ArrayList<>();
+		this.loops = new ArrayList<>();
+	}
+
+	public Argument addArgument(IRType type, String name) {
+		Argument argument = new Argument(type, name);
+		this.arguments.add(argument);
+		return argument;
+	}
+
+	public List<Argument> getArguments() {
+		return this.arguments;
+	}
+
+	public List<BasicBlock> getBlocks() {
+		return this.blocks;
+	}
+
+	public void addLoop(Loop loop) {
+		this.loops.add(loop);
+	}
+
+	public List<Loop> getLoops() {
+		return this.loops;
+	}
+
+	public BasicBlock getEntry() {
+		return this.blocks.get(0);
+	}
+
+	// Numbers every value-producing instruction in textual order, as LLVM
+	// expects. An unlabelled entry block takes `%0` itself.
+	void number() {
+		int next = 0;
+		for (BasicBlock block : blocks) {
+			if (block.label == null) next++;
+			for (Instruction instruction : block.getInstructions()) {
+				if (instruction.type != IRType.VOID) {
+					instruction.number = next++;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package ir;
+
+// Private constant byte string `@index = private constant [n x i8] c"..\00"`,
+// used for literals and printf/scanf formats.
+public final class Global extends Value {
+
+	public final int index;
+	public final String text;
+
+	public Global(int index, String text) {
+		super(IRType.pointer(IRType.array(text.length() + 1, IRType.I8)));
+		this.index = index;
+		this.text = text;
+	}
+
+	@Override
+	public String ref() {
+		return "@" + this.index;
+	}
+}
@@ -0,0 +1,119 @@
+package ir;
+
+// Appends instructions at the end of the current block, LLVM IRBuilder style.
+public final class IRBuilder {
+
+	private Function function;
+	private BasicBlock block;
+
+	// Starts `function` with an empty, unlabelled entry block.
+	public void startFunction(Function function) {
+		this.function = function;
+		this.block = new BasicBlock(null);
+		function.getBlocks().add(this.block);
+	}
+
+	// A block is only placed in the function once code is emitted into it,
+	// so blocks are laid out in the order they are started.
+	public BasicBlock newBlock(String label) {
+		return new BasicBlock(label);
+	}
+
+	public void positionAt(BasicBlock block) {
+		if (!function.getBlocks().contains(block))
+			function.getBlocks().add(block);
+		this.block = block;
+	}
+
+	public Function getFunction() {
+		return this.function;
+	}
+
+	public BasicBlock getBlock() {
+		return this.block;
+	}
+
+	private Instruction append(Instruction instruction) {
+		this.block.add(instruction);
+		return instruction;
+	}
+
+	public Instruction alloca(IRType type) {
+		return append(new Instruction(Opcode.ALLOCA, IRType.pointer(type)).setElementType(type));
+	}
+
+	public Instruction load(Value pointer) {
+		return append(new Instruction(Opcode.LOAD, pointer.type.getElement(), pointer));
+	}
+
+	public Instruction store(Value value, Value pointer) {
+		return append(new Instruction(Opcode.STORE, IRType.VOID, value, pointer));
+	}
+
+	// The first index steps over `pointer`, the others into nested arrays.
+	public Instruction gep(Value pointer, Value... indices) {
+		IRType source = pointer.type.getElement();
+		IRType result = source;
+		for (int i = 1; i < indices.length; i++) {
+			result = result.getElement();
+		}
+
+		Value[] operands = new Value[indices.length + 1];
+		operands[0] = pointer;
+		System.arraycopy(indices, 0, operands, 1, indices.length);
+
+		return append(new Instruction(Opcode.GEP, IRType.pointer(result), operands).setElementType(source));
+	}
+
+	public Instruction binary(Opcode opcode, Value left, Value right) {
+		return append(new Instruction(opcode, left.type, left, right));
+	}
+
+	public Instruction icmp(String predicate, Value left, Value right) {
+		return append(new Instruction(Opcode.ICMP, IRType.I1, left, right).setPredicate(predicate));
+	}
+
+	public Instruction fcmp(String predicate, Value left, Value right) {
+		return append(new Instruction(Opcode.FCMP, IRType.I1, left, right).setPredicate(predicate));
+	}
+
+	public Instruction zext(Value value, IRType type) {
+		return append(new Instruction(Opcode.ZEXT, type, value));
+	}
+
+	public Instruction sitofp(Value value, IRType type) {
+		return append(new Instruction(Opcode.SITOFP, type, value));
+	}
+
+	// `signature` is only needed for varargs callees, e.g. "i32 (i8*, ...)"
+	public Instruction call(IRType returnType, String callee, String signature, Value... arguments) {
+		return append(new Instruction(Opcode.CALL, returnType, arguments).setCallee(callee, signature));
+	}
+
+	// Without incoming values: the caller adds them to the operands and
+	// blocks once the predecessors exist
+	public Instruction phi(IRType type) {
+		return append(new Instruction(Opcode.PHI, type));
+	}
+
+	public Instruction br(BasicBlock target) {
+		Instruction instruction = new Instruction(Opcode.BR, IRType.VOID);
+		instruction.getBlocks().add(target);
+		return append(instruction);
+	}
+
+	public Instruction condBr(Value condition, BasicBlock ifTrue, BasicBlock ifFalse) {
+		Instruction instruction = new Instruction(Opcode.BR, IRType.VOID, condition);
+		instruction.getBlocks().add(ifTrue);
+		instruction.getBlocks().add(ifFalse);
+		return append(instruction);
+	}
+
+	public Instruction ret(Value value) {
+		return append(new Instruction(Opcode.RET, IRType.VOID, value));
+	}
+
+	public Instruction retVoid() {
+		return append(new Instruction(Opcode.RET, IRType.VOID));
+	}
+}
@@ -0,0 +1,155 @@
+package ir;
+
+import code.IRWriter;
+
+// Serializes a Module as textual LLVM IR.
+public final class IRPrinter {
+
+	private final IRWriter out;
+
+	public IRPrinter(IRWriter out) {
+		this.out = out;
+	}
+
+	public void print(Module module) {
+		for (Function function : module.getFunctions()) {
+			printFunction(function);
+		}
+		printConstants(module);
+	}
+
+	// What follows the functions: constant strings and external prototypes
+	public void printConstants(Module module) {
+		out.println();
+		for (Global global : module.getGlobals()) {
+			out.print("@").print(global.index)
+					.print(" = private constant [").print(global.text.length() + 1)
+					.print(" x i8] c\"").print(global.text).println("\\00\"");
+		}
+
+		out.println();
+		for (String declaration : module.getDeclarations()) {
+			out.println(declaration);
+		}
+	}
+
+	public void printFunction(Function function) {
+		function.number();
+
+		out.print("\ndefine ").print(function.returnType.toString()).print(" @").print(function.name).print("(");
+		for (int i = 0; i < function.getArguments().size(); i++) {
+			if (i > 0) out.print(", ");
+			operand(function.getArguments().get(i));
+		}
+		out.println(") {");
+
+		for (BasicBlock block : function.getBlocks()) {
+			if (block.label != null) {
+				out.print("\n").print(block.label).println(":");
+			}
+			for (Instruction instruction : block.getInstructions()) {
+				printInstruction(instruction);
+			}
+		}
+		out.println("}");
+	}
+
+	private void printInstruction(Instruction instruction) {
+		out.print("  ");
+		if (instruction.type != IRType.VOID) {
+			out.print(instruction.ref()).print(" = ");
+		}
+		out.print(instruction.opcode.toString()).print(" ");
+
+		switch (instruction.opcode) {
+			case ALLOCA:
+				out.print(instruction.getElementType().toString());
+				break;
+
+			case LOAD:
+				out.print(instruction.type.toString()).print(", ");
+				operand(instruction.getOperand(0));
+				break;
+
+			case GEP:
+				out.print(instruction.getElementType().toString());
+				for (Value operand : instruction.getOperands()) {
+					out.print(", ");
+					operand(operand);
+				}
+				break;
+
+			case ICMP:
+			case FCMP:
+				out.print(instruction.getPredicate()).print(" ");
+				operand(instruction.getOperand(0));
+				out.print(", ").print(instruction.getOperand(1).ref());
+				break;
+
+			case ZEXT:
+			case SITOFP:
+				operand(instruction.getOperand(0));
+				out.print(" to ").print(instruction.type.toString());
+				break;
+
+			case CALL:
+				// Variadic callees are called through their full signature
+				if (instruction.getSignature() != null) {
+					out.print(instruction.getSignature()).print(" ");
+				} else {
+					out.print(instruction.type.toString()).print(" ");
+				}
+				out.print("@").print(instruction.getCallee()).print("(");
+				for (int i = 0; i < instruction.getOperandsSize(); i++) {
+					if (i > 0) out.print(", ");
+					operand(instruction.getOperand(i));
+				}
+				out.print(")");
+				break;
+
+			case PHI:
+				out.print(instruction.type.toString());
+				for (int i = 0; i < instruction.getOperandsSize(); i++) {
+					out.print(i > 0 ? ", [ " : " [ ").print(instruction.getOperand(i).ref())
+							.print(", ").print(instruction.getBlocks().get(i).ref()).print(" ]");
+				}
+				break;
+
+			case BR:
+				if (instruction.getOperandsSize() == 1) {
+					operand(instruction.getOperand(0));
+					out.print(", label ").print(instruction.getBlocks().get(0).ref())
+							.print(", label ").print(instruction.getBlocks().get(1).ref());
+				} else {
+					out.print("label ").print(instruction.getBlocks().get(0).ref());
+				}
+				break;
+
+			case RET:
+				if (instruction.getOperandsSize() == 0) {
+					out.print("void");
+				} else {
+					operand(instruction.getOperand(0));
+				}
+				break;
+
+			default:
+				// store and the binary operators
+				if (Opcode.isBinary(instruction.opcode)) {
+					operand(instruction.getOperand(0));
+					out.print(", ").print(instruction.getOperand(1).ref());
+				} else {
+					operand(instruction.getOperand(0));
+					out.print(", ");
+					operand(instruction.getOperand(1));
+				}
+				break;
+		}
+		out.println();
+	}
+
+	// `type ref`, e.g. `i32 %3`
+	private void operand(Value value) {
+		out.print(value.type.toString()).print(" ").print(value.ref());
+	}
+}
@@ -0,0 +1,71 @@
+package ir;
+
+// LLVM types used by the generated code: void, integers, double, pointers
+// and (nested) arrays. Two types are equal when they spell the same.
+public final class IRType {
+
+	private enum Shape { SCALAR, POINTER, ARRAY }
+
+	public static final IRType VOID = new IRType("void");
+	public static final IRType I1 = new IRType("i1");
+	public static final IRType I8 = new IRType("i8");
+	public static final IRType I32 = new IRType("i32");
+	public static final IRType I64 = new IRType("i64");
+	public static final IRType DOUBLE = new IRType("double");
+
+	private final String name;
+	private final Shape shape;
+	private final IRType element;
+	private final int length;
+
+	private IRType(String name) {
+		this(name, Shape.SCALAR, null, 0);
+	}
+
+	private IRType(String name, Shape shape, IRType element, int length) {
+		this.name = name;
+		this.shape = shape;
+		this.element = element;
+		this.length = length;
+	}
+
+	public static IRType pointer(IRType element) {
+		return new IRType(element.name + "*", Shape.POINTER, element, 0);
+	}
+
+	public static IRType array(int length, IRType element) {
+		return new IRType("[" + length + " x " + element.name + "]", Shape.ARRAY, element, length);
+	}
+
+	public boolean isPointer() {
+		return this.shape == Shape.POINTER;
+	}
+
+	public boolean isArray() {
+		return this.shape == Shape.ARRAY;
+	}
+
+	// Pointee of a pointer, component of an array.
+	public IRType getElement() {
+		return this.element;
+	}
+
+	public int getLength() {
+		return this.length;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return other instanceof IRType && ((IRType) other).name.equals(this.name);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.name.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return this.name;
+	}
+}
@@ -0,0 +1,111 @@
+package ir;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// One LLVM instruction. Instructions producing a value are numbered (`%n`)
+// when the function is printed, so passes may freely add, move and remove
+// them in between.
+public final class Instruction extends Value {
+
+	public final Opcode opcode;
+	private final List<Value> operands;
+
+	// Branch targets, or the incoming blocks of a phi (one per operand)
+	private final List<BasicBlock> blocks;
+
+	// icmp/fcmp predicate
+	private String predicate;
+
+	// alloca: allocated type, getelementptr: source element type
+	private IRType elementType;
+
+	// call: callee name and, for varargs functions, its signature
+	private String callee;
+	private String signature;
+
+	BasicBlock parent;
+	int number;
+
+	Instruction(Opcode opcode, IRType type, Value... operands) {
+		super(type);
+		this.opcode = opcode;
+		this.operands = new ArrayList<>(Arrays.asList(operands));
+		this.blocks = new ArrayList<>();
+	}
+
+	public int getOperandsSize() {
+		return this.operands.size();
+	}
+
+	public Value getOperand(int idx) {
+		return this.operands.get(idx);
+	}
+
+	public void setOperand(int idx, Value value) {
+		this.operands.set(idx, value);
+	}
+
+	public List<Value> getOperands() {
+		return this.operands;
+	}
+
+	public List<BasicBlock> getBlocks() {
+		return this.blocks;
+	}
+
+	public String getPredicate() {
+		return this.predicate;
+	}
+
+	Instruction setPredicate(String predicate) {
+		this.predicate = predicate;
+		return this;
+	}
+
+	public IRType getElementType() {
+		return this.elementType;
+	}
+
+	Instruction setElementType(IRType elementType) {
+		this.elementType = elementType;
+		return this;
+	}
+
+	public String getCallee() {
+		return this.callee;
+	}
+
+	public String getSignature() {
+		return this.signature;
+	}
+
+	Instruction setCallee(String callee, String signature) {
+		this.callee = callee;
+		this.signature = signature;
+		return this;
+	}
+
+	public BasicBlock getParent() {
+		return this.parent;
+	}
+
+	// The alloca `pointer` is derived from, or null if unknown
+	static Value base(Value pointer) {
+		while (pointer instanceof Instruction) {
+			Instruction instruction = (Instruction) pointer;
+			if (instruction.opcode == Opcode.ALLOCA)
+				return instruction;
+			if (instruction.opcode != Opcode.GEP)
+				return null;
+			pointer = instruction.getOperand(0);
+		}
+		return null;
+	}
+
+	@Override
+	public String ref() {
+		return "%" + this.number;
+	}
+}
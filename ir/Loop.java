@@ -0,0 +1,27 @@
+package ir;
+
+import java.util.List;
+
+// A while or for loop as CodeGen lays it out. The preheader is the block that
+// branches to the header (while.test.N, for.body.N) on entry, and the loop is
+// every block placed from the header up to, not including, its exit
+// (while.cont.N, for.exit.N). A while preheader always enters the loop, but a
+// for preheader ends in the entry guard and may skip straight to for.cont.N,
+// so code placed there is speculative.
+public final class Loop {
+
+	public final BasicBlock preheader;
+	public final BasicBlock header;
+	public final BasicBlock exit;
+
+	public Loop(BasicBlock preheader, BasicBlock header, BasicBlock exit) {
+		this.preheader = preheader;
+		this.header = header;
+		this.exit = exit;
+	}
+
+	public List<BasicBlock> getBlocks(Function function) {
+		List<BasicBlock> blocks = function.getBlocks();
+		return blocks.subList(blocks.indexOf(header), blocks.indexOf(exit));
+	}
+}
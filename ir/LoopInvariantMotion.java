@@ -0,0 +1,114 @@
+package ir;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Moves instructions computing the same value on every iteration of a loop to
+// its preheader, so they run once before while.test.N (or for.body.N). Inner
+// loops go first, so their preheader's new instructions may leave the outer
+// loop as well.
+//
+// An instruction is invariant when its operands are, and it is either pure
+// or loads a variable the loop never assigns: no store to that alloca (or to
+// any element of that array) and no call receiving its address. Hoisted code
+// may run when the loop body would not, so nothing that can trap moves:
+// divisions stay, and only whole variables are loaded, never array elements.
+// Array element addresses (getelementptr) do move. A for loop makes this a
+// must: its preheader ends in the entry guard, so even what for.body.N
+// computes on every pass runs before the loop knows it will be entered.
+public final class LoopInvariantMotion {
+
+	private final Function function;
+
+	public LoopInvariantMotion(Function function) {
+		this.function = function;
+	}
+
+	public static void run(Module module) {
+		for (Function function : module.getFunctions()) {
+			new LoopInvariantMotion(function).run();
+		}
+	}
+
+	public void run() {
+		for (Loop loop : function.getLoops()) {
+			hoist(loop);
+		}
+	}
+
+	private void hoist(Loop loop) {
+		List<BasicBlock> blocks = loop.getBlocks(function);
+
+		Set<Instruction> inLoop = new HashSet<>();
+		Set<Value> assigned = new HashSet<>();
+		boolean unknownStore = false;
+		for (BasicBlock block : blocks) {
+			for (Instruction instruction : block.getInstructions()) {
+				inLoop.add(instruction);
+
+				if (instruction.opcode == Opcode.STORE) {
+					Value base = Instruction.base(instruction.getOperand(1));
+					if (base == null)
+						unknownStore = true;
+					assigned.add(base);
+
+				} else if (instruction.opcode == Opcode.CALL) {
+					// e.g. read(x) hands &x to scanf
+					for (Value argument : instruction.getOperands()) {
+						Value base = Instruction.base(argument);
+						if (base != null)
+							assigned.add(base);
+					}
+				}
+			}
+		}
+
+		List<Instruction> hoisted = new ArrayList<>();
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (BasicBlock block : blocks) {
+				List<Instruction> instructions = block.getInstructions();
+				for (int i = 0; i < instructions.size(); i++) {
+					Instruction instruction = instructions.get(i);
+					if (!isInvariant(instruction, inLoop, assigned, unknownStore))
+						continue;
+
+					instructions.remove(i--);
+					inLoop.remove(instruction);
+					hoisted.add(instruction);
+					changed = true;
+				}
+			}
+		}
+
+		// Before the preheader's branch to the header, in the order found
+		List<Instruction> preheader = loop.preheader.getInstructions();
+		int at = preheader.size() - 1;
+		for (Instruction instruction : hoisted) {
+			loop.preheader.add(at++, instruction);
+		}
+	}
+
+	private static boolean isInvariant(Instruction instruction, Set<Instruction> inLoop,
+			Set<Value> assigned, boolean unknownStore) {
+
+		for (Value operand : instruction.getOperands()) {
+			if (operand instanceof Instruction && inLoop.contains(operand))
+				return false;
+		}
+
+		if (instruction.opcode == Opcode.LOAD) {
+			Value pointer = instruction.getOperand(0);
+			return pointer instanceof Instruction
+					&& ((Instruction) pointer).opcode == Opcode.ALLOCA
+					&& !unknownStore
+					&& !assigned.contains(pointer);
+		}
+
+		return Opcode.isPure(instruction.opcode)
+				&& instruction.opcode != Opcode.SDIV && instruction.opcode != Opcode.SREM;
+	}
+}
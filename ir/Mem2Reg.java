@@ -0,0 +1,230 @@
+package ir;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Promotes scalar stack slots to SSA registers, like LLVM's mem2reg. A slot
+// qualifies when it is only ever loaded from and stored to; arrays and slots
+// whose address escapes (e.g. to scanf) stay in memory.
+//
+// Uses the on-the-fly construction of Braun et al., "Simple and Efficient
+// Construction of Static Single Assignment Form": the CFG is complete by the
+// time this runs, so every block is sealed and phis are only created where
+// control flow joins (the if.cont and while.test blocks).
+public final class Mem2Reg {
+
+	private final Function function;
+
+	private final Map<BasicBlock, List<BasicBlock>> predecessors;
+
+	// Last value stored to each slot in a block
+	private final Map<BasicBlock, Map<Value, Value>> blockDefs;
+
+	// Value of each slot on entry to a block
+	private final Map<BasicBlock, Map<Value, Value>> entryDefs;
+
+	// Removed loads and trivial phis, and what replaces them
+	private final Map<Value, Value> replaced;
+
+	private final List<Instruction> phis;
+
+	public Mem2Reg(Function function) {
+		this.function = function;
+		this.predecessors = new HashMap<>();
+		this.blockDefs = new HashMap<>();
+		this.entryDefs = new HashMap<>();
+		this.replaced = new HashMap<>();
+		this.phis = new ArrayList<>();
+	}
+
+	public static void run(Module module) {
+		for (Function function : module.getFunctions()) {
+			new Mem2Reg(function).run();
+		}
+	}
+
+	public void run() {
+		Set<Value> slots = promotable();
+		if (slots.isEmpty())
+			return;
+
+		for (BasicBlock block : function.getBlocks()) {
+			predecessors.put(block, new ArrayList<>());
+		}
+		for (BasicBlock block : function.getBlocks()) {
+			Instruction terminator = block.getTerminator();
+			if (terminator == null)
+				continue;
+			for (BasicBlock successor : terminator.getBlocks()) {
+				predecessors.get(successor).add(block);
+			}
+		}
+
+		for (BasicBlock block : function.getBlocks()) {
+			Map<Value, Value> defs = new HashMap<>();
+			for (Instruction instruction : block.getInstructions()) {
+				if (instruction.opcode == Opcode.STORE && slots.contains(instruction.getOperand(1))) {
+					defs.put(instruction.getOperand(1), instruction.getOperand(0));
+				}
+			}
+			blockDefs.put(block, defs);
+		}
+
+		// Resolve loads in program order within each block; loads reaching
+		// into predecessors are answered by `readAtEntry`.
+		for (BasicBlock block : function.getBlocks()) {
+			Map<Value, Value> current = new HashMap<>();
+			// Phis may be added to this very block while walking it
+			for (Instruction instruction : new ArrayList<>(block.getInstructions())) {
+				if (instruction.opcode == Opcode.LOAD && slots.contains(instruction.getOperand(0))) {
+					Value slot = instruction.getOperand(0);
+					Value value = current.get(slot);
+					if (value == null)
+						value = readAtEntry(slot, block);
+					replaced.put(instruction, value);
+
+				} else if (instruction.opcode == Opcode.STORE && slots.contains(instruction.getOperand(1))) {
+					current.put(instruction.getOperand(1), instruction.getOperand(0));
+				}
+			}
+		}
+
+		removeTrivialPhis();
+
+		// Drop the promoted memory traffic and rewrite every use
+		for (BasicBlock block : function.getBlocks()) {
+			List<Instruction> kept = new ArrayList<>();
+			for (Instruction instruction : block.getInstructions()) {
+				if (replaced.containsKey(instruction)
+						|| (instruction.opcode == Opcode.ALLOCA && slots.contains(instruction))
+						|| (instruction.opcode == Opcode.STORE && slots.contains(instruction.getOperand(1)))) {
+					continue;
+				}
+				for (int i = 0; i < instruction.getOperandsSize(); i++) {
+					instruction.setOperand(i, resolve(instruction.getOperand(i)));
+				}
+				kept.add(instruction);
+			}
+			block.getInstructions().clear();
+			for (Instruction instruction : kept) {
+				block.add(instruction);
+			}
+		}
+	}
+
+	// Scalar allocas used only as the address of loads and stores
+	private Set<Value> promotable() {
+		Set<Value> slots = new HashSet<>();
+		for (Instruction instruction : function.getEntry().getInstructions()) {
+			if (instruction.opcode == Opcode.ALLOCA && !instruction.getElementType().isArray()) {
+				slots.add(instruction);
+			}
+		}
+
+		for (BasicBlock block : function.getBlocks()) {
+			for (Instruction instruction : block.getInstructions()) {
+				for (int i = 0; i < instruction.getOperandsSize(); i++) {
+					Value operand = instruction.getOperand(i);
+					boolean isAddress = (instruction.opcode == Opcode.LOAD && i == 0)
+							|| (instruction.opcode == Opcode.STORE && i == 1);
+					if (!isAddress)
+						slots.remove(operand);
+				}
+			}
+		}
+		return slots;
+	}
+
+	private Value readAtEnd(Value slot, BasicBlock block) {
+		Value value = blockDefs.get(block).get(slot);
+		return value != null ? value : readAtEntry(slot, block);
+	}
+
+	private Value readAtEntry(Value slot, BasicBlock block) {
+		Map<Value, Value> defs = entryDefs.computeIfAbsent(block, b -> new HashMap<>());
+		Value value = defs.get(slot);
+		if (value != null)
+			return value;
+
+		List<BasicBlock> preds = predecessors.get(block);
+		IRType type = slot.type.getElement();
+
+		if (preds.isEmpty()) {
+			// Read before any assignment
+			value = Constant.undef(type);
+			defs.put(slot, value);
+
+		} else if (preds.size() == 1) {
+			value = readAtEnd(slot, preds.get(0));
+			defs.put(slot, value);
+
+		} else {
+			// Registered before the operands are looked up, so loops find it
+			Instruction phi = new Instruction(Opcode.PHI, type);
+			block.add(phiCount(block), phi);
+			phis.add(phi);
+			defs.put(slot, phi);
+
+			for (BasicBlock pred : preds) {
+				phi.getOperands().add(readAtEnd(slot, pred));
+				phi.getBlocks().add(pred);
+			}
+			value = phi;
+		}
+		return value;
+	}
+
+	private static int phiCount(BasicBlock block) {
+		int count = 0;
+		for (Instruction instruction : block.getInstructions()) {
+			if (instruction.opcode != Opcode.PHI)
+				break;
+			count++;
+		}
+		return count;
+	}
+
+	// A phi whose operands are all the same value (or itself) is that value.
+	// Removing one may make others trivial, so repeat until nothing changes.
+	private void removeTrivialPhis() {
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (Instruction phi : phis) {
+				if (replaced.containsKey(phi))
+					continue;
+
+				Value same = null;
+				boolean trivial = true;
+				for (Value operand : phi.getOperands()) {
+					Value value = resolve(operand);
+					if (value == phi || value.equals(same))
+						continue;
+					if (same != null) {
+						trivial = false;
+						break;
+					}
+					same = value;
+				}
+
+				if (trivial) {
+					replaced.put(phi, same != null ? same : Constant.undef(phi.type));
+					changed = true;
+				}
+			}
+		}
+	}
+
+	private Value resolve(Value value) {
+		Value next = replaced.get(value);
+		while (next != null) {
+			value = next;
+			next = replaced.get(value);
+		}
+		return value;
+	}
+}
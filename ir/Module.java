@@ -0,0 +1,47 @@
+package ir;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// A whole compiled program: functions (main last), constant strings and the
+// external functions they call.
+public final class Module {
+
+	private final List<Function> functions;
+	private final List<Global> globals;
+	private final List<String> declarations;
+
+	public Module() {
+		this.functions = new ArrayList<>();
+		this.globals = new ArrayList<>();
+		this.declarations = new ArrayList<>();
+	}
+
+	public void addFunction(Function function) {
+		this.functions.add(function);
+	}
+
+	public List<Function> getFunctions() {
+		return this.functions;
+	}
+
+	public Global addGlobal(int index, String text) {
+		Global global = new Global(index, text);
+		this.globals.add(global);
+		return global;
+	}
+
+	public List<Global> getGlobals() {
+		return this.globals;
+	}
+
+	// External prototype, e.g. `declare i32 @printf(i8*, ...)`, added once.
+	public void declare(String prototype) {
+		if (!this.declarations.contains(prototype))
+			this.declarations.add(prototype);
+	}
+
+	public List<String> getDeclarations() {
+		return this.declarations;
+	}
+}
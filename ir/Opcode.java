@@ -0,0 +1,164 @@
+package ir;
+
+public enum Opcode {
+	ALLOCA {
+		public String toString() {
+			return "alloca";
+		}
+	},
+	LOAD {
+		public String toString() {
+			return "load";
+		}
+	},
+	STORE {
+		public String toString() {
+			return "store";
+		}
+	},
+	GEP {
+		public String toString() {
+			return "getelementptr inbounds";
+		}
+	},
+	ADD {
+		public String toString() {
+			return "add";
+		}
+	},
+	SUB {
+		public String toString() {
+			return "sub";
+		}
+	},
+	MUL {
+		public String toString() {
+			return "mul";
+		}
+	},
+	SDIV {
+		public String toString() {
+			return "sdiv";
+		}
+	},
+	SREM {
+		public String toString() {
+			return "srem";
+		}
+	},
+	FADD {
+		public String toString() {
+			return "fadd";
+		}
+	},
+	FSUB {
+		public String toString() {
+			return "fsub";
+		}
+	},
+	FMUL {
+		public String toString() {
+			return "fmul";
+		}
+	},
+	FDIV {
+		public String toString() {
+			return "fdiv";
+		}
+	},
+	AND {
+		public String toString() {
+			return "and";
+		}
+	},
+	OR {
+		public String toString() {
+			return "or";
+		}
+	},
+	ICMP {
+		public String toString() {
+			return "icmp";
+		}
+	},
+	FCMP {
+		public String toString() {
+			return "fcmp";
+		}
+	},
+	ZEXT {
+		public String toString() {
+			return "zext";
+		}
+	},
+	SITOFP {
+		public String toString() {
+			return "sitofp";
+		}
+	},
+	CALL {
+		public String toString() {
+			return "call";
+		}
+	},
+	PHI {
+		public String toString() {
+			return "phi";
+		}
+	},
+	BR {
+		public String toString() {
+			return "br";
+		}
+	},
+	RET {
+		public String toString() {
+			return "ret";
+		}
+	};
+
+	public static boolean isTerminator(Opcode opcode) {
+		switch (opcode) {
+			case BR:
+			case RET:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	// Two operands, one result of the same type.
+	public static boolean isBinary(Opcode opcode) {
+		switch (opcode) {
+			case ADD:
+			case SUB:
+			case MUL:
+			case SDIV:
+			case SREM:
+			case FADD:
+			case FSUB:
+			case FMUL:
+			case FDIV:
+			case AND:
+			case OR:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	// The result depends only on the operands, and computing it twice is the
+	// same as computing it once. Division may trap, but only the first time.
+	public static boolean isPure(Opcode opcode) {
+		switch (opcode) {
+			case GEP:
+			case ICMP:
+			case FCMP:
+			case ZEXT:
+			case SITOFP:
+				return true;
+			default:
+				return isBinary(opcode);
+		}
+	}
+}
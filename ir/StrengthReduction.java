@@ -0,0 +1,157 @@
+package ir;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Induction variable strength reduction for array indexing, on SSA form.
+//
+// A basic induction variable is an i32 phi in a loop header whose value
+// coming around the loop is itself plus a constant step, as mem2reg makes of
+// `i := i + 1` in a while body, and CodeGen of a for loop's control variable.
+// An element address `getelementptr base, 0, i` with `base` computed outside
+// the loop is then replaced by a pointer that starts at `base[init]` in the
+// preheader and moves `step` elements each time the induction variable does,
+// so the loop no longer indexes from the base.
+public final class StrengthReduction {
+
+	private final Function function;
+
+	public StrengthReduction(Function function) {
+		this.function = function;
+	}
+
+	public static void run(Module module) {
+		for (Function function : module.getFunctions()) {
+			new StrengthReduction(function).run();
+		}
+	}
+
+	public void run() {
+		for (Loop loop : function.getLoops()) {
+			reduce(loop);
+		}
+	}
+
+	private void reduce(Loop loop) {
+		List<BasicBlock> blocks = loop.getBlocks(function);
+
+		// Pointer phis are added to the header as we go
+		for (Instruction phi : new ArrayList<>(loop.header.getInstructions())) {
+			if (phi.opcode != Opcode.PHI)
+				break;
+			if (!phi.type.equals(IRType.I32) || phi.getOperandsSize() != 2)
+				continue;
+
+			int entry = phi.getBlocks().indexOf(loop.preheader);
+			if (entry == -1)
+				continue;
+			Value init = phi.getOperand(entry);
+			Value next = phi.getOperand(1 - entry);
+
+			Integer step = step(phi, next);
+			if (step == null)
+				continue;
+
+			// One pointer per array (or matrix row) indexed by `phi`
+			Map<Value, Instruction> pointers = new HashMap<>();
+			for (BasicBlock block : blocks) {
+				List<Instruction> instructions = block.getInstructions();
+				for (int i = 0; i < instructions.size(); i++) {
+					Instruction gep = instructions.get(i);
+					if (!isElementOf(gep, phi, blocks))
+						continue;
+
+					Value base = gep.getOperand(0);
+					Instruction pointer = pointers.get(base);
+					if (pointer == null) {
+						pointer = pointer(loop, phi, init, (Instruction) next, step, gep);
+						pointers.put(base, pointer);
+					}
+					replace(gep, pointer);
+					// pointer() puts the pointer phi at the start of the loop header,
+					// so the gep has moved if it is in the header itself: a while.test.N
+					// whose condition indexes the array, say
+					i = instructions.indexOf(gep);
+					instructions.remove(i--);
+				}
+			}
+		}
+	}
+
+	// `phi + step` or `step + phi` (or `phi - step`), as computed around the loop
+	private static Integer step(Instruction phi, Value next) {
+		if (!(next instanceof Instruction))
+			return null;
+		Instruction add = (Instruction) next;
+		if (add.getOperandsSize() != 2)
+			return null;
+
+		Value l = add.getOperand(0);
+		Value r = add.getOperand(1);
+		if (add.opcode == Opcode.ADD && l == phi && r instanceof Constant)
+			return ((Constant) r).getInt();
+		if (add.opcode == Opcode.ADD && r == phi && l instanceof Constant)
+			return ((Constant) l).getInt();
+		if (add.opcode == Opcode.SUB && l == phi && r instanceof Constant) {
+			Integer step = ((Constant) r).getInt();
+			return step != null ? -step : null;
+		}
+		return null;
+	}
+
+	// `getelementptr base, 0, phi` with `base` from outside the loop
+	private static boolean isElementOf(Instruction gep, Instruction phi, List<BasicBlock> blocks) {
+		if (gep.opcode != Opcode.GEP || gep.getOperandsSize() != 3)
+			return false;
+
+		Value base = gep.getOperand(0);
+		Value first = gep.getOperand(1);
+		if (!(first instanceof Constant) || !Integer.valueOf(0).equals(((Constant) first).getInt()))
+			return false;
+		if (gep.getOperand(2) != phi)
+			return false;
+
+		return !(base instanceof Instruction) || !blocks.contains(((Instruction) base).getParent());
+	}
+
+	// Pointer phi in the header: base[init] from the preheader, and one
+	// `step` further right after the induction variable's own increment.
+	private static Instruction pointer(Loop loop, Instruction phi, Value init, Instruction next,
+			int step, Instruction gep) {
+
+		IRType element = gep.type.getElement();
+
+		Instruction start = new Instruction(Opcode.GEP, gep.type, gep.getOperand(0), Constant.i32(0), init)
+				.setElementType(gep.getElementType());
+		List<Instruction> preheader = loop.preheader.getInstructions();
+		loop.preheader.add(preheader.size() - 1, start);
+
+		Instruction pointer = new Instruction(Opcode.PHI, gep.type);
+		loop.header.add(0, pointer);
+
+		Instruction advance = new Instruction(Opcode.GEP, gep.type, pointer, Constant.i32(step))
+				.setElementType(element);
+		BasicBlock latch = next.getParent();
+		latch.add(latch.getInstructions().indexOf(next) + 1, advance);
+
+		int entry = phi.getBlocks().indexOf(loop.preheader);
+		for (int i = 0; i < phi.getOperandsSize(); i++) {
+			pointer.getOperands().add(i == entry ? start : advance);
+			pointer.getBlocks().add(phi.getBlocks().get(i));
+		}
+		return pointer;
+	}
+
+	private void replace(Instruction old, Value value) {
+		for (BasicBlock block : function.getBlocks()) {
+			for (Instruction instruction : block.getInstructions()) {
+				for (int i = 0; i < instruction.getOperandsSize(); i++) {
+					if (instruction.getOperand(i) == old)
+						instruction.setOperand(i, value);
+				}
+			}
+		}
+	}
+}
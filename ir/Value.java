@@ -0,0 +1,19 @@
+package ir;
+
+// Anything an instruction can use as an operand.
+public abstract class Value {
+
+	public final IRType type;
+
+	protected Value(IRType type) {
+		this.type = type;
+	}
+
+	// How the value is spelled as an operand, e.g. `%3`, `@1` or `42`.
+	public abstract String ref();
+
+	@Override
+	public String toString() {
+		return this.type + " " + this.ref();
+	}
+}
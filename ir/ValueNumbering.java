@@ -0,0 +1,166 @@
+package ir;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// Local value numbering: inside each basic block, a pure instruction equal to
+// an earlier one (same opcode, predicate, types and operands) is replaced by
+// it, and a load is replaced by the last value loaded from or stored to the
+// same address, until a store or call may have changed that memory.
+//
+// Memory is told apart by the alloca an address is computed from. Stores
+// through an element of one array only invalidate loads from that array;
+// calls only invalidate allocas whose address was passed to some call.
+public final class ValueNumbering {
+
+	private final Function function;
+
+	private final Map<Value, Value> replaced;
+
+	// Allocas whose address is handed to a callee (e.g. scanf)
+	private final Set<Value> escaped;
+
+	public ValueNumbering(Function function) {
+		this.function = function;
+		this.replaced = new HashMap<>();
+		this.escaped = new HashSet<>();
+	}
+
+	public static void run(Module module) {
+		for (Function function : module.getFunctions()) {
+			new ValueNumbering(function).run();
+		}
+	}
+
+	public void run() {
+		for (BasicBlock block : function.getBlocks()) {
+			for (Instruction instruction : block.getInstructions()) {
+				if (instruction.opcode == Opcode.CALL) {
+					for (Value argument : instruction.getOperands()) {
+						Value base = Instruction.base(argument);
+						if (base != null)
+							escaped.add(base);
+					}
+				}
+			}
+		}
+
+		for (BasicBlock block : function.getBlocks()) {
+			block(block);
+		}
+
+		// Values may be used in blocks laid out before the one defining them
+		// (phis at a loop header), so resolve every use once more.
+		for (BasicBlock block : function.getBlocks()) {
+			for (Instruction instruction : block.getInstructions()) {
+				for (int i = 0; i < instruction.getOperandsSize(); i++) {
+					instruction.setOperand(i, resolve(instruction.getOperand(i)));
+				}
+			}
+		}
+	}
+
+	private void block(BasicBlock block) {
+		Map<Key, Instruction> available = new HashMap<>();
+		// Address -> value currently held there
+		Map<Value, Value> memory = new HashMap<>();
+
+		List<Instruction> kept = new ArrayList<>();
+		for (Instruction instruction : block.getInstructions()) {
+			for (int i = 0; i < instruction.getOperandsSize(); i++) {
+				instruction.setOperand(i, resolve(instruction.getOperand(i)));
+			}
+
+			if (Opcode.isPure(instruction.opcode)) {
+				Key key = new Key(instruction);
+				Instruction previous = available.get(key);
+				if (previous != null) {
+					replaced.put(instruction, previous);
+					continue;
+				}
+				available.put(key, instruction);
+
+			} else if (instruction.opcode == Opcode.LOAD) {
+				Value pointer = instruction.getOperand(0);
+				Value value = memory.get(pointer);
+				if (value != null && value.type.equals(instruction.type)) {
+					replaced.put(instruction, value);
+					continue;
+				}
+				memory.put(pointer, instruction);
+
+			} else if (instruction.opcode == Opcode.STORE) {
+				Value pointer = instruction.getOperand(1);
+				clobber(memory, Instruction.base(pointer));
+				memory.put(pointer, instruction.getOperand(0));
+
+			} else if (instruction.opcode == Opcode.CALL) {
+				memory.keySet().removeIf(pointer -> {
+					Value base = Instruction.base(pointer);
+					return base == null || escaped.contains(base);
+				});
+			}
+			kept.add(instruction);
+		}
+
+		block.getInstructions().clear();
+		for (Instruction instruction : kept) {
+			block.add(instruction);
+		}
+	}
+
+	// Forgets every address that may share memory with `base`
+	private void clobber(Map<Value, Value> memory, Value base) {
+		memory.keySet().removeIf(pointer -> {
+			Value other = Instruction.base(pointer);
+			return base == null || other == null || other == base;
+		});
+	}
+
+	private Value resolve(Value value) {
+		Value next = replaced.get(value);
+		while (next != null) {
+			value = next;
+			next = replaced.get(value);
+		}
+		return value;
+	}
+
+	private static final class Key {
+		private final Opcode opcode;
+		private final IRType type;
+		private final String predicate;
+		private final IRType elementType;
+		private final List<Value> operands;
+
+		Key(Instruction instruction) {
+			this.opcode = instruction.opcode;
+			this.type = instruction.type;
+			this.predicate = instruction.getPredicate();
+			this.elementType = instruction.getElementType();
+			this.operands = new ArrayList<>(instruction.getOperands());
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof Key))
+				return false;
+			Key key = (Key) other;
+			return key.opcode == this.opcode
+					&& key.type.equals(this.type)
+					&& Objects.equals(key.predicate, this.predicate)
+					&& Objects.equals(key.elementType, this.elementType)
+					&& key.operands.equals(this.operands);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(opcode, type, predicate, elementType, operands);
+		}
+	}
+}
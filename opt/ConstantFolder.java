@@ -0,0 +1,329 @@
+package opt;
+
+import static ast.NodeKind.ARRAY_ACCESS;
+import static ast.NodeKind.ASSIGN_NODE;
+import static ast.NodeKind.BLOCK_NODE;
+import static ast.NodeKind.BOOL_VAL_NODE;
+import static ast.NodeKind.INT_VAL_NODE;
+import static ast.NodeKind.REAL_VAL_NODE;
+import static ast.NodeKind.STR_VAL_NODE;
+import static ast.NodeKind.VAR_USE_NODE;
+import static typing.Type.BOOL_TYPE;
+import static typing.Type.INT_TYPE;
+import static typing.Type.REAL_TYPE;
+import static typing.Type.STR_TYPE;
+
+import java.util.HashMap;
+
+import ast.AST;
+import ast.NodeKind;
+import tables.StringTable;
+
+// Rewrites the checked AST before CodeGen: operations whose operands are all
+// literals become literals, and variables assigned a literal exactly once are
+// replaced by it after that assignment.
+//
+// Folded results must be what the generated code would compute. Reals are
+// float in the AST but printed as double constants in their shortest decimal
+// form, so that decimal is the value at run time, and a real result is only
+// folded when it prints back to itself.
+public final class ConstantFolder {
+
+	private final StringTable st;
+
+	// Per function (or main) body, by variable index
+	private final HashMap<Integer, Integer> assignments;
+	private final HashMap<Integer, AST> constants;
+
+	public ConstantFolder(StringTable stringTable) {
+		this.st = stringTable;
+		this.assignments = new HashMap<>();
+		this.constants = new HashMap<>();
+	}
+
+	public void execute(AST root) {
+		AST funList = root.getChild(1);
+		for (int i = 0; i < funList.getChildrenSize(); i++) {
+			body(funList.getChild(i).getChild(1));
+		}
+		body(root.getChild(2));
+	}
+
+	// Variables are local to their body, so each one is analysed on its own
+	private void body(AST block) {
+		assignments.clear();
+		constants.clear();
+		countAssignments(block);
+		statements(block);
+	}
+
+	private void countAssignments(AST node) {
+		if (node.kind == ASSIGN_NODE) {
+			assigned(node.getChild(0));
+		} else if (node.kind == NodeKind.READ_NODE) {
+			for (int i = 0; i < node.getChildrenSize(); i++) {
+				assigned(node.getChild(i));
+			}
+		} else if (node.kind == NodeKind.FOR_NODE) {
+			assigned(node.getChild(0));
+		}
+		for (int i = 0; i < node.getChildrenSize(); i++) {
+			countAssignments(node.getChild(i));
+		}
+	}
+
+	private void assigned(AST target) {
+		if (target.kind == VAR_USE_NODE) {
+			assignments.merge(target.intData, 1, Integer::sum);
+		}
+	}
+
+	// Statements of a block run in order, so a constant assigned by one of
+	// them holds for every statement after it.
+	private void statements(AST block) {
+		for (int i = 0; i < block.getChildrenSize(); i++) {
+			AST statement = block.getChild(i);
+			if (statement.kind == BLOCK_NODE) {
+				statements(statement);
+				continue;
+			}
+
+			statement = fold(statement);
+			block.setChild(i, statement);
+
+			if (statement.kind == ASSIGN_NODE) {
+				AST target = statement.getChild(0);
+				AST value = statement.getChild(1);
+				// Strings stay in their variable: write() prints a literal
+				// as a format string, but a variable through "%s"
+				if (target.kind == VAR_USE_NODE && assignments.get(target.intData) == 1
+						&& isLiteral(value) && value.kind != STR_VAL_NODE) {
+					constants.put(target.intData, value);
+				}
+			}
+		}
+	}
+
+	private AST fold(AST node) {
+		switch (node.kind) {
+			case VAR_USE_NODE:
+				AST constant = constants.get(node.intData);
+				return constant != null ? copy(constant) : node;
+
+			case ASSIGN_NODE:
+				foldTarget(node.getChild(0));
+				node.setChild(1, fold(node.getChild(1)));
+				return node;
+
+			case READ_NODE:
+				for (int i = 0; i < node.getChildrenSize(); i++) {
+					foldTarget(node.getChild(i));
+				}
+				return node;
+
+			case FOR_NODE:
+				// The control variable, then the bounds and the body
+				for (int i = 1; i < node.getChildrenSize(); i++) {
+					node.setChild(i, fold(node.getChild(i)));
+				}
+				return node;
+
+			default:
+				break;
+		}
+
+		for (int i = 0; i < node.getChildrenSize(); i++) {
+			node.setChild(i, fold(node.getChild(i)));
+		}
+
+		switch (node.kind) {
+			case PLUS_NODE:
+			case MINUS_NODE:
+			case TIMES_NODE:
+			case OVER_NODE:
+			case MOD_NODE:
+				return arith(node);
+			case EQ_NODE:
+			case NEQ_NODE:
+			case LT_NODE:
+			case GT_NODE:
+			case GE_NODE:
+			case LE_NODE:
+				return compare(node);
+			case AND_NODE:
+			case OR_NODE:
+				return logic(node);
+			case I2R_NODE:
+				return intToReal(node);
+			default:
+				return node;
+		}
+	}
+
+	// Assigned variables are kept, only array indexes are folded
+	private void foldTarget(AST target) {
+		if (target.kind == ARRAY_ACCESS) {
+			for (int i = 1; i < target.getChildrenSize(); i++) {
+				target.setChild(i, fold(target.getChild(i)));
+			}
+		}
+	}
+
+	private AST arith(AST node) {
+		AST l = node.getChild(0);
+		AST r = node.getChild(1);
+
+		if (node.type == INT_TYPE && l.kind == INT_VAL_NODE && r.kind == INT_VAL_NODE) {
+			int y = l.intData;
+			int z = r.intData;
+			switch (node.kind) {
+				case PLUS_NODE:
+					return intVal(y + z);
+				case MINUS_NODE:
+					return intVal(y - z);
+				case TIMES_NODE:
+					return intVal(y * z);
+				default:
+					// Left to fail at run time
+					if (z == 0 || (y == Integer.MIN_VALUE && z == -1))
+						return node;
+					return intVal(node.kind == NodeKind.MOD_NODE ? y % z : y / z);
+			}
+		}
+
+		if (node.type == REAL_TYPE && l.kind == REAL_VAL_NODE && r.kind == REAL_VAL_NODE) {
+			double y = real(l);
+			double z = real(r);
+			double x;
+			switch (node.kind) {
+				case PLUS_NODE:
+					x = y + z;
+					break;
+				case MINUS_NODE:
+					x = y - z;
+					break;
+				case TIMES_NODE:
+					x = y * z;
+					break;
+				default:
+					x = y / z;
+					break;
+			}
+			return realVal(x, node);
+		}
+
+		return node;
+	}
+
+	private AST compare(AST node) {
+		AST l = node.getChild(0);
+		AST r = node.getChild(1);
+		int cmp;
+
+		if (r.type == INT_TYPE && l.kind == INT_VAL_NODE && r.kind == INT_VAL_NODE) {
+			cmp = Integer.compare(l.intData, r.intData);
+		} else if (r.type == BOOL_TYPE && l.kind == BOOL_VAL_NODE && r.kind == BOOL_VAL_NODE) {
+			cmp = Integer.compare(l.intData, r.intData);
+		} else if (r.type == REAL_TYPE && l.kind == REAL_VAL_NODE && r.kind == REAL_VAL_NODE) {
+			double y = real(l);
+			double z = real(r);
+			// Not Double.compare, which orders -0.0 before 0.0
+			cmp = y < z ? -1 : y > z ? 1 : 0;
+		} else if (r.type == STR_TYPE && l.kind == STR_VAL_NODE && r.kind == STR_VAL_NODE) {
+			// Like strcmp on the bytes, which matches for ASCII
+			String y = st.getString(l.intData);
+			String z = st.getString(r.intData);
+			if (!isAscii(y) || !isAscii(z))
+				return node;
+			cmp = Integer.signum(y.compareTo(z));
+		} else {
+			return node;
+		}
+
+		switch (node.kind) {
+			case EQ_NODE:
+				return boolVal(cmp == 0);
+			case NEQ_NODE:
+				return boolVal(cmp != 0);
+			case LT_NODE:
+				return boolVal(cmp < 0);
+			case GT_NODE:
+				return boolVal(cmp > 0);
+			case GE_NODE:
+				return boolVal(cmp >= 0);
+			default:
+				return boolVal(cmp <= 0);
+		}
+	}
+
+	private AST logic(AST node) {
+		AST l = node.getChild(0);
+		AST r = node.getChild(1);
+
+		if (l.kind != BOOL_VAL_NODE || r.kind != BOOL_VAL_NODE)
+			return node;
+
+		boolean y = l.intData != 0;
+		boolean z = r.intData != 0;
+		return boolVal(node.kind == NodeKind.AND_NODE ? y && z : y || z);
+	}
+
+	private AST intToReal(AST node) {
+		AST child = node.getChild(0);
+		if (child.kind != INT_VAL_NODE)
+			return node;
+		return realVal(child.intData, node);
+	}
+
+	// ----------------------------------------------------------------------------
+	// Literals -------------------------------------------------------------------
+
+	private static boolean isLiteral(AST node) {
+		switch (node.kind) {
+			case BOOL_VAL_NODE:
+			case INT_VAL_NODE:
+			case REAL_VAL_NODE:
+			case STR_VAL_NODE:
+			case CHAR_VAL_NODE:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	private static boolean isAscii(String string) {
+		for (int i = 0; i < string.length(); i++) {
+			if (string.charAt(i) > 127)
+				return false;
+		}
+		return true;
+	}
+
+	private static AST copy(AST literal) {
+		if (literal.kind == REAL_VAL_NODE)
+			return new AST(literal.kind, literal.floatData, literal.type);
+		return new AST(literal.kind, literal.intData, literal.type);
+	}
+
+	private static AST intVal(int value) {
+		return new AST(INT_VAL_NODE, value, INT_TYPE);
+	}
+
+	private static AST boolVal(boolean value) {
+		return new AST(BOOL_VAL_NODE, value ? 1 : 0, BOOL_TYPE);
+	}
+
+	// Value of a real literal in the generated code, see Constant.real
+	private static double real(AST literal) {
+		return Double.parseDouble(Float.toString(literal.floatData));
+	}
+
+	// `node` is kept when no float literal stands for exactly `value`
+	private static AST realVal(double value, AST node) {
+		float single = (float) value;
+		if (Float.isInfinite(single) || Float.isNaN(single)
+				|| Double.parseDouble(Float.toString(single)) != value)
+			return node;
+		return new AST(REAL_VAL_NODE, single, REAL_TYPE);
+	}
+}
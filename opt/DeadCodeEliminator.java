@@ -0,0 +1,249 @@
+package opt;
+
+import static ast.NodeKind.ARRAY_ACCESS;
+import static ast.NodeKind.BLOCK_NODE;
+import static ast.NodeKind.BOOL_VAL_NODE;
+import static ast.NodeKind.FUN_USE_NODE;
+import static ast.NodeKind.INT_VAL_NODE;
+import static ast.NodeKind.VAR_USE_NODE;
+import static typing.Type.NO_TYPE;
+
+import java.util.HashMap;
+
+import ast.AST;
+import tables.FunctionTable;
+
+// Removes code from the checked AST that cannot run or whose result is never
+// used: if/while arms behind constant conditions (as left by ConstantFolder),
+// for loops over empty literal ranges, assignments to variables that are
+// never read, and the declarations of local variables nothing refers to
+// anymore.
+//
+// Assignments are only removed when evaluating their expressions has no
+// effect, i.e. they call no function.
+public final class DeadCodeEliminator {
+
+	private final FunctionTable ft;
+
+	// Per function (or main) body, by variable index
+	private final HashMap<Integer, Integer> reads;
+	private final HashMap<Integer, Integer> references;
+
+	// The result of a function is read when it returns
+	private boolean isFunction;
+
+	private boolean changed;
+
+	public DeadCodeEliminator(FunctionTable functionTable) {
+		this.ft = functionTable;
+		this.reads = new HashMap<>();
+		this.references = new HashMap<>();
+	}
+
+	public void execute(AST root) {
+		AST funList = root.getChild(1);
+		for (int i = 0; i < funList.getChildrenSize(); i++) {
+			AST function = funList.getChild(i);
+			isFunction = true;
+			// Declarations are the result, the parameters, then the locals
+			body(function.getChild(0), function.getChild(1),
+					1 + ft.getParameters(function.intData).size());
+		}
+		isFunction = false;
+		body(root.getChild(0), root.getChild(2), 0);
+	}
+
+	private void body(AST varList, AST block, int firstLocal) {
+		// Removing a store may leave the variables it read unused in turn
+		do {
+			changed = false;
+			reads.clear();
+			references.clear();
+			count(block);
+			statements(block);
+		} while (changed);
+
+		for (int i = varList.getChildrenSize() - 1; i >= 0; i--) {
+			int idx = varList.getChild(i).intData;
+			if (idx >= firstLocal && !references.containsKey(idx)) {
+				varList.removeChild(i);
+			}
+		}
+	}
+
+	// ----------------------------------------------------------------------------
+	// Uses -----------------------------------------------------------------------
+
+	private void count(AST node) {
+		switch (node.kind) {
+			case ASSIGN_NODE:
+				target(node.getChild(0));
+				count(node.getChild(1));
+				return;
+
+			case READ_NODE:
+				for (int i = 0; i < node.getChildrenSize(); i++) {
+					target(node.getChild(i));
+				}
+				return;
+
+			case FOR_NODE:
+				target(node.getChild(0));
+				for (int i = 1; i < node.getChildrenSize(); i++) {
+					count(node.getChild(i));
+				}
+				return;
+
+			case VAR_USE_NODE:
+				read(node.intData);
+				return;
+
+			default:
+				for (int i = 0; i < node.getChildrenSize(); i++) {
+					count(node.getChild(i));
+				}
+		}
+	}
+
+	// Written, not read, except for the indexes of an array element
+	private void target(AST target) {
+		if (target.kind == ARRAY_ACCESS) {
+			references.merge(target.getChild(0).intData, 1, Integer::sum);
+			for (int i = 1; i < target.getChildrenSize(); i++) {
+				count(target.getChild(i));
+			}
+		} else {
+			references.merge(target.intData, 1, Integer::sum);
+		}
+	}
+
+	private void read(int idx) {
+		reads.merge(idx, 1, Integer::sum);
+		references.merge(idx, 1, Integer::sum);
+	}
+
+	private boolean isRead(int idx) {
+		return (isFunction && idx == 0) || reads.containsKey(idx);
+	}
+
+	// ----------------------------------------------------------------------------
+	// Statements -----------------------------------------------------------------
+
+	private void statements(AST block) {
+		for (int i = 0; i < block.getChildrenSize(); i++) {
+			AST statement = statement(block.getChild(i));
+			if (statement == null) {
+				block.removeChild(i--);
+			} else {
+				block.setChild(i, statement);
+			}
+		}
+	}
+
+	// Returns what replaces `node`, or null if it goes away.
+	private AST statement(AST node) {
+		switch (node.kind) {
+			case BLOCK_NODE:
+				statements(node);
+				return node;
+
+			case IF_NODE:
+				return ifStatement(node);
+
+			case REPEAT_NODE:
+				return repeatStatement(node);
+
+			case FOR_NODE:
+				return forStatement(node);
+
+			case ASSIGN_NODE:
+				return assignment(node);
+
+			default:
+				return node;
+		}
+	}
+
+	private AST ifStatement(AST node) {
+		AST test = node.getChild(0);
+		boolean hasElse = node.getChildrenSize() == 3;
+
+		if (test.kind == BOOL_VAL_NODE) {
+			changed = true;
+			if (test.intData != 0)
+				return statement(node.getChild(1));
+			return hasElse ? statement(node.getChild(2)) : null;
+		}
+
+		node.setChild(1, arm(node.getChild(1)));
+		if (hasElse) {
+			node.setChild(2, arm(node.getChild(2)));
+			if (isEmpty(node.getChild(2))) {
+				node.removeChild(2);
+				hasElse = false;
+			}
+		}
+
+		if (!hasElse && isEmpty(node.getChild(1)) && isPure(test)) {
+			changed = true;
+			return null;
+		}
+		return node;
+	}
+
+	private AST repeatStatement(AST node) {
+		AST test = node.getChild(0);
+		if (test.kind == BOOL_VAL_NODE && test.intData == 0) {
+			changed = true;
+			return null;
+		}
+		node.setChild(1, arm(node.getChild(1)));
+		return node;
+	}
+
+	// Literal bounds that make no iteration (and, as the bounds are then
+	// pure, no effect)
+	private AST forStatement(AST node) {
+		AST initial = node.getChild(1);
+		AST last = node.getChild(2);
+		if (initial.kind == INT_VAL_NODE && last.kind == INT_VAL_NODE
+				&& (node.intData > 0 ? initial.intData > last.intData : initial.intData < last.intData)) {
+			changed = true;
+			return null;
+		}
+		node.setChild(3, arm(node.getChild(3)));
+		return node;
+	}
+
+	private AST assignment(AST node) {
+		AST target = node.getChild(0);
+		int idx = target.kind == ARRAY_ACCESS ? target.getChild(0).intData : target.intData;
+
+		if (isRead(idx) || !isPure(node)) {
+			return node;
+		}
+		changed = true;
+		return null;
+	}
+
+	// If and while arms are single statements, an empty block stands for none
+	private AST arm(AST node) {
+		AST statement = statement(node);
+		return statement != null ? statement : AST.newSubtree(BLOCK_NODE, NO_TYPE);
+	}
+
+	private static boolean isEmpty(AST node) {
+		return node.kind == BLOCK_NODE && node.getChildrenSize() == 0;
+	}
+
+	// Evaluating the subtree has no side effect
+	private static boolean isPure(AST node) {
+		if (node.kind == FUN_USE_NODE)
+			return false;
+		for (int i = 0; i < node.getChildrenSize(); i++) {
+			if (!isPure(node.getChild(i)))
+				return false;
+		}
+		return true;
+	}
+}
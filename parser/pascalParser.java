@@ -0,0 +1,6267 @@
+// Generated from pascalParser.g4 by ANTLR 4.9.3
+package parser;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class pascalParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.9.3", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		AND=1, ARRAY=2, BEGIN=3, BOOLEAN=4, CASE=5, CHAR=6, CHR=7, CONST=8, DIV=9, 
+		DO=10, DOWNTO=11, ELSE=12, END=13, FILE=14, FOR=15, FUNCTION=16, GOTO=17, 
+		IF=18, IN=19, INTEGER=20, LABEL=21, MOD=22, NIL=23, NOT=24, OF=25, OR=26, 
+		PACKED=27, PROCEDURE=28, PROGRAM=29, REAL=30, RECORD=31, REPEAT=32, SET=33, 
+		THEN=34, TO=35, TYPE=36, UNTIL=37, VAR=38, WHILE=39, WITH=40, PLUS=41, 
+		MINUS=42, STAR=43, SLASH=44, ASSIGN=45, COMMA=46, SEMI=47, COLON=48, EQUAL=49, 
+		NOT_EQUAL=50, LT=51, LE=52, GE=53, GT=54, LPAREN=55, RPAREN=56, LBRACK=57, 
+		LBRACK2=58, RBRACK=59, RBRACK2=60, POINTER=61, AT=62, DOT=63, DOTDOT=64, 
+		LCURLY=65, RCURLY=66, UNIT=67, INTERFACE=68, USES=69, STRING=70, IMPLEMENTATION=71, 
+		TRUE=72, FALSE=73, WS=74, COMMENT_1=75, COMMENT_2=76, IDENT=77, STRING_LITERAL=78, 
+		NUM_INT=79, NUM_REAL=80;
+	public static final int
+		RULE_program = 0, RULE_programHeading = 1, RULE_identifier = 2, RULE_block = 3, 
+		RULE_usesUnitsPart = 4, RULE_labelDeclarationPart = 5, RULE_label = 6, 
+		RULE_constantDefinitionPart = 7, RULE_constantDefinition = 8, RULE_constantChr = 9, 
+		RULE_constant = 10, RULE_unsignedNumber = 11, RULE_unsignedInteger = 12, 
+		RULE_unsignedReal = 13, RULE_sign = 14, RULE_bool_ = 15, RULE_string = 16, 
+		RULE_typeDefinitionPart = 17, RULE_typeDefinition = 18, RULE_functionType = 19, 
+		RULE_procedureType = 20, RULE_type_ = 21, RULE_simpleType = 22, RULE_scalarType = 23, 
+		RULE_subrangeType = 24, RULE_typeIdentifier = 25, RULE_structuredType = 26, 
+		RULE_unpackedStructuredType = 27, RULE_stringtype = 28, RULE_arrayType = 29, 
+		RULE_typeList = 30, RULE_indexType = 31, RULE_componentType = 32, RULE_recordType = 33, 
+		RULE_fieldList = 34, RULE_fixedPart = 35, RULE_recordSection = 36, RULE_variantPart = 37, 
+		RULE_tag = 38, RULE_variant = 39, RULE_setType = 40, RULE_baseType = 41, 
+		RULE_fileType = 42, RULE_pointerType = 43, RULE_variableDeclarationPart = 44, 
+		RULE_variableDeclaration = 45, RULE_procedureAndFunctionDeclarationPart = 46, 
+		RULE_procedureOrFunctionDeclaration = 47, RULE_procedureDeclaration = 48, 
+		RULE_formalParameterList = 49, RULE_formalParameterSection = 50, RULE_parameterGroup = 51, 
+		RULE_identifierList = 52, RULE_constList = 53, RULE_functionDeclaration = 54, 
+		RULE_resultType = 55, RULE_statement = 56, RULE_unlabelledStatement = 57, 
+		RULE_simpleStatement = 58, RULE_assignmentStatement = 59, RULE_variable = 60, 
+		RULE_expression = 61, RULE_relationaloperator = 62, RULE_simpleExpression = 63, 
+		RULE_additiveoperator = 64, RULE_term = 65, RULE_multiplicativeoperator = 66, 
+		RULE_signedFactor = 67, RULE_factor = 68, RULE_unsignedConstant = 69, 
+		RULE_functionDesignator = 70, RULE_parameterList = 71, RULE_set_ = 72, 
+		RULE_elementList = 73, RULE_element = 74, RULE_procedureStatement = 75, 
+		RULE_actualParameter = 76, RULE_parameterwidth = 77, RULE_gotoStatement = 78, 
+		RULE_emptyStatement = 79, RULE_empty_ = 80, RULE_structuredStatement = 81, 
+		RULE_compoundStatement = 82, RULE_statements = 83, RULE_conditionalStatement = 84, 
+		RULE_ifStatement = 85, RULE_caseStatement = 86, RULE_caseListElement = 87, 
+		RULE_repetetiveStatement = 88, RULE_whileStatement = 89, RULE_repeatStatement = 90, 
+		RULE_forStatement = 91, RULE_forList = 92, RULE_initialValue = 93, RULE_finalValue = 94, 
+		RULE_withStatement = 95, RULE_recordVariableList = 96;
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"program", "programHeading", "identifier", "block", "usesUnitsPart", 
+			"labelDeclarationPart", "label", "constantDefinitionPart", "constantDefinition", 
+			"constantChr", "constant", "unsignedNumber", "unsignedInteger", "unsignedReal", 
+			"sign", "bool_", "string", "typeDefinitionPart", "typeDefinition", "functionType", 
+			"procedureType", "type_", "simpleType", "scalarType", "subrangeType", 
+			"typeIdentifier", "structuredType", "unpackedStructuredType", "stringtype", 
+			"arrayType", "typeList", "indexType", "componentType", "recordType", 
+			"fieldList", "fixedPart", "recordSection", "variantPart", "tag", "variant", 
+			"setType", "baseType", "fileType", "pointerType", "variableDeclarationPart", 
+			"variableDeclaration", "procedureAndFunctionDeclarationPart", "procedureOrFunctionDeclaration", 
+			"procedureDeclaration", "formalParameterList", "formalParameterSection", 
+			"parameterGroup", "identifierList", "constList", "functionDeclaration", 
+			"resultType", "statement", "unlabelledStatement", "simpleStatement", 
+			"assignmentStatement", "variable", "expression", "relationaloperator", 
+			"simpleExpression", "additiveoperator", "term", "multiplicativeoperator", 
+			"signedFactor", "factor", "unsignedConstant", "functionDesignator", "parameterList", 
+			"set_", "elementList", "element", "procedureStatement", "actualParameter", 
+			"parameterwidth", "gotoStatement", "emptyStatement", "empty_", "structuredStatement", 
+			"compoundStatement", "statements", "conditionalStatement", "ifStatement", 
+			"caseStatement", "caseListElement", "repetetiveStatement", "whileStatement", 
+			"repeatStatement", "forStatement", "forList", "initialValue", "finalValue", 
+			"withStatement", "recordVariableList"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, null, null, null, "'+'", "'-'", "'*'", "'/'", "':='", "','", 
+			"';'", "':'", "'='", "'<>'", "'<'", "'<='", "'>='", "'>'", "'('", "')'", 
+			"'['", "'(.'", "']'", "'.)'", "'^'", "'@'", "'.'", "'..'", "'{'", "'}'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "AND", "ARRAY", "BEGIN", "BOOLEAN", "CASE", "CHAR", "CHR", "CONST", 
+			"DIV", "DO", "DOWNTO", "ELSE", "END", "FILE", "FOR", "FUNCTION", "GOTO", 
+			"IF", "IN", "INTEGER", "LABEL", "MOD", "NIL", "NOT", "OF", "OR", "PACKED", 
+			"PROCEDURE", "PROGRAM", "REAL", "RECORD", "REPEAT", "SET", "THEN", "TO", 
+			"TYPE", "UNTIL", "VAR", "WHILE", "WITH", "PLUS", "MINUS", "STAR", "SLASH", 
+			"ASSIGN", "COMMA", "SEMI", "COLON", "EQUAL", "NOT_EQUAL", "LT", "LE", 
+			"GE", "GT", "LPAREN", "RPAREN", "LBRACK", "LBRACK2", "RBRACK", "RBRACK2", 
+			"POINTER", "AT", "DOT", "DOTDOT", "LCURLY", "RCURLY", "UNIT", "INTERFACE", 
+			"USES", "STRING", "IMPLEMENTATION", "TRUE", "FALSE", "WS", "COMMENT_1", 
+			"COMMENT_2", "IDENT", "STRING_LITERAL", "NUM_INT", "NUM_REAL"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "pascalParser.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public pascalParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	public static class ProgramContext extends ParserRuleContext {
+		public ProgramHeadingContext programHeading() {
+			return getRuleContext(ProgramHeadingContext.class,0);
+		}
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public TerminalNode DOT() { return getToken(pascalParser.DOT, 0); }
+		public TerminalNode INTERFACE() { return getToken(pascalParser.INTERFACE, 0); }
+		public ProgramContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_program; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitProgram(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ProgramContext program() throws RecognitionException {
+		ProgramContext _localctx = new ProgramContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_program);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(194);
+			programHeading();
+			setState(196);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==INTERFACE) {
+				{
+				setState(195);
+				match(INTERFACE);
+				}
+			}
+
+			setState(198);
+			block();
+			setState(199);
+			match(DOT);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ProgramHeadingContext extends ParserRuleContext {
+		public TerminalNode PROGRAM() { return getToken(pascalParser.PROGRAM, 0); }
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(pascalParser.SEMI, 0); }
+		public TerminalNode LPAREN() { return getToken(pascalParser.LPAREN, 0); }
+		public IdentifierListContext identifierList() {
+			return getRuleContext(IdentifierListContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(pascalParser.RPAREN, 0); }
+		public TerminalNode UNIT() { return getToken(pascalParser.UNIT, 0); }
+		public ProgramHeadingContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_programHeading; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitProgramHeading(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ProgramHeadingContext programHeading() throws RecognitionException {
+		ProgramHeadingContext _localctx = new ProgramHeadingContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_programHeading);
+		int _la;
+		try {
+			setState(215);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case PROGRAM:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(201);
+				match(PROGRAM);
+				setState(202);
+				identifier();
+				setState(207);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==LPAREN) {
+					{
+					setState(203);
+					match(LPAREN);
+					setState(204);
+					identifierList();
+					setState(205);
+					match(RPAREN);
+					}
+				}
+
+				setState(209);
+				match(SEMI);
+				}
+				break;
+			case UNIT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(211);
+				match(UNIT);
+				setState(212);
+				identifier();
+				setState(213);
+				match(SEMI);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IdentifierContext extends ParserRuleContext {
+		public TerminalNode IDENT() { return getToken(pascalParser.IDENT, 0); }
+		public IdentifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_identifier; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitIdentifier(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final IdentifierContext identifier() throws RecognitionException {
+		IdentifierContext _localctx = new IdentifierContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_identifier);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(217);
+			match(IDENT);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BlockContext extends ParserRuleContext {
+		public CompoundStatementContext compoundStatement() {
+			return getRuleContext(CompoundStatementContext.class,0);
+		}
+		public List<LabelDeclarationPartContext> labelDeclarationPart() {
+			return getRuleContexts(LabelDeclarationPartContext.class);
+		}
+		public LabelDeclarationPartContext labelDeclarationPart(int i) {
+			return getRuleContext(LabelDeclarationPartContext.class,i);
+		}
+		public List<ConstantDefinitionPartContext> constantDefinitionPart() {
+			return getRuleContexts(ConstantDefinitionPartContext.class);
+		}
+		public ConstantDefinitionPartContext constantDefinitionPart(int i) {
+			return getRuleContext(ConstantDefinitionPartContext.class,i);
+		}
+		public List<TypeDefinitionPartContext> typeDefinitionPart() {
+			return getRuleContexts(TypeDefinitionPartContext.class);
+		}
+		public TypeDefinitionPartContext typeDefinitionPart(int i) {
+			return getRuleContext(TypeDefinitionPartContext.class,i);
+		}
+		public List<VariableDeclarationPartContext> variableDeclarationPart() {
+			return getRuleContexts(VariableDeclarationPartContext.class);
+		}
+		public VariableDeclarationPartContext variableDeclarationPart(int i) {
+			return getRuleContext(VariableDeclarationPartContext.class,i);
+		}
+		public List<ProcedureAndFunctionDeclarationPartContext> procedureAndFunctionDeclarationPart() {
+			return getRuleContexts(ProcedureAndFunctionDeclarationPartContext.class);
+		}
+		public ProcedureAndFunctionDeclarationPartContext procedureAndFunctionDeclarationPart(int i) {
+			return getRuleContext(ProcedureAndFunctionDeclarationPartContext.class,i);
+		}
+		public List<UsesUnitsPartContext> usesUnitsPart() {
+			return getRuleContexts(UsesUnitsPartContext.class);
+		}
+		public UsesUnitsPartContext usesUnitsPart(int i) {
+			return getRuleContext(UsesUnitsPartContext.class,i);
+		}
+		public List<TerminalNode> IMPLEMENTATION() { return getTokens(pascalParser.IMPLEMENTATION); }
+		public TerminalNode IMPLEMENTATION(int i) {
+			return getToken(pascalParser.IMPLEMENTATION, i);
+		}
+		public BlockContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_block; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitBlock(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BlockContext block() throws RecognitionException {
+		BlockContext _localctx = new BlockContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_block);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(228);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (((((_la - 8)) & ~0x3f) == 0 && ((1L << (_la - 8)) & ((1L << (CONST - 8)) | (1L << (FUNCTION - 8)) | (1L << (LABEL - 8)) | (1L << (PROCEDURE - 8)) | (1L << (TYPE - 8)) | (1L << (VAR - 8)) | (1L << (USES - 8)) | (1L << (IMPLEMENTATION - 8)))) != 0)) {
+				{
+				setState(226);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case LABEL:
+					{
+					setState(219);
+					labelDeclarationPart();
+					}
+					break;
+				case CONST:
+					{
+					setState(220);
+					constantDefinitionPart();
+					}
+					break;
+				case TYPE:
+					{
+					setState(221);
+					typeDefinitionPart();
+					}
+					break;
+				case VAR:
+					{
+					setState(222);
+					variableDeclarationPart();
+					}
+					break;
+				case FUNCTION:
+				case PROCEDURE:
+					{
+					setState(223);
+					procedureAndFunctionDeclarationPart();
+					}
+					break;
+				case USES:
+					{
+					setState(224);
+					usesUnitsPart();
+					}
+					break;
+				case IMPLEMENTATION:
+					{
+					setState(225);
+					match(IMPLEMENTATION);
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				setState(230);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(231);
+			compoundStatement();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class UsesUnitsPartContext extends ParserRuleContext {
+		public TerminalNode USES() { return getToken(pascalParser.USES, 0); }
+		public IdentifierListContext identifierList() {
+			return getRuleContext(IdentifierListContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(pascalParser.SEMI, 0); }
+		public UsesUnitsPartContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_usesUnitsPart; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitUsesUnitsPart(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final UsesUnitsPartContext usesUnitsPart() throws RecognitionException {
+		UsesUnitsPartContext _localctx = new UsesUnitsPartContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_usesUnitsPart);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(233);
+			match(USES);
+			setState(234);
+			identifierList();
+			setState(235);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LabelDeclarationPartContext extends ParserRuleContext {
+		public TerminalNode LABEL() { return getToken(pascalParser.LABEL, 0); }
+		public List<LabelContext> label() {
+			return getRuleContexts(LabelContext.class);
+		}
+		public LabelContext label(int i) {
+			return getRuleContext(LabelContext.class,i);
+		}
+		public TerminalNode SEMI() { return getToken(pascalParser.SEMI, 0); }
+		public List<TerminalNode> COMMA() { return getTokens(pascalParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(pascalParser.COMMA, i);
+		}
+		public LabelDeclarationPartContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_labelDeclarationPart; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitLabelDeclarationPart(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final LabelDeclarationPartContext labelDeclarationPart() throws RecognitionException {
+		LabelDeclarationPartContext _localctx = new LabelDeclarationPartContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_labelDeclarationPart);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(237);
+			match(LABEL);
+			setState(238);
+			label();
+			setState(243);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(239);
+				match(COMMA);
+				setState(240);
+				label();
+				}
+				}
+				setState(245);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(246);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LabelContext extends ParserRuleContext {
+		public UnsignedIntegerContext unsignedInteger() {
+			return getRuleContext(UnsignedIntegerContext.class,0);
+		}
+		public LabelContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_label; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitLabel(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final LabelContext label() throws RecognitionException {
+		LabelContext _localctx = new LabelContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_label);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(248);
+			unsignedInteger();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConstantDefinitionPartContext extends ParserRuleContext {
+		public TerminalNode CONST() { return getToken(pascalParser.CONST, 0); }
+		public List<ConstantDefinitionContext> constantDefinition() {
+			return getRuleContexts(ConstantDefinitionContext.class);
+		}
+		public ConstantDefinitionContext constantDefinition(int i) {
+			return getRuleContext(ConstantDefinitionContext.class,i);
+		}
+		public List<TerminalNode> SEMI() { return getTokens(pascalParser.SEMI); }
+		public TerminalNode SEMI(int i) {
+			return getToken(pascalParser.SEMI, i);
+		}
+		public ConstantDefinitionPartContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_constantDefinitionPart; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitConstantDefinitionPart(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConstantDefinitionPartContext constantDefinitionPart() throws RecognitionException {
+		ConstantDefinitionPartContext _localctx = new ConstantDefinitionPartContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_constantDefinitionPart);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(250);
+			match(CONST);
+			setState(254); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(251);
+				constantDefinition();
+				setState(252);
+				match(SEMI);
+				}
+				}
+				setState(256); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( _la==IDENT );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConstantDefinitionContext extends ParserRuleContext {
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public TerminalNode EQUAL() { return getToken(pascalParser.EQUAL, 0); }
+		public ConstantContext constant() {
+			return getRuleContext(ConstantContext.class,0);
+		}
+		public ConstantDefinitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_constantDefinition; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitConstantDefinition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConstantDefinitionContext constantDefinition() throws RecognitionException {
+		ConstantDefinitionContext _localctx = new ConstantDefinitionContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_constantDefinition);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(258);
+			identifier();
+			setState(259);
+			match(EQUAL);
+			setState(260);
+			constant();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConstantChrContext extends ParserRuleContext {
+		public ConstantChrContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_constantChr; }
+	 
+		public ConstantChrContext() { }
+		public void copyFrom(ConstantChrContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class ExprCharValContext extends ConstantChrContext {
+		public TerminalNode CHR() { return getToken(pascalParser.CHR, 0); }
+		public TerminalNode LPAREN() { return getToken(pascalParser.LPAREN, 0); }
+		public UnsignedIntegerContext unsignedInteger() {
+			return getRuleContext(UnsignedIntegerContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(pascalParser.RPAREN, 0); }
+		public ExprCharValContext(ConstantChrContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitExprCharVal(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConstantChrContext constantChr() throws RecognitionException {
+		ConstantChrContext _localctx = new ConstantChrContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_constantChr);
+		try {
+			_localctx = new ExprCharValContext(_localctx);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(262);
+			match(CHR);
+			setState(263);
+			match(LPAREN);
+			setState(264);
+			unsignedInteger();
+			setState(265);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConstantContext extends ParserRuleContext {
+		public UnsignedNumberContext unsignedNumber() {
+			return getRuleContext(UnsignedNumberContext.class,0);
+		}
+		public SignContext sign() {
+			return getRuleContext(SignContext.class,0);
+		}
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public StringContext string() {
+			return getRuleContext(StringContext.class,0);
+		}
+		public ConstantChrContext constantChr() {
+			return getRuleContext(ConstantChrContext.class,0);
+		}
+		public ConstantContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_constant; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitConstant(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConstantContext constant() throws RecognitionException {
+		ConstantContext _localctx = new ConstantContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_constant);
+		try {
+			setState(277);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,7,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(267);
+				unsignedNumber();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(268);
+				sign();
+				setState(269);
+				unsignedNumber();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(271);
+				identifier();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(272);
+				sign();
+				setState(273);
+				identifier();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(275);
+				string();
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(276);
+				constantChr();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class UnsignedNumberContext extends ParserRuleContext {
+		public UnsignedIntegerContext unsignedInteger() {
+			return getRuleContext(UnsignedIntegerContext.class,0);
+		}
+		public UnsignedRealContext unsignedReal() {
+			return getRuleContext(UnsignedRealContext.class,0);
+		}
+		public UnsignedNumberContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_unsignedNumber; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitUnsignedNumber(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final UnsignedNumberContext unsignedNumber() throws RecognitionException {
+		UnsignedNumberContext _localctx = new UnsignedNumberContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_unsignedNumber);
+		try {
+			setState(281);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case NUM_INT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(279);
+				unsignedInteger();
+				}
+				break;
+			case NUM_REAL:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(280);
+				unsignedReal();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class UnsignedIntegerContext extends ParserRuleContext {
+		public UnsignedIntegerContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_unsignedInteger; }
+	 
+		public UnsignedIntegerContext() { }
+		public void copyFrom(UnsignedIntegerContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class ExprIntValContext extends UnsignedIntegerContext {
+		public TerminalNode NUM_INT() { return getToken(pascalParser.NUM_INT, 0); }
+		public ExprIntValContext(UnsignedIntegerContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitExprIntVal(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final UnsignedIntegerContext unsignedInteger() throws RecognitionException {
+		UnsignedIntegerContext _localctx = new UnsignedIntegerContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_unsignedInteger);
+		try {
+			_localctx = new ExprIntValContext(_localctx);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(283);
+			match(NUM_INT);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class UnsignedRealContext extends ParserRuleContext {
+		public UnsignedRealContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_unsignedReal; }
+	 
+		public UnsignedRealContext() { }
+		public void copyFrom(UnsignedRealContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class ExprRealValContext extends UnsignedRealContext {
+		public TerminalNode NUM_REAL() { return getToken(pascalParser.NUM_REAL, 0); }
+		public ExprRealValContext(UnsignedRealContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitExprRealVal(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final UnsignedRealContext unsignedReal() throws RecognitionException {
+		UnsignedRealContext _localctx = new UnsignedRealContext(_ctx, getState());
+		enterRule(_localctx, 26, RULE_unsignedReal);
+		try {
+			_localctx = new ExprRealValContext(_localctx);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(285);
+			match(NUM_REAL);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SignContext extends ParserRuleContext {
+		public TerminalNode PLUS() { return getToken(pascalParser.PLUS, 0); }
+		public TerminalNode MINUS() { return getToken(pascalParser.MINUS, 0); }
+		public SignContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_sign; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitSign(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SignContext sign() throws RecognitionException {
+		SignContext _localctx = new SignContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_sign);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(287);
+			_la = _input.LA(1);
+			if ( !(_la==PLUS || _la==MINUS) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Bool_Context extends ParserRuleContext {
+		public Bool_Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bool_; }
+	 
+		public Bool_Context() { }
+		public void copyFrom(Bool_Context ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class ExprFalseContext extends Bool_Context {
+		public TerminalNode FALSE() { return getToken(pascalParser.FALSE, 0); }
+		public ExprFalseContext(Bool_Context ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitExprFalse(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class ExprTrueContext extends Bool_Context {
+		public TerminalNode TRUE() { return getToken(pascalParser.TRUE, 0); }
+		public ExprTrueContext(Bool_Context ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitExprTrue(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Bool_Context bool_() throws RecognitionException {
+		Bool_Context _localctx = new Bool_Context(_ctx, getState());
+		enterRule(_localctx, 30, RULE_bool_);
+		try {
+			setState(291);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case TRUE:
+				_localctx = new ExprTrueContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(289);
+				match(TRUE);
+				}
+				break;
+			case FALSE:
+				_localctx = new ExprFalseContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(290);
+				match(FALSE);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StringContext extends ParserRuleContext {
+		public StringContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_string; }
+	 
+		public StringContext() { }
+		public void copyFrom(StringContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class ExprStrValContext extends StringContext {
+		public TerminalNode STRING_LITERAL() { return getToken(pascalParser.STRING_LITERAL, 0); }
+		public ExprStrValContext(StringContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitExprStrVal(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StringContext string() throws RecognitionException {
+		StringContext _localctx = new StringContext(_ctx, getState());
+		enterRule(_localctx, 32, RULE_string);
+		try {
+			_localctx = new ExprStrValContext(_localctx);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(293);
+			match(STRING_LITERAL);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeDefinitionPartContext extends ParserRuleContext {
+		public TerminalNode TYPE() { return getToken(pascalParser.TYPE, 0); }
+		public List<TypeDefinitionContext> typeDefinition() {
+			return getRuleContexts(TypeDefinitionContext.class);
+		}
+		public TypeDefinitionContext typeDefinition(int i) {
+			return getRuleContext(TypeDefinitionContext.class,i);
+		}
+		public List<TerminalNode> SEMI() { return getTokens(pascalParser.SEMI); }
+		public TerminalNode SEMI(int i) {
+			return getToken(pascalParser.SEMI, i);
+		}
+		public TypeDefinitionPartContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeDefinitionPart; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitTypeDefinitionPart(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeDefinitionPartContext typeDefinitionPart() throws RecognitionException {
+		TypeDefinitionPartContext _localctx = new TypeDefinitionPartContext(_ctx, getState());
+		enterRule(_localctx, 34, RULE_typeDefinitionPart);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(295);
+			match(TYPE);
+			setState(299); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(296);
+				typeDefinition();
+				setState(297);
+				match(SEMI);
+				}
+				}
+				setState(301); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( _la==IDENT );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeDefinitionContext extends ParserRuleContext {
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public TerminalNode EQUAL() { return getToken(pascalParser.EQUAL, 0); }
+		public Type_Context type_() {
+			return getRuleContext(Type_Context.class,0);
+		}
+		public FunctionTypeContext functionType() {
+			return getRuleContext(FunctionTypeContext.class,0);
+		}
+		public ProcedureTypeContext procedureType() {
+			return getRuleContext(ProcedureTypeContext.class,0);
+		}
+		public TypeDefinitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeDefinition; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitTypeDefinition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeDefinitionContext typeDefinition() throws RecognitionException {
+		TypeDefinitionContext _localctx = new TypeDefinitionContext(_ctx, getState());
+		enterRule(_localctx, 36, RULE_typeDefinition);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(303);
+			identifier();
+			setState(304);
+			match(EQUAL);
+			setState(308);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case ARRAY:
+			case BOOLEAN:
+			case CHAR:
+			case CHR:
+			case FILE:
+			case INTEGER:
+			case PACKED:
+			case REAL:
+			case RECORD:
+			case SET:
+			case PLUS:
+			case MINUS:
+			case LPAREN:
+			case POINTER:
+			case STRING:
+			case IDENT:
+			case STRING_LITERAL:
+			case NUM_INT:
+			case NUM_REAL:
+				{
+				setState(305);
+				type_();
+				}
+				break;
+			case FUNCTION:
+				{
+				setState(306);
+				functionType();
+				}
+				break;
+			case PROCEDURE:
+				{
+				setState(307);
+				procedureType();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FunctionTypeContext extends ParserRuleContext {
+		public TerminalNode FUNCTION() { return getToken(pascalParser.FUNCTION, 0); }
+		public TerminalNode COLON() { return getToken(pascalParser.COLON, 0); }
+		public ResultTypeContext resultType() {
+			return getRuleContext(ResultTypeContext.class,0);
+		}
+		public FormalParameterListContext formalParameterList() {
+			return getRuleContext(FormalParameterListContext.class,0);
+		}
+		public FunctionTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_functionType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitFunctionType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FunctionTypeContext functionType() throws RecognitionException {
+		FunctionTypeContext _localctx = new FunctionTypeContext(_ctx, getState());
+		enterRule(_localctx, 38, RULE_functionType);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(310);
+			match(FUNCTION);
+			setState(312);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LPAREN) {
+				{
+				setState(311);
+				formalParameterList();
+				}
+			}
+
+			setState(314);
+			match(COLON);
+			setState(315);
+			resultType();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ProcedureTypeContext extends ParserRuleContext {
+		public TerminalNode PROCEDURE() { return getToken(pascalParser.PROCEDURE, 0); }
+		public FormalParameterListContext formalParameterList() {
+			return getRuleContext(FormalParameterListContext.class,0);
+		}
+		public ProcedureTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_procedureType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitProcedureType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ProcedureTypeContext procedureType() throws RecognitionException {
+		ProcedureTypeContext _localctx = new ProcedureTypeContext(_ctx, getState());
+		enterRule(_localctx, 40, RULE_procedureType);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(317);
+			match(PROCEDURE);
+			setState(319);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LPAREN) {
+				{
+				setState(318);
+				formalParameterList();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Type_Context extends ParserRuleContext {
+		public SimpleTypeContext simpleType() {
+			return getRuleContext(SimpleTypeContext.class,0);
+		}
+		public StructuredTypeContext structuredType() {
+			return getRuleContext(StructuredTypeContext.class,0);
+		}
+		public PointerTypeContext pointerType() {
+			return getRuleContext(PointerTypeContext.class,0);
+		}
+		public Type_Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_type_; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitType_(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Type_Context type_() throws RecognitionException {
+		Type_Context _localctx = new Type_Context(_ctx, getState());
+		enterRule(_localctx, 42, RULE_type_);
+		try {
+			setState(324);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case BOOLEAN:
+			case CHAR:
+			case CHR:
+			case INTEGER:
+			case REAL:
+			case PLUS:
+			case MINUS:
+			case LPAREN:
+			case STRING:
+			case IDENT:
+			case STRING_LITERAL:
+			case NUM_INT:
+			case NUM_REAL:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(321);
+				simpleType();
+				}
+				break;
+			case ARRAY:
+			case FILE:
+			case PACKED:
+			case RECORD:
+			case SET:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(322);
+				structuredType();
+				}
+				break;
+			case POINTER:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(323);
+				pointerType();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SimpleTypeContext extends ParserRuleContext {
+		public ScalarTypeContext scalarType() {
+			return getRuleContext(ScalarTypeContext.class,0);
+		}
+		public SubrangeTypeContext subrangeType() {
+			return getRuleContext(SubrangeTypeContext.class,0);
+		}
+		public TypeIdentifierContext typeIdentifier() {
+			return getRuleContext(TypeIdentifierContext.class,0);
+		}
+		public StringtypeContext stringtype() {
+			return getRuleContext(StringtypeContext.class,0);
+		}
+		public SimpleTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_simpleType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitSimpleType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SimpleTypeContext simpleType() throws RecognitionException {
+		SimpleTypeContext _localctx = new SimpleTypeContext(_ctx, getState());
+		enterRule(_localctx, 44, RULE_simpleType);
+		try {
+			setState(330);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,15,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(326);
+				scalarType();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(327);
+				subrangeType();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(328);
+				typeIdentifier();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(329);
+				stringtype();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ScalarTypeContext extends ParserRuleContext {
+		public TerminalNode LPAREN() { return getToken(pascalParser.LPAREN, 0); }
+		public IdentifierListContext identifierList() {
+			return getRuleContext(IdentifierListContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(pascalParser.RPAREN, 0); }
+		public ScalarTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_scalarType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitScalarType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ScalarTypeContext scalarType() throws RecognitionException {
+		ScalarTypeContext _localctx = new ScalarTypeContext(_ctx, getState());
+		enterRule(_localctx, 46, RULE_scalarType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(332);
+			match(LPAREN);
+			setState(333);
+			identifierList();
+			setState(334);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SubrangeTypeContext extends ParserRuleContext {
+		public List<ConstantContext> constant() {
+			return getRuleContexts(ConstantContext.class);
+		}
+		public ConstantContext constant(int i) {
+			return getRuleContext(ConstantContext.class,i);
+		}
+		public TerminalNode DOTDOT() { return getToken(pascalParser.DOTDOT, 0); }
+		public SubrangeTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_subrangeType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitSubrangeType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SubrangeTypeContext subrangeType() throws RecognitionException {
+		SubrangeTypeContext _localctx = new SubrangeTypeContext(_ctx, getState());
+		enterRule(_localctx, 48, RULE_subrangeType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(336);
+			constant();
+			setState(337);
+			match(DOTDOT);
+			setState(338);
+			constant();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeIdentifierContext extends ParserRuleContext {
+		public TypeIdentifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeIdentifier; }
+	 
+		public TypeIdentifierContext() { }
+		public void copyFrom(TypeIdentifierContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class CharTypeContext extends TypeIdentifierContext {
+		public TerminalNode CHAR() { return getToken(pascalParser.CHAR, 0); }
+		public CharTypeContext(TypeIdentifierContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitCharType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class RealTypeContext extends TypeIdentifierContext {
+		public TerminalNode REAL() { return getToken(pascalParser.REAL, 0); }
+		public RealTypeContext(TypeIdentifierContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitRealType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class IdentContext extends TypeIdentifierContext {
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public IdentContext(TypeIdentifierContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitIdent(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class StrTypeContext extends TypeIdentifierContext {
+		public TerminalNode STRING() { return getToken(pascalParser.STRING, 0); }
+		public StrTypeContext(TypeIdentifierContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitStrType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class IntTypeContext extends TypeIdentifierContext {
+		public TerminalNode INTEGER() { return getToken(pascalParser.INTEGER, 0); }
+		public IntTypeContext(TypeIdentifierContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitIntType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class BoolTypeContext extends TypeIdentifierContext {
+		public TerminalNode BOOLEAN() { return getToken(pascalParser.BOOLEAN, 0); }
+		public BoolTypeContext(TypeIdentifierContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitBoolType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeIdentifierContext typeIdentifier() throws RecognitionException {
+		TypeIdentifierContext _localctx = new TypeIdentifierContext(_ctx, getState());
+		enterRule(_localctx, 50, RULE_typeIdentifier);
+		try {
+			setState(346);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case IDENT:
+				_localctx = new IdentContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(340);
+				identifier();
+				}
+				break;
+			case CHAR:
+				_localctx = new CharTypeContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(341);
+				match(CHAR);
+				}
+				break;
+			case BOOLEAN:
+				_localctx = new BoolTypeContext(_localctx);
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(342);
+				match(BOOLEAN);
+				}
+				break;
+			case INTEGER:
+				_localctx = new IntTypeContext(_localctx);
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(343);
+				match(INTEGER);
+				}
+				break;
+			case REAL:
+				_localctx = new RealTypeContext(_localctx);
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(344);
+				match(REAL);
+				}
+				break;
+			case STRING:
+				_localctx = new StrTypeContext(_localctx);
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(345);
+				match(STRING);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StructuredTypeContext extends ParserRuleContext {
+		public TerminalNode PACKED() { return getToken(pascalParser.PACKED, 0); }
+		public UnpackedStructuredTypeContext unpackedStructuredType() {
+			return getRuleContext(UnpackedStructuredTypeContext.class,0);
+		}
+		public StructuredTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_structuredType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitStructuredType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StructuredTypeContext structuredType() throws RecognitionException {
+		StructuredTypeContext _localctx = new StructuredTypeContext(_ctx, getState());
+		enterRule(_localctx, 52, RULE_structuredType);
+		try {
+			setState(351);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case PACKED:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(348);
+				match(PACKED);
+				setState(349);
+				unpackedStructuredType();
+				}
+				break;
+			case ARRAY:
+			case FILE:
+			case RECORD:
+			case SET:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(350);
+				unpackedStructuredType();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class UnpackedStructuredTypeContext extends ParserRuleContext {
+		public ArrayTypeContext arrayType() {
+			return getRuleContext(ArrayTypeContext.class,0);
+		}
+		public RecordTypeContext recordType() {
+			return getRuleContext(RecordTypeContext.class,0);
+		}
+		public SetTypeContext setType() {
+			return getRuleContext(SetTypeContext.class,0);
+		}
+		public FileTypeContext fileType() {
+			return getRuleContext(FileTypeContext.class,0);
+		}
+		public UnpackedStructuredTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_unpackedStructuredType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitUnpackedStructuredType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final UnpackedStructuredTypeContext unpackedStructuredType() throws RecognitionException {
+		UnpackedStructuredTypeContext _localctx = new UnpackedStructuredTypeContext(_ctx, getState());
+		enterRule(_localctx, 54, RULE_unpackedStructuredType);
+		try {
+			setState(357);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case ARRAY:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(353);
+				arrayType();
+				}
+				break;
+			case RECORD:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(354);
+				recordType();
+				}
+				break;
+			case SET:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(355);
+				setType();
+				}
+				break;
+			case FILE:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(356);
+				fileType();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StringtypeContext extends ParserRuleContext {
+		public TerminalNode STRING() { return getToken(pascalParser.STRING, 0); }
+		public TerminalNode LBRACK() { return getToken(pascalParser.LBRACK, 0); }
+		public TerminalNode RBRACK() { return getToken(pascalParser.RBRACK, 0); }
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public UnsignedNumberContext unsignedNumber() {
+			return getRuleContext(UnsignedNumberContext.class,0);
+		}
+		public StringtypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_stringtype; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitStringtype(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StringtypeContext stringtype() throws RecognitionException {
+		StringtypeContext _localctx = new StringtypeContext(_ctx, getState());
+		enterRule(_localctx, 56, RULE_stringtype);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(359);
+			match(STRING);
+			setState(360);
+			match(LBRACK);
+			setState(363);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case IDENT:
+				{
+				setState(361);
+				identifier();
+				}
+				break;
+			case NUM_INT:
+			case NUM_REAL:
+				{
+				setState(362);
+				unsignedNumber();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(365);
+			match(RBRACK);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ArrayTypeContext extends ParserRuleContext {
+		public TerminalNode ARRAY() { return getToken(pascalParser.ARRAY, 0); }
+		public TerminalNode LBRACK() { return getToken(pascalParser.LBRACK, 0); }
+		public TypeListContext typeList() {
+			return getRuleContext(TypeListContext.class,0);
+		}
+		public TerminalNode RBRACK() { return getToken(pascalParser.RBRACK, 0); }
+		public TerminalNode OF() { return getToken(pascalParser.OF, 0); }
+		public ComponentTypeContext componentType() {
+			return getRuleContext(ComponentTypeContext.class,0);
+		}
+		public TerminalNode LBRACK2() { return getToken(pascalParser.LBRACK2, 0); }
+		public TerminalNode RBRACK2() { return getToken(pascalParser.RBRACK2, 0); }
+		public ArrayTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_arrayType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitArrayType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ArrayTypeContext arrayType() throws RecognitionException {
+		ArrayTypeContext _localctx = new ArrayTypeContext(_ctx, getState());
+		enterRule(_localctx, 58, RULE_arrayType);
+		try {
+			setState(381);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,20,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(367);
+				match(ARRAY);
+				setState(368);
+				match(LBRACK);
+				setState(369);
+				typeList();
+				setState(370);
+				match(RBRACK);
+				setState(371);
+				match(OF);
+				setState(372);
+				componentType();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(374);
+				match(ARRAY);
+				setState(375);
+				match(LBRACK2);
+				setState(376);
+				typeList();
+				setState(377);
+				match(RBRACK2);
+				setState(378);
+				match(OF);
+				setState(379);
+				componentType();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeListContext extends ParserRuleContext {
+		public List<IndexTypeContext> indexType() {
+			return getRuleContexts(IndexTypeContext.class);
+		}
+		public IndexTypeContext indexType(int i) {
+			return getRuleContext(IndexTypeContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(pascalParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(pascalParser.COMMA, i);
+		}
+		public TypeListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeList; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitTypeList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeListContext typeList() throws RecognitionException {
+		TypeListContext _localctx = new TypeListContext(_ctx, getState());
+		enterRule(_localctx, 60, RULE_typeList);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(383);
+			indexType();
+			setState(388);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(384);
+				match(COMMA);
+				setState(385);
+				indexType();
+				}
+				}
+				setState(390);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IndexTypeContext extends ParserRuleContext {
+		public SimpleTypeContext simpleType() {
+			return getRuleContext(SimpleTypeContext.class,0);
+		}
+		public IndexTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_indexType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitIndexType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final IndexTypeContext indexType() throws RecognitionException {
+		IndexTypeContext _localctx = new IndexTypeContext(_ctx, getState());
+		enterRule(_localctx, 62, RULE_indexType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(391);
+			simpleType();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ComponentTypeContext extends ParserRuleContext {
+		public Type_Context type_() {
+			return getRuleContext(Type_Context.class,0);
+		}
+		public ComponentTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_componentType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitComponentType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ComponentTypeContext componentType() throws RecognitionException {
+		ComponentTypeContext _localctx = new ComponentTypeContext(_ctx, getState());
+		enterRule(_localctx, 64, RULE_componentType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(393);
+			type_();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RecordTypeContext extends ParserRuleContext {
+		public TerminalNode RECORD() { return getToken(pascalParser.RECORD, 0); }
+		public TerminalNode END() { return getToken(pascalParser.END, 0); }
+		public FieldListContext fieldList() {
+			return getRuleContext(FieldListContext.class,0);
+		}
+		public RecordTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_recordType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitRecordType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final RecordTypeContext recordType() throws RecognitionException {
+		RecordTypeContext _localctx = new RecordTypeContext(_ctx, getState());
+		enterRule(_localctx, 66, RULE_recordType);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(395);
+			match(RECORD);
+			setState(397);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==CASE || _la==IDENT) {
+				{
+				setState(396);
+				fieldList();
+				}
+			}
+
+			setState(399);
+			match(END);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FieldListContext extends ParserRuleContext {
+		public FixedPartContext fixedPart() {
+			return getRuleContext(FixedPartContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(pascalParser.SEMI, 0); }
+		public VariantPartContext variantPart() {
+			return getRuleContext(VariantPartContext.class,0);
+		}
+		public FieldListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fieldList; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitFieldList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FieldListContext fieldList() throws RecognitionException {
+		FieldListContext _localctx = new FieldListContext(_ctx, getState());
+		enterRule(_localctx, 68, RULE_fieldList);
+		int _la;
+		try {
+			setState(407);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case IDENT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(401);
+				fixedPart();
+				setState(404);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==SEMI) {
+					{
+					setState(402);
+					match(SEMI);
+					setState(403);
+					variantPart();
+					}
+				}
+
+				}
+				break;
+			case CASE:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(406);
+				variantPart();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FixedPartContext extends ParserRuleContext {
+		public List<RecordSectionContext> recordSection() {
+			return getRuleContexts(RecordSectionContext.class);
+		}
+		public RecordSectionContext recordSection(int i) {
+			return getRuleContext(RecordSectionContext.class,i);
+		}
+		public List<TerminalNode> SEMI() { return getTokens(pascalParser.SEMI); }
+		public TerminalNode SEMI(int i) {
+			return getToken(pascalParser.SEMI, i);
+		}
+		public FixedPartContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fixedPart; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitFixedPart(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FixedPartContext fixedPart() throws RecognitionException {
+		FixedPartContext _localctx = new FixedPartContext(_ctx, getState());
+		enterRule(_localctx, 70, RULE_fixedPart);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(409);
+			recordSection();
+			setState(414);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,25,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(410);
+					match(SEMI);
+					setState(411);
+					recordSection();
+					}
+					} 
+				}
+				setState(416);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,25,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RecordSectionContext extends ParserRuleContext {
+		public IdentifierListContext identifierList() {
+			return getRuleContext(IdentifierListContext.class,0);
+		}
+		public TerminalNode COLON() { return getToken(pascalParser.COLON, 0); }
+		public Type_Context type_() {
+			return getRuleContext(Type_Context.class,0);
+		}
+		public RecordSectionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_recordSection; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitRecordSection(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final RecordSectionContext recordSection() throws RecognitionException {
+		RecordSectionContext _localctx = new RecordSectionContext(_ctx, getState());
+		enterRule(_localctx, 72, RULE_recordSection);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(417);
+			identifierList();
+			setState(418);
+			match(COLON);
+			setState(419);
+			type_();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VariantPartContext extends ParserRuleContext {
+		public TerminalNode CASE() { return getToken(pascalParser.CASE, 0); }
+		public TagContext tag() {
+			return getRuleContext(TagContext.class,0);
+		}
+		public TerminalNode OF() { return getToken(pascalParser.OF, 0); }
+		public List<VariantContext> variant() {
+			return getRuleContexts(VariantContext.class);
+		}
+		public VariantContext variant(int i) {
+			return getRuleContext(VariantContext.class,i);
+		}
+		public List<TerminalNode> SEMI() { return getTokens(pascalParser.SEMI); }
+		public TerminalNode SEMI(int i) {
+			return getToken(pascalParser.SEMI, i);
+		}
+		public VariantPartContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_variantPart; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitVariantPart(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final VariantPartContext variantPart() throws RecognitionException {
+		VariantPartContext _localctx = new VariantPartContext(_ctx, getState());
+		enterRule(_localctx, 74, RULE_variantPart);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(421);
+			match(CASE);
+			setState(422);
+			tag();
+			setState(423);
+			match(OF);
+			setState(424);
+			variant();
+			setState(429);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==SEMI) {
+				{
+				{
+				setState(425);
+				match(SEMI);
+				setState(426);
+				variant();
+				}
+				}
+				setState(431);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TagContext extends ParserRuleContext {
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public TerminalNode COLON() { return getToken(pascalParser.COLON, 0); }
+		public TypeIdentifierContext typeIdentifier() {
+			return getRuleContext(TypeIdentifierContext.class,0);
+		}
+		public TagContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_tag; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitTag(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TagContext tag() throws RecognitionException {
+		TagContext _localctx = new TagContext(_ctx, getState());
+		enterRule(_localctx, 76, RULE_tag);
+		try {
+			setState(437);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,27,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(432);
+				identifier();
+				setState(433);
+				match(COLON);
+				setState(434);
+				typeIdentifier();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(436);
+				typeIdentifier();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VariantContext extends ParserRuleContext {
+		public ConstListContext constList() {
+			return getRuleContext(ConstListContext.class,0);
+		}
+		public TerminalNode COLON() { return getToken(pascalParser.COLON, 0); }
+		public TerminalNode LPAREN() { return getToken(pascalParser.LPAREN, 0); }
+		public FieldListContext fieldList() {
+			return getRuleContext(FieldListContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(pascalParser.RPAREN, 0); }
+		public VariantContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_variant; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitVariant(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final VariantContext variant() throws RecognitionException {
+		VariantContext _localctx = new VariantContext(_ctx, getState());
+		enterRule(_localctx, 78, RULE_variant);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(439);
+			constList();
+			setState(440);
+			match(COLON);
+			setState(441);
+			match(LPAREN);
+			setState(442);
+			fieldList();
+			setState(443);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SetTypeContext extends ParserRuleContext {
+		public TerminalNode SET() { return getToken(pascalParser.SET, 0); }
+		public TerminalNode OF() { return getToken(pascalParser.OF, 0); }
+		public BaseTypeContext baseType() {
+			return getRuleContext(BaseTypeContext.class,0);
+		}
+		public SetTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_setType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitSetType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SetTypeContext setType() throws RecognitionException {
+		SetTypeContext _localctx = new SetTypeContext(_ctx, getState());
+		enterRule(_localctx, 80, RULE_setType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(445);
+			match(SET);
+			setState(446);
+			match(OF);
+			setState(447);
+			baseType();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BaseTypeContext extends ParserRuleContext {
+		public SimpleTypeContext simpleType() {
+			return getRuleContext(SimpleTypeContext.class,0);
+		}
+		public BaseTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_baseType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitBaseType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BaseTypeContext baseType() throws RecognitionException {
+		BaseTypeContext _localctx = new BaseTypeContext(_ctx, getState());
+		enterRule(_localctx, 82, RULE_baseType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(449);
+			simpleType();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FileTypeContext extends ParserRuleContext {
+		public TerminalNode FILE() { return getToken(pascalParser.FILE, 0); }
+		public TerminalNode OF() { return getToken(pascalParser.OF, 0); }
+		public Type_Context type_() {
+			return getRuleContext(Type_Context.class,0);
+		}
+		public FileTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fileType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitFileType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FileTypeContext fileType() throws RecognitionException {
+		FileTypeContext _localctx = new FileTypeContext(_ctx, getState());
+		enterRule(_localctx, 84, RULE_fileType);
+		try {
+			setState(455);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,28,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(451);
+				match(FILE);
+				setState(452);
+				match(OF);
+				setState(453);
+				type_();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(454);
+				match(FILE);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PointerTypeContext extends ParserRuleContext {
+		public TerminalNode POINTER() { return getToken(pascalParser.POINTER, 0); }
+		public TypeIdentifierContext typeIdentifier() {
+			return getRuleContext(TypeIdentifierContext.class,0);
+		}
+		public PointerTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_pointerType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitPointerType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final PointerTypeContext pointerType() throws RecognitionException {
+		PointerTypeContext _localctx = new PointerTypeContext(_ctx, getState());
+		enterRule(_localctx, 86, RULE_pointerType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(457);
+			match(POINTER);
+			setState(458);
+			typeIdentifier();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VariableDeclarationPartContext extends ParserRuleContext {
+		public TerminalNode VAR() { return getToken(pascalParser.VAR, 0); }
+		public List<VariableDeclarationContext> variableDeclaration() {
+			return getRuleContexts(VariableDeclarationContext.class);
+		}
+		public VariableDeclarationContext variableDeclaration(int i) {
+			return getRuleContext(VariableDeclarationContext.class,i);
+		}
+		public List<TerminalNode> SEMI() { return getTokens(pascalParser.SEMI); }
+		public TerminalNode SEMI(int i) {
+			return getToken(pascalParser.SEMI, i);
+		}
+		public VariableDeclarationPartContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_variableDeclarationPart; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitVariableDeclarationPart(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final VariableDeclarationPartContext variableDeclarationPart() throws RecognitionException {
+		VariableDeclarationPartContext _localctx = new VariableDeclarationPartContext(_ctx, getState());
+		enterRule(_localctx, 88, RULE_variableDeclarationPart);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(460);
+			match(VAR);
+			setState(461);
+			variableDeclaration();
+			setState(466);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,29,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(462);
+					match(SEMI);
+					setState(463);
+					variableDeclaration();
+					}
+					} 
+				}
+				setState(468);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,29,_ctx);
+			}
+			setState(469);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VariableDeclarationContext extends ParserRuleContext {
+		public IdentifierListContext identifierList() {
+			return getRuleContext(IdentifierListContext.class,0);
+		}
+		public TerminalNode COLON() { return getToken(pascalParser.COLON, 0); }
+		public Type_Context type_() {
+			return getRuleContext(Type_Context.class,0);
+		}
+		public VariableDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_variableDeclaration; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitVariableDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final VariableDeclarationContext variableDeclaration() throws RecognitionException {
+		VariableDeclarationContext _localctx = new VariableDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 90, RULE_variableDeclaration);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(471);
+			identifierList();
+			setState(472);
+			match(COLON);
+			setState(473);
+			type_();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ProcedureAndFunctionDeclarationPartContext extends ParserRuleContext {
+		public ProcedureOrFunctionDeclarationContext procedureOrFunctionDeclaration() {
+			return getRuleContext(ProcedureOrFunctionDeclarationContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(pascalParser.SEMI, 0); }
+		public ProcedureAndFunctionDeclarationPartContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_procedureAndFunctionDeclarationPart; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitProcedureAndFunctionDeclarationPart(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ProcedureAndFunctionDeclarationPartContext procedureAndFunctionDeclarationPart() throws RecognitionException {
+		ProcedureAndFunctionDeclarationPartContext _localctx = new ProcedureAndFunctionDeclarationPartContext(_ctx, getState());
+		enterRule(_localctx, 92, RULE_procedureAndFunctionDeclarationPart);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(475);
+			procedureOrFunctionDeclaration();
+			setState(476);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ProcedureOrFunctionDeclarationContext extends ParserRuleContext {
+		public ProcedureDeclarationContext procedureDeclaration() {
+			return getRuleContext(ProcedureDeclarationContext.class,0);
+		}
+		public FunctionDeclarationContext functionDeclaration() {
+			return getRuleContext(FunctionDeclarationContext.class,0);
+		}
+		public ProcedureOrFunctionDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_procedureOrFunctionDeclaration; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitProcedureOrFunctionDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ProcedureOrFunctionDeclarationContext procedureOrFunctionDeclaration() throws RecognitionException {
+		ProcedureOrFunctionDeclarationContext _localctx = new ProcedureOrFunctionDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 94, RULE_procedureOrFunctionDeclaration);
+		try {
+			setState(480);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case PROCEDURE:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(478);
+				procedureDeclaration();
+				}
+				break;
+			case FUNCTION:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(479);
+				functionDeclaration();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ProcedureDeclarationContext extends ParserRuleContext {
+		public TerminalNode PROCEDURE() { return getToken(pascalParser.PROCEDURE, 0); }
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(pascalParser.SEMI, 0); }
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public FormalParameterListContext formalParameterList() {
+			return getRuleContext(FormalParameterListContext.class,0);
+		}
+		public ProcedureDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_procedureDeclaration; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitProcedureDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ProcedureDeclarationContext procedureDeclaration() throws RecognitionException {
+		ProcedureDeclarationContext _localctx = new ProcedureDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 96, RULE_procedureDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(482);
+			match(PROCEDURE);
+			setState(483);
+			identifier();
+			setState(485);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LPAREN) {
+				{
+				setState(484);
+				formalParameterList();
+				}
+			}
+
+			setState(487);
+			match(SEMI);
+			setState(488);
+			block();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FormalParameterListContext extends ParserRuleContext {
+		public TerminalNode LPAREN() { return getToken(pascalParser.LPAREN, 0); }
+		public List<FormalParameterSectionContext> formalParameterSection() {
+			return getRuleContexts(FormalParameterSectionContext.class);
+		}
+		public FormalParameterSectionContext formalParameterSection(int i) {
+			return getRuleContext(FormalParameterSectionContext.class,i);
+		}
+		public TerminalNode RPAREN() { return getToken(pascalParser.RPAREN, 0); }
+		public List<TerminalNode> SEMI() { return getTokens(pascalParser.SEMI); }
+		public TerminalNode SEMI(int i) {
+			return getToken(pascalParser.SEMI, i);
+		}
+		public FormalParameterListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_formalParameterList; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitFormalParameterList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FormalParameterListContext formalParameterList() throws RecognitionException {
+		FormalParameterListContext _localctx = new FormalParameterListContext(_ctx, getState());
+		enterRule(_localctx, 98, RULE_formalParameterList);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(490);
+			match(LPAREN);
+			setState(491);
+			formalParameterSection();
+			setState(496);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==SEMI) {
+				{
+				{
+				setState(492);
+				match(SEMI);
+				setState(493);
+				formalParameterSection();
+				}
+				}
+				setState(498);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(499);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FormalParameterSectionContext extends ParserRuleContext {
+		public ParameterGroupContext parameterGroup() {
+			return getRuleContext(ParameterGroupContext.class,0);
+		}
+		public TerminalNode VAR() { return getToken(pascalParser.VAR, 0); }
+		public TerminalNode FUNCTION() { return getToken(pascalParser.FUNCTION, 0); }
+		public TerminalNode PROCEDURE() { return getToken(pascalParser.PROCEDURE, 0); }
+		public FormalParameterSectionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_formalParameterSection; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitFormalParameterSection(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FormalParameterSectionContext formalParameterSection() throws RecognitionException {
+		FormalParameterSectionContext _localctx = new FormalParameterSectionContext(_ctx, getState());
+		enterRule(_localctx, 100, RULE_formalParameterSection);
+		try {
+			setState(508);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case IDENT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(501);
+				parameterGroup();
+				}
+				break;
+			case VAR:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(502);
+				match(VAR);
+				setState(503);
+				parameterGroup();
+				}
+				break;
+			case FUNCTION:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(504);
+				match(FUNCTION);
+				setState(505);
+				parameterGroup();
+				}
+				break;
+			case PROCEDURE:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(506);
+				match(PROCEDURE);
+				setState(507);
+				parameterGroup();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ParameterGroupContext extends ParserRuleContext {
+		public IdentifierListContext identifierList() {
+			return getRuleContext(IdentifierListContext.class,0);
+		}
+		public TerminalNode COLON() { return getToken(pascalParser.COLON, 0); }
+		public TypeIdentifierContext typeIdentifier() {
+			return getRuleContext(TypeIdentifierContext.class,0);
+		}
+		public ParameterGroupContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_parameterGroup; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitParameterGroup(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ParameterGroupContext parameterGroup() throws RecognitionException {
+		ParameterGroupContext _localctx = new ParameterGroupContext(_ctx, getState());
+		enterRule(_localctx, 102, RULE_parameterGroup);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(510);
+			identifierList();
+			setState(511);
+			match(COLON);
+			setState(512);
+			typeIdentifier();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IdentifierListContext extends ParserRuleContext {
+		public List<IdentifierContext> identifier() {
+			return getRuleContexts(IdentifierContext.class);
+		}
+		public IdentifierContext identifier(int i) {
+			return getRuleContext(IdentifierContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(pascalParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(pascalParser.COMMA, i);
+		}
+		public IdentifierListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_identifierList; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitIdentifierList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final IdentifierListContext identifierList() throws RecognitionException {
+		IdentifierListContext _localctx = new IdentifierListContext(_ctx, getState());
+		enterRule(_localctx, 104, RULE_identifierList);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(514);
+			identifier();
+			setState(519);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(515);
+				match(COMMA);
+				setState(516);
+				identifier();
+				}
+				}
+				setState(521);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConstListContext extends ParserRuleContext {
+		public List<ConstantContext> constant() {
+			return getRuleContexts(ConstantContext.class);
+		}
+		public ConstantContext constant(int i) {
+			return getRuleContext(ConstantContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(pascalParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(pascalParser.COMMA, i);
+		}
+		public ConstListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_constList; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitConstList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConstListContext constList() throws RecognitionException {
+		ConstListContext _localctx = new ConstListContext(_ctx, getState());
+		enterRule(_localctx, 106, RULE_constList);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(522);
+			constant();
+			setState(527);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(523);
+				match(COMMA);
+				setState(524);
+				constant();
+				}
+				}
+				setState(529);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FunctionDeclarationContext extends ParserRuleContext {
+		public TerminalNode FUNCTION() { return getToken(pascalParser.FUNCTION, 0); }
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public TerminalNode COLON() { return getToken(pascalParser.COLON, 0); }
+		public ResultTypeContext resultType() {
+			return getRuleContext(ResultTypeContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(pascalParser.SEMI, 0); }
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public FormalParameterListContext formalParameterList() {
+			return getRuleContext(FormalParameterListContext.class,0);
+		}
+		public FunctionDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_functionDeclaration; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitFunctionDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FunctionDeclarationContext functionDeclaration() throws RecognitionException {
+		FunctionDeclarationContext _localctx = new FunctionDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 108, RULE_functionDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(530);
+			match(FUNCTION);
+			setState(531);
+			identifier();
+			setState(533);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LPAREN) {
+				{
+				setState(532);
+				formalParameterList();
+				}
+			}
+
+			setState(535);
+			match(COLON);
+			setState(536);
+			resultType();
+			setState(537);
+			match(SEMI);
+			setState(538);
+			block();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ResultTypeContext extends ParserRuleContext {
+		public TypeIdentifierContext typeIdentifier() {
+			return getRuleContext(TypeIdentifierContext.class,0);
+		}
+		public ResultTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_resultType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitResultType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ResultTypeContext resultType() throws RecognitionException {
+		ResultTypeContext _localctx = new ResultTypeContext(_ctx, getState());
+		enterRule(_localctx, 110, RULE_resultType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(540);
+			typeIdentifier();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StatementContext extends ParserRuleContext {
+		public LabelContext label() {
+			return getRuleContext(LabelContext.class,0);
+		}
+		public TerminalNode COLON() { return getToken(pascalParser.COLON, 0); }
+		public UnlabelledStatementContext unlabelledStatement() {
+			return getRuleContext(UnlabelledStatementContext.class,0);
+		}
+		public StatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statement; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementContext statement() throws RecognitionException {
+		StatementContext _localctx = new StatementContext(_ctx, getState());
+		enterRule(_localctx, 112, RULE_statement);
+		try {
+			setState(547);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case NUM_INT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(542);
+				label();
+				setState(543);
+				match(COLON);
+				setState(544);
+				unlabelledStatement();
+				}
+				break;
+			case BEGIN:
+			case CASE:
+			case ELSE:
+			case END:
+			case FOR:
+			case GOTO:
+			case IF:
+			case REPEAT:
+			case UNTIL:
+			case WHILE:
+			case WITH:
+			case SEMI:
+			case AT:
+			case IDENT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(546);
+				unlabelledStatement();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class UnlabelledStatementContext extends ParserRuleContext {
+		public SimpleStatementContext simpleStatement() {
+			return getRuleContext(SimpleStatementContext.class,0);
+		}
+		public StructuredStatementContext structuredStatement() {
+			return getRuleContext(StructuredStatementContext.class,0);
+		}
+		public UnlabelledStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_unlabelledStatement; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitUnlabelledStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final UnlabelledStatementContext unlabelledStatement() throws RecognitionException {
+		UnlabelledStatementContext _localctx = new UnlabelledStatementContext(_ctx, getState());
+		enterRule(_localctx, 114, RULE_unlabelledStatement);
+		try {
+			setState(551);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case ELSE:
+			case END:
+			case GOTO:
+			case UNTIL:
+			case SEMI:
+			case AT:
+			case IDENT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(549);
+				simpleStatement();
+				}
+				break;
+			case BEGIN:
+			case CASE:
+			case FOR:
+			case IF:
+			case REPEAT:
+			case WHILE:
+			case WITH:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(550);
+				structuredStatement();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SimpleStatementContext extends ParserRuleContext {
+		public AssignmentStatementContext assignmentStatement() {
+			return getRuleContext(AssignmentStatementContext.class,0);
+		}
+		public ProcedureStatementContext procedureStatement() {
+			return getRuleContext(ProcedureStatementContext.class,0);
+		}
+		public GotoStatementContext gotoStatement() {
+			return getRuleContext(GotoStatementContext.class,0);
+		}
+		public EmptyStatementContext emptyStatement() {
+			return getRuleContext(EmptyStatementContext.class,0);
+		}
+		public SimpleStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_simpleStatement; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitSimpleStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SimpleStatementContext simpleStatement() throws RecognitionException {
+		SimpleStatementContext _localctx = new SimpleStatementContext(_ctx, getState());
+		enterRule(_localctx, 116, RULE_simpleStatement);
+		try {
+			setState(557);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(553);
+				assignmentStatement();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(554);
+				procedureStatement();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(555);
+				gotoStatement();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(556);
+				emptyStatement();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AssignmentStatementContext extends ParserRuleContext {
+		public VariableContext variable() {
+			return getRuleContext(VariableContext.class,0);
+		}
+		public TerminalNode ASSIGN() { return getToken(pascalParser.ASSIGN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public AssignmentStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_assignmentStatement; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitAssignmentStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AssignmentStatementContext assignmentStatement() throws RecognitionException {
+		AssignmentStatementContext _localctx = new AssignmentStatementContext(_ctx, getState());
+		enterRule(_localctx, 118, RULE_assignmentStatement);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(559);
+			variable();
+			setState(560);
+			match(ASSIGN);
+			setState(561);
+			expression();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VariableContext extends ParserRuleContext {
+		public TerminalNode AT() { return getToken(pascalParser.AT, 0); }
+		public List<IdentifierContext> identifier() {
+			return getRuleContexts(IdentifierContext.class);
+		}
+		public IdentifierContext identifier(int i) {
+			return getRuleContext(IdentifierContext.class,i);
+		}
+		public List<TerminalNode> LBRACK() { return getTokens(pascalParser.LBRACK); }
+		public TerminalNode LBRACK(int i) {
+			return getToken(pascalParser.LBRACK, i);
+		}
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public List<TerminalNode> RBRACK() { return getTokens(pascalParser.RBRACK); }
+		public TerminalNode RBRACK(int i) {
+			return getToken(pascalParser.RBRACK, i);
+		}
+		public List<TerminalNode> LBRACK2() { return getTokens(pascalParser.LBRACK2); }
+		public TerminalNode LBRACK2(int i) {
+			return getToken(pascalParser.LBRACK2, i);
+		}
+		public List<TerminalNode> RBRACK2() { return getTokens(pascalParser.RBRACK2); }
+		public TerminalNode RBRACK2(int i) {
+			return getToken(pascalParser.RBRACK2, i);
+		}
+		public List<TerminalNode> DOT() { return getTokens(pascalParser.DOT); }
+		public TerminalNode DOT(int i) {
+			return getToken(pascalParser.DOT, i);
+		}
+		public List<TerminalNode> POINTER() { return getTokens(pascalParser.POINTER); }
+		public TerminalNode POINTER(int i) {
+			return getToken(pascalParser.POINTER, i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(pascalParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(pascalParser.COMMA, i);
+		}
+		public VariableContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_variable; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitVariable(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final VariableContext variable() throws RecognitionException {
+		VariableContext _localctx = new VariableContext(_ctx, getState());
+		enterRule(_localctx, 120, RULE_variable);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(566);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case AT:
+				{
+				setState(563);
+				match(AT);
+				setState(564);
+				identifier();
+				}
+				break;
+			case IDENT:
+				{
+				setState(565);
+				identifier();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(595);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << LBRACK) | (1L << LBRACK2) | (1L << POINTER) | (1L << DOT))) != 0)) {
+				{
+				setState(593);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case LBRACK:
+					{
+					setState(568);
+					match(LBRACK);
+					setState(569);
+					expression();
+					setState(574);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==COMMA) {
+						{
+						{
+						setState(570);
+						match(COMMA);
+						setState(571);
+						expression();
+						}
+						}
+						setState(576);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					setState(577);
+					match(RBRACK);
+					}
+					break;
+				case LBRACK2:
+					{
+					setState(579);
+					match(LBRACK2);
+					setState(580);
+					expression();
+					setState(585);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==COMMA) {
+						{
+						{
+						setState(581);
+						match(COMMA);
+						setState(582);
+						expression();
+						}
+						}
+						setState(587);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					setState(588);
+					match(RBRACK2);
+					}
+					break;
+				case DOT:
+					{
+					setState(590);
+					match(DOT);
+					setState(591);
+					identifier();
+					}
+					break;
+				case POINTER:
+					{
+					setState(592);
+					match(POINTER);
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				setState(597);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExpressionContext extends ParserRuleContext {
+		public SimpleExpressionContext simpleExpression() {
+			return getRuleContext(SimpleExpressionContext.class,0);
+		}
+		public RelationaloperatorContext relationaloperator() {
+			return getRuleContext(RelationaloperatorContext.class,0);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expression; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExpressionContext expression() throws RecognitionException {
+		ExpressionContext _localctx = new ExpressionContext(_ctx, getState());
+		enterRule(_localctx, 122, RULE_expression);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(598);
+			simpleExpression();
+			setState(602);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << IN) | (1L << EQUAL) | (1L << NOT_EQUAL) | (1L << LT) | (1L << LE) | (1L << GE) | (1L << GT))) != 0)) {
+				{
+				setState(599);
+				relationaloperator();
+				setState(600);
+				expression();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RelationaloperatorContext extends ParserRuleContext {
+		public Token op;
+		public TerminalNode EQUAL() { return getToken(pascalParser.EQUAL, 0); }
+		public TerminalNode NOT_EQUAL() { return getToken(pascalParser.NOT_EQUAL, 0); }
+		public TerminalNode LT() { return getToken(pascalParser.LT, 0); }
+		public TerminalNode LE() { return getToken(pascalParser.LE, 0); }
+		public TerminalNode GE() { return getToken(pascalParser.GE, 0); }
+		public TerminalNode GT() { return getToken(pascalParser.GT, 0); }
+		public TerminalNode IN() { return getToken(pascalParser.IN, 0); }
+		public RelationaloperatorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_relationaloperator; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitRelationaloperator(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final RelationaloperatorContext relationaloperator() throws RecognitionException {
+		RelationaloperatorContext _localctx = new RelationaloperatorContext(_ctx, getState());
+		enterRule(_localctx, 124, RULE_relationaloperator);
+		try {
+			setState(611);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case EQUAL:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(604);
+				((RelationaloperatorContext)_localctx).op = match(EQUAL);
+				}
+				break;
+			case NOT_EQUAL:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(605);
+				((RelationaloperatorContext)_localctx).op = match(NOT_EQUAL);
+				}
+				break;
+			case LT:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(606);
+				((RelationaloperatorContext)_localctx).op = match(LT);
+				}
+				break;
+			case LE:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(607);
+				((RelationaloperatorContext)_localctx).op = match(LE);
+				}
+				break;
+			case GE:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(608);
+				((RelationaloperatorContext)_localctx).op = match(GE);
+				}
+				break;
+			case GT:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(609);
+				((RelationaloperatorContext)_localctx).op = match(GT);
+				}
+				break;
+			case IN:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(610);
+				((RelationaloperatorContext)_localctx).op = match(IN);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SimpleExpressionContext extends ParserRuleContext {
+		public TermContext term() {
+			return getRuleContext(TermContext.class,0);
+		}
+		public AdditiveoperatorContext additiveoperator() {
+			return getRuleContext(AdditiveoperatorContext.class,0);
+		}
+		public SimpleExpressionContext simpleExpression() {
+			return getRuleContext(SimpleExpressionContext.class,0);
+		}
+		public SimpleExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_simpleExpression; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitSimpleExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SimpleExpressionContext simpleExpression() throws RecognitionException {
+		SimpleExpressionContext _localctx = new SimpleExpressionContext(_ctx, getState());
+		enterRule(_localctx, 126, RULE_simpleExpression);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(613);
+			term();
+			setState(617);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << OR) | (1L << PLUS) | (1L << MINUS))) != 0)) {
+				{
+				setState(614);
+				additiveoperator();
+				setState(615);
+				simpleExpression();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AdditiveoperatorContext extends ParserRuleContext {
+		public Token op;
+		public TerminalNode PLUS() { return getToken(pascalParser.PLUS, 0); }
+		public TerminalNode MINUS() { return getToken(pascalParser.MINUS, 0); }
+		public TerminalNode OR() { return getToken(pascalParser.OR, 0); }
+		public AdditiveoperatorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_additiveoperator; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitAdditiveoperator(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AdditiveoperatorContext additiveoperator() throws RecognitionException {
+		AdditiveoperatorContext _localctx = new AdditiveoperatorContext(_ctx, getState());
+		enterRule(_localctx, 128, RULE_additiveoperator);
+		try {
+			setState(622);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case PLUS:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(619);
+				((AdditiveoperatorContext)_localctx).op = match(PLUS);
+				}
+				break;
+			case MINUS:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(620);
+				((AdditiveoperatorContext)_localctx).op = match(MINUS);
+				}
+				break;
+			case OR:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(621);
+				((AdditiveoperatorContext)_localctx).op = match(OR);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TermContext extends ParserRuleContext {
+		public SignedFactorContext signedFactor() {
+			return getRuleContext(SignedFactorContext.class,0);
+		}
+		public MultiplicativeoperatorContext multiplicativeoperator() {
+			return getRuleContext(MultiplicativeoperatorContext.class,0);
+		}
+		public TermContext term() {
+			return getRuleContext(TermContext.class,0);
+		}
+		public TermContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_term; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitTerm(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TermContext term() throws RecognitionException {
+		TermContext _localctx = new TermContext(_ctx, getState());
+		enterRule(_localctx, 130, RULE_term);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(624);
+			signedFactor();
+			setState(628);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << AND) | (1L << DIV) | (1L << MOD) | (1L << STAR) | (1L << SLASH))) != 0)) {
+				{
+				setState(625);
+				multiplicativeoperator();
+				setState(626);
+				term();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MultiplicativeoperatorContext extends ParserRuleContext {
+		public Token op;
+		public TerminalNode STAR() { return getToken(pascalParser.STAR, 0); }
+		public TerminalNode SLASH() { return getToken(pascalParser.SLASH, 0); }
+		public TerminalNode DIV() { return getToken(pascalParser.DIV, 0); }
+		public TerminalNode MOD() { return getToken(pascalParser.MOD, 0); }
+		public TerminalNode AND() { return getToken(pascalParser.AND, 0); }
+		public MultiplicativeoperatorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_multiplicativeoperator; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitMultiplicativeoperator(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final MultiplicativeoperatorContext multiplicativeoperator() throws RecognitionException {
+		MultiplicativeoperatorContext _localctx = new MultiplicativeoperatorContext(_ctx, getState());
+		enterRule(_localctx, 132, RULE_multiplicativeoperator);
+		try {
+			setState(635);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case STAR:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(630);
+				((MultiplicativeoperatorContext)_localctx).op = match(STAR);
+				}
+				break;
+			case SLASH:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(631);
+				((MultiplicativeoperatorContext)_localctx).op = match(SLASH);
+				}
+				break;
+			case DIV:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(632);
+				((MultiplicativeoperatorContext)_localctx).op = match(DIV);
+				}
+				break;
+			case MOD:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(633);
+				((MultiplicativeoperatorContext)_localctx).op = match(MOD);
+				}
+				break;
+			case AND:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(634);
+				((MultiplicativeoperatorContext)_localctx).op = match(AND);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SignedFactorContext extends ParserRuleContext {
+		public FactorContext factor() {
+			return getRuleContext(FactorContext.class,0);
+		}
+		public TerminalNode PLUS() { return getToken(pascalParser.PLUS, 0); }
+		public TerminalNode MINUS() { return getToken(pascalParser.MINUS, 0); }
+		public SignedFactorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_signedFactor; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitSignedFactor(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SignedFactorContext signedFactor() throws RecognitionException {
+		SignedFactorContext _localctx = new SignedFactorContext(_ctx, getState());
+		enterRule(_localctx, 134, RULE_signedFactor);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(638);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==PLUS || _la==MINUS) {
+				{
+				setState(637);
+				_la = _input.LA(1);
+				if ( !(_la==PLUS || _la==MINUS) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				}
+			}
+
+			setState(640);
+			factor();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FactorContext extends ParserRuleContext {
+		public VariableContext variable() {
+			return getRuleContext(VariableContext.class,0);
+		}
+		public TerminalNode LPAREN() { return getToken(pascalParser.LPAREN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(pascalParser.RPAREN, 0); }
+		public FunctionDesignatorContext functionDesignator() {
+			return getRuleContext(FunctionDesignatorContext.class,0);
+		}
+		public UnsignedConstantContext unsignedConstant() {
+			return getRuleContext(UnsignedConstantContext.class,0);
+		}
+		public Set_Context set_() {
+			return getRuleContext(Set_Context.class,0);
+		}
+		public TerminalNode NOT() { return getToken(pascalParser.NOT, 0); }
+		public FactorContext factor() {
+			return getRuleContext(FactorContext.class,0);
+		}
+		public Bool_Context bool_() {
+			return getRuleContext(Bool_Context.class,0);
+		}
+		public FactorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_factor; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitFactor(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FactorContext factor() throws RecognitionException {
+		FactorContext _localctx = new FactorContext(_ctx, getState());
+		enterRule(_localctx, 136, RULE_factor);
+		try {
+			setState(653);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,52,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(642);
+				variable();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(643);
+				match(LPAREN);
+				setState(644);
+				expression();
+				setState(645);
+				match(RPAREN);
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(647);
+				functionDesignator();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(648);
+				unsignedConstant();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(649);
+				set_();
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(650);
+				match(NOT);
+				setState(651);
+				factor();
+				}
+				break;
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(652);
+				bool_();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class UnsignedConstantContext extends ParserRuleContext {
+		public UnsignedNumberContext unsignedNumber() {
+			return getRuleContext(UnsignedNumberContext.class,0);
+		}
+		public ConstantChrContext constantChr() {
+			return getRuleContext(ConstantChrContext.class,0);
+		}
+		public StringContext string() {
+			return getRuleContext(StringContext.class,0);
+		}
+		public TerminalNode NIL() { return getToken(pascalParser.NIL, 0); }
+		public UnsignedConstantContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_unsignedConstant; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitUnsignedConstant(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final UnsignedConstantContext unsignedConstant() throws RecognitionException {
+		UnsignedConstantContext _localctx = new UnsignedConstantContext(_ctx, getState());
+		enterRule(_localctx, 138, RULE_unsignedConstant);
+		try {
+			setState(659);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case NUM_INT:
+			case NUM_REAL:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(655);
+				unsignedNumber();
+				}
+				break;
+			case CHR:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(656);
+				constantChr();
+				}
+				break;
+			case STRING_LITERAL:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(657);
+				string();
+				}
+				break;
+			case NIL:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(658);
+				match(NIL);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FunctionDesignatorContext extends ParserRuleContext {
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public TerminalNode LPAREN() { return getToken(pascalParser.LPAREN, 0); }
+		public ParameterListContext parameterList() {
+			return getRuleContext(ParameterListContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(pascalParser.RPAREN, 0); }
+		public FunctionDesignatorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_functionDesignator; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitFunctionDesignator(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FunctionDesignatorContext functionDesignator() throws RecognitionException {
+		FunctionDesignatorContext _localctx = new FunctionDesignatorContext(_ctx, getState());
+		enterRule(_localctx, 140, RULE_functionDesignator);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(661);
+			identifier();
+			setState(662);
+			match(LPAREN);
+			setState(663);
+			parameterList();
+			setState(664);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ParameterListContext extends ParserRuleContext {
+		public List<ActualParameterContext> actualParameter() {
+			return getRuleContexts(ActualParameterContext.class);
+		}
+		public ActualParameterContext actualParameter(int i) {
+			return getRuleContext(ActualParameterContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(pascalParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(pascalParser.COMMA, i);
+		}
+		public ParameterListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_parameterList; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitParameterList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ParameterListContext parameterList() throws RecognitionException {
+		ParameterListContext _localctx = new ParameterListContext(_ctx, getState());
+		enterRule(_localctx, 142, RULE_parameterList);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(667);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << CHR) | (1L << NIL) | (1L << NOT) | (1L << PLUS) | (1L << MINUS) | (1L << LPAREN) | (1L << LBRACK) | (1L << LBRACK2) | (1L << AT))) != 0) || ((((_la - 72)) & ~0x3f) == 0 && ((1L << (_la - 72)) & ((1L << (TRUE - 72)) | (1L << (FALSE - 72)) | (1L << (IDENT - 72)) | (1L << (STRING_LITERAL - 72)) | (1L << (NUM_INT - 72)) | (1L << (NUM_REAL - 72)))) != 0)) {
+				{
+				setState(666);
+				actualParameter();
+				}
+			}
+
+			setState(673);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(669);
+				match(COMMA);
+				setState(670);
+				actualParameter();
+				}
+				}
+				setState(675);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Set_Context extends ParserRuleContext {
+		public TerminalNode LBRACK() { return getToken(pascalParser.LBRACK, 0); }
+		public ElementListContext elementList() {
+			return getRuleContext(ElementListContext.class,0);
+		}
+		public TerminalNode RBRACK() { return getToken(pascalParser.RBRACK, 0); }
+		public TerminalNode LBRACK2() { return getToken(pascalParser.LBRACK2, 0); }
+		public TerminalNode RBRACK2() { return getToken(pascalParser.RBRACK2, 0); }
+		public Set_Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_set_; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitSet_(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Set_Context set_() throws RecognitionException {
+		Set_Context _localctx = new Set_Context(_ctx, getState());
+		enterRule(_localctx, 144, RULE_set_);
+		try {
+			setState(684);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case LBRACK:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(676);
+				match(LBRACK);
+				setState(677);
+				elementList();
+				setState(678);
+				match(RBRACK);
+				}
+				break;
+			case LBRACK2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(680);
+				match(LBRACK2);
+				setState(681);
+				elementList();
+				setState(682);
+				match(RBRACK2);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ElementListContext extends ParserRuleContext {
+		public List<ElementContext> element() {
+			return getRuleContexts(ElementContext.class);
+		}
+		public ElementContext element(int i) {
+			return getRuleContext(ElementContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(pascalParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(pascalParser.COMMA, i);
+		}
+		public ElementListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_elementList; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitElementList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ElementListContext elementList() throws RecognitionException {
+		ElementListContext _localctx = new ElementListContext(_ctx, getState());
+		enterRule(_localctx, 146, RULE_elementList);
+		int _la;
+		try {
+			setState(695);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case CHR:
+			case NIL:
+			case NOT:
+			case PLUS:
+			case MINUS:
+			case LPAREN:
+			case LBRACK:
+			case LBRACK2:
+			case AT:
+			case TRUE:
+			case FALSE:
+			case IDENT:
+			case STRING_LITERAL:
+			case NUM_INT:
+			case NUM_REAL:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(686);
+				element();
+				setState(691);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(687);
+					match(COMMA);
+					setState(688);
+					element();
+					}
+					}
+					setState(693);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+				break;
+			case RBRACK:
+			case RBRACK2:
+				enterOuterAlt(_localctx, 2);
+				{
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ElementContext extends ParserRuleContext {
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode DOTDOT() { return getToken(pascalParser.DOTDOT, 0); }
+		public ElementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_element; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitElement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ElementContext element() throws RecognitionException {
+		ElementContext _localctx = new ElementContext(_ctx, getState());
+		enterRule(_localctx, 148, RULE_element);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(697);
+			expression();
+			setState(700);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==DOTDOT) {
+				{
+				setState(698);
+				match(DOTDOT);
+				setState(699);
+				expression();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ProcedureStatementContext extends ParserRuleContext {
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public TerminalNode LPAREN() { return getToken(pascalParser.LPAREN, 0); }
+		public ParameterListContext parameterList() {
+			return getRuleContext(ParameterListContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(pascalParser.RPAREN, 0); }
+		public ProcedureStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_procedureStatement; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitProcedureStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ProcedureStatementContext procedureStatement() throws RecognitionException {
+		ProcedureStatementContext _localctx = new ProcedureStatementContext(_ctx, getState());
+		enterRule(_localctx, 150, RULE_procedureStatement);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(702);
+			identifier();
+			setState(707);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LPAREN) {
+				{
+				setState(703);
+				match(LPAREN);
+				setState(704);
+				parameterList();
+				setState(705);
+				match(RPAREN);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ActualParameterContext extends ParserRuleContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public List<ParameterwidthContext> parameterwidth() {
+			return getRuleContexts(ParameterwidthContext.class);
+		}
+		public ParameterwidthContext parameterwidth(int i) {
+			return getRuleContext(ParameterwidthContext.class,i);
+		}
+		public ActualParameterContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_actualParameter; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitActualParameter(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ActualParameterContext actualParameter() throws RecognitionException {
+		ActualParameterContext _localctx = new ActualParameterContext(_ctx, getState());
+		enterRule(_localctx, 152, RULE_actualParameter);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(709);
+			expression();
+			setState(713);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COLON) {
+				{
+				{
+				setState(710);
+				parameterwidth();
+				}
+				}
+				setState(715);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ParameterwidthContext extends ParserRuleContext {
+		public TerminalNode COLON() { return getToken(pascalParser.COLON, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ParameterwidthContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_parameterwidth; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitParameterwidth(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ParameterwidthContext parameterwidth() throws RecognitionException {
+		ParameterwidthContext _localctx = new ParameterwidthContext(_ctx, getState());
+		enterRule(_localctx, 154, RULE_parameterwidth);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(716);
+			match(COLON);
+			setState(717);
+			expression();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class GotoStatementContext extends ParserRuleContext {
+		public TerminalNode GOTO() { return getToken(pascalParser.GOTO, 0); }
+		public LabelContext label() {
+			return getRuleContext(LabelContext.class,0);
+		}
+		public GotoStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_gotoStatement; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitGotoStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final GotoStatementContext gotoStatement() throws RecognitionException {
+		GotoStatementContext _localctx = new GotoStatementContext(_ctx, getState());
+		enterRule(_localctx, 156, RULE_gotoStatement);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(719);
+			match(GOTO);
+			setState(720);
+			label();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EmptyStatementContext extends ParserRuleContext {
+		public EmptyStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_emptyStatement; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitEmptyStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final EmptyStatementContext emptyStatement() throws RecognitionException {
+		EmptyStatementContext _localctx = new EmptyStatementContext(_ctx, getState());
+		enterRule(_localctx, 158, RULE_emptyStatement);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Empty_Context extends ParserRuleContext {
+		public Empty_Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_empty_; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitEmpty_(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Empty_Context empty_() throws RecognitionException {
+		Empty_Context _localctx = new Empty_Context(_ctx, getState());
+		enterRule(_localctx, 160, RULE_empty_);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StructuredStatementContext extends ParserRuleContext {
+		public CompoundStatementContext compoundStatement() {
+			return getRuleContext(CompoundStatementContext.class,0);
+		}
+		public ConditionalStatementContext conditionalStatement() {
+			return getRuleContext(ConditionalStatementContext.class,0);
+		}
+		public RepetetiveStatementContext repetetiveStatement() {
+			return getRuleContext(RepetetiveStatementContext.class,0);
+		}
+		public WithStatementContext withStatement() {
+			return getRuleContext(WithStatementContext.class,0);
+		}
+		public StructuredStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_structuredStatement; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitStructuredStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StructuredStatementContext structuredStatement() throws RecognitionException {
+		StructuredStatementContext _localctx = new StructuredStatementContext(_ctx, getState());
+		enterRule(_localctx, 162, RULE_structuredStatement);
+		try {
+			setState(730);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case BEGIN:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(726);
+				compoundStatement();
+				}
+				break;
+			case CASE:
+			case IF:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(727);
+				conditionalStatement();
+				}
+				break;
+			case FOR:
+			case REPEAT:
+			case WHILE:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(728);
+				repetetiveStatement();
+				}
+				break;
+			case WITH:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(729);
+				withStatement();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CompoundStatementContext extends ParserRuleContext {
+		public TerminalNode BEGIN() { return getToken(pascalParser.BEGIN, 0); }
+		public StatementsContext statements() {
+			return getRuleContext(StatementsContext.class,0);
+		}
+		public TerminalNode END() { return getToken(pascalParser.END, 0); }
+		public CompoundStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_compoundStatement; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitCompoundStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final CompoundStatementContext compoundStatement() throws RecognitionException {
+		CompoundStatementContext _localctx = new CompoundStatementContext(_ctx, getState());
+		enterRule(_localctx, 164, RULE_compoundStatement);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(732);
+			match(BEGIN);
+			setState(733);
+			statements();
+			setState(734);
+			match(END);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StatementsContext extends ParserRuleContext {
+		public List<StatementContext> statement() {
+			return getRuleContexts(StatementContext.class);
+		}
+		public StatementContext statement(int i) {
+			return getRuleContext(StatementContext.class,i);
+		}
+		public List<TerminalNode> SEMI() { return getTokens(pascalParser.SEMI); }
+		public TerminalNode SEMI(int i) {
+			return getToken(pascalParser.SEMI, i);
+		}
+		public StatementsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statements; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitStatements(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementsContext statements() throws RecognitionException {
+		StatementsContext _localctx = new StatementsContext(_ctx, getState());
+		enterRule(_localctx, 166, RULE_statements);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(736);
+			statement();
+			setState(741);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==SEMI) {
+				{
+				{
+				setState(737);
+				match(SEMI);
+				setState(738);
+				statement();
+				}
+				}
+				setState(743);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConditionalStatementContext extends ParserRuleContext {
+		public IfStatementContext ifStatement() {
+			return getRuleContext(IfStatementContext.class,0);
+		}
+		public CaseStatementContext caseStatement() {
+			return getRuleContext(CaseStatementContext.class,0);
+		}
+		public ConditionalStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_conditionalStatement; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitConditionalStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConditionalStatementContext conditionalStatement() throws RecognitionException {
+		ConditionalStatementContext _localctx = new ConditionalStatementContext(_ctx, getState());
+		enterRule(_localctx, 168, RULE_conditionalStatement);
+		try {
+			setState(746);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case IF:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(744);
+				ifStatement();
+				}
+				break;
+			case CASE:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(745);
+				caseStatement();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IfStatementContext extends ParserRuleContext {
+		public TerminalNode IF() { return getToken(pascalParser.IF, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode THEN() { return getToken(pascalParser.THEN, 0); }
+		public List<StatementContext> statement() {
+			return getRuleContexts(StatementContext.class);
+		}
+		public StatementContext statement(int i) {
+			return getRuleContext(StatementContext.class,i);
+		}
+		public TerminalNode ELSE() { return getToken(pascalParser.ELSE, 0); }
+		public IfStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_ifStatement; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitIfStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final IfStatementContext ifStatement() throws RecognitionException {
+		IfStatementContext _localctx = new IfStatementContext(_ctx, getState());
+		enterRule(_localctx, 170, RULE_ifStatement);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(748);
+			match(IF);
+			setState(749);
+			expression();
+			setState(750);
+			match(THEN);
+			setState(751);
+			statement();
+			setState(754);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,65,_ctx) ) {
+			case 1:
+				{
+				setState(752);
+				match(ELSE);
+				setState(753);
+				statement();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CaseStatementContext extends ParserRuleContext {
+		public TerminalNode CASE() { return getToken(pascalParser.CASE, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode OF() { return getToken(pascalParser.OF, 0); }
+		public List<CaseListElementContext> caseListElement() {
+			return getRuleContexts(CaseListElementContext.class);
+		}
+		public CaseListElementContext caseListElement(int i) {
+			return getRuleContext(CaseListElementContext.class,i);
+		}
+		public TerminalNode END() { return getToken(pascalParser.END, 0); }
+		public List<TerminalNode> SEMI() { return getTokens(pascalParser.SEMI); }
+		public TerminalNode SEMI(int i) {
+			return getToken(pascalParser.SEMI, i);
+		}
+		public TerminalNode ELSE() { return getToken(pascalParser.ELSE, 0); }
+		public StatementsContext statements() {
+			return getRuleContext(StatementsContext.class,0);
+		}
+		public CaseStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_caseStatement; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitCaseStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final CaseStatementContext caseStatement() throws RecognitionException {
+		CaseStatementContext _localctx = new CaseStatementContext(_ctx, getState());
+		enterRule(_localctx, 172, RULE_caseStatement);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(756);
+			match(CASE);
+			setState(757);
+			expression();
+			setState(758);
+			match(OF);
+			setState(759);
+			caseListElement();
+			setState(764);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,66,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(760);
+					match(SEMI);
+					setState(761);
+					caseListElement();
+					}
+					} 
+				}
+				setState(766);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,66,_ctx);
+			}
+			setState(770);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==SEMI) {
+				{
+				setState(767);
+				match(SEMI);
+				setState(768);
+				match(ELSE);
+				setState(769);
+				statements();
+				}
+			}
+
+			setState(772);
+			match(END);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CaseListElementContext extends ParserRuleContext {
+		public ConstListContext constList() {
+			return getRuleContext(ConstListContext.class,0);
+		}
+		public TerminalNode COLON() { return getToken(pascalParser.COLON, 0); }
+		public StatementContext statement() {
+			return getRuleContext(StatementContext.class,0);
+		}
+		public CaseListElementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_caseListElement; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitCaseListElement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final CaseListElementContext caseListElement() throws RecognitionException {
+		CaseListElementContext _localctx = new CaseListElementContext(_ctx, getState());
+		enterRule(_localctx, 174, RULE_caseListElement);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(774);
+			constList();
+			setState(775);
+			match(COLON);
+			setState(776);
+			statement();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RepetetiveStatementContext extends ParserRuleContext {
+		public WhileStatementContext whileStatement() {
+			return getRuleContext(WhileStatementContext.class,0);
+		}
+		public RepeatStatementContext repeatStatement() {
+			return getRuleContext(RepeatStatementContext.class,0);
+		}
+		public ForStatementContext forStatement() {
+			return getRuleContext(ForStatementContext.class,0);
+		}
+		public RepetetiveStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_repetetiveStatement; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitRepetetiveStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final RepetetiveStatementContext repetetiveStatement() throws RecognitionException {
+		RepetetiveStatementContext _localctx = new RepetetiveStatementContext(_ctx, getState());
+		enterRule(_localctx, 176, RULE_repetetiveStatement);
+		try {
+			setState(781);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case WHILE:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(778);
+				whileStatement();
+				}
+				break;
+			case REPEAT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(779);
+				repeatStatement();
+				}
+				break;
+			case FOR:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(780);
+				forStatement();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class WhileStatementContext extends ParserRuleContext {
+		public TerminalNode WHILE() { return getToken(pascalParser.WHILE, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode DO() { return getToken(pascalParser.DO, 0); }
+		public StatementContext statement() {
+			return getRuleContext(StatementContext.class,0);
+		}
+		public WhileStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_whileStatement; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitWhileStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final WhileStatementContext whileStatement() throws RecognitionException {
+		WhileStatementContext _localctx = new WhileStatementContext(_ctx, getState());
+		enterRule(_localctx, 178, RULE_whileStatement);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(783);
+			match(WHILE);
+			setState(784);
+			expression();
+			setState(785);
+			match(DO);
+			setState(786);
+			statement();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RepeatStatementContext extends ParserRuleContext {
+		public TerminalNode REPEAT() { return getToken(pascalParser.REPEAT, 0); }
+		public StatementsContext statements() {
+			return getRuleContext(StatementsContext.class,0);
+		}
+		public TerminalNode UNTIL() { return getToken(pascalParser.UNTIL, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public RepeatStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_repeatStatement; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitRepeatStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final RepeatStatementContext repeatStatement() throws RecognitionException {
+		RepeatStatementContext _localctx = new RepeatStatementContext(_ctx, getState());
+		enterRule(_localctx, 180, RULE_repeatStatement);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(788);
+			match(REPEAT);
+			setState(789);
+			statements();
+			setState(790);
+			match(UNTIL);
+			setState(791);
+			expression();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ForStatementContext extends ParserRuleContext {
+		public TerminalNode FOR() { return getToken(pascalParser.FOR, 0); }
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public TerminalNode ASSIGN() { return getToken(pascalParser.ASSIGN, 0); }
+		public ForListContext forList() {
+			return getRuleContext(ForListContext.class,0);
+		}
+		public TerminalNode DO() { return getToken(pascalParser.DO, 0); }
+		public StatementContext statement() {
+			return getRuleContext(StatementContext.class,0);
+		}
+		public ForStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_forStatement; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitForStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ForStatementContext forStatement() throws RecognitionException {
+		ForStatementContext _localctx = new ForStatementContext(_ctx, getState());
+		enterRule(_localctx, 182, RULE_forStatement);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(793);
+			match(FOR);
+			setState(794);
+			identifier();
+			setState(795);
+			match(ASSIGN);
+			setState(796);
+			forList();
+			setState(797);
+			match(DO);
+			setState(798);
+			statement();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ForListContext extends ParserRuleContext {
+		public InitialValueContext initialValue() {
+			return getRuleContext(InitialValueContext.class,0);
+		}
+		public FinalValueContext finalValue() {
+			return getRuleContext(FinalValueContext.class,0);
+		}
+		public TerminalNode TO() { return getToken(pascalParser.TO, 0); }
+		public TerminalNode DOWNTO() { return getToken(pascalParser.DOWNTO, 0); }
+		public ForListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_forList; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitForList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ForListContext forList() throws RecognitionException {
+		ForListContext _localctx = new ForListContext(_ctx, getState());
+		enterRule(_localctx, 184, RULE_forList);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(800);
+			initialValue();
+			setState(801);
+			_la = _input.LA(1);
+			if ( !(_la==DOWNTO || _la==TO) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			setState(802);
+			finalValue();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InitialValueContext extends ParserRuleContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public InitialValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_initialValue; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitInitialValue(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final InitialValueContext initialValue() throws RecognitionException {
+		InitialValueContext _localctx = new InitialValueContext(_ctx, getState());
+		enterRule(_localctx, 186, RULE_initialValue);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(804);
+			expression();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FinalValueContext extends ParserRuleContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public FinalValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_finalValue; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitFinalValue(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FinalValueContext finalValue() throws RecognitionException {
+		FinalValueContext _localctx = new FinalValueContext(_ctx, getState());
+		enterRule(_localctx, 188, RULE_finalValue);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(806);
+			expression();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class WithStatementContext extends ParserRuleContext {
+		public TerminalNode WITH() { return getToken(pascalParser.WITH, 0); }
+		public RecordVariableListContext recordVariableList() {
+			return getRuleContext(RecordVariableListContext.class,0);
+		}
+		public TerminalNode DO() { return getToken(pascalParser.DO, 0); }
+		public StatementContext statement() {
+			return getRuleContext(StatementContext.class,0);
+		}
+		public WithStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_withStatement; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitWithStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final WithStatementContext withStatement() throws RecognitionException {
+		WithStatementContext _localctx = new WithStatementContext(_ctx, getState());
+		enterRule(_localctx, 190, RULE_withStatement);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(808);
+			match(WITH);
+			setState(809);
+			recordVariableList();
+			setState(810);
+			match(DO);
+			setState(811);
+			statement();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RecordVariableListContext extends ParserRuleContext {
+		public List<VariableContext> variable() {
+			return getRuleContexts(VariableContext.class);
+		}
+		public VariableContext variable(int i) {
+			return getRuleContext(VariableContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(pascalParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(pascalParser.COMMA, i);
+		}
+		public RecordVariableListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_recordVariableList; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof pascalParserVisitor ) return ((pascalParserVisitor<? extends T>)visitor).visitRecordVariableList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final RecordVariableListContext recordVariableList() throws RecognitionException {
+		RecordVariableListContext _localctx = new RecordVariableListContext(_ctx, getState());
+		enterRule(_localctx, 192, RULE_recordVariableList);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(813);
+			variable();
+			setState(818);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(814);
+				match(COMMA);
+				setState(815);
+				variable();
+				}
+				}
+				setState(820);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static final String _serializedATN =
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3R\u0338\4\2\t\2\4"+
+		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
+		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
+		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"+
+		"\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t="+
+		"\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\4D\tD\4E\tE\4F\tF\4G\tG\4H\tH\4I"+
+		"\tI\4J\tJ\4K\tK\4L\tL\4M\tM\4N\tN\4O\tO\4P\tP\4Q\tQ\4R\tR\4S\tS\4T\tT"+
+		"\4U\tU\4V\tV\4W\tW\4X\tX\4Y\tY\4Z\tZ\4[\t[\4\\\t\\\4]\t]\4^\t^\4_\t_\4"+
+		"`\t`\4a\ta\4b\tb\3\2\3\2\5\2\u00c7\n\2\3\2\3\2\3\2\3\3\3\3\3\3\3\3\3\3"+
+		"\3\3\5\3\u00d2\n\3\3\3\3\3\3\3\3\3\3\3\3\3\5\3\u00da\n\3\3\4\3\4\3\5\3"+
+		"\5\3\5\3\5\3\5\3\5\3\5\7\5\u00e5\n\5\f\5\16\5\u00e8\13\5\3\5\3\5\3\6\3"+
+		"\6\3\6\3\6\3\7\3\7\3\7\3\7\7\7\u00f4\n\7\f\7\16\7\u00f7\13\7\3\7\3\7\3"+
+		"\b\3\b\3\t\3\t\3\t\3\t\6\t\u0101\n\t\r\t\16\t\u0102\3\n\3\n\3\n\3\n\3"+
+		"\13\3\13\3\13\3\13\3\13\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\5\f\u0118"+
+		"\n\f\3\r\3\r\5\r\u011c\n\r\3\16\3\16\3\17\3\17\3\20\3\20\3\21\3\21\5\21"+
+		"\u0126\n\21\3\22\3\22\3\23\3\23\3\23\3\23\6\23\u012e\n\23\r\23\16\23\u012f"+
+		"\3\24\3\24\3\24\3\24\3\24\5\24\u0137\n\24\3\25\3\25\5\25\u013b\n\25\3"+
+		"\25\3\25\3\25\3\26\3\26\5\26\u0142\n\26\3\27\3\27\3\27\5\27\u0147\n\27"+
+		"\3\30\3\30\3\30\3\30\5\30\u014d\n\30\3\31\3\31\3\31\3\31\3\32\3\32\3\32"+
+		"\3\32\3\33\3\33\3\33\3\33\3\33\3\33\5\33\u015d\n\33\3\34\3\34\3\34\5\34"+
+		"\u0162\n\34\3\35\3\35\3\35\3\35\5\35\u0168\n\35\3\36\3\36\3\36\3\36\5"+
+		"\36\u016e\n\36\3\36\3\36\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37"+
+		"\3\37\3\37\3\37\3\37\3\37\5\37\u0180\n\37\3 \3 \3 \7 \u0185\n \f \16 "+
+		"\u0188\13 \3!\3!\3\"\3\"\3#\3#\5#\u0190\n#\3#\3#\3$\3$\3$\5$\u0197\n$"+
+		"\3$\5$\u019a\n$\3%\3%\3%\7%\u019f\n%\f%\16%\u01a2\13%\3&\3&\3&\3&\3\'"+
+		"\3\'\3\'\3\'\3\'\3\'\7\'\u01ae\n\'\f\'\16\'\u01b1\13\'\3(\3(\3(\3(\3("+
+		"\5(\u01b8\n(\3)\3)\3)\3)\3)\3)\3*\3*\3*\3*\3+\3+\3,\3,\3,\3,\5,\u01ca"+
+		"\n,\3-\3-\3-\3.\3.\3.\3.\7.\u01d3\n.\f.\16.\u01d6\13.\3.\3.\3/\3/\3/\3"+
+		"/\3\60\3\60\3\60\3\61\3\61\5\61\u01e3\n\61\3\62\3\62\3\62\5\62\u01e8\n"+
+		"\62\3\62\3\62\3\62\3\63\3\63\3\63\3\63\7\63\u01f1\n\63\f\63\16\63\u01f4"+
+		"\13\63\3\63\3\63\3\64\3\64\3\64\3\64\3\64\3\64\3\64\5\64\u01ff\n\64\3"+
+		"\65\3\65\3\65\3\65\3\66\3\66\3\66\7\66\u0208\n\66\f\66\16\66\u020b\13"+
+		"\66\3\67\3\67\3\67\7\67\u0210\n\67\f\67\16\67\u0213\13\67\38\38\38\58"+
+		"\u0218\n8\38\38\38\38\38\39\39\3:\3:\3:\3:\3:\5:\u0226\n:\3;\3;\5;\u022a"+
+		"\n;\3<\3<\3<\3<\5<\u0230\n<\3=\3=\3=\3=\3>\3>\3>\5>\u0239\n>\3>\3>\3>"+
+		"\3>\7>\u023f\n>\f>\16>\u0242\13>\3>\3>\3>\3>\3>\3>\7>\u024a\n>\f>\16>"+
+		"\u024d\13>\3>\3>\3>\3>\3>\7>\u0254\n>\f>\16>\u0257\13>\3?\3?\3?\3?\5?"+
+		"\u025d\n?\3@\3@\3@\3@\3@\3@\3@\5@\u0266\n@\3A\3A\3A\3A\5A\u026c\nA\3B"+
+		"\3B\3B\5B\u0271\nB\3C\3C\3C\3C\5C\u0277\nC\3D\3D\3D\3D\3D\5D\u027e\nD"+
+		"\3E\5E\u0281\nE\3E\3E\3F\3F\3F\3F\3F\3F\3F\3F\3F\3F\3F\5F\u0290\nF\3G"+
+		"\3G\3G\3G\5G\u0296\nG\3H\3H\3H\3H\3H\3I\5I\u029e\nI\3I\3I\7I\u02a2\nI"+
+		"\fI\16I\u02a5\13I\3J\3J\3J\3J\3J\3J\3J\3J\5J\u02af\nJ\3K\3K\3K\7K\u02b4"+
+		"\nK\fK\16K\u02b7\13K\3K\5K\u02ba\nK\3L\3L\3L\5L\u02bf\nL\3M\3M\3M\3M\3"+
+		"M\5M\u02c6\nM\3N\3N\7N\u02ca\nN\fN\16N\u02cd\13N\3O\3O\3O\3P\3P\3P\3Q"+
+		"\3Q\3R\3R\3S\3S\3S\3S\5S\u02dd\nS\3T\3T\3T\3T\3U\3U\3U\7U\u02e6\nU\fU"+
+		"\16U\u02e9\13U\3V\3V\5V\u02ed\nV\3W\3W\3W\3W\3W\3W\5W\u02f5\nW\3X\3X\3"+
+		"X\3X\3X\3X\7X\u02fd\nX\fX\16X\u0300\13X\3X\3X\3X\5X\u0305\nX\3X\3X\3Y"+
+		"\3Y\3Y\3Y\3Z\3Z\3Z\5Z\u0310\nZ\3[\3[\3[\3[\3[\3\\\3\\\3\\\3\\\3\\\3]\3"+
+		"]\3]\3]\3]\3]\3]\3^\3^\3^\3^\3_\3_\3`\3`\3a\3a\3a\3a\3a\3b\3b\3b\7b\u0333"+
+		"\nb\fb\16b\u0336\13b\3b\2\2c\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \""+
+		"$&(*,.\60\62\64\668:<>@BDFHJLNPRTVXZ\\^`bdfhjlnprtvxz|~\u0080\u0082\u0084"+
+		"\u0086\u0088\u008a\u008c\u008e\u0090\u0092\u0094\u0096\u0098\u009a\u009c"+
+		"\u009e\u00a0\u00a2\u00a4\u00a6\u00a8\u00aa\u00ac\u00ae\u00b0\u00b2\u00b4"+
+		"\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\2\4\3\2+,\4\2\r\r%%\2\u0348"+
+		"\2\u00c4\3\2\2\2\4\u00d9\3\2\2\2\6\u00db\3\2\2\2\b\u00e6\3\2\2\2\n\u00eb"+
+		"\3\2\2\2\f\u00ef\3\2\2\2\16\u00fa\3\2\2\2\20\u00fc\3\2\2\2\22\u0104\3"+
+		"\2\2\2\24\u0108\3\2\2\2\26\u0117\3\2\2\2\30\u011b\3\2\2\2\32\u011d\3\2"+
+		"\2\2\34\u011f\3\2\2\2\36\u0121\3\2\2\2 \u0125\3\2\2\2\"\u0127\3\2\2\2"+
+		"$\u0129\3\2\2\2&\u0131\3\2\2\2(\u0138\3\2\2\2*\u013f\3\2\2\2,\u0146\3"+
+		"\2\2\2.\u014c\3\2\2\2\60\u014e\3\2\2\2\62\u0152\3\2\2\2\64\u015c\3\2\2"+
+		"\2\66\u0161\3\2\2\28\u0167\3\2\2\2:\u0169\3\2\2\2<\u017f\3\2\2\2>\u0181"+
+		"\3\2\2\2@\u0189\3\2\2\2B\u018b\3\2\2\2D\u018d\3\2\2\2F\u0199\3\2\2\2H"+
+		"\u019b\3\2\2\2J\u01a3\3\2\2\2L\u01a7\3\2\2\2N\u01b7\3\2\2\2P\u01b9\3\2"+
+		"\2\2R\u01bf\3\2\2\2T\u01c3\3\2\2\2V\u01c9\3\2\2\2X\u01cb\3\2\2\2Z\u01ce"+
+		"\3\2\2\2\\\u01d9\3\2\2\2^\u01dd\3\2\2\2`\u01e2\3\2\2\2b\u01e4\3\2\2\2"+
+		"d\u01ec\3\2\2\2f\u01fe\3\2\2\2h\u0200\3\2\2\2j\u0204\3\2\2\2l\u020c\3"+
+		"\2\2\2n\u0214\3\2\2\2p\u021e\3\2\2\2r\u0225\3\2\2\2t\u0229\3\2\2\2v\u022f"+
+		"\3\2\2\2x\u0231\3\2\2\2z\u0238\3\2\2\2|\u0258\3\2\2\2~\u0265\3\2\2\2\u0080"+
+		"\u0267\3\2\2\2\u0082\u0270\3\2\2\2\u0084\u0272\3\2\2\2\u0086\u027d\3\2"+
+		"\2\2\u0088\u0280\3\2\2\2\u008a\u028f\3\2\2\2\u008c\u0295\3\2\2\2\u008e"+
+		"\u0297\3\2\2\2\u0090\u029d\3\2\2\2\u0092\u02ae\3\2\2\2\u0094\u02b9\3\2"+
+		"\2\2\u0096\u02bb\3\2\2\2\u0098\u02c0\3\2\2\2\u009a\u02c7\3\2\2\2\u009c"+
+		"\u02ce\3\2\2\2\u009e\u02d1\3\2\2\2\u00a0\u02d4\3\2\2\2\u00a2\u02d6\3\2"+
+		"\2\2\u00a4\u02dc\3\2\2\2\u00a6\u02de\3\2\2\2\u00a8\u02e2\3\2\2\2\u00aa"+
+		"\u02ec\3\2\2\2\u00ac\u02ee\3\2\2\2\u00ae\u02f6\3\2\2\2\u00b0\u0308\3\2"+
+		"\2\2\u00b2\u030f\3\2\2\2\u00b4\u0311\3\2\2\2\u00b6\u0316\3\2\2\2\u00b8"+
+		"\u031b\3\2\2\2\u00ba\u0322\3\2\2\2\u00bc\u0326\3\2\2\2\u00be\u0328\3\2"+
+		"\2\2\u00c0\u032a\3\2\2\2\u00c2\u032f\3\2\2\2\u00c4\u00c6\5\4\3\2\u00c5"+
+		"\u00c7\7F\2\2\u00c6\u00c5\3\2\2\2\u00c6\u00c7\3\2\2\2\u00c7\u00c8\3\2"+
+		"\2\2\u00c8\u00c9\5\b\5\2\u00c9\u00ca\7A\2\2\u00ca\3\3\2\2\2\u00cb\u00cc"+
+		"\7\37\2\2\u00cc\u00d1\5\6\4\2\u00cd\u00ce\79\2\2\u00ce\u00cf\5j\66\2\u00cf"+
+		"\u00d0\7:\2\2\u00d0\u00d2\3\2\2\2\u00d1\u00cd\3\2\2\2\u00d1\u00d2\3\2"+
+		"\2\2\u00d2\u00d3\3\2\2\2\u00d3\u00d4\7\61\2\2\u00d4\u00da\3\2\2\2\u00d5"+
+		"\u00d6\7E\2\2\u00d6\u00d7\5\6\4\2\u00d7\u00d8\7\61\2\2\u00d8\u00da\3\2"+
+		"\2\2\u00d9\u00cb\3\2\2\2\u00d9\u00d5\3\2\2\2\u00da\5\3\2\2\2\u00db\u00dc"+
+		"\7O\2\2\u00dc\7\3\2\2\2\u00dd\u00e5\5\f\7\2\u00de\u00e5\5\20\t\2\u00df"+
+		"\u00e5\5$\23\2\u00e0\u00e5\5Z.\2\u00e1\u00e5\5^\60\2\u00e2\u00e5\5\n\6"+
+		"\2\u00e3\u00e5\7I\2\2\u00e4\u00dd\3\2\2\2\u00e4\u00de\3\2\2\2\u00e4\u00df"+
+		"\3\2\2\2\u00e4\u00e0\3\2\2\2\u00e4\u00e1\3\2\2\2\u00e4\u00e2\3\2\2\2\u00e4"+
+		"\u00e3\3\2\2\2\u00e5\u00e8\3\2\2\2\u00e6\u00e4\3\2\2\2\u00e6\u00e7\3\2"+
+		"\2\2\u00e7\u00e9\3\2\2\2\u00e8\u00e6\3\2\2\2\u00e9\u00ea\5\u00a6T\2\u00ea"+
+		"\t\3\2\2\2\u00eb\u00ec\7G\2\2\u00ec\u00ed\5j\66\2\u00ed\u00ee\7\61\2\2"+
+		"\u00ee\13\3\2\2\2\u00ef\u00f0\7\27\2\2\u00f0\u00f5\5\16\b\2\u00f1\u00f2"+
+		"\7\60\2\2\u00f2\u00f4\5\16\b\2\u00f3\u00f1\3\2\2\2\u00f4\u00f7\3\2\2\2"+
+		"\u00f5\u00f3\3\2\2\2\u00f5\u00f6\3\2\2\2\u00f6\u00f8\3\2\2\2\u00f7\u00f5"+
+		"\3\2\2\2\u00f8\u00f9\7\61\2\2\u00f9\r\3\2\2\2\u00fa\u00fb\5\32\16\2\u00fb"+
+		"\17\3\2\2\2\u00fc\u0100\7\n\2\2\u00fd\u00fe\5\22\n\2\u00fe\u00ff\7\61"+
+		"\2\2\u00ff\u0101\3\2\2\2\u0100\u00fd\3\2\2\2\u0101\u0102\3\2\2\2\u0102"+
+		"\u0100\3\2\2\2\u0102\u0103\3\2\2\2\u0103\21\3\2\2\2\u0104\u0105\5\6\4"+
+		"\2\u0105\u0106\7\63\2\2\u0106\u0107\5\26\f\2\u0107\23\3\2\2\2\u0108\u0109"+
+		"\7\t\2\2\u0109\u010a\79\2\2\u010a\u010b\5\32\16\2\u010b\u010c\7:\2\2\u010c"+
+		"\25\3\2\2\2\u010d\u0118\5\30\r\2\u010e\u010f\5\36\20\2\u010f\u0110\5\30"+
+		"\r\2\u0110\u0118\3\2\2\2\u0111\u0118\5\6\4\2\u0112\u0113\5\36\20\2\u0113"+
+		"\u0114\5\6\4\2\u0114\u0118\3\2\2\2\u0115\u0118\5\"\22\2\u0116\u0118\5"+
+		"\24\13\2\u0117\u010d\3\2\2\2\u0117\u010e\3\2\2\2\u0117\u0111\3\2\2\2\u0117"+
+		"\u0112\3\2\2\2\u0117\u0115\3\2\2\2\u0117\u0116\3\2\2\2\u0118\27\3\2\2"+
+		"\2\u0119\u011c\5\32\16\2\u011a\u011c\5\34\17\2\u011b\u0119\3\2\2\2\u011b"+
+		"\u011a\3\2\2\2\u011c\31\3\2\2\2\u011d\u011e\7Q\2\2\u011e\33\3\2\2\2\u011f"+
+		"\u0120\7R\2\2\u0120\35\3\2\2\2\u0121\u0122\t\2\2\2\u0122\37\3\2\2\2\u0123"+
+		"\u0126\7J\2\2\u0124\u0126\7K\2\2\u0125\u0123\3\2\2\2\u0125\u0124\3\2\2"+
+		"\2\u0126!\3\2\2\2\u0127\u0128\7P\2\2\u0128#\3\2\2\2\u0129\u012d\7&\2\2"+
+		"\u012a\u012b\5&\24\2\u012b\u012c\7\61\2\2\u012c\u012e\3\2\2\2\u012d\u012a"+
+		"\3\2\2\2\u012e\u012f\3\2\2\2\u012f\u012d\3\2\2\2\u012f\u0130\3\2\2\2\u0130"+
+		"%\3\2\2\2\u0131\u0132\5\6\4\2\u0132\u0136\7\63\2\2\u0133\u0137\5,\27\2"+
+		"\u0134\u0137\5(\25\2\u0135\u0137\5*\26\2\u0136\u0133\3\2\2\2\u0136\u0134"+
+		"\3\2\2\2\u0136\u0135\3\2\2\2\u0137\'\3\2\2\2\u0138\u013a\7\22\2\2\u0139"+
+		"\u013b\5d\63\2\u013a\u0139\3\2\2\2\u013a\u013b\3\2\2\2\u013b\u013c\3\2"+
+		"\2\2\u013c\u013d\7\62\2\2\u013d\u013e\5p9\2\u013e)\3\2\2\2\u013f\u0141"+
+		"\7\36\2\2\u0140\u0142\5d\63\2\u0141\u0140\3\2\2\2\u0141\u0142\3\2\2\2"+
+		"\u0142+\3\2\2\2\u0143\u0147\5.\30\2\u0144\u0147\5\66\34\2\u0145\u0147"+
+		"\5X-\2\u0146\u0143\3\2\2\2\u0146\u0144\3\2\2\2\u0146\u0145\3\2\2\2\u0147"+
+		"-\3\2\2\2\u0148\u014d\5\60\31\2\u0149\u014d\5\62\32\2\u014a\u014d\5\64"+
+		"\33\2\u014b\u014d\5:\36\2\u014c\u0148\3\2\2\2\u014c\u0149\3\2\2\2\u014c"+
+		"\u014a\3\2\2\2\u014c\u014b\3\2\2\2\u014d/\3\2\2\2\u014e\u014f\79\2\2\u014f"+
+		"\u0150\5j\66\2\u0150\u0151\7:\2\2\u0151\61\3\2\2\2\u0152\u0153\5\26\f"+
+		"\2\u0153\u0154\7B\2\2\u0154\u0155\5\26\f\2\u0155\63\3\2\2\2\u0156\u015d"+
+		"\5\6\4\2\u0157\u015d\7\b\2\2\u0158\u015d\7\6\2\2\u0159\u015d\7\26\2\2"+
+		"\u015a\u015d\7 \2\2\u015b\u015d\7H\2\2\u015c\u0156\3\2\2\2\u015c\u0157"+
+		"\3\2\2\2\u015c\u0158\3\2\2\2\u015c\u0159\3\2\2\2\u015c\u015a\3\2\2\2\u015c"+
+		"\u015b\3\2\2\2\u015d\65\3\2\2\2\u015e\u015f\7\35\2\2\u015f\u0162\58\35"+
+		"\2\u0160\u0162\58\35\2\u0161\u015e\3\2\2\2\u0161\u0160\3\2\2\2\u0162\67"+
+		"\3\2\2\2\u0163\u0168\5<\37\2\u0164\u0168\5D#\2\u0165\u0168\5R*\2\u0166"+
+		"\u0168\5V,\2\u0167\u0163\3\2\2\2\u0167\u0164\3\2\2\2\u0167\u0165\3\2\2"+
+		"\2\u0167\u0166\3\2\2\2\u01689\3\2\2\2\u0169\u016a\7H\2\2\u016a\u016d\7"+
+		";\2\2\u016b\u016e\5\6\4\2\u016c\u016e\5\30\r\2\u016d\u016b\3\2\2\2\u016d"+
+		"\u016c\3\2\2\2\u016e\u016f\3\2\2\2\u016f\u0170\7=\2\2\u0170;\3\2\2\2\u0171"+
+		"\u0172\7\4\2\2\u0172\u0173\7;\2\2\u0173\u0174\5> \2\u0174\u0175\7=\2\2"+
+		"\u0175\u0176\7\33\2\2\u0176\u0177\5B\"\2\u0177\u0180\3\2\2\2\u0178\u0179"+
+		"\7\4\2\2\u0179\u017a\7<\2\2\u017a\u017b\5> \2\u017b\u017c\7>\2\2\u017c"+
+		"\u017d\7\33\2\2\u017d\u017e\5B\"\2\u017e\u0180\3\2\2\2\u017f\u0171\3\2"+
+		"\2\2\u017f\u0178\3\2\2\2\u0180=\3\2\2\2\u0181\u0186\5@!\2\u0182\u0183"+
+		"\7\60\2\2\u0183\u0185\5@!\2\u0184\u0182\3\2\2\2\u0185\u0188\3\2\2\2\u0186"+
+		"\u0184\3\2\2\2\u0186\u0187\3\2\2\2\u0187?\3\2\2\2\u0188\u0186\3\2\2\2"+
+		"\u0189\u018a\5.\30\2\u018aA\3\2\2\2\u018b\u018c\5,\27\2\u018cC\3\2\2\2"+
+		"\u018d\u018f\7!\2\2\u018e\u0190\5F$\2\u018f\u018e\3\2\2\2\u018f\u0190"+
+		"\3\2\2\2\u0190\u0191\3\2\2\2\u0191\u0192\7\17\2\2\u0192E\3\2\2\2\u0193"+
+		"\u0196\5H%\2\u0194\u0195\7\61\2\2\u0195\u0197\5L\'\2\u0196\u0194\3\2\2"+
+		"\2\u0196\u0197\3\2\2\2\u0197\u019a\3\2\2\2\u0198\u019a\5L\'\2\u0199\u0193"+
+		"\3\2\2\2\u0199\u0198\3\2\2\2\u019aG\3\2\2\2\u019b\u01a0\5J&\2\u019c\u019d"+
+		"\7\61\2\2\u019d\u019f\5J&\2\u019e\u019c\3\2\2\2\u019f\u01a2\3\2\2\2\u01a0"+
+		"\u019e\3\2\2\2\u01a0\u01a1\3\2\2\2\u01a1I\3\2\2\2\u01a2\u01a0\3\2\2\2"+
+		"\u01a3\u01a4\5j\66\2\u01a4\u01a5\7\62\2\2\u01a5\u01a6\5,\27\2\u01a6K\3"+
+		"\2\2\2\u01a7\u01a8\7\7\2\2\u01a8\u01a9\5N(\2\u01a9\u01aa\7\33\2\2\u01aa"+
+		"\u01af\5P)\2\u01ab\u01ac\7\61\2\2\u01ac\u01ae\5P)\2\u01ad\u01ab\3\2\2"+
+		"\2\u01ae\u01b1\3\2\2\2\u01af\u01ad\3\2\2\2\u01af\u01b0\3\2\2\2\u01b0M"+
+		"\3\2\2\2\u01b1\u01af\3\2\2\2\u01b2\u01b3\5\6\4\2\u01b3\u01b4\7\62\2\2"+
+		"\u01b4\u01b5\5\64\33\2\u01b5\u01b8\3\2\2\2\u01b6\u01b8\5\64\33\2\u01b7"+
+		"\u01b2\3\2\2\2\u01b7\u01b6\3\2\2\2\u01b8O\3\2\2\2\u01b9\u01ba\5l\67\2"+
+		"\u01ba\u01bb\7\62\2\2\u01bb\u01bc\79\2\2\u01bc\u01bd\5F$\2\u01bd\u01be"+
+		"\7:\2\2\u01beQ\3\2\2\2\u01bf\u01c0\7#\2\2\u01c0\u01c1\7\33\2\2\u01c1\u01c2"+
+		"\5T+\2\u01c2S\3\2\2\2\u01c3\u01c4\5.\30\2\u01c4U\3\2\2\2\u01c5\u01c6\7"+
+		"\20\2\2\u01c6\u01c7\7\33\2\2\u01c7\u01ca\5,\27\2\u01c8\u01ca\7\20\2\2"+
+		"\u01c9\u01c5\3\2\2\2\u01c9\u01c8\3\2\2\2\u01caW\3\2\2\2\u01cb\u01cc\7"+
+		"?\2\2\u01cc\u01cd\5\64\33\2\u01cdY\3\2\2\2\u01ce\u01cf\7(\2\2\u01cf\u01d4"+
+		"\5\\/\2\u01d0\u01d1\7\61\2\2\u01d1\u01d3\5\\/\2\u01d2\u01d0\3\2\2\2\u01d3"+
+		"\u01d6\3\2\2\2\u01d4\u01d2\3\2\2\2\u01d4\u01d5\3\2\2\2\u01d5\u01d7\3\2"+
+		"\2\2\u01d6\u01d4\3\2\2\2\u01d7\u01d8\7\61\2\2\u01d8[\3\2\2\2\u01d9\u01da"+
+		"\5j\66\2\u01da\u01db\7\62\2\2\u01db\u01dc\5,\27\2\u01dc]\3\2\2\2\u01dd"+
+		"\u01de\5`\61\2\u01de\u01df\7\61\2\2\u01df_\3\2\2\2\u01e0\u01e3\5b\62\2"+
+		"\u01e1\u01e3\5n8\2\u01e2\u01e0\3\2\2\2\u01e2\u01e1\3\2\2\2\u01e3a\3\2"+
+		"\2\2\u01e4\u01e5\7\36\2\2\u01e5\u01e7\5\6\4\2\u01e6\u01e8\5d\63\2\u01e7"+
+		"\u01e6\3\2\2\2\u01e7\u01e8\3\2\2\2\u01e8\u01e9\3\2\2\2\u01e9\u01ea\7\61"+
+		"\2\2\u01ea\u01eb\5\b\5\2\u01ebc\3\2\2\2\u01ec\u01ed\79\2\2\u01ed\u01f2"+
+		"\5f\64\2\u01ee\u01ef\7\61\2\2\u01ef\u01f1\5f\64\2\u01f0\u01ee\3\2\2\2"+
+		"\u01f1\u01f4\3\2\2\2\u01f2\u01f0\3\2\2\2\u01f2\u01f3\3\2\2\2\u01f3\u01f5"+
+		"\3\2\2\2\u01f4\u01f2\3\2\2\2\u01f5\u01f6\7:\2\2\u01f6e\3\2\2\2\u01f7\u01ff"+
+		"\5h\65\2\u01f8\u01f9\7(\2\2\u01f9\u01ff\5h\65\2\u01fa\u01fb\7\22\2\2\u01fb"+
+		"\u01ff\5h\65\2\u01fc\u01fd\7\36\2\2\u01fd\u01ff\5h\65\2\u01fe\u01f7\3"+
+		"\2\2\2\u01fe\u01f8\3\2\2\2\u01fe\u01fa\3\2\2\2\u01fe\u01fc\3\2\2\2\u01ff"+
+		"g\3\2\2\2\u0200\u0201\5j\66\2\u0201\u0202\7\62\2\2\u0202\u0203\5\64\33"+
+		"\2\u0203i\3\2\2\2\u0204\u0209\5\6\4\2\u0205\u0206\7\60\2\2\u0206\u0208"+
+		"\5\6\4\2\u0207\u0205\3\2\2\2\u0208\u020b\3\2\2\2\u0209\u0207\3\2\2\2\u0209"+
+		"\u020a\3\2\2\2\u020ak\3\2\2\2\u020b\u0209\3\2\2\2\u020c\u0211\5\26\f\2"+
+		"\u020d\u020e\7\60\2\2\u020e\u0210\5\26\f\2\u020f\u020d\3\2\2\2\u0210\u0213"+
+		"\3\2\2\2\u0211\u020f\3\2\2\2\u0211\u0212\3\2\2\2\u0212m\3\2\2\2\u0213"+
+		"\u0211\3\2\2\2\u0214\u0215\7\22\2\2\u0215\u0217\5\6\4\2\u0216\u0218\5"+
+		"d\63\2\u0217\u0216\3\2\2\2\u0217\u0218\3\2\2\2\u0218\u0219\3\2\2\2\u0219"+
+		"\u021a\7\62\2\2\u021a\u021b\5p9\2\u021b\u021c\7\61\2\2\u021c\u021d\5\b"+
+		"\5\2\u021do\3\2\2\2\u021e\u021f\5\64\33\2\u021fq\3\2\2\2\u0220\u0221\5"+
+		"\16\b\2\u0221\u0222\7\62\2\2\u0222\u0223\5t;\2\u0223\u0226\3\2\2\2\u0224"+
+		"\u0226\5t;\2\u0225\u0220\3\2\2\2\u0225\u0224\3\2\2\2\u0226s\3\2\2\2\u0227"+
+		"\u022a\5v<\2\u0228\u022a\5\u00a4S\2\u0229\u0227\3\2\2\2\u0229\u0228\3"+
+		"\2\2\2\u022au\3\2\2\2\u022b\u0230\5x=\2\u022c\u0230\5\u0098M\2\u022d\u0230"+
+		"\5\u009eP\2\u022e\u0230\5\u00a0Q\2\u022f\u022b\3\2\2\2\u022f\u022c\3\2"+
+		"\2\2\u022f\u022d\3\2\2\2\u022f\u022e\3\2\2\2\u0230w\3\2\2\2\u0231\u0232"+
+		"\5z>\2\u0232\u0233\7/\2\2\u0233\u0234\5|?\2\u0234y\3\2\2\2\u0235\u0236"+
+		"\7@\2\2\u0236\u0239\5\6\4\2\u0237\u0239\5\6\4\2\u0238\u0235\3\2\2\2\u0238"+
+		"\u0237\3\2\2\2\u0239\u0255\3\2\2\2\u023a\u023b\7;\2\2\u023b\u0240\5|?"+
+		"\2\u023c\u023d\7\60\2\2\u023d\u023f\5|?\2\u023e\u023c\3\2\2\2\u023f\u0242"+
+		"\3\2\2\2\u0240\u023e\3\2\2\2\u0240\u0241\3\2\2\2\u0241\u0243\3\2\2\2\u0242"+
+		"\u0240\3\2\2\2\u0243\u0244\7=\2\2\u0244\u0254\3\2\2\2\u0245\u0246\7<\2"+
+		"\2\u0246\u024b\5|?\2\u0247\u0248\7\60\2\2\u0248\u024a\5|?\2\u0249\u0247"+
+		"\3\2\2\2\u024a\u024d\3\2\2\2\u024b\u0249\3\2\2\2\u024b\u024c\3\2\2\2\u024c"+
+		"\u024e\3\2\2\2\u024d\u024b\3\2\2\2\u024e\u024f\7>\2\2\u024f\u0254\3\2"+
+		"\2\2\u0250\u0251\7A\2\2\u0251\u0254\5\6\4\2\u0252\u0254\7?\2\2\u0253\u023a"+
+		"\3\2\2\2\u0253\u0245\3\2\2\2\u0253\u0250\3\2\2\2\u0253\u0252\3\2\2\2\u0254"+
+		"\u0257\3\2\2\2\u0255\u0253\3\2\2\2\u0255\u0256\3\2\2\2\u0256{\3\2\2\2"+
+		"\u0257\u0255\3\2\2\2\u0258\u025c\5\u0080A\2\u0259\u025a\5~@\2\u025a\u025b"+
+		"\5|?\2\u025b\u025d\3\2\2\2\u025c\u0259\3\2\2\2\u025c\u025d\3\2\2\2\u025d"+
+		"}\3\2\2\2\u025e\u0266\7\63\2\2\u025f\u0266\7\64\2\2\u0260\u0266\7\65\2"+
+		"\2\u0261\u0266\7\66\2\2\u0262\u0266\7\67\2\2\u0263\u0266\78\2\2\u0264"+
+		"\u0266\7\25\2\2\u0265\u025e\3\2\2\2\u0265\u025f\3\2\2\2\u0265\u0260\3"+
+		"\2\2\2\u0265\u0261\3\2\2\2\u0265\u0262\3\2\2\2\u0265\u0263\3\2\2\2\u0265"+
+		"\u0264\3\2\2\2\u0266\177\3\2\2\2\u0267\u026b\5\u0084C\2\u0268\u0269\5"+
+		"\u0082B\2\u0269\u026a\5\u0080A\2\u026a\u026c\3\2\2\2\u026b\u0268\3\2\2"+
+		"\2\u026b\u026c\3\2\2\2\u026c\u0081\3\2\2\2\u026d\u0271\7+\2\2\u026e\u0271"+
+		"\7,\2\2\u026f\u0271\7\34\2\2\u0270\u026d\3\2\2\2\u0270\u026e\3\2\2\2\u0270"+
+		"\u026f\3\2\2\2\u0271\u0083\3\2\2\2\u0272\u0276\5\u0088E\2\u0273\u0274"+
+		"\5\u0086D\2\u0274\u0275\5\u0084C\2\u0275\u0277\3\2\2\2\u0276\u0273\3\2"+
+		"\2\2\u0276\u0277\3\2\2\2\u0277\u0085\3\2\2\2\u0278\u027e\7-\2\2\u0279"+
+		"\u027e\7.\2\2\u027a\u027e\7\13\2\2\u027b\u027e\7\30\2\2\u027c\u027e\7"+
+		"\3\2\2\u027d\u0278\3\2\2\2\u027d\u0279\3\2\2\2\u027d\u027a\3\2\2\2\u027d"+
+		"\u027b\3\2\2\2\u027d\u027c\3\2\2\2\u027e\u0087\3\2\2\2\u027f\u0281\t\2"+
+		"\2\2\u0280\u027f\3\2\2\2\u0280\u0281\3\2\2\2\u0281\u0282\3\2\2\2\u0282"+
+		"\u0283\5\u008aF\2\u0283\u0089\3\2\2\2\u0284\u0290\5z>\2\u0285\u0286\7"+
+		"9\2\2\u0286\u0287\5|?\2\u0287\u0288\7:\2\2\u0288\u0290\3\2\2\2\u0289\u0290"+
+		"\5\u008eH\2\u028a\u0290\5\u008cG\2\u028b\u0290\5\u0092J\2\u028c\u028d"+
+		"\7\32\2\2\u028d\u0290\5\u008aF\2\u028e\u0290\5 \21\2\u028f\u0284\3\2\2"+
+		"\2\u028f\u0285\3\2\2\2\u028f\u0289\3\2\2\2\u028f\u028a\3\2\2\2\u028f\u028b"+
+		"\3\2\2\2\u028f\u028c\3\2\2\2\u028f\u028e\3\2\2\2\u0290\u008b\3\2\2\2\u0291"+
+		"\u0296\5\30\r\2\u0292\u0296\5\24\13\2\u0293\u0296\5\"\22\2\u0294\u0296"+
+		"\7\31\2\2\u0295\u0291\3\2\2\2\u0295\u0292\3\2\2\2\u0295\u0293\3\2\2\2"+
+		"\u0295\u0294\3\2\2\2\u0296\u008d\3\2\2\2\u0297\u0298\5\6\4\2\u0298\u0299"+
+		"\79\2\2\u0299\u029a\5\u0090I\2\u029a\u029b\7:\2\2\u029b\u008f\3\2\2\2"+
+		"\u029c\u029e\5\u009aN\2\u029d\u029c\3\2\2\2\u029d\u029e\3\2\2\2\u029e"+
+		"\u02a3\3\2\2\2\u029f\u02a0\7\60\2\2\u02a0\u02a2\5\u009aN\2\u02a1\u029f"+
+		"\3\2\2\2\u02a2\u02a5\3\2\2\2\u02a3\u02a1\3\2\2\2\u02a3\u02a4\3\2\2\2\u02a4"+
+		"\u0091\3\2\2\2\u02a5\u02a3\3\2\2\2\u02a6\u02a7\7;\2\2\u02a7\u02a8\5\u0094"+
+		"K\2\u02a8\u02a9\7=\2\2\u02a9\u02af\3\2\2\2\u02aa\u02ab\7<\2\2\u02ab\u02ac"+
+		"\5\u0094K\2\u02ac\u02ad\7>\2\2\u02ad\u02af\3\2\2\2\u02ae\u02a6\3\2\2\2"+
+		"\u02ae\u02aa\3\2\2\2\u02af\u0093\3\2\2\2\u02b0\u02b5\5\u0096L\2\u02b1"+
+		"\u02b2\7\60\2\2\u02b2\u02b4\5\u0096L\2\u02b3\u02b1\3\2\2\2\u02b4\u02b7"+
+		"\3\2\2\2\u02b5\u02b3\3\2\2\2\u02b5\u02b6\3\2\2\2\u02b6\u02ba\3\2\2\2\u02b7"+
+		"\u02b5\3\2\2\2\u02b8\u02ba\3\2\2\2\u02b9\u02b0\3\2\2\2\u02b9\u02b8\3\2"+
+		"\2\2\u02ba\u0095\3\2\2\2\u02bb\u02be\5|?\2\u02bc\u02bd\7B\2\2\u02bd\u02bf"+
+		"\5|?\2\u02be\u02bc\3\2\2\2\u02be\u02bf\3\2\2\2\u02bf\u0097\3\2\2\2\u02c0"+
+		"\u02c5\5\6\4\2\u02c1\u02c2\79\2\2\u02c2\u02c3\5\u0090I\2\u02c3\u02c4\7"+
+		":\2\2\u02c4\u02c6\3\2\2\2\u02c5\u02c1\3\2\2\2\u02c5\u02c6\3\2\2\2\u02c6"+
+		"\u0099\3\2\2\2\u02c7\u02cb\5|?\2\u02c8\u02ca\5\u009cO\2\u02c9\u02c8\3"+
+		"\2\2\2\u02ca\u02cd\3\2\2\2\u02cb\u02c9\3\2\2\2\u02cb\u02cc\3\2\2\2\u02cc"+
+		"\u009b\3\2\2\2\u02cd\u02cb\3\2\2\2\u02ce\u02cf\7\62\2\2\u02cf\u02d0\5"+
+		"|?\2\u02d0\u009d\3\2\2\2\u02d1\u02d2\7\23\2\2\u02d2\u02d3\5\16\b\2\u02d3"+
+		"\u009f\3\2\2\2\u02d4\u02d5\3\2\2\2\u02d5\u00a1\3\2\2\2\u02d6\u02d7\3\2"+
+		"\2\2\u02d7\u00a3\3\2\2\2\u02d8\u02dd\5\u00a6T\2\u02d9\u02dd\5\u00aaV\2"+
+		"\u02da\u02dd\5\u00b2Z\2\u02db\u02dd\5\u00c0a\2\u02dc\u02d8\3\2\2\2\u02dc"+
+		"\u02d9\3\2\2\2\u02dc\u02da\3\2\2\2\u02dc\u02db\3\2\2\2\u02dd\u00a5\3\2"+
+		"\2\2\u02de\u02df\7\5\2\2\u02df\u02e0\5\u00a8U\2\u02e0\u02e1\7\17\2\2\u02e1"+
+		"\u00a7\3\2\2\2\u02e2\u02e7\5r:\2\u02e3\u02e4\7\61\2\2\u02e4\u02e6\5r:"+
+		"\2\u02e5\u02e3\3\2\2\2\u02e6\u02e9\3\2\2\2\u02e7\u02e5\3\2\2\2\u02e7\u02e8"+
+		"\3\2\2\2\u02e8\u00a9\3\2\2\2\u02e9\u02e7\3\2\2\2\u02ea\u02ed\5\u00acW"+
+		"\2\u02eb\u02ed\5\u00aeX\2\u02ec\u02ea\3\2\2\2\u02ec\u02eb\3\2\2\2\u02ed"+
+		"\u00ab\3\2\2\2\u02ee\u02ef\7\24\2\2\u02ef\u02f0\5|?\2\u02f0\u02f1\7$\2"+
+		"\2\u02f1\u02f4\5r:\2\u02f2\u02f3\7\16\2\2\u02f3\u02f5\5r:\2\u02f4\u02f2"+
+		"\3\2\2\2\u02f4\u02f5\3\2\2\2\u02f5\u00ad\3\2\2\2\u02f6\u02f7\7\7\2\2\u02f7"+
+		"\u02f8\5|?\2\u02f8\u02f9\7\33\2\2\u02f9\u02fe\5\u00b0Y\2\u02fa\u02fb\7"+
+		"\61\2\2\u02fb\u02fd\5\u00b0Y\2\u02fc\u02fa\3\2\2\2\u02fd\u0300\3\2\2\2"+
+		"\u02fe\u02fc\3\2\2\2\u02fe\u02ff\3\2\2\2\u02ff\u0304\3\2\2\2\u0300\u02fe"+
+		"\3\2\2\2\u0301\u0302\7\61\2\2\u0302\u0303\7\16\2\2\u0303\u0305\5\u00a8"+
+		"U\2\u0304\u0301\3\2\2\2\u0304\u0305\3\2\2\2\u0305\u0306\3\2\2\2\u0306"+
+		"\u0307\7\17\2\2\u0307\u00af\3\2\2\2\u0308\u0309\5l\67\2\u0309\u030a\7"+
+		"\62\2\2\u030a\u030b\5r:\2\u030b\u00b1\3\2\2\2\u030c\u0310\5\u00b4[\2\u030d"+
+		"\u0310\5\u00b6\\\2\u030e\u0310\5\u00b8]\2\u030f\u030c\3\2\2\2\u030f\u030d"+
+		"\3\2\2\2\u030f\u030e\3\2\2\2\u0310\u00b3\3\2\2\2\u0311\u0312\7)\2\2\u0312"+
+		"\u0313\5|?\2\u0313\u0314\7\f\2\2\u0314\u0315\5r:\2\u0315\u00b5\3\2\2\2"+
+		"\u0316\u0317\7\"\2\2\u0317\u0318\5\u00a8U\2\u0318\u0319\7\'\2\2\u0319"+
+		"\u031a\5|?\2\u031a\u00b7\3\2\2\2\u031b\u031c\7\21\2\2\u031c\u031d\5\6"+
+		"\4\2\u031d\u031e\7/\2\2\u031e\u031f\5\u00ba^\2\u031f\u0320\7\f\2\2\u0320"+
+		"\u0321\5r:\2\u0321\u00b9\3\2\2\2\u0322\u0323\5\u00bc_\2\u0323\u0324\t"+
+		"\3\2\2\u0324\u0325\5\u00be`\2\u0325\u00bb\3\2\2\2\u0326\u0327\5|?\2\u0327"+
+		"\u00bd\3\2\2\2\u0328\u0329\5|?\2\u0329\u00bf\3\2\2\2\u032a\u032b\7*\2"+
+		"\2\u032b\u032c\5\u00c2b\2\u032c\u032d\7\f\2\2\u032d\u032e\5r:\2\u032e"+
+		"\u00c1\3\2\2\2\u032f\u0334\5z>\2\u0330\u0331\7\60\2\2\u0331\u0333\5z>"+
+		"\2\u0332\u0330\3\2\2\2\u0333\u0336\3\2\2\2\u0334\u0332\3\2\2\2\u0334\u0335"+
+		"\3\2\2\2\u0335\u00c3\3\2\2\2\u0336\u0334\3\2\2\2H\u00c6\u00d1\u00d9\u00e4"+
+		"\u00e6\u00f5\u0102\u0117\u011b\u0125\u012f\u0136\u013a\u0141\u0146\u014c"+
+		"\u015c\u0161\u0167\u016d\u017f\u0186\u018f\u0196\u0199\u01a0\u01af\u01b7"+
+		"\u01c9\u01d4\u01e2\u01e7\u01f2\u01fe\u0209\u0211\u0217\u0225\u0229\u022f"+
+		"\u0238\u0240\u024b\u0253\u0255\u025c\u0265\u026b\u0270\u0276\u027d\u0280"+
+		"\u028f\u0295\u029d\u02a3\u02ae\u02b5\u02b9\u02be\u02c5\u02cb\u02dc\u02e7"+
+		"\u02ec\u02f4\u02fe\u0304\u030f\u0334";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -31,6 +31,13 @@ public class Scope {
         this.parentScope = null;
     }
 
+    // The tables of `scope`, seen from another parent
+    public Scope(Scope parentScope, Scope scope) {
+        this.varaibleTable = scope.varaibleTable;
+        this.functionTable = scope.functionTable;
+        this.parentScope = parentScope;
+    }
+
     public Scope getParentScope() {
         return this.parentScope;
     }
@@ -2,17 +2,14 @@ package tables;
 
 import java.util.ArrayList;
 import java.util.Formatter;
-import java.util.HashMap;
 
 import scope.Scope;
 import typing.Type;
 
 public final class FunctionTable {
-	private HashMap<String, Integer> table;
 	private ArrayList<Function> functions;
 
 	public FunctionTable() {
-		this.table = new HashMap<>();
 		this.functions = new ArrayList<>();
 	}
 
@@ -21,80 +18,53 @@ public final class FunctionTable {
 		int index = this.functions.size();
 
 		this.functions.add(entry);
-        this.table.put(name, index);
 
 		return index;
     }
 
-	public int lookup(String name) {
-		Integer index = this.table.get(name);
-        return index != null ? index : -1;
-    }
+	// A function checked earlier, with its parameters and scope
+	public int addEntry(String name, int line, Type type, ArrayList<Type> parameters, Scope scope) {
+        Function entry = new Function(name, line, type, parameters, scope);
+		int index = this.functions.size();
+
+		this.functions.add(entry);
 
-	public String getName(String name) {
-		int index = this.table.get(name);
-        return this.getName(index);
+		return index;
     }
 
+	public int size() {
+		return this.functions.size();
+	}
+
 	public String getName(int index) {
 		if (index >= this.functions.size()) return null;
 		return this.functions.get(index).getName();
 	}
 	
-    public Type getType(String name) {
-		int index = this.table.get(name);
-        return this.getType(index);
-    }
-
 	public Type getType(int index) {
 		if (index >= this.functions.size()) return null;
         return this.functions.get(index).getType();
     }
 	
-    public Integer getLine(String name) {
-		int index = this.table.get(name);
-        return this.getLine(index);
-    }
-
 	public Integer getLine(int index) {
 		if (index >= this.functions.size()) return null;
 		return this.functions.get(index).getLine();
 	}
 
-    public void addParameter(String functionName, Type type) {
-		int index = this.table.get(functionName);
-        this.addParameter(index, type);
-    }
-
 	public void addParameter(int index, Type type) {
 		if (index >= this.functions.size()) return;
         this.functions.get(index).addParameter(type);
     }
-
-    public Scope getScope(String functionName) {
-		int index = this.table.get(functionName);
-        return this.getScope(index);
-    }
 	
 	public Scope getScope(int index) {
 		if (index >= this.functions.size()) return null;
         return this.functions.get(index).getScope();
     }
 
-	public Integer getParametersSize(String functionName) {
-		int index = this.table.get(functionName);
-		return this.getParametersSize(index);
-	}
-
 	public Integer getParametersSize(int index) {
 		if (index >= this.functions.size()) return null;
 		return this.functions.get(index).getParametersSize();
 	}
-
-    public ArrayList<Type> getParameters(String functionName) {
-		int index = this.table.get(functionName);
-		return this.getParameters(index);
-	}
 	
 	public ArrayList<Type> getParameters(int index) {
 		if (index >= this.functions.size()) return null;
@@ -102,7 +72,7 @@ public final class FunctionTable {
 	}
 
 	public String toString() {
-		if (table.size() == 0) return "";
+		if (functions.size() == 0) return "";
 
 		StringBuilder stringBuilder = new StringBuilder();
 		Formatter formatter = new Formatter(stringBuilder);
@@ -133,6 +103,12 @@ public final class FunctionTable {
             this.scope = new Scope(parentScope);
 		}
 
+		Function(String name, int line, Type type, ArrayList<Type> parameters, Scope scope) {
+			super(name, line, type);
+            this.parameters = parameters;
+            this.scope = scope;
+		}
+
 		Scope getScope() {
 			return this.scope;
 		}
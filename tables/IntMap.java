@@ -0,0 +1,76 @@
+package tables;
+
+import java.util.Arrays;
+
+// Open addressing map from non-negative int keys to int values. Missing keys
+// read as -1, which is also what the tables use for "not declared".
+public final class IntMap {
+	private static final int EMPTY = -1;
+
+	private int[] keys;
+	private int[] values;
+	private int size;
+
+	public IntMap() {
+		this(16);
+	}
+
+	public IntMap(int capacity) {
+		int n = Integer.highestOneBit(Math.max(capacity, 8) * 2 - 1);
+		this.keys = new int[n];
+		this.values = new int[n];
+		Arrays.fill(this.keys, EMPTY);
+		this.size = 0;
+	}
+
+	public int get(int key) {
+		int mask = keys.length - 1;
+		for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+			if (keys[i] == key) return values[i];
+			if (keys[i] == EMPTY) return -1;
+		}
+	}
+
+	public void put(int key, int value) {
+		int mask = keys.length - 1;
+		int i = slot(key, mask);
+		while (keys[i] != EMPTY && keys[i] != key) {
+			i = (i + 1) & mask;
+		}
+		values[i] = value;
+		if (keys[i] == EMPTY) {
+			keys[i] = key;
+			// Keep the load factor under 1/2
+			if (++size * 2 > keys.length) grow();
+		}
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	private void grow() {
+		int[] oldKeys = keys;
+		int[] oldValues = values;
+		keys = new int[oldKeys.length * 2];
+		values = new int[oldValues.length * 2];
+		Arrays.fill(keys, EMPTY);
+
+		int mask = keys.length - 1;
+		for (int j = 0; j < oldKeys.length; j++) {
+			if (oldKeys[j] == EMPTY) continue;
+			int i = slot(oldKeys[j], mask);
+			while (keys[i] != EMPTY) {
+				i = (i + 1) & mask;
+			}
+			keys[i] = oldKeys[j];
+			values[i] = oldValues[j];
+		}
+	}
+
+	// Ids are dense, so a Fibonacci hash spreads runs of them over the table
+	private static int slot(int key, int mask) {
+		int h = key * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & mask;
+	}
+}
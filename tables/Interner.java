@@ -0,0 +1,112 @@
+package tables;
+
+import java.util.Arrays;
+
+// Gives every distinct identifier (and string literal) of a compilation a
+// dense int id, starting at 0. Names are hashed once, when the token is made;
+// the tables key on the ids from then on.
+//
+// Open addressing on `String.hashCode`, so that a name can also be looked up
+// straight from a lexer's buffer: a name seen before costs no allocation.
+public final class Interner {
+	private static final int EMPTY = -1;
+
+	private String[] names;
+	private int[] hashes;
+	private int[] slots;
+	private int size;
+
+	public Interner() {
+		this.names = new String[16];
+		this.hashes = new int[16];
+		this.slots = new int[32];
+		Arrays.fill(this.slots, EMPTY);
+		this.size = 0;
+	}
+
+	public int intern(String name) {
+		int hash = name.hashCode();
+		int mask = slots.length - 1;
+		for (int i = slot(hash, mask); ; i = (i + 1) & mask) {
+			int id = slots[i];
+			if (id == EMPTY) return add(name, hash, i);
+			if (hashes[id] == hash && names[id].equals(name)) return id;
+		}
+	}
+
+	// The same as `intern(new String(chars, start, length))`
+	public int intern(char[] chars, int start, int length) {
+		int hash = 0;
+		for (int j = start; j < start + length; j++) {
+			hash = 31 * hash + chars[j];
+		}
+		int mask = slots.length - 1;
+		for (int i = slot(hash, mask); ; i = (i + 1) & mask) {
+			int id = slots[i];
+			if (id == EMPTY) return add(new String(chars, start, length), hash, i);
+			if (hashes[id] == hash && equals(names[id], chars, start, length)) return id;
+		}
+	}
+
+	// Returns -1 if `name` was never interned.
+	public int lookup(String name) {
+		int hash = name.hashCode();
+		int mask = slots.length - 1;
+		for (int i = slot(hash, mask); ; i = (i + 1) & mask) {
+			int id = slots[i];
+			if (id == EMPTY) return -1;
+			if (hashes[id] == hash && names[id].equals(name)) return id;
+		}
+	}
+
+	public String getName(int id) {
+		if (id < 0 || id >= size) {
+			throw new IndexOutOfBoundsException(id);
+		}
+		return this.names[id];
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	private int add(String name, int hash, int slot) {
+		int id = size++;
+		if (id == names.length) {
+			names = Arrays.copyOf(names, id * 2);
+			hashes = Arrays.copyOf(hashes, id * 2);
+		}
+		names[id] = name;
+		hashes[id] = hash;
+		slots[slot] = id;
+		// Keep the load factor under 1/2
+		if (size * 2 > slots.length) grow();
+		return id;
+	}
+
+	private void grow() {
+		slots = new int[slots.length * 2];
+		Arrays.fill(slots, EMPTY);
+		int mask = slots.length - 1;
+		for (int id = 0; id < size; id++) {
+			int i = slot(hashes[id], mask);
+			while (slots[i] != EMPTY) {
+				i = (i + 1) & mask;
+			}
+			slots[i] = id;
+		}
+	}
+
+	private static boolean equals(String name, char[] chars, int start, int length) {
+		if (name.length() != length) return false;
+		for (int j = 0; j < length; j++) {
+			if (name.charAt(j) != chars[start + j]) return false;
+		}
+		return true;
+	}
+
+	// Spreads the high bits of the hash into the low ones the mask keeps
+	private static int slot(int hash, int mask) {
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+}
@@ -2,26 +2,26 @@ package tables;
 
 import java.util.ArrayList;
 import java.util.Formatter;
-import java.util.HashMap;
 
 @SuppressWarnings("serial")
 public final class StringTable {
-	private HashMap<String, Integer> table;
+	private IntMap table;
 	private ArrayList<String> strings;
 
 	public StringTable() {
-		this.table = new HashMap<>();
+		this.table = new IntMap();
 		this.strings = new ArrayList<>();
 	}
 
-	public int addString(String string) {
-		Integer index = this.table.get(string);
-		if (index != null)
+	// `symbol` is the literal's id in the compilation's `Interner`.
+	public int addString(int symbol, String string) {
+		int index = this.table.get(symbol);
+		if (index != -1)
 			return index;
 
 		index = this.strings.size();
 		this.strings.add(string);
-		this.table.put(string, index);
+		this.table.put(symbol, index);
 
 		return index;
 	}
@@ -0,0 +1,130 @@
+package tables;
+
+import java.util.Arrays;
+
+import scope.Scope;
+
+// The checker's view of every visible name: one map per namespace for the
+// whole program, keyed by `Interner` id, plus a stack of open scopes. Each
+// declaration pushes a binding that shadows the previous one for the same
+// name; leaving a scope pops its bindings off the undo log, putting the
+// shadowed ones back. A lookup is a single probe at any nesting depth.
+//
+// The entries themselves still live in the `Scope` tables, which is what
+// `CodeGen` reads afterwards.
+public final class SymbolTable {
+	private static final int VARIABLE = 0;
+	private static final int FUNCTION = 1;
+
+	private final IntMap[] visible;
+
+	// Bindings, by id. The undo log is the bindings themselves: they are only
+	// ever popped in reverse order of creation.
+	private int[] symbol;
+	private int[] namespace;
+	private int[] index;
+	private int[] depth;
+	private int[] shadowed;
+	private Scope[] owner;
+	private int bindings;
+
+	// Open scopes and the first binding made in each
+	private Scope[] scopes;
+	private int[] marks;
+	private int depthNow;
+
+	public SymbolTable(Scope globalScope) {
+		this.visible = new IntMap[] { new IntMap(), new IntMap() };
+		this.symbol = new int[64];
+		this.namespace = new int[64];
+		this.index = new int[64];
+		this.depth = new int[64];
+		this.shadowed = new int[64];
+		this.owner = new Scope[64];
+		this.bindings = 0;
+		this.scopes = new Scope[8];
+		this.marks = new int[8];
+		this.depthNow = 0;
+		this.scopes[0] = globalScope;
+	}
+
+	public Scope getScope() {
+		return this.scopes[depthNow];
+	}
+
+	public void enter(Scope scope) {
+		if (++depthNow == scopes.length) {
+			scopes = Arrays.copyOf(scopes, depthNow * 2);
+			marks = Arrays.copyOf(marks, depthNow * 2);
+		}
+		scopes[depthNow] = scope;
+		marks[depthNow] = bindings;
+	}
+
+	public void exit() {
+		int mark = marks[depthNow];
+		while (bindings > mark) {
+			bindings--;
+			visible[namespace[bindings]].put(symbol[bindings], shadowed[bindings]);
+		}
+		scopes[depthNow--] = null;
+	}
+
+	// `index` is the entry in the current scope's `VariableTable`.
+	public void declareVariable(int symbol, int index) {
+		bind(VARIABLE, symbol, index);
+	}
+
+	// `index` is the entry in the current scope's `FunctionTable`.
+	public void declareFunction(int symbol, int index) {
+		bind(FUNCTION, symbol, index);
+	}
+
+	// Variables are only visible in the scope that declares them. Returns the
+	// entry in the current `VariableTable`, or -1.
+	public int lookupVariable(int symbol) {
+		int binding = visible[VARIABLE].get(symbol);
+		return binding != -1 && depth[binding] == depthNow ? index[binding] : -1;
+	}
+
+	// Returns the entry in the current `FunctionTable`, or -1 if the name is
+	// not declared in this very scope.
+	public int lookupLocalFunction(int symbol) {
+		int binding = visible[FUNCTION].get(symbol);
+		return binding != -1 && depth[binding] == depthNow ? index[binding] : -1;
+	}
+
+	// Functions are visible from nested scopes. Returns a binding to read with
+	// `getFunctionTable` and `getIndex`, or -1.
+	public int lookupFunction(int symbol) {
+		return visible[FUNCTION].get(symbol);
+	}
+
+	public FunctionTable getFunctionTable(int binding) {
+		return this.owner[binding].getFunctionTable();
+	}
+
+	public int getIndex(int binding) {
+		return this.index[binding];
+	}
+
+	private void bind(int namespace, int symbol, int index) {
+		if (bindings == this.symbol.length) {
+			int n = bindings * 2;
+			this.symbol = Arrays.copyOf(this.symbol, n);
+			this.namespace = Arrays.copyOf(this.namespace, n);
+			this.index = Arrays.copyOf(this.index, n);
+			this.depth = Arrays.copyOf(this.depth, n);
+			this.shadowed = Arrays.copyOf(this.shadowed, n);
+			this.owner = Arrays.copyOf(this.owner, n);
+		}
+		int binding = bindings++;
+		this.symbol[binding] = symbol;
+		this.namespace[binding] = namespace;
+		this.index[binding] = index;
+		this.depth[binding] = depthNow;
+		this.shadowed[binding] = visible[namespace].get(symbol);
+		this.owner[binding] = scopes[depthNow];
+		visible[namespace].put(symbol, binding);
+	}
+}
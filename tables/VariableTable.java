@@ -4,16 +4,13 @@ import static typing.Type.ARRAY_TYPE;
 
 import java.util.ArrayList;
 import java.util.Formatter;
-import java.util.HashMap;
 
 import typing.*;
 
 public final class VariableTable {
-	private HashMap<String, Integer> table;
 	private ArrayList<Variable> variables;
 
 	public VariableTable() {
-		this.table = new HashMap<>();
 		this.variables = new ArrayList<>();
 	}
 
@@ -22,39 +19,18 @@ public final class VariableTable {
 		int index = this.variables.size();
 
 		this.variables.add(entry);
-        this.table.put(name, index);
 
 		return index;
     }
 
-	public int lookup(String name) {
-		Integer index = this.table.get(name);
-        return index != null ? index : -1;
-    }
-	
-	public String getName(String name) {
-		int index = this.table.get(name);
-        return this.variables.get(index).getName();
-    }
-
 	public String getName(int index) {
 		return this.variables.get(index).getName();
 	}
 
-    public Type getType(String name) {
-        int index = this.table.get(name);
-		return this.variables.get(index).getType();
-    }
-
 	public Type getType(int index) {
 		return this.variables.get(index).getType();
 	}
 
-    public int getLine(String name) {
-        int index = this.table.get(name);
-		return this.variables.get(index).getLine();
-    }
-
 	public int getLine(int index) {
 		return this.variables.get(index).getLine();
     }
@@ -64,36 +40,24 @@ public final class VariableTable {
 		int index = this.variables.size();
 
 		this.variables.add(entry);
-		this.table.put(variableName, index);
 
 		return index;
 	}
 
-	public Type getContentType(String name) {
-		int index = this.table.get(name);
-		return this.variables.get(index).getContentType();
-	}
-
 	public Type getContentType(int index) {
 		return variables.get(index).getContentType();
 	}
 
-	public ArrayList<Integer[]> getRanges(String variableName) {
-		int index = table.get(variableName);
-		return this.variables.get(index).getRanges();
-	}
-
 	public ArrayList<Integer[]> getRanges(int index) {
 		return variables.get(index).getRanges();
 	}
 
-	public int getRangesSize(String variableName) {
-		int index = table.get(variableName);
+	public int getRangesSize(int index) {
 		return variables.get(index).getRangesSize();
 	}
 
-	public int getRangesSize(int index) {
-		return variables.get(index).getRangesSize();
+	public int size() {
+		return this.variables.size();
 	}
 	
 	public String toString() {
@@ -0,0 +1,7 @@
+
+define void @main() {
+  %1 = alloca i32
+  ret void
+}
+
+
@@ -0,0 +1,18 @@
+
+define double @E(double %x) {
+  %1 = alloca double
+  %2 = alloca double
+  store double %x, double* %2
+  %3 = load double, double* %2
+  %4 = sitofp i32 3 to double
+  %5 = fmul double %3, %4
+  store double %5, double* %1
+  %6 = load double, double* %1
+  ret double %6
+}
+
+define void @main() {
+  ret void
+}
+
+
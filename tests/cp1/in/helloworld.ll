@@ -0,0 +1,6 @@
+
+define void @main() {
+  ret void
+}
+
+
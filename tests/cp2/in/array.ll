@@ -0,0 +1,32 @@
+
+define i32 @foo() {
+  %1 = alloca i32
+  %2 = alloca [9 x [9 x double]]
+  %3 = getelementptr inbounds [9 x [9 x double]], [9 x [9 x double]]* %2, i32 0, i32 5
+  %4 = getelementptr inbounds [9 x double], [9 x double]* %3, i32 0, i32 3
+  store double 6.4, double* %4
+  %5 = load i32, i32* %1
+  ret i32 %5
+}
+
+define void @main() {
+  %1 = alloca [10 x i32]
+  %2 = alloca [20 x [50 x [9 x i8]]]
+  %3 = alloca [50 x i8*]
+  %4 = alloca i32
+  store i32 3, i32* %4
+  %5 = getelementptr inbounds [10 x i32], [10 x i32]* %1, i32 0, i32 0
+  store i32 20, i32* %5
+  %6 = getelementptr inbounds [20 x [50 x [9 x i8]]], [20 x [50 x [9 x i8]]]* %2, i32 0, i32 0
+  %7 = getelementptr inbounds [50 x [9 x i8]], [50 x [9 x i8]]* %6, i32 0, i32 40
+  %8 = getelementptr inbounds [9 x i8], [9 x i8]* %7, i32 0, i32 15
+  store i8 56, i8* %8
+  %9 = load i32, i32* %4
+  %10 = getelementptr inbounds [50 x i8*], [50 x i8*]* %3, i32 0, i32 %9
+  store [5 x i8]* @0, i8** %10
+  %11 = call i32 @foo()
+  ret void
+}
+
+@0 = private constant [5 x i8] c"name\00"
+
@@ -0,0 +1,17 @@
+program for_bound;
+
+var
+    i : integer;
+    r : real;
+    c : char;
+
+begin
+    r := 2.5;
+    c := chr (65);
+    for i := 1 to r do { <- real final value }
+        write(i);
+    for i := c downto 1 do { <- char initial value }
+        write(i);
+    for r := 1 to 2 do { <- real control variable }
+        write(r);
+end.
@@ -0,0 +1,15 @@
+program for_control;
+
+var
+    i : integer;
+    j : integer;
+
+begin
+    for i := 1 to 10 do
+    begin
+        i := i + 1; { <- assigns the control variable }
+        read(i); { <- reads into the control variable }
+        for i := 1 to 2 do { <- an inner FOR over the same variable }
+            j := i;
+    end;
+end.
@@ -0,0 +1,29 @@
+
+define void @main() {
+  %1 = alloca [10 x i32]
+  %2 = alloca [10 x [50 x [9 x i8]]]
+  %3 = alloca [50 x i1]
+  %4 = getelementptr inbounds [10 x i32], [10 x i32]* %1, i32 0, i32 0
+  store i32 20, i32* %4
+  %5 = getelementptr inbounds [10 x [50 x [9 x i8]]], [10 x [50 x [9 x i8]]]* %2, i32 0, i32 0
+  %6 = getelementptr inbounds [50 x [9 x i8]], [50 x [9 x i8]]* %5, i32 0, i32 40
+  %7 = getelementptr inbounds [9 x i8], [9 x i8]* %6, i32 0, i32 15
+  store i8 65, i8* %7
+  %8 = getelementptr inbounds [50 x i1], [50 x i1]* %3, i32 0, i32 16
+  store i1 false, i1* %8
+  %9 = getelementptr inbounds [50 x i1], [50 x i1]* %3, i32 0, i32 32
+  store i1 true, i1* %9
+  %10 = getelementptr inbounds [3 x i8], [3 x i8]* @0, i64 0, i64 0
+  %11 = call i32 (i8*, ...) @printf(i8* %10, i1 true)
+  %12 = getelementptr inbounds [3 x i8], [3 x i8]* @1, i64 0, i64 0
+  %13 = call i32 (i8*, ...) @printf(i8* %12, i8 10)
+  %14 = call i32 (i8*, ...) @printf(i8* %10, i32 20)
+  %15 = call i32 (i8*, ...) @printf(i8* %12, i8 10)
+  %16 = call i32 (i8*, ...) @printf(i8* %12, i8 65)
+  ret void
+}
+
+@0 = private constant [3 x i8] c"%d\00"
+@1 = private constant [3 x i8] c"%c\00"
+
+declare i32 @printf(i8*, ...)
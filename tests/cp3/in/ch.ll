@@ -0,0 +1,11 @@
+
+define void @main() {
+  %1 = getelementptr inbounds [3 x i8], [3 x i8]* @0, i64 0, i64 0
+  %2 = call i32 (i8*, ...) @printf(i8* %1, i8 67)
+  %3 = call i32 (i8*, ...) @printf(i8* %1, i8 65)
+  ret void
+}
+
+@0 = private constant [3 x i8] c"%c\00"
+
+declare i32 @printf(i8*, ...)
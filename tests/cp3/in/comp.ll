@@ -0,0 +1,112 @@
+
+define void @main() {
+  %1 = getelementptr inbounds [3 x i8], [3 x i8]* @10, i64 0, i64 0
+  %2 = call i32 (i8*, ...) @printf(i8* %1, i32 20)
+  %3 = getelementptr inbounds [9 x i8], [9 x i8]* @0, i64 0, i64 0
+  %4 = call i32 (i8*, ...) @printf(i8* %3)
+  %5 = call i32 (i8*, ...) @printf(i8* %1, i32 10)
+  %6 = getelementptr inbounds [12 x i8], [12 x i8]* @1, i64 0, i64 0
+  %7 = call i32 (i8*, ...) @printf(i8* %6)
+  %8 = call i32 (i8*, ...) @printf(i8* %1, i1 false)
+  %9 = getelementptr inbounds [2 x i8], [2 x i8]* @2, i64 0, i64 0
+  %10 = call i32 (i8*, ...) @printf(i8* %9)
+  %11 = call i32 (i8*, ...) @printf(i8* %1, i1 true)
+  %12 = call i32 (i8*, ...) @printf(i8* %9)
+  %13 = call i32 (i8*, ...) @printf(i8* %1, i1 true)
+  %14 = call i32 (i8*, ...) @printf(i8* %9)
+  %15 = call i32 (i8*, ...) @printf(i8* %1, i1 false)
+  %16 = call i32 (i8*, ...) @printf(i8* %9)
+  %17 = call i32 (i8*, ...) @printf(i8* %1, i1 true)
+  %18 = call i32 (i8*, ...) @printf(i8* %9)
+  %19 = call i32 (i8*, ...) @printf(i8* %1, i1 false)
+  %20 = getelementptr inbounds [3 x i8], [3 x i8]* @11, i64 0, i64 0
+  %21 = call i32 (i8*, ...) @printf(i8* %20, i8 10)
+  %22 = getelementptr inbounds [4 x i8], [4 x i8]* @12, i64 0, i64 0
+  %23 = call i32 (i8*, ...) @printf(i8* %22, double 12.0234)
+  %24 = call i32 (i8*, ...) @printf(i8* %9)
+  %25 = call i32 (i8*, ...) @printf(i8* %22, double 94.454)
+  %26 = getelementptr inbounds [5 x i8], [5 x i8]* @3, i64 0, i64 0
+  %27 = call i32 (i8*, ...) @printf(i8* %26)
+  %28 = call i32 (i8*, ...) @printf(i8* %1, i1 false)
+  %29 = call i32 (i8*, ...) @printf(i8* %9)
+  %30 = call i32 (i8*, ...) @printf(i8* %1, i1 true)
+  %31 = call i32 (i8*, ...) @printf(i8* %9)
+  %32 = call i32 (i8*, ...) @printf(i8* %1, i1 false)
+  %33 = call i32 (i8*, ...) @printf(i8* %9)
+  %34 = call i32 (i8*, ...) @printf(i8* %1, i1 true)
+  %35 = call i32 (i8*, ...) @printf(i8* %9)
+  %36 = call i32 (i8*, ...) @printf(i8* %1, i1 false)
+  %37 = call i32 (i8*, ...) @printf(i8* %9)
+  %38 = call i32 (i8*, ...) @printf(i8* %1, i1 true)
+  %39 = call i32 (i8*, ...) @printf(i8* %20, i8 10)
+  %40 = call i32 (i8*, ...) @printf(i8* %1, i1 true)
+  %41 = getelementptr inbounds [10 x i8], [10 x i8]* @4, i64 0, i64 0
+  %42 = call i32 (i8*, ...) @printf(i8* %41)
+  %43 = call i32 (i8*, ...) @printf(i8* %1, i1 false)
+  %44 = getelementptr inbounds [13 x i8], [13 x i8]* @5, i64 0, i64 0
+  %45 = call i32 (i8*, ...) @printf(i8* %44)
+  %46 = call i32 (i8*, ...) @printf(i8* %1, i1 false)
+  %47 = call i32 (i8*, ...) @printf(i8* %9)
+  %48 = call i32 (i8*, ...) @printf(i8* %1, i1 true)
+  %49 = call i32 (i8*, ...) @printf(i8* %9)
+  %50 = call i32 (i8*, ...) @printf(i8* %1, i1 true)
+  %51 = call i32 (i8*, ...) @printf(i8* %9)
+  %52 = call i32 (i8*, ...) @printf(i8* %1, i1 false)
+  %53 = call i32 (i8*, ...) @printf(i8* %9)
+  %54 = call i32 (i8*, ...) @printf(i8* %1, i1 true)
+  %55 = call i32 (i8*, ...) @printf(i8* %9)
+  %56 = call i32 (i8*, ...) @printf(i8* %1, i1 false)
+  %57 = call i32 (i8*, ...) @printf(i8* %20, i8 10)
+  %58 = getelementptr inbounds [5 x i8], [5 x i8]* @6, i64 0, i64 0
+  %59 = getelementptr inbounds [5 x i8], [5 x i8]* @7, i64 0, i64 0
+  %60 = getelementptr inbounds [3 x i8], [3 x i8]* @13, i64 0, i64 0
+  %61 = call i32 (i8*, ...) @printf(i8* %60, i8* %58)
+  %62 = getelementptr inbounds [7 x i8], [7 x i8]* @8, i64 0, i64 0
+  %63 = call i32 (i8*, ...) @printf(i8* %62)
+  %64 = call i32 (i8*, ...) @printf(i8* %60, i8* %59)
+  %65 = getelementptr inbounds [10 x i8], [10 x i8]* @9, i64 0, i64 0
+  %66 = call i32 (i8*, ...) @printf(i8* %65)
+  %67 = call i32 @strcmp(i8* %58, i8* %59)
+  %68 = icmp eq i32 %67, 0
+  %69 = call i32 (i8*, ...) @printf(i8* %1, i1 %68)
+  %70 = call i32 (i8*, ...) @printf(i8* %9)
+  %71 = call i32 @strcmp(i8* %58, i8* %59)
+  %72 = icmp ne i32 %71, 0
+  %73 = call i32 (i8*, ...) @printf(i8* %1, i1 %72)
+  %74 = call i32 (i8*, ...) @printf(i8* %9)
+  %75 = call i32 @strcmp(i8* %58, i8* %59)
+  %76 = icmp sgt i32 %75, 0
+  %77 = call i32 (i8*, ...) @printf(i8* %1, i1 %76)
+  %78 = call i32 (i8*, ...) @printf(i8* %9)
+  %79 = call i32 @strcmp(i8* %58, i8* %59)
+  %80 = icmp slt i32 %79, 0
+  %81 = call i32 (i8*, ...) @printf(i8* %1, i1 %80)
+  %82 = call i32 (i8*, ...) @printf(i8* %9)
+  %83 = call i32 @strcmp(i8* %58, i8* %59)
+  %84 = icmp sge i32 %83, 0
+  %85 = call i32 (i8*, ...) @printf(i8* %1, i1 %84)
+  %86 = call i32 (i8*, ...) @printf(i8* %9)
+  %87 = call i32 @strcmp(i8* %58, i8* %59)
+  %88 = icmp sle i32 %87, 0
+  %89 = call i32 (i8*, ...) @printf(i8* %1, i1 %88)
+  %90 = call i32 (i8*, ...) @printf(i8* %20, i8 10)
+  ret void
+}
+
+@0 = private constant [9 x i8] c"       |\00"
+@1 = private constant [12 x i8] c"        || \00"
+@2 = private constant [2 x i8] c"|\00"
+@3 = private constant [5 x i8] c" || \00"
+@4 = private constant [10 x i8] c"        |\00"
+@5 = private constant [13 x i8] c"         || \00"
+@6 = private constant [5 x i8] c"abcd\00"
+@7 = private constant [5 x i8] c"efgh\00"
+@8 = private constant [7 x i8] c"     |\00"
+@9 = private constant [10 x i8] c"      || \00"
+@10 = private constant [3 x i8] c"%d\00"
+@11 = private constant [3 x i8] c"%c\00"
+@12 = private constant [4 x i8] c"%lf\00"
+@13 = private constant [3 x i8] c"%s\00"
+
+declare i32 @printf(i8*, ...)
+declare i32 @strcmp(i8*, i8*)
@@ -0,0 +1,56 @@
+
+define i32 @fib(i32 %n) {
+  %1 = icmp sle i32 %n, 2
+  br i1 %1, label %if.true.0, label %if.false.1
+
+if.true.0:
+  br label %if.cont.2
+
+if.false.1:
+  %2 = sub i32 %n, 1
+  %3 = call i32 @fib(i32 %2)
+  %4 = sub i32 %n, 2
+  %5 = call i32 @fib(i32 %4)
+  %6 = add i32 %3, %5
+  br label %if.cont.2
+
+if.cont.2:
+  %7 = phi i32 [ 1, %if.true.0 ], [ %6, %if.false.1 ]
+  ret i32 %7
+}
+
+define void @main() {
+  %1 = alloca i32
+  %2 = getelementptr inbounds [3 x i8], [3 x i8]* @2, i64 0, i64 0
+  %3 = call i32 (i8*, ...) @__isoc99_scanf(i8* %2, i32* %1)
+  %4 = load i32, i32* %1
+  %5 = getelementptr inbounds [3 x i8], [3 x i8]* @0, i64 0, i64 0
+  br label %while.test.0
+
+while.test.0:
+  %6 = phi i32 [ 1, %0 ], [ %11, %while.repeat.1 ]
+  %7 = icmp sle i32 %6, %4
+  br i1 %7, label %while.repeat.1, label %while.cont.2
+
+while.repeat.1:
+  %8 = call i32 @fib(i32 %6)
+  %9 = call i32 (i8*, ...) @printf(i8* %2, i32 %8)
+  %10 = call i32 (i8*, ...) @printf(i8* %5)
+  %11 = add i32 %6, 1
+  br label %while.test.0
+
+while.cont.2:
+  %12 = getelementptr inbounds [4 x i8], [4 x i8]* @1, i64 0, i64 0
+  %13 = call i32 (i8*, ...) @printf(i8* %12)
+  %14 = getelementptr inbounds [3 x i8], [3 x i8]* @3, i64 0, i64 0
+  %15 = call i32 (i8*, ...) @printf(i8* %14, i8 10)
+  ret void
+}
+
+@0 = private constant [3 x i8] c", \00"
+@1 = private constant [4 x i8] c"...\00"
+@2 = private constant [3 x i8] c"%d\00"
+@3 = private constant [3 x i8] c"%c\00"
+
+declare i32 @__isoc99_scanf(i8*, ...)
+declare i32 @printf(i8*, ...)
@@ -0,0 +1,48 @@
+program for_statement;
+
+var
+    a : array[0..10] of integer;
+    i : integer;
+    j : integer;
+    n : integer;
+    s : integer;
+    br : char;
+
+begin
+    br := chr (10);
+
+    { TO }
+    for i := 0 to 9 do
+        a[i] := i * i;
+
+    { DOWNTO }
+    s := 0;
+    for i := 9 downto 0 do
+        s := s + a[i];
+    write(s, '|', i, br);
+
+    { Empty ranges: the body never runs and i is left as it was }
+    i := 42;
+    for i := 5 to 4 do
+        write('never');
+    for i := 4 downto 5 do
+        write('never');
+    write(i, br);
+
+    { The final value is evaluated once, before the loop }
+    n := 3;
+    s := 0;
+    for i := 1 to n do
+    begin
+        n := n + 1;
+        s := s + 1;
+    end;
+    write(s, '|', n, br);
+
+    { Nested }
+    s := 0;
+    for i := 1 to 4 do
+        for j := i downto 1 do
+            s := s + j;
+    write(s, '|', i, '|', j, br);
+end.
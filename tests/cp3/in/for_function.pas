@@ -0,0 +1,24 @@
+program for_function;
+
+function sum(n : integer) : integer;
+var i, s : integer;
+begin
+    s := 0;
+    for i := 1 to n do
+        s := s + i;
+    sum := s;
+end;
+
+function fact(n : integer) : integer;
+var i, f : integer;
+begin
+    f := 1;
+    for i := n downto 2 do
+        f := f * i;
+    fact := f;
+end;
+
+begin
+    write(sum(10), '|', sum(0), chr(10));
+    write(fact(5), '|', fact(1), chr(10));
+end.
@@ -0,0 +1,43 @@
+
+define double @foo(double %a, double %b, i32 %c) {
+  %1 = icmp sgt i32 %c, 10
+  br i1 %1, label %if.true.0, label %if.false.1
+
+if.true.0:
+  br label %if.cont.2
+
+if.false.1:
+  br label %if.cont.2
+
+if.cont.2:
+  %2 = phi double [ %a, %if.true.0 ], [ %b, %if.false.1 ]
+  ret double %2
+}
+
+define i8* @bar(i8* %s) {
+  %1 = call double @foo(double 10.0, double 5.0, i32 50)
+  %2 = getelementptr inbounds [4 x i8], [4 x i8]* @1, i64 0, i64 0
+  %3 = call i32 (i8*, ...) @printf(i8* %2, double %1)
+  ret i8* %s
+}
+
+define void @main() {
+  %1 = call double @foo(double 7.5, double 2.33, i32 15)
+  %2 = getelementptr inbounds [4 x i8], [4 x i8]* @1, i64 0, i64 0
+  %3 = call i32 (i8*, ...) @printf(i8* %2, double %1)
+  %4 = getelementptr inbounds [3 x i8], [3 x i8]* @2, i64 0, i64 0
+  %5 = call i32 (i8*, ...) @printf(i8* %4, i8 10)
+  %6 = getelementptr inbounds [7 x i8], [7 x i8]* @0, i64 0, i64 0
+  %7 = call i8* @bar(i8* %6)
+  %8 = call i32 (i8*, ...) @printf(i8* %4, i8 10)
+  %9 = getelementptr inbounds [3 x i8], [3 x i8]* @3, i64 0, i64 0
+  %10 = call i32 (i8*, ...) @printf(i8* %9, i8* %7)
+  ret void
+}
+
+@0 = private constant [7 x i8] c"string\00"
+@1 = private constant [4 x i8] c"%lf\00"
+@2 = private constant [3 x i8] c"%c\00"
+@3 = private constant [3 x i8] c"%s\00"
+
+declare i32 @printf(i8*, ...)
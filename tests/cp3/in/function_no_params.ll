@@ -0,0 +1,15 @@
+
+define double @foo() {
+  ret double 6.6
+}
+
+define void @main() {
+  %1 = call double @foo()
+  %2 = getelementptr inbounds [4 x i8], [4 x i8]* @0, i64 0, i64 0
+  %3 = call i32 (i8*, ...) @printf(i8* %2, double %1)
+  ret void
+}
+
+@0 = private constant [4 x i8] c"%lf\00"
+
+declare i32 @printf(i8*, ...)
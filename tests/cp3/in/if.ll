@@ -0,0 +1,59 @@
+
+define void @main() {
+  %1 = getelementptr inbounds [9 x i8], [9 x i8]* @0, i64 0, i64 0
+  %2 = icmp slt i32 2, 1
+  br i1 %2, label %if.true.0, label %if.false.1
+
+if.true.0:
+  %3 = getelementptr inbounds [7 x i8], [7 x i8]* @1, i64 0, i64 0
+  br label %if.cont.2
+
+if.false.1:
+  %4 = icmp sgt i32 2, 1
+  br i1 %4, label %if.true.3, label %if.cont.4
+
+if.true.3:
+  %5 = getelementptr inbounds [8 x i8], [8 x i8]* @2, i64 0, i64 0
+  br label %if.cont.4
+
+if.cont.4:
+  %6 = phi i8* [ %1, %if.false.1 ], [ %5, %if.true.3 ]
+  %7 = phi i32 [ 2, %if.false.1 ], [ 12, %if.true.3 ]
+  br label %if.cont.2
+
+if.cont.2:
+  %8 = phi i8* [ %3, %if.true.0 ], [ %6, %if.cont.4 ]
+  %9 = phi i32 [ 1, %if.true.0 ], [ %7, %if.cont.4 ]
+  %10 = getelementptr inbounds [3 x i8], [3 x i8]* @4, i64 0, i64 0
+  %11 = call i32 (i8*, ...) @printf(i8* %10, i8* %8)
+  %12 = icmp eq i32 %9, 1
+  br i1 %12, label %if.true.5, label %if.cont.6
+
+if.true.5:
+  %13 = or i1 true, false
+  br i1 %13, label %if.true.7, label %if.cont.8
+
+if.true.7:
+  %14 = getelementptr inbounds [2 x i8], [2 x i8]* @3, i64 0, i64 0
+  br label %if.cont.8
+
+if.cont.8:
+  br label %if.cont.6
+
+if.cont.6:
+  %15 = getelementptr inbounds [3 x i8], [3 x i8]* @5, i64 0, i64 0
+  %16 = call i32 (i8*, ...) @printf(i8* %15, i8 10)
+  %17 = getelementptr inbounds [3 x i8], [3 x i8]* @6, i64 0, i64 0
+  %18 = call i32 (i8*, ...) @printf(i8* %17, i32 %9)
+  ret void
+}
+
+@0 = private constant [9 x i8] c"a_string\00"
+@1 = private constant [7 x i8] c"string\00"
+@2 = private constant [8 x i8] c"greater\00"
+@3 = private constant [2 x i8] c"a\00"
+@4 = private constant [3 x i8] c"%s\00"
+@5 = private constant [3 x i8] c"%c\00"
+@6 = private constant [3 x i8] c"%d\00"
+
+declare i32 @printf(i8*, ...)
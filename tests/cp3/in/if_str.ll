@@ -0,0 +1,65 @@
+
+define void @main() {
+  %1 = getelementptr inbounds [9 x i8], [9 x i8]* @0, i64 0, i64 0
+  %2 = getelementptr inbounds [9 x i8], [9 x i8]* @1, i64 0, i64 0
+  %3 = icmp slt i32 1, 2
+  br i1 %3, label %if.true.0, label %if.false.1
+
+if.true.0:
+  %4 = getelementptr inbounds [7 x i8], [7 x i8]* @2, i64 0, i64 0
+  br label %if.cont.2
+
+if.false.1:
+  %5 = call i32 @strcmp(i8* %1, i8* %2)
+  %6 = icmp sgt i32 %5, 0
+  br i1 %6, label %if.true.3, label %if.cont.4
+
+if.true.3:
+  %7 = getelementptr inbounds [8 x i8], [8 x i8]* @3, i64 0, i64 0
+  br label %if.cont.4
+
+if.cont.4:
+  %8 = phi i32 [ 1, %if.false.1 ], [ 14, %if.true.3 ]
+  %9 = phi i8* [ %1, %if.false.1 ], [ %7, %if.true.3 ]
+  br label %if.cont.2
+
+if.cont.2:
+  %10 = phi i32 [ 2, %if.true.0 ], [ %8, %if.cont.4 ]
+  %11 = phi i8* [ %4, %if.true.0 ], [ %9, %if.cont.4 ]
+  %12 = icmp eq i32 %10, 2
+  br i1 %12, label %if.true.5, label %if.cont.6
+
+if.true.5:
+  %13 = getelementptr inbounds [2 x i8], [2 x i8]* @4, i64 0, i64 0
+  %14 = call i32 @strcmp(i8* %11, i8* %13)
+  %15 = icmp ne i32 %14, 0
+  %16 = call i32 @strcmp(i8* %11, i8* %2)
+  %17 = icmp eq i32 %16, 0
+  %18 = or i1 %15, %17
+  br i1 %18, label %if.true.7, label %if.cont.8
+
+if.true.7:
+  %19 = getelementptr inbounds [6 x i8], [6 x i8]* @5, i64 0, i64 0
+  br label %if.cont.8
+
+if.cont.8:
+  %20 = phi i8* [ %11, %if.true.5 ], [ %19, %if.true.7 ]
+  br label %if.cont.6
+
+if.cont.6:
+  %21 = phi i8* [ %11, %if.cont.2 ], [ %20, %if.cont.8 ]
+  %22 = getelementptr inbounds [3 x i8], [3 x i8]* @6, i64 0, i64 0
+  %23 = call i32 (i8*, ...) @printf(i8* %22, i8* %21)
+  ret void
+}
+
+@0 = private constant [9 x i8] c"a_string\00"
+@1 = private constant [9 x i8] c"b_string\00"
+@2 = private constant [7 x i8] c"string\00"
+@3 = private constant [8 x i8] c"greater\00"
+@4 = private constant [2 x i8] c"a\00"
+@5 = private constant [6 x i8] c"Hello\00"
+@6 = private constant [3 x i8] c"%s\00"
+
+declare i32 @strcmp(i8*, i8*)
+declare i32 @printf(i8*, ...)
@@ -0,0 +1,26 @@
+
+define void @main() {
+  %1 = alloca i32
+  %2 = alloca double
+  %3 = getelementptr inbounds [3 x i8], [3 x i8]* @1, i64 0, i64 0
+  %4 = call i32 (i8*, ...) @__isoc99_scanf(i8* %3, i32* %1)
+  %5 = getelementptr inbounds [4 x i8], [4 x i8]* @2, i64 0, i64 0
+  %6 = call i32 (i8*, ...) @__isoc99_scanf(i8* %5, double* %2)
+  %7 = getelementptr inbounds [3 x i8], [3 x i8]* @3, i64 0, i64 0
+  %8 = call i32 (i8*, ...) @printf(i8* %7, i8 10)
+  %9 = load double, double* %2
+  %10 = call i32 (i8*, ...) @printf(i8* %5, double %9)
+  %11 = getelementptr inbounds [3 x i8], [3 x i8]* @0, i64 0, i64 0
+  %12 = call i32 (i8*, ...) @printf(i8* %11)
+  %13 = load i32, i32* %1
+  %14 = call i32 (i8*, ...) @printf(i8* %3, i32 %13)
+  ret void
+}
+
+@0 = private constant [3 x i8] c"  \00"
+@1 = private constant [3 x i8] c"%d\00"
+@2 = private constant [4 x i8] c"%lf\00"
+@3 = private constant [3 x i8] c"%c\00"
+
+declare i32 @__isoc99_scanf(i8*, ...)
+declare i32 @printf(i8*, ...)
@@ -0,0 +1,35 @@
+program licm_array;
+
+var
+    a : array[0..10] of integer;
+    i : integer;
+    k : integer;
+    s : integer;
+    br : char;
+
+begin
+    br := chr (10);
+    k := 3;
+    a[3] := 7;
+
+    { a[k] is the same on every iteration }
+    i := 0;
+    s := 0;
+    while (i < 5) do
+    begin
+        s := s + a[k];
+        i := i + 1;
+    end;
+    write(s, br);
+
+    { a[k] changes once the loop stores to a[3] }
+    i := 0;
+    s := 0;
+    while (i < 6) do
+    begin
+        s := s + a[k];
+        a[i] := i * 10;
+        i := i + 1;
+    end;
+    write(s, br);
+end.
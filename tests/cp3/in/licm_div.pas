@@ -0,0 +1,36 @@
+program licm_div;
+
+var
+    d : integer;
+    n : integer;
+    i : integer;
+    s : integer;
+    br : char;
+
+begin
+    br := chr (10);
+
+    { 100 / d is invariant, but d is 0 and the loop never runs }
+    d := 0;
+    n := 0;
+    i := 0;
+    s := 0;
+    while (i < n) do
+    begin
+        s := s + 100 / d;
+        i := i + 1;
+    end;
+    write(s, br);
+
+    { Only divides when d isn't 0 }
+    n := 3;
+    i := 0;
+    while (i < n) do
+    begin
+        if (d <> 0) then
+            s := s + 100 / d;
+        d := d + 4;
+        i := i + 1;
+    end;
+    write(s, br);
+end.
@@ -0,0 +1,34 @@
+program licm_store;
+
+var
+    i : integer;
+    k : integer;
+    s : integer;
+    x : integer;
+    br : char;
+
+begin
+    br := chr (10);
+
+    { k is carried from one iteration to the next }
+    k := 1;
+    i := 0;
+    s := 0;
+    while (i < 5) do
+    begin
+        s := s + k;
+        k := k * 2;
+        i := i + 1;
+    end;
+    write(s, '|', k, br);
+
+    { The store is invariant, but the loop never runs }
+    x := 5;
+    i := 0;
+    while (i < 0) do
+    begin
+        x := 7;
+        i := i + 1;
+    end;
+    write(x, br);
+end.
@@ -0,0 +1,14 @@
+
+define void @main() {
+  %1 = getelementptr inbounds [3 x i8], [3 x i8]* @0, i64 0, i64 0
+  %2 = call i32 (i8*, ...) @printf(i8* %1, i1 false)
+  %3 = getelementptr inbounds [3 x i8], [3 x i8]* @1, i64 0, i64 0
+  %4 = call i32 (i8*, ...) @printf(i8* %3, i8 10)
+  %5 = call i32 (i8*, ...) @printf(i8* %1, i1 true)
+  ret void
+}
+
+@0 = private constant [3 x i8] c"%d\00"
+@1 = private constant [3 x i8] c"%c\00"
+
+declare i32 @printf(i8*, ...)
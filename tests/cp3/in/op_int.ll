@@ -0,0 +1,27 @@
+
+define void @main() {
+  %1 = getelementptr inbounds [3 x i8], [3 x i8]* @1, i64 0, i64 0
+  %2 = call i32 (i8*, ...) @printf(i8* %1, i32 64)
+  %3 = getelementptr inbounds [2 x i8], [2 x i8]* @0, i64 0, i64 0
+  %4 = call i32 (i8*, ...) @printf(i8* %3)
+  %5 = call i32 (i8*, ...) @printf(i8* %1, i32 32)
+  %6 = call i32 (i8*, ...) @printf(i8* %3)
+  %7 = getelementptr inbounds [3 x i8], [3 x i8]* @2, i64 0, i64 0
+  %8 = call i32 (i8*, ...) @printf(i8* %7, i8 10)
+  %9 = call i32 (i8*, ...) @printf(i8* %1, i32 98)
+  %10 = call i32 (i8*, ...) @printf(i8* %3)
+  %11 = call i32 (i8*, ...) @printf(i8* %1, i32 30)
+  %12 = call i32 (i8*, ...) @printf(i8* %3)
+  %13 = call i32 (i8*, ...) @printf(i8* %1, i32 4096)
+  %14 = call i32 (i8*, ...) @printf(i8* %3)
+  %15 = getelementptr inbounds [4 x i8], [4 x i8]* @3, i64 0, i64 0
+  %16 = call i32 (i8*, ...) @printf(i8* %15, double 1.0)
+  ret void
+}
+
+@0 = private constant [2 x i8] c"|\00"
+@1 = private constant [3 x i8] c"%d\00"
+@2 = private constant [3 x i8] c"%c\00"
+@3 = private constant [4 x i8] c"%lf\00"
+
+declare i32 @printf(i8*, ...)
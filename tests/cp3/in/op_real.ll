@@ -0,0 +1,33 @@
+
+define void @main() {
+  %1 = getelementptr inbounds [4 x i8], [4 x i8]* @1, i64 0, i64 0
+  %2 = call i32 (i8*, ...) @printf(i8* %1, double 64.3)
+  %3 = getelementptr inbounds [2 x i8], [2 x i8]* @0, i64 0, i64 0
+  %4 = call i32 (i8*, ...) @printf(i8* %3)
+  %5 = call i32 (i8*, ...) @printf(i8* %1, double 32.7)
+  %6 = call i32 (i8*, ...) @printf(i8* %3)
+  %7 = getelementptr inbounds [3 x i8], [3 x i8]* @2, i64 0, i64 0
+  %8 = call i32 (i8*, ...) @printf(i8* %7, i8 10)
+  %9 = fadd double 32.7, 2.1
+  %10 = fadd double 64.3, %9
+  %11 = call i32 (i8*, ...) @printf(i8* %1, double %10)
+  %12 = call i32 (i8*, ...) @printf(i8* %3)
+  %13 = fsub double 64.3, 32.7
+  %14 = fsub double %13, 2.1
+  %15 = call i32 (i8*, ...) @printf(i8* %1, double %14)
+  %16 = call i32 (i8*, ...) @printf(i8* %3)
+  %17 = fmul double 32.7, 2.1
+  %18 = fmul double 64.3, %17
+  %19 = call i32 (i8*, ...) @printf(i8* %1, double %18)
+  %20 = call i32 (i8*, ...) @printf(i8* %3)
+  %21 = fdiv double 64.3, 32.7
+  %22 = fdiv double %21, 2.1
+  %23 = call i32 (i8*, ...) @printf(i8* %1, double %22)
+  ret void
+}
+
+@0 = private constant [2 x i8] c"|\00"
+@1 = private constant [4 x i8] c"%lf\00"
+@2 = private constant [3 x i8] c"%c\00"
+
+declare i32 @printf(i8*, ...)
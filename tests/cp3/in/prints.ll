@@ -0,0 +1,28 @@
+
+define void @main() {
+  %1 = getelementptr inbounds [4 x i8], [4 x i8]* @0, i64 0, i64 0
+  %2 = getelementptr inbounds [3 x i8], [3 x i8]* @1, i64 0, i64 0
+  %3 = call i32 (i8*, ...) @printf(i8* %2, i32 12)
+  %4 = getelementptr inbounds [4 x i8], [4 x i8]* @2, i64 0, i64 0
+  %5 = call i32 (i8*, ...) @printf(i8* %4, double 15.66)
+  %6 = call i32 (i8*, ...) @printf(i8* %2, i1 false)
+  %7 = getelementptr inbounds [3 x i8], [3 x i8]* @3, i64 0, i64 0
+  %8 = call i32 (i8*, ...) @printf(i8* %7, i8* %1)
+  %9 = getelementptr inbounds [3 x i8], [3 x i8]* @4, i64 0, i64 0
+  %10 = call i32 (i8*, ...) @printf(i8* %9, i8 65)
+  %11 = call i32 (i8*, ...) @printf(i8* %9, i8 10)
+  %12 = call i32 (i8*, ...) @printf(i8* %2, i32 12)
+  %13 = call i32 (i8*, ...) @printf(i8* %4, double 15.66)
+  %14 = call i32 (i8*, ...) @printf(i8* %2, i1 false)
+  %15 = call i32 (i8*, ...) @printf(i8* %1)
+  %16 = call i32 (i8*, ...) @printf(i8* %9, i8 65)
+  ret void
+}
+
+@0 = private constant [4 x i8] c"Hi!\00"
+@1 = private constant [3 x i8] c"%d\00"
+@2 = private constant [4 x i8] c"%lf\00"
+@3 = private constant [3 x i8] c"%s\00"
+@4 = private constant [3 x i8] c"%c\00"
+
+declare i32 @printf(i8*, ...)
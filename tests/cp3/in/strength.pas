@@ -0,0 +1,40 @@
+program strength;
+
+var
+    a : array[0..10] of integer;
+    i : integer;
+    s : integer;
+    br : char;
+
+begin
+    br := chr (10);
+
+    { Step +1 }
+    i := 0;
+    while (i < 10) do
+    begin
+        a[i] := i * i;
+        i := i + 1;
+    end;
+
+    { Step -1 }
+    s := 0;
+    i := 9;
+    while (i >= 0) do
+    begin
+        s := s + a[i];
+        i := i - 1;
+    end;
+    write(s, br);
+
+    { Indexed in the loop condition itself }
+    a[9] := 0;
+    s := 0;
+    i := 1;
+    while (a[i] > 0) and (i < 10) do
+    begin
+        s := s + a[i];
+        i := i + 1;
+    end;
+    write(s, '|', i, br);
+end.
@@ -0,0 +1,19 @@
+
+define void @main() {
+  %1 = getelementptr inbounds [6 x i8], [6 x i8]* @0, i64 0, i64 0
+  %2 = getelementptr inbounds [13 x i8], [13 x i8]* @1, i64 0, i64 0
+  %3 = call i32 (i8*, ...) @printf(i8* %2)
+  %4 = getelementptr inbounds [3 x i8], [3 x i8]* @3, i64 0, i64 0
+  %5 = call i32 (i8*, ...) @printf(i8* %4, i8 10)
+  %6 = getelementptr inbounds [3 x i8], [3 x i8]* @4, i64 0, i64 0
+  %7 = call i32 (i8*, ...) @printf(i8* %6, i8* %1)
+  ret void
+}
+
+@0 = private constant [6 x i8] c"Hello\00"
+@1 = private constant [13 x i8] c"String Table\00"
+@2 = private constant [34 x i8] c"Nice to see three entries in here\00"
+@3 = private constant [3 x i8] c"%c\00"
+@4 = private constant [3 x i8] c"%s\00"
+
+declare i32 @printf(i8*, ...)
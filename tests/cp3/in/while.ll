@@ -0,0 +1,43 @@
+
+define void @main() {
+  %1 = getelementptr inbounds [3 x i8], [3 x i8]* @1, i64 0, i64 0
+  br label %while.test.0
+
+while.test.0:
+  %2 = phi i32 [ 10, %0 ], [ %10, %while.cont.5 ]
+  %3 = phi i32 [ 0, %0 ], [ %5, %while.cont.5 ]
+  %4 = icmp sgt i32 %2, 1
+  br i1 %4, label %while.repeat.1, label %while.cont.2
+
+while.repeat.1:
+  br label %while.test.3
+
+while.test.3:
+  %5 = phi i32 [ %3, %while.repeat.1 ], [ %9, %if.cont.7 ]
+  %6 = icmp slt i32 %5, 10
+  br i1 %6, label %while.repeat.4, label %while.cont.5
+
+while.repeat.4:
+  %7 = icmp eq i32 %5, 2
+  br i1 %7, label %if.true.6, label %if.cont.7
+
+if.true.6:
+  %8 = call i32 (i8*, ...) @printf(i8* %1, i32 %5)
+  br label %if.cont.7
+
+if.cont.7:
+  %9 = add i32 %5, 1
+  br label %while.test.3
+
+while.cont.5:
+  %10 = sub i32 %2, 1
+  br label %while.test.0
+
+while.cont.2:
+  ret void
+}
+
+@0 = private constant [6 x i8] c"CHECK\00"
+@1 = private constant [3 x i8] c"%d\00"
+
+declare i32 @printf(i8*, ...)
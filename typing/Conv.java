@@ -9,7 +9,7 @@ import static ast.NodeKind.R2S_NODE;
 import static ast.NodeKind.C2S_NODE;
 import static ast.NodeKind.S2C_NODE;
 
-import ast.AST;
+import ast.ASTStore;
 
 public enum Conv {
 	B2I,  // Bool to Int
@@ -22,21 +22,19 @@ public enum Conv {
 	S2C,  // String to Char
     NONE; // No type conversion
     
-	public static AST createConvNode(Conv conv, AST n) {
+	public static int createConvNode(ASTStore tree, Conv conv, int n) {
 	    switch(conv) {
-	        case B2I:  return AST.newSubtree(B2I_NODE, Type.INT_TYPE, n);
-	        case B2R:  return AST.newSubtree(B2R_NODE, Type.REAL_TYPE, n);
-	        case B2S:  return AST.newSubtree(B2S_NODE, Type.STR_TYPE, n);
-	        case I2R:  return AST.newSubtree(I2R_NODE, Type.REAL_TYPE, n);
-	        case I2S:  return AST.newSubtree(I2S_NODE, Type.STR_TYPE, n);
-	        case R2S:  return AST.newSubtree(R2S_NODE, Type.STR_TYPE, n);
-			case C2S:  return AST.newSubtree(C2S_NODE, Type.STR_TYPE, n);
-			case S2C:  return AST.newSubtree(S2C_NODE, Type.CHAR_TYPE, n);
+	        case B2I:  return tree.newSubtree(B2I_NODE, Type.INT_TYPE, n);
+	        case B2R:  return tree.newSubtree(B2R_NODE, Type.REAL_TYPE, n);
+	        case B2S:  return tree.newSubtree(B2S_NODE, Type.STR_TYPE, n);
+	        case I2R:  return tree.newSubtree(I2R_NODE, Type.REAL_TYPE, n);
+	        case I2S:  return tree.newSubtree(I2S_NODE, Type.STR_TYPE, n);
+	        case R2S:  return tree.newSubtree(R2S_NODE, Type.STR_TYPE, n);
+			case C2S:  return tree.newSubtree(C2S_NODE, Type.STR_TYPE, n);
+			case S2C:  return tree.newSubtree(S2C_NODE, Type.CHAR_TYPE, n);
 	        case NONE: return n;
 	        default:
-	            System.err.printf("INTERNAL ERROR: invalid conversion of types!\n");
-	            System.exit(1);
-	            return null;
+	            throw new IllegalStateException("invalid conversion of types: " + conv);
 	    }
 	}
 	
@@ -43,6 +43,13 @@ public enum Type {
 		public String toString() {
 			return "noType";
 		}
+	},
+	// The type of an expression that already has an error. Unifies with
+	// nothing, and the checker reports nothing more about it.
+	ERROR_TYPE {
+		public String toString() {
+			return "error";
+		}
 	};
 
 	private static Unif assign[][] = {
@@ -113,6 +120,24 @@ public enum Type {
 		}
 	}
 
+	// `div` and `mod`: integers only
+	private static Unif divMod[][] = {
+			/*INT*/						   	   /*REAL*/						  /*BOOL*/ 					   	   /*STR*/						  /*CHAR*/
+	/*INT*/  { new Unif(INT_TYPE, NONE, NONE), new Unif(NO_TYPE, NONE, NONE), new Unif(NO_TYPE, NONE, NONE), new Unif(NO_TYPE, NONE, NONE), new Unif(NO_TYPE, NONE, NONE) },
+	/*REAL*/ { new Unif(NO_TYPE, NONE, NONE),  new Unif(NO_TYPE, NONE, NONE), new Unif(NO_TYPE, NONE, NONE), new Unif(NO_TYPE, NONE, NONE), new Unif(NO_TYPE, NONE, NONE) },
+	/*BOOL*/ { new Unif(NO_TYPE, NONE, NONE),  new Unif(NO_TYPE, NONE, NONE), new Unif(NO_TYPE, NONE, NONE), new Unif(NO_TYPE, NONE, NONE), new Unif(NO_TYPE, NONE, NONE) },
+	/*STR*/  { new Unif(NO_TYPE, NONE, NONE),  new Unif(NO_TYPE, NONE, NONE), new Unif(NO_TYPE, NONE, NONE), new Unif(NO_TYPE, NONE, NONE), new Unif(NO_TYPE, NONE, NONE) },
+	/*CHAR*/ { new Unif(NO_TYPE, NONE, NONE),  new Unif(NO_TYPE, NONE, NONE), new Unif(NO_TYPE, NONE, NONE), new Unif(NO_TYPE, NONE, NONE), new Unif(NO_TYPE, NONE, NONE)  }
+	};
+
+	public Unif unifyDivMod(Type that) {
+		try {
+			return divMod[this.ordinal()][that.ordinal()];
+		} catch (ArrayIndexOutOfBoundsException exception) {
+			return new Unif(NO_TYPE, NONE, NONE);
+		}
+	}
+
 	private static Unif comp[][] = {
 				/*INT*/						    /*REAL*/						 /*BOOL*/ 					   	  /*STR*/						   /*CHAR*/
 	/*INT*/  { new Unif(BOOL_TYPE, NONE, NONE), new Unif(BOOL_TYPE, I2R, NONE),  new Unif(NO_TYPE, NONE, NONE),   new Unif(NO_TYPE, NONE, NONE),   new Unif(NO_TYPE, NONE, NONE)  },